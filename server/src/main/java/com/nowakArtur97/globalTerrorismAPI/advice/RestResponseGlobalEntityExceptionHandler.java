@@ -4,10 +4,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
+import com.nowakArtur97.globalTerrorismAPI.common.exception.InvalidCursorException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -34,6 +36,18 @@ public class RestResponseGlobalEntityExceptionHandler extends ResponseEntityExce
         return new ResponseEntity<>(errorResponse, headers, status);
     }
 
+    @Override
+    protected ResponseEntity<Object> handleBindException(BindException exception, HttpHeaders headers,
+                                                         HttpStatus status, WebRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value());
+
+        exception.getBindingResult().getAllErrors()
+                .forEach(error -> errorResponse.addError(error.getDefaultMessage()));
+
+        return new ResponseEntity<>(errorResponse, headers, status);
+    }
+
     @Override
     protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException exception,
                                                                   HttpHeaders headers, HttpStatus status, WebRequest request) {
@@ -71,7 +85,7 @@ public class RestResponseGlobalEntityExceptionHandler extends ResponseEntityExce
         return new ResponseEntity<>(errorResponse, new HttpHeaders(), status);
     }
 
-    @ExceptionHandler({JsonException.class, MethodArgumentTypeMismatchException.class})
+    @ExceptionHandler({JsonException.class, MethodArgumentTypeMismatchException.class, InvalidCursorException.class})
     ResponseEntity<Object> handleJsonAndMethodArgumentTypeMismatchException(Exception exception) {
 
         ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value());
@@ -0,0 +1,18 @@
+package com.nowakArtur97.globalTerrorismAPI.common.annotation;
+
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ApiImplicitParams({
+		@ApiImplicitParam(value = "Continuation token from the previous page's next link (empty for the first page)", name = "cursor", dataType = "string", paramType = "query", required = true, allowEmptyValue = true),
+		@ApiImplicitParam(value = "Number of records per page", name = "size", dataType = "integer", paramType = "query", defaultValue = "20") })
+public @interface ApiCursorPageable {
+
+}
@@ -0,0 +1,84 @@
+package com.nowakArtur97.globalTerrorismAPI.common.assembler;
+
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import lombok.AllArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public abstract class MemoizingModelAssemblerSupport<T extends Node, M extends RepresentationModel<?>>
+        extends RepresentationModelAssemblerSupport<T, M> {
+
+    private static final String ASSEMBLED_MODELS_ATTRIBUTE = MemoizingModelAssemblerSupport.class.getName()
+            + ".ASSEMBLED_MODELS";
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    public MemoizingModelAssemblerSupport(Class<?> controllerClass, Class<M> resourceType) {
+
+        super(controllerClass, resourceType);
+    }
+
+    @Override
+    public M toModel(T node) {
+
+        Long id = node.getId();
+
+        Map<Class<?>, Map<Long, AssembledModel>> assembledModelsByType = getAssembledModels();
+
+        if (assembledModelsByType == null || id == null) {
+            return assemble(node);
+        }
+
+        Map<Long, AssembledModel> assembledModels = assembledModelsByType.computeIfAbsent(node.getClass(),
+                nodeType -> new HashMap<>(INITIAL_CAPACITY));
+
+        AssembledModel assembledModel = assembledModels.get(id);
+
+        if (assembledModel != null && assembledModel.node == node) {
+            return getResourceType().cast(assembledModel.model);
+        }
+
+        M model = assemble(node);
+
+        assembledModels.put(id, new AssembledModel(node, model));
+
+        return model;
+    }
+
+    protected abstract M assemble(T node);
+
+    @SuppressWarnings("unchecked")
+    private static Map<Class<?>, Map<Long, AssembledModel>> getAssembledModels() {
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Map<Class<?>, Map<Long, AssembledModel>> assembledModels = (Map<Class<?>, Map<Long, AssembledModel>>)
+                requestAttributes.getAttribute(ASSEMBLED_MODELS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (assembledModels == null) {
+
+            assembledModels = new HashMap<>();
+
+            requestAttributes.setAttribute(ASSEMBLED_MODELS_ATTRIBUTE, assembledModels, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return assembledModels;
+    }
+
+    @AllArgsConstructor
+    private static class AssembledModel {
+
+        private final Node node;
+
+        private final Object model;
+    }
+}
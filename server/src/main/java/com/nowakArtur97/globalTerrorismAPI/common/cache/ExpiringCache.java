@@ -0,0 +1,144 @@
+package com.nowakArtur97.globalTerrorismAPI.common.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ExpiringCache<K, V> {
+
+    private final int maximumSize;
+
+    private final long timeToLiveInMilliseconds;
+
+    private final Clock clock;
+
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder puts = new LongAdder();
+
+    public ExpiringCache(int maximumSize, long timeToLiveInMilliseconds) {
+
+        this(maximumSize, timeToLiveInMilliseconds, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maximumSize, long timeToLiveInMilliseconds, Clock clock) {
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveInMilliseconds = timeToLiveInMilliseconds;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+
+                boolean isOverMaximumSize = size() > ExpiringCache.this.maximumSize;
+
+                if (isOverMaximumSize) {
+                    evictions.increment();
+                }
+
+                return isOverMaximumSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+
+            misses.increment();
+
+            return null;
+        }
+
+        if (entry.expiresAt <= clock.millis()) {
+
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+
+            return null;
+        }
+
+        hits.increment();
+
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    public synchronized void put(K key, V value, long expiresAt) {
+
+        long now = clock.millis();
+        long maximumExpiresAt = timeToLiveInMilliseconds > Long.MAX_VALUE - now
+                ? Long.MAX_VALUE : now + timeToLiveInMilliseconds;
+
+        entries.put(key, new Entry<>(value, Math.min(expiresAt, maximumExpiresAt)));
+        puts.increment();
+    }
+
+    public synchronized void invalidate(K key) {
+
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+
+        entries.clear();
+    }
+
+    public synchronized int size() {
+
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+
+        return maximumSize;
+    }
+
+    public long getHits() {
+
+        return hits.sum();
+    }
+
+    public long getMisses() {
+
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+
+        return evictions.sum();
+    }
+
+    public long getPuts() {
+
+        return puts.sum();
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
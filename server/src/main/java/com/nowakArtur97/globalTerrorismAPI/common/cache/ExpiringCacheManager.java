@@ -0,0 +1,41 @@
+package com.nowakArtur97.globalTerrorismAPI.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ExpiringCacheManager extends AbstractCacheManager {
+
+    private final List<String> cacheNames;
+
+    private final int maximumSize;
+
+    private final long timeToLiveInMilliseconds;
+
+    public ExpiringCacheManager(List<String> cacheNames, int maximumSize, long timeToLiveInMilliseconds) {
+
+        this.cacheNames = cacheNames;
+        this.maximumSize = maximumSize;
+        this.timeToLiveInMilliseconds = timeToLiveInMilliseconds;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+
+        return cacheNames.stream().map(this::createCache).collect(Collectors.toList());
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+
+        return createCache(name);
+    }
+
+    private Cache createCache(String name) {
+
+        return new ExpiringSpringCache(name, new ExpiringCache<>(maximumSize, timeToLiveInMilliseconds));
+    }
+}
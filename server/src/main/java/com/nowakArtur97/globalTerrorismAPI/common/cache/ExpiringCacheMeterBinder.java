@@ -0,0 +1,56 @@
+package com.nowakArtur97.globalTerrorismAPI.common.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+public class ExpiringCacheMeterBinder extends CacheMeterBinder {
+
+    private final ExpiringCache<?, ?> cache;
+
+    public ExpiringCacheMeterBinder(ExpiringSpringCache cache, Iterable<Tag> tags) {
+
+        super(cache.getNativeCache(), cache.getName(), tags);
+        this.cache = cache.getNativeCache();
+    }
+
+    @Override
+    protected Long size() {
+
+        return (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+
+        return cache.getHits();
+    }
+
+    @Override
+    protected Long missCount() {
+
+        return cache.getMisses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+
+        return cache.getEvictions();
+    }
+
+    @Override
+    protected long putCount() {
+
+        return cache.getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+
+        Gauge.builder("cache.maximum.size", cache, ExpiringCache::getMaximumSize)
+                .tags(getTagsWithCacheName())
+                .description("The maximum number of entries the cache can hold")
+                .register(registry);
+    }
+}
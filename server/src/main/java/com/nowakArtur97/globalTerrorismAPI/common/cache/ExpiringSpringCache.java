@@ -0,0 +1,79 @@
+package com.nowakArtur97.globalTerrorismAPI.common.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+public class ExpiringSpringCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+
+    private final ExpiringCache<Object, Object> store;
+
+    public ExpiringSpringCache(String name, ExpiringCache<Object, Object> store) {
+
+        super(true);
+        this.name = name;
+        this.store = store;
+    }
+
+    @Override
+    public String getName() {
+
+        return name;
+    }
+
+    @Override
+    public ExpiringCache<Object, Object> getNativeCache() {
+
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+
+        return store.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(Object key, Callable<T> valueLoader) {
+
+        Object storeValue = store.get(key);
+
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+
+        try {
+
+            T value = valueLoader.call();
+
+            store.put(key, toStoreValue(value));
+
+            return value;
+
+        } catch (Exception exception) {
+
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+
+        store.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+
+        store.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+
+        store.invalidateAll();
+    }
+}
@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.common.controller;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +14,9 @@ public interface BasicGenericRestController<M extends RepresentationModel<M>> {
     @GetMapping
     ResponseEntity<PagedModel<M>> findAll(Pageable pageable);
 
+    @GetMapping(params = "cursor")
+    ResponseEntity<CollectionModel<M>> findAll(String cursor, int size);
+
     @GetMapping(path = "/{id}")
     ResponseEntity<M> findById(Long id);
 
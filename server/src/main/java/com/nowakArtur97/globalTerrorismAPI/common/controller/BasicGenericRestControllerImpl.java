@@ -2,11 +2,16 @@ package com.nowakArtur97.globalTerrorismAPI.common.controller;
 
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import com.nowakArtur97.globalTerrorismAPI.common.service.BasicGenericService;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
@@ -14,11 +19,14 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 public abstract class BasicGenericRestControllerImpl<M extends RepresentationModel<M>, T extends Node>
         implements BasicGenericRestController<M> {
 
+    protected final int MAX_CURSOR_PAGE_SIZE = 2000;
+
     protected final String modelType;
 
     protected final Class<M> modelTypeParameterClass;
@@ -51,6 +59,19 @@ public abstract class BasicGenericRestControllerImpl<M extends RepresentationMod
         return new ResponseEntity<>(pagedModel, HttpStatus.OK);
     }
 
+    @GetMapping(params = "cursor")
+    @Override
+    public ResponseEntity<CollectionModel<M>> findAll(@RequestParam("cursor") String cursor,
+                                                      @RequestParam(value = "size", required = false,
+                                                              defaultValue = "20") int size) {
+
+        size = getCursorPageSize(size);
+
+        CursorPage<T> resources = service.findAll(Cursor.decode(cursor), size);
+
+        return new ResponseEntity<>(toCollectionModel(resources, size), HttpStatus.OK);
+    }
+
     @GetMapping(path = "/{id}")
     @Override
     public ResponseEntity<M> findById(@PathVariable("id") Long id) {
@@ -78,4 +99,30 @@ public abstract class BasicGenericRestControllerImpl<M extends RepresentationMod
                 .allow(HttpMethod.GET, HttpMethod.OPTIONS)
                 .build();
     }
+
+    protected int getCursorPageSize(int size) {
+
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+
+    protected CollectionModel<M> toCollectionModel(CursorPage<T> resources, int size) {
+
+        CollectionModel<M> collectionModel = modelAssembler.toCollectionModel(resources.getContent());
+
+        ServletUriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        uriBuilder.replaceQueryParam("size");
+
+        collectionModel.add(new Link(uriBuilder.cloneBuilder().queryParam("size", size).toUriString(),
+                IanaLinkRelations.SELF));
+
+        if (resources.hasNext()) {
+
+            String nextUri = uriBuilder.replaceQueryParam("cursor", resources.getNext().encode())
+                    .queryParam("size", size).toUriString();
+
+            collectionModel.add(new Link(nextUri, IanaLinkRelations.NEXT));
+        }
+
+        return collectionModel;
+    }
 }
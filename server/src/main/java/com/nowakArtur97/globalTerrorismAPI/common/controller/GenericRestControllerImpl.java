@@ -4,6 +4,8 @@ import com.nowakArtur97.globalTerrorismAPI.common.baseModel.DTO;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.common.mediaType.PatchMediaType;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.CompiledPatch;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.json.JsonMergePatch;
 import javax.json.JsonPatch;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
 import java.util.Optional;
 
@@ -37,10 +40,13 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
 
     protected final ViolationUtil<T, D> violationUtil;
 
+    protected final PatchEngine patchEngine;
+
     protected GenericRestControllerImpl(GenericService<T, D> service,
                                         RepresentationModelAssemblerSupport<T, M> modelAssembler,
                                         PagedResourcesAssembler<T> pagedResourcesAssembler,
-                                        PatchUtil patchUtil, ViolationUtil<T, D> violationUtil) {
+                                        PatchUtil patchUtil, ViolationUtil<T, D> violationUtil,
+                                        PatchEngine patchEngine) {
 
         super(service, modelAssembler, pagedResourcesAssembler);
 
@@ -51,6 +57,7 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
         this.service = service;
         this.patchUtil = patchUtil;
         this.violationUtil = violationUtil;
+        this.patchEngine = patchEngine;
     }
 
     @PostMapping
@@ -88,6 +95,13 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
     @Override
     public ResponseEntity<M> updateFields(@PathVariable("id") Long id, @RequestBody JsonPatch objectAsJsonPatch) {
 
+        Optional<CompiledPatch<D>> compiledPatch = patchEngine.compile(objectAsJsonPatch, nodeTypeParameterClass,
+                dtoTypeParameterClass);
+
+        if (compiledPatch.isPresent()) {
+            return updateProperties(id, compiledPatch.get());
+        }
+
         T node = service.findById(id, DEFAULT_DEPTH_FOR_JSON_PATCH)
                 .orElseThrow(() -> new ResourceNotFoundException(modelType, id));
 
@@ -106,6 +120,13 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
     @Override
     public ResponseEntity<M> updateFields(@PathVariable("id2") Long id, @RequestBody JsonMergePatch objectAsJsonMergePatch) {
 
+        Optional<CompiledPatch<D>> compiledPatch = patchEngine.compile(objectAsJsonMergePatch, nodeTypeParameterClass,
+                dtoTypeParameterClass);
+
+        if (compiledPatch.isPresent()) {
+            return updateProperties(id, compiledPatch.get());
+        }
+
         T node = service.findById(id, DEFAULT_DEPTH_FOR_JSON_PATCH)
                 .orElseThrow(() -> new ResourceNotFoundException(modelType, id));
 
@@ -120,6 +141,27 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
         return new ResponseEntity<>(resource, HttpStatus.OK);
     }
 
+    private ResponseEntity<M> updateProperties(Long id, CompiledPatch<D> compiledPatch) {
+
+        if (!compiledPatch.isValid()) {
+
+            service.findById(id, 0).orElseThrow(() -> new ResourceNotFoundException(modelType, id));
+
+            throw new ConstraintViolationException(compiledPatch.getViolations());
+        }
+
+        if (!service.updateProperties(id, compiledPatch.getProperties())) {
+            throw new ResourceNotFoundException(modelType, id);
+        }
+
+        T nodePatched = service.findById(id, DEFAULT_DEPTH_FOR_JSON_PATCH)
+                .orElseThrow(() -> new ResourceNotFoundException(modelType, id));
+
+        M resource = modelAssembler.toModel(nodePatched);
+
+        return new ResponseEntity<>(resource, HttpStatus.OK);
+    }
+
     @DeleteMapping(path = "/{id}")
     @Override
     public ResponseEntity<Void> delete(@PathVariable("id") Long id) {
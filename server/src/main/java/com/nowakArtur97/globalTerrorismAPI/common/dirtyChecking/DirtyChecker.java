@@ -0,0 +1,152 @@
+package com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking;
+
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import com.nowakArtur97.globalTerrorismAPI.common.util.DateUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.annotation.Transient;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class DirtyChecker {
+
+    private static final String METRIC_NAME = "app.node.writes";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, List<Field>> fields = new ConcurrentHashMap<>();
+
+    public <T extends Node> T saveIfDirty(T loadedNode, T updatedNode, UnaryOperator<T> saveOperation) {
+
+        if (!isDirty(loadedNode, updatedNode)) {
+
+            writeCounter(updatedNode, "elided").increment();
+
+            return updatedNode;
+        }
+
+        writeCounter(updatedNode, "applied").increment();
+
+        return saveOperation.apply(updatedNode);
+    }
+
+    public boolean isDirty(Node loadedNode, Node updatedNode) {
+
+        if (loadedNode == null || updatedNode.getId() == null || !updatedNode.getId().equals(loadedNode.getId())
+                || loadedNode.getClass() != updatedNode.getClass()) {
+            return true;
+        }
+
+        for (Field field : getFields(updatedNode.getClass())) {
+
+            Object loadedValue = read(field, loadedNode);
+            Object updatedValue = read(field, updatedNode);
+
+            boolean isChanged = field.isAnnotationPresent(Relationship.class)
+                    ? isRelationshipChanged(loadedValue, updatedValue)
+                    : !Objects.equals(toComparableValue(loadedValue), toComparableValue(updatedValue));
+
+            if (isChanged) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isRelationshipChanged(Object loadedValue, Object updatedValue) {
+
+        if (loadedValue instanceof Collection && updatedValue instanceof Collection) {
+
+            Collection<?> loadedNodes = (Collection<?>) loadedValue;
+            Collection<?> updatedNodes = (Collection<?>) updatedValue;
+
+            return loadedNodes.size() != updatedNodes.size() || !getIds(loadedNodes).equals(getIds(updatedNodes))
+                    || getIds(updatedNodes).contains(null);
+        }
+
+        if (loadedValue instanceof Node && updatedValue instanceof Node) {
+
+            Long updatedId = ((Node) updatedValue).getId();
+
+            return updatedId == null || !updatedId.equals(((Node) loadedValue).getId());
+        }
+
+        return loadedValue != null || updatedValue != null;
+    }
+
+    private Object toComparableValue(Object value) {
+
+        return value instanceof Date ? DateUtil.toLocalDate((Date) value) : value;
+    }
+
+    private Set<Long> getIds(Collection<?> nodes) {
+
+        Set<Long> ids = new HashSet<>();
+
+        nodes.forEach(node -> ids.add(node instanceof Node ? ((Node) node).getId() : null));
+
+        return ids;
+    }
+
+    private List<Field> getFields(Class<?> nodeType) {
+
+        return fields.computeIfAbsent(nodeType, this::findFields);
+    }
+
+    private List<Field> findFields(Class<?> nodeType) {
+
+        List<Field> persistentFields = new ArrayList<>();
+
+        for (Class<?> type = nodeType; type != Node.class && type != null; type = type.getSuperclass()) {
+
+            for (Field field : type.getDeclaredFields()) {
+
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+                        && !field.isAnnotationPresent(Transient.class) && !field.isSynthetic()) {
+
+                    field.setAccessible(true);
+                    persistentFields.add(field);
+                }
+            }
+        }
+
+        return persistentFields;
+    }
+
+    private Object read(Field field, Node node) {
+
+        try {
+            return field.get(node);
+
+        } catch (IllegalAccessException e) {
+
+            throw new IllegalStateException("Could not read property: " + field.getName(), e);
+        }
+    }
+
+    private Counter writeCounter(Node node, String outcome) {
+
+        return Counter.builder(METRIC_NAME)
+                .tag("node", node.getClass().getSimpleName())
+                .tag("outcome", outcome)
+                .description("Number of node updates written to or elided from the database")
+                .register(meterRegistry);
+    }
+}
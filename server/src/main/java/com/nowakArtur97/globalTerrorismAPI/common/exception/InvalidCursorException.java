@@ -0,0 +1,9 @@
+package com.nowakArtur97.globalTerrorismAPI.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+
+        super("Invalid cursor: " + cursor + ".");
+    }
+}
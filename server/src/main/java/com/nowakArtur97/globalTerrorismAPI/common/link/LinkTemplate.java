@@ -0,0 +1,148 @@
+package com.nowakArtur97.globalTerrorismAPI.common.link;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.server.core.MappingDiscoverer;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LinkTemplate {
+
+    private static final MappingDiscoverer MAPPING_DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+    private final String template;
+
+    private final String[] literals;
+
+    private LinkTemplate(String template) {
+
+        this.template = template;
+        this.literals = split(template);
+    }
+
+    public static LinkTemplate of(Class<?> controller, String methodName, Class<?>... parameterTypes) {
+
+        Method method = ReflectionUtils.findMethod(controller, methodName, parameterTypes);
+
+        if (method == null) {
+            throw new IllegalStateException("Could not find method: " + methodName + " in: " + controller.getName());
+        }
+
+        String mapping = MAPPING_DISCOVERER.getMapping(controller, method);
+
+        if (mapping == null) {
+            throw new IllegalStateException("Method: " + methodName + " in: " + controller.getName()
+                    + " is not mapped to any path");
+        }
+
+        return new LinkTemplate(mapping);
+    }
+
+    public String getTemplate() {
+
+        return template;
+    }
+
+    public Link withSelfRel(Object... values) {
+
+        return new Link(expand(values), IanaLinkRelations.SELF);
+    }
+
+    public Link withRel(String relation, Object... values) {
+
+        return new Link(expand(values), relation);
+    }
+
+    public String expand(Object... values) {
+
+        if (values.length != literals.length - 1) {
+            throw new IllegalArgumentException("Template: " + template + " expects: " + (literals.length - 1)
+                    + " values, but got: " + values.length);
+        }
+
+        String baseUri = getBaseUri();
+
+        StringBuilder uri = new StringBuilder(baseUri.length() + template.length() + 10 * values.length);
+
+        uri.append(baseUri).append(literals[0]);
+
+        for (int i = 0; i < values.length; i++) {
+
+            uri.append(encode(values[i])).append(literals[i + 1]);
+        }
+
+        return uri.toString();
+    }
+
+    private static String getBaseUri() {
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return "";
+        }
+
+        String baseUri = (String) requestAttributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (baseUri == null) {
+
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+
+            if (baseUri.endsWith("/")) {
+                baseUri = baseUri.substring(0, baseUri.length() - 1);
+            }
+
+            requestAttributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return baseUri;
+    }
+
+    private static String encode(Object value) {
+
+        if (value instanceof Long || value instanceof Integer) {
+            return value.toString();
+        }
+
+        return UriUtils.encodePath(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    private static String[] split(String template) {
+
+        List<String> literals = new ArrayList<>();
+
+        int start = 0;
+        int variableStart = template.indexOf('{');
+
+        while (variableStart != -1) {
+
+            int variableEnd = template.indexOf('}', variableStart);
+
+            if (variableEnd == -1) {
+                throw new IllegalArgumentException("Unclosed variable in template: " + template);
+            }
+
+            literals.add(template.substring(start, variableStart));
+
+            start = variableEnd + 1;
+            variableStart = template.indexOf('{', start);
+        }
+
+        literals.add(template.substring(start));
+
+        return literals.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,218 @@
+package com.nowakArtur97.globalTerrorismAPI.common.mapper;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class CompiledMapping<D> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final MethodHandle constructor;
+
+    private final List<PropertyCopier> propertyCopiers;
+
+    CompiledMapping(Class<?> sourceType, Class<D> destinationType, CompiledModelMapper mapper) {
+
+        try {
+
+            this.constructor = LOOKUP.findConstructor(destinationType, MethodType.methodType(void.class))
+                    .asType(CONSTRUCTOR_TYPE);
+            this.propertyCopiers = createPropertyCopiers(sourceType, destinationType, mapper);
+
+        } catch (ReflectiveOperationException | IntrospectionException exception) {
+
+            throw new IllegalStateException("Could not compile mapping from: " + sourceType.getName() + " to: "
+                    + destinationType.getName(), exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    D map(Object source) {
+
+        try {
+
+            Object destination = constructor.invokeExact();
+
+            for (PropertyCopier propertyCopier : propertyCopiers) {
+                propertyCopier.copy(source, destination);
+            }
+
+            return (D) destination;
+
+        } catch (RuntimeException exception) {
+
+            throw exception;
+
+        } catch (Throwable throwable) {
+
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static List<PropertyCopier> createPropertyCopiers(Class<?> sourceType, Class<?> destinationType,
+                                                              CompiledModelMapper mapper)
+            throws IntrospectionException, IllegalAccessException {
+
+        Map<String, PropertyDescriptor> sourceProperties = new HashMap<>();
+
+        for (PropertyDescriptor sourceProperty : getProperties(sourceType)) {
+            if (sourceProperty.getReadMethod() != null) {
+                sourceProperties.put(sourceProperty.getName(), sourceProperty);
+            }
+        }
+
+        List<PropertyCopier> propertyCopiers = new ArrayList<>();
+
+        for (PropertyDescriptor destinationProperty : getProperties(destinationType)) {
+
+            PropertyDescriptor sourceProperty = sourceProperties.get(destinationProperty.getName());
+
+            if (destinationProperty.getWriteMethod() == null || sourceProperty == null) {
+                continue;
+            }
+
+            ValueConverter valueConverter = createValueConverter(sourceProperty, destinationProperty, mapper);
+
+            if (valueConverter == null) {
+                continue;
+            }
+
+            MethodHandle getter = LOOKUP.unreflect(sourceProperty.getReadMethod()).asType(GETTER_TYPE);
+            MethodHandle setter = LOOKUP.unreflect(destinationProperty.getWriteMethod()).asType(SETTER_TYPE);
+
+            propertyCopiers.add(new PropertyCopier(getter, setter, valueConverter,
+                    destinationProperty.getPropertyType().isPrimitive()));
+        }
+
+        return propertyCopiers;
+    }
+
+    private static ValueConverter createValueConverter(PropertyDescriptor sourceProperty,
+                                                       PropertyDescriptor destinationProperty,
+                                                       CompiledModelMapper mapper) {
+
+        Class<?> sourceType = wrap(sourceProperty.getPropertyType());
+        Class<?> destinationType = wrap(destinationProperty.getPropertyType());
+
+        if (Date.class.equals(destinationType) && Date.class.isAssignableFrom(sourceType)) {
+            return value -> new Date(((Date) value).getTime());
+        }
+
+        if (List.class.equals(destinationType) && Collection.class.isAssignableFrom(sourceType)) {
+
+            Class<?> destinationElementType = getElementType(destinationProperty.getWriteMethod()
+                    .getGenericParameterTypes()[0]);
+
+            if (destinationElementType == null) {
+                return null;
+            }
+
+            return value -> {
+
+                List<Object> destinationList = new ArrayList<>(((Collection<?>) value).size());
+
+                for (Object element : (Collection<?>) value) {
+                    destinationList.add(element != null ? mapper.mapCompiled(element, destinationElementType) : null);
+                }
+
+                return destinationList;
+            };
+        }
+
+        if (isValueType(destinationType)) {
+            return destinationType.isAssignableFrom(sourceType) ? value -> value : null;
+        }
+
+        return value -> mapper.mapCompiled(value, destinationType);
+    }
+
+    private static PropertyDescriptor[] getProperties(Class<?> type) throws IntrospectionException {
+
+        BeanInfo beanInfo = Introspector.getBeanInfo(type, Object.class);
+
+        return beanInfo.getPropertyDescriptors();
+    }
+
+    private static Class<?> getElementType(Type type) {
+
+        if (type instanceof ParameterizedType) {
+
+            Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+
+            return elementType instanceof Class ? (Class<?>) elementType : null;
+        }
+
+        return null;
+    }
+
+    private static boolean isValueType(Class<?> type) {
+
+        return type.isPrimitive() || type.isEnum() || type.getName().startsWith("java.");
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    @FunctionalInterface
+    private interface ValueConverter {
+
+        Object convert(Object value);
+    }
+
+    private static class PropertyCopier {
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final ValueConverter valueConverter;
+
+        private final boolean isPrimitive;
+
+        private PropertyCopier(MethodHandle getter, MethodHandle setter, ValueConverter valueConverter,
+                               boolean isPrimitive) {
+
+            this.getter = getter;
+            this.setter = setter;
+            this.valueConverter = valueConverter;
+            this.isPrimitive = isPrimitive;
+        }
+
+        private void copy(Object source, Object destination) throws Throwable {
+
+            Object value = (Object) getter.invokeExact(source);
+
+            if (value == null) {
+
+                if (!isPrimitive) {
+                    setter.invokeExact(destination, (Object) null);
+                }
+
+                return;
+            }
+
+            setter.invokeExact(destination, valueConverter.convert(value));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.nowakArtur97.globalTerrorismAPI.common.mapper;
+
+import org.modelmapper.ModelMapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CompiledModelMapper extends ModelMapper {
+
+    private final Set<Class<?>> compiledDestinationTypes;
+
+    private final Map<Class<?>, Map<Class<?>, CompiledMapping<?>>> mappings = new ConcurrentHashMap<>();
+
+    public CompiledModelMapper(Set<Class<?>> compiledDestinationTypes) {
+
+        this.compiledDestinationTypes = compiledDestinationTypes;
+    }
+
+    public void compile(Class<?> sourceType, Class<?> destinationType) {
+
+        getMapping(sourceType, destinationType);
+    }
+
+    public boolean isCompiled(Class<?> destinationType) {
+
+        return compiledDestinationTypes.contains(destinationType);
+    }
+
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+
+        if (source != null && isCompiled(destinationType)) {
+            return mapCompiled(source, destinationType);
+        }
+
+        return super.map(source, destinationType);
+    }
+
+    <D> D mapCompiled(Object source, Class<D> destinationType) {
+
+        return getMapping(source.getClass(), destinationType).map(source);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D> CompiledMapping<D> getMapping(Class<?> sourceType, Class<D> destinationType) {
+
+        Map<Class<?>, CompiledMapping<?>> destinationMappings = mappings.computeIfAbsent(sourceType,
+                type -> new ConcurrentHashMap<>());
+
+        CompiledMapping<?> mapping = destinationMappings.get(destinationType);
+
+        if (mapping == null) {
+
+            mapping = new CompiledMapping<>(sourceType, destinationType, this);
+
+            CompiledMapping<?> existingMapping = destinationMappings.putIfAbsent(destinationType, mapping);
+
+            if (existingMapping != null) {
+                mapping = existingMapping;
+            }
+        }
+
+        return (CompiledMapping<D>) mapping;
+    }
+}
@@ -0,0 +1,59 @@
+package com.nowakArtur97.globalTerrorismAPI.common.pagination;
+
+import com.nowakArtur97.globalTerrorismAPI.common.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class Cursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final Long id;
+
+    private final String sortValue;
+
+    public Cursor(Long id) {
+
+        this(id, null);
+    }
+
+    public String encode() {
+
+        String value = sortValue != null ? id + SEPARATOR + sortValue : String.valueOf(id);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+            int separatorIndex = value.indexOf(SEPARATOR);
+
+            if (separatorIndex == -1) {
+                return new Cursor(Long.valueOf(value));
+            }
+
+            return new Cursor(Long.valueOf(value.substring(0, separatorIndex)), value.substring(separatorIndex + 1));
+
+        } catch (IllegalArgumentException exception) {
+
+            throw new InvalidCursorException(token);
+        }
+    }
+}
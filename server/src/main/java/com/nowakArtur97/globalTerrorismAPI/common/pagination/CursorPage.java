@@ -0,0 +1,20 @@
+package com.nowakArtur97.globalTerrorismAPI.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private final List<T> content;
+
+    private final Cursor next;
+
+    public boolean hasNext() {
+
+        return next != null;
+    }
+}
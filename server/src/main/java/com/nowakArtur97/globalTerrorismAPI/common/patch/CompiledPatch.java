@@ -0,0 +1,23 @@
+package com.nowakArtur97.globalTerrorismAPI.common.patch;
+
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.DTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.validation.ConstraintViolation;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class CompiledPatch<D extends DTO> {
+
+    private final Map<String, Object> properties;
+
+    private final Set<ConstraintViolation<D>> violations;
+
+    public boolean isValid() {
+
+        return violations.isEmpty();
+    }
+}
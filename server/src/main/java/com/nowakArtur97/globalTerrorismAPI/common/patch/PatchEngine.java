@@ -0,0 +1,173 @@
+package com.nowakArtur97.globalTerrorismAPI.common.patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nowakArtur97.globalTerrorismAPI.common.annotation.RelationshipConstraint;
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.DTO;
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import lombok.RequiredArgsConstructor;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+
+import javax.json.Json;
+import javax.json.JsonMergePatch;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonPatch;
+import javax.json.JsonValue;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class PatchEngine {
+
+    private final SessionFactory sessionFactory;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final Map<Class<?>, Map<String, FieldInfo>> patchableProperties = new ConcurrentHashMap<>();
+
+    public <T extends Node, D extends DTO> Optional<CompiledPatch<D>> compile(JsonPatch jsonPatch, Class<T> nodeType,
+                                                                           Class<D> dtoType) {
+
+        JsonObjectBuilder changes = Json.createObjectBuilder();
+
+        for (JsonValue operationValue : jsonPatch.toJsonArray()) {
+
+            JsonObject operation = operationValue.asJsonObject();
+
+            String propertyName = getPropertyName(operation.getString("path", ""));
+
+            if (propertyName == null) {
+                return Optional.empty();
+            }
+
+            switch (operation.getString("op", "")) {
+
+                case "add":
+                case "replace":
+
+                    JsonValue value = operation.get("value");
+
+                    if (!isScalar(value)) {
+                        return Optional.empty();
+                    }
+
+                    changes.add(propertyName, value);
+                    break;
+
+                case "remove":
+
+                    changes.add(propertyName, JsonValue.NULL);
+                    break;
+
+                default:
+                    return Optional.empty();
+            }
+        }
+
+        return compile(changes.build(), nodeType, dtoType);
+    }
+
+    public <T extends Node, D extends DTO> Optional<CompiledPatch<D>> compile(JsonMergePatch jsonMergePatch,
+                                                                           Class<T> nodeType, Class<D> dtoType) {
+
+        JsonValue patch = jsonMergePatch.toJsonValue();
+
+        if (patch.getValueType() != JsonValue.ValueType.OBJECT
+                || !patch.asJsonObject().values().stream().allMatch(this::isScalar)) {
+            return Optional.empty();
+        }
+
+        return compile(patch.asJsonObject(), nodeType, dtoType);
+    }
+
+    private <T extends Node, D extends DTO> Optional<CompiledPatch<D>> compile(JsonObject changes, Class<T> nodeType,
+                                                                            Class<D> dtoType) {
+
+        Map<String, FieldInfo> properties = getPatchableProperties(nodeType, dtoType);
+
+        if (changes.isEmpty() || !properties.keySet().containsAll(changes.keySet())) {
+            return Optional.empty();
+        }
+
+        T patchedNode = objectMapper.convertValue(changes, nodeType);
+
+        Map<String, Object> graphProperties = new LinkedHashMap<>();
+        Set<ConstraintViolation<D>> violations = new LinkedHashSet<>();
+
+        for (String propertyName : changes.keySet()) {
+
+            FieldInfo fieldInfo = properties.get(propertyName);
+
+            violations.addAll(validator.validateValue(dtoType, propertyName, fieldInfo.read(patchedNode)));
+
+            graphProperties.put(fieldInfo.property(), fieldInfo.readProperty(patchedNode));
+        }
+
+        return Optional.of(new CompiledPatch<>(graphProperties, violations));
+    }
+
+    private Map<String, FieldInfo> getPatchableProperties(Class<?> nodeType, Class<?> dtoType) {
+
+        return patchableProperties.computeIfAbsent(nodeType, type -> findPatchableProperties(type, dtoType));
+    }
+
+    private Map<String, FieldInfo> findPatchableProperties(Class<?> nodeType, Class<?> dtoType) {
+
+        Map<String, FieldInfo> properties = new HashMap<>();
+
+        boolean hasOnlyRelationshipConstraints = validator.getConstraintsForClass(dtoType).getConstraintDescriptors()
+                .stream()
+                .allMatch(descriptor -> descriptor.getAnnotation().annotationType()
+                        .isAnnotationPresent(RelationshipConstraint.class));
+
+        if (!hasOnlyRelationshipConstraints) {
+            return properties;
+        }
+
+        ClassInfo classInfo = sessionFactory.metaData().classInfo(nodeType);
+        FieldInfo identityField = classInfo.identityFieldOrNull();
+
+        for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+
+            PropertyDescriptor dtoProperty = BeanUtils.getPropertyDescriptor(dtoType, fieldInfo.getName());
+
+            if (fieldInfo != identityField && !fieldInfo.isComposite() && !fieldInfo.isArray()
+                    && !fieldInfo.isIterable() && !fieldInfo.hasCompositeConverter() && dtoProperty != null
+                    && dtoProperty.getPropertyType() == fieldInfo.getField().getType()) {
+                properties.put(fieldInfo.getName(), fieldInfo);
+            }
+        }
+
+        return properties;
+    }
+
+    private String getPropertyName(String path) {
+
+        if (path.length() < 2 || path.charAt(0) != '/' || path.indexOf('/', 1) != -1) {
+            return null;
+        }
+
+        return path.substring(1).replace("~1", "/").replace("~0", "~");
+    }
+
+    private boolean isScalar(JsonValue value) {
+
+        return value != null && value.getValueType() != JsonValue.ValueType.OBJECT
+                && value.getValueType() != JsonValue.ValueType.ARRAY;
+    }
+}
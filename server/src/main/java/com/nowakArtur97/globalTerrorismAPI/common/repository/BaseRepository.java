@@ -1,10 +1,17 @@
 package com.nowakArtur97.globalTerrorismAPI.common.repository;
 
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.Map;
+
 @NoRepositoryBean
 public interface BaseRepository<T extends Node> extends Neo4jRepository<T, Long> {
 
+    CursorPage<T> findAll(Cursor cursor, int size, String sortProperty, int depth);
+
+    boolean updateProperties(Long id, Map<String, Object> properties);
 }
@@ -0,0 +1,161 @@
+package com.nowakArtur97.globalTerrorismAPI.common.repository;
+
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.neo4j.repository.support.SimpleNeo4jRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class CursorNeo4jRepository<T extends Node> extends SimpleNeo4jRepository<T, Long> {
+
+    private static final Pattern SORT_PROPERTY_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+
+    private final Class<T> domainClass;
+
+    private final Session session;
+
+    public CursorNeo4jRepository(Class<T> domainClass, Session session) {
+
+        super(domainClass, session);
+        this.domainClass = domainClass;
+        this.session = session;
+    }
+
+    public CursorPage<T> findAll(Cursor cursor, int size, String sortProperty, int depth) {
+
+        List<Map<String, Object>> rows;
+
+        if (sortProperty == null) {
+
+            rows = findIds(cursor, size + 1);
+
+        } else {
+
+            if (!SORT_PROPERTY_PATTERN.matcher(sortProperty).matches()) {
+                throw new IllegalArgumentException("Invalid sort property: " + sortProperty);
+            }
+
+            String property = "node.`" + sortProperty + "`";
+
+            boolean isInNullsPhase = cursor != null && cursor.getSortValue() == null;
+
+            rows = isInNullsPhase ? new ArrayList<>() : findIdsWithValues(cursor, property, size + 1);
+
+            if (rows.size() <= size) {
+                rows.addAll(findIdsWithoutValues(isInNullsPhase ? cursor : null, property, size + 1 - rows.size()));
+            }
+        }
+
+        Cursor next = null;
+
+        if (rows.size() > size) {
+
+            rows = rows.subList(0, size);
+
+            Map<String, Object> lastRow = rows.get(size - 1);
+
+            next = new Cursor(getId(lastRow), sortProperty != null ? (String) lastRow.get("sortValue") : null);
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        rows.forEach(row -> positions.put(getId(row), positions.size()));
+
+        List<T> content = new ArrayList<>(positions.isEmpty() ? List.of()
+                : session.loadAll(domainClass, positions.keySet(), depth));
+        content.sort(Comparator.comparing(node -> positions.get(node.getId())));
+
+        return new CursorPage<>(content, next);
+    }
+
+    public boolean updateProperties(Long id, Map<String, Object> properties) {
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", id);
+        parameters.put("properties", properties);
+
+        Result result = session.query("MATCH (node:`" + getLabel() + "`) WHERE id(node) = $id " +
+                "SET node += $properties RETURN id(node) AS id", parameters, false);
+
+        return result.queryResults().iterator().hasNext();
+    }
+
+    private List<Map<String, Object>> findIds(Cursor cursor, int limit) {
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("limit", limit);
+
+        String predicate = "";
+
+        if (cursor != null) {
+            predicate = "WHERE id(node) > $id ";
+            parameters.put("id", cursor.getId());
+        }
+
+        return query("MATCH (node:`" + getLabel() + "`) " + predicate +
+                "RETURN id(node) AS id ORDER BY id(node) LIMIT $limit", parameters);
+    }
+
+    private List<Map<String, Object>> findIdsWithValues(Cursor cursor, String property, int limit) {
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("limit", limit);
+
+        String predicate = "WHERE " + property + " IS NOT NULL ";
+
+        if (cursor != null) {
+
+            predicate = "WHERE " + property + " >= $sortValue AND (" + property + " > $sortValue OR id(node) > $id) ";
+            parameters.put("sortValue", cursor.getSortValue());
+            parameters.put("id", cursor.getId());
+        }
+
+        return query("MATCH (node:`" + getLabel() + "`) " + predicate +
+                "RETURN id(node) AS id, " + property + " AS sortValue " +
+                "ORDER BY " + property + ", id(node) LIMIT $limit", parameters);
+    }
+
+    private List<Map<String, Object>> findIdsWithoutValues(Cursor cursor, String property, int limit) {
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("limit", limit);
+
+        String predicate = "WHERE " + property + " IS NULL ";
+
+        if (cursor != null) {
+            predicate += "AND id(node) > $id ";
+            parameters.put("id", cursor.getId());
+        }
+
+        return query("MATCH (node:`" + getLabel() + "`) " + predicate +
+                "RETURN id(node) AS id, null AS sortValue ORDER BY id(node) LIMIT $limit", parameters);
+    }
+
+    private List<Map<String, Object>> query(String cypher, Map<String, Object> parameters) {
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        session.query(cypher, parameters, true).queryResults().forEach(rows::add);
+
+        return rows;
+    }
+
+    private Long getId(Map<String, Object> row) {
+
+        return ((Number) row.get("id")).longValue();
+    }
+
+    private String getLabel() {
+
+        NodeEntity nodeEntity = domainClass.getAnnotation(NodeEntity.class);
+
+        return nodeEntity != null && !nodeEntity.label().isEmpty() ? nodeEntity.label() : domainClass.getSimpleName();
+    }
+}
@@ -1,6 +1,8 @@
 package com.nowakArtur97.globalTerrorismAPI.common.service;
 
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,5 +14,7 @@ public interface BasicGenericService<T extends Node> {
 
     Page<T> findAll(Pageable pageable);
 
+    CursorPage<T> findAll(Cursor cursor, int size);
+
     T save(T node);
 }
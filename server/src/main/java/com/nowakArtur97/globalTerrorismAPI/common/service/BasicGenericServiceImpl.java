@@ -1,6 +1,8 @@
 package com.nowakArtur97.globalTerrorismAPI.common.service;
 
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +14,8 @@ import java.util.Optional;
 @Service
 public abstract class BasicGenericServiceImpl<T extends Node> implements BasicGenericService<T> {
 
+    protected final int DEFAULT_DEPTH_FOR_CURSOR_PAGE = 1;
+
     protected final BaseRepository<T> repository;
 
     public BasicGenericServiceImpl(BaseRepository<T> repository) {
@@ -32,6 +36,18 @@ public abstract class BasicGenericServiceImpl<T extends Node> implements BasicGe
         return repository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<T> findAll(Cursor cursor, int size) {
+
+        return repository.findAll(cursor, size, getCursorSortProperty(), DEFAULT_DEPTH_FOR_CURSOR_PAGE);
+    }
+
+    protected String getCursorSortProperty() {
+
+        return null;
+    }
+
     @Override
     public T save(T node) {
 
@@ -3,6 +3,7 @@ package com.nowakArtur97.globalTerrorismAPI.common.service;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.DTO;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface GenericService<T extends Node, D extends DTO> extends BasicGenericService<T> {
@@ -13,5 +14,7 @@ public interface GenericService<T extends Node, D extends DTO> extends BasicGene
 
     T update(T node, D dto);
 
+    boolean updateProperties(Long id, Map<String, Object> properties);
+
     Optional<T> delete(Long id);
 }
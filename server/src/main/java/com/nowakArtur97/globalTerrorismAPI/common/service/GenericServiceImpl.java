@@ -2,12 +2,14 @@ package com.nowakArtur97.globalTerrorismAPI.common.service;
 
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.DTO;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.Node;
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -18,10 +20,13 @@ public abstract class GenericServiceImpl<T extends Node, D extends DTO> extends
 
     protected final ModelMapper modelMapper;
 
-    public GenericServiceImpl(BaseRepository<T> repository, ModelMapper modelMapper) {
+    protected final DirtyChecker dirtyChecker;
+
+    public GenericServiceImpl(BaseRepository<T> repository, ModelMapper modelMapper, DirtyChecker dirtyChecker) {
         super(repository);
         this.typeParameterClass = (Class<T>) GenericTypeResolver.resolveTypeArguments(getClass(), GenericServiceImpl.class)[0];
         this.modelMapper = modelMapper;
+        this.dirtyChecker = dirtyChecker;
     }
 
     @Override
@@ -42,13 +47,17 @@ public abstract class GenericServiceImpl<T extends Node, D extends DTO> extends
     @Override
     public T update(T node, D dto) {
 
-        Long id = node.getId();
+        T updatedNode = modelMapper.map(dto, typeParameterClass);
 
-        node = modelMapper.map(dto, typeParameterClass);
+        updatedNode.setId(node.getId());
 
-        node.setId(id);
+        return dirtyChecker.saveIfDirty(node, updatedNode, repository::save);
+    }
 
-        return repository.save(node);
+    @Override
+    public boolean updateProperties(Long id, Map<String, Object> properties) {
+
+        return repository.updateProperties(id, properties);
     }
 
     @Override
@@ -0,0 +1,28 @@
+package com.nowakArtur97.globalTerrorismAPI.common.util;
+
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+public class DateUtil {
+
+    private static final DateStringConverter DATE_CONVERTER = new DateStringConverter(DateString.ISO_8601);
+
+    public static LocalDate toLocalDate(String graphDate) {
+
+        return toLocalDate(DATE_CONVERTER.toEntityAttribute(graphDate));
+    }
+
+    public static LocalDate toLocalDate(Date date) {
+
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    public static String toGraphDate(LocalDate date) {
+
+        return DATE_CONVERTER.toGraphProperty(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    }
+}
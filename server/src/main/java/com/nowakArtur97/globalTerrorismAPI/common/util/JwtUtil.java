@@ -4,19 +4,24 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
 
     public static final long JWT_TOKEN_VALIDITY = 1000 * 60 * 60 * 10;
 
+    public static final String ROLES_CLAIM = "roles";
+
     @Value("${app.jwt.secretKey:secret}")
     private String secretKey;
 
@@ -24,6 +29,10 @@ public class JwtUtil {
 
         Map<String, Object> claims = new HashMap<>();
 
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -42,6 +51,13 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    public List<String> extractRoles(Claims claims) {
+
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+
+        return roles != null ? roles.stream().map(String::valueOf).collect(Collectors.toList()) : null;
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
 
         Claims claim = extractAllClaims(token);
@@ -49,7 +65,7 @@ public class JwtUtil {
         return claimsResolver.apply(claim);
     }
 
-    private Claims extractAllClaims(String token) {
+    public Claims extractAllClaims(String token) {
 
         return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
     }
@@ -1,55 +1,12 @@
 package com.nowakArtur97.globalTerrorismAPI.common.util;
 
 import org.apache.commons.lang3.math.NumberUtils;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Row.MissingCellPolicy;
 
 import java.util.Calendar;
 import java.util.Date;
 
 public class XlsxUtil {
 
-    public static String getCellValueFromRowOnIndex(Row row, int index) {
-
-        Cell cell = row.getCell(index, MissingCellPolicy.CREATE_NULL_AS_BLANK);
-
-        String value = "";
-
-        switch (cell.getCellType()) {
-
-            case NUMERIC:
-                double doubleValue = cell.getNumericCellValue();
-                value = Double.toString(doubleValue);
-                break;
-
-            case STRING:
-                value = cell.getStringCellValue();
-                break;
-
-            case FORMULA:
-                value = cell.getCellFormula();
-                break;
-
-            case BOOLEAN:
-                boolean booleanValue = cell.getBooleanCellValue();
-                value = "" + booleanValue;
-                break;
-
-            case ERROR:
-                byte byteValue = cell.getErrorCellValue();
-                value = "" + byteValue;
-                break;
-
-            case BLANK:
-            case _NONE:
-            default:
-                break;
-        }
-
-        return value;
-    }
-
     public static Date getDate(int yearOfEvent, int monthOfEvent, int dayOfEvent) {
 
         monthOfEvent = isMonthCorrect(monthOfEvent) ? monthOfEvent - 1 : 0;
@@ -0,0 +1,39 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheManager;
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheMeterBinder;
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringSpringCache;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionService;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+class CacheConfiguration {
+
+    @Bean
+    CacheManager cacheManager(@Value("${app.cache.maximumSize:1000}") int maximumSize,
+                              @Value("${app.cache.timeToLive:3600000}") long timeToLiveInMilliseconds) {
+
+        return new ExpiringCacheManager(List.of(StatisticsService.STATISTICS_CACHE,
+                RegionService.REGION_CACHE, RegionService.REGION_EXISTS_CACHE,
+                CountryService.COUNTRY_CACHE, CountryService.COUNTRY_EXISTS_CACHE,
+                ProvinceService.PROVINCE_CACHE),
+                maximumSize, timeToLiveInMilliseconds);
+    }
+
+    @Bean
+    CacheMeterBinderProvider<ExpiringSpringCache> expiringCacheMeterBinderProvider() {
+
+        return ExpiringCacheMeterBinder::new;
+    }
+}
@@ -1,21 +1,86 @@
 package com.nowakArtur97.globalTerrorismAPI.configuration;
 
+import com.nowakArtur97.globalTerrorismAPI.common.mapper.CompiledModelMapper;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.user.registerUser.UserDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.user.shared.UserNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
 import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.json.JsonValue;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 class ModelMapperConfiguration {
 
+	static final List<Map.Entry<Class<?>, Class<?>>> COMPILED_MAPPINGS = List.of(
+			Map.entry(RegionNode.class, RegionModel.class),
+			Map.entry(CountryNode.class, CountryModel.class),
+			Map.entry(ProvinceNode.class, ProvinceModel.class),
+			Map.entry(CityNode.class, CityModel.class),
+			Map.entry(TargetNode.class, TargetModel.class),
+			Map.entry(VictimNode.class, VictimModel.class),
+			Map.entry(EventNode.class, EventModel.class),
+			Map.entry(GroupNode.class, GroupModel.class),
+			Map.entry(CountryDTO.class, CountryNode.class),
+			Map.entry(TargetDTO.class, TargetNode.class),
+			Map.entry(ProvinceDTO.class, ProvinceNode.class),
+			Map.entry(CityDTO.class, CityNode.class),
+			Map.entry(VictimDTO.class, VictimNode.class),
+			Map.entry(EventDTO.class, EventNode.class),
+			Map.entry(GroupDTO.class, GroupNode.class),
+			Map.entry(UserDTO.class, UserNode.class),
+			Map.entry(CountryNode.class, CountryDTO.class),
+			Map.entry(TargetNode.class, TargetDTO.class),
+			Map.entry(ProvinceNode.class, ProvinceDTO.class),
+			Map.entry(CityNode.class, CityDTO.class),
+			Map.entry(VictimNode.class, VictimDTO.class),
+			Map.entry(EventNode.class, EventDTO.class),
+			Map.entry(GroupNode.class, GroupDTO.class));
+
+	@Value("${app.mapping.compiled:true}")
+	private boolean isCompiled;
+
+	@Value("${app.mapping.modelMapperTypes:}")
+	private String[] modelMapperTypes;
+
 	@Bean
 	ModelMapper getModelMapper() {
 
-		ModelMapper modelMapper = new ModelMapper();
+		Set<Class<?>> compiledDestinationTypes = getCompiledDestinationTypes();
+
+		CompiledModelMapper modelMapper = new CompiledModelMapper(compiledDestinationTypes);
 
 		modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
 
@@ -30,6 +95,26 @@ class ModelMapperConfiguration {
 
 		modelMapper.addConverter(countryConverter);
 
+		COMPILED_MAPPINGS.stream()
+				.filter(mapping -> compiledDestinationTypes.contains(mapping.getValue()))
+				.forEach(mapping -> modelMapper.compile(mapping.getKey(), mapping.getValue()));
+
 		return modelMapper;
 	}
+
+	private Set<Class<?>> getCompiledDestinationTypes() {
+
+		if (!isCompiled) {
+			return Set.of();
+		}
+
+		Set<String> excludedTypes = Arrays.stream(modelMapperTypes)
+				.map(String::trim)
+				.collect(Collectors.toSet());
+
+		return COMPILED_MAPPINGS.stream()
+				.map(Map.Entry::getValue)
+				.filter(type -> !excludedTypes.contains(type.getSimpleName()))
+				.collect(Collectors.toCollection(HashSet::new));
+	}
 }
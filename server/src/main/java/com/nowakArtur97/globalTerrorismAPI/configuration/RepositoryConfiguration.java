@@ -0,0 +1,13 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration;
+
+import com.nowakArtur97.globalTerrorismAPI.GlobalTerrorismApiApplication;
+import com.nowakArtur97.globalTerrorismAPI.common.repository.CursorNeo4jRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+
+@Configuration
+@EnableNeo4jRepositories(basePackageClasses = GlobalTerrorismApiApplication.class,
+        repositoryBaseClass = CursorNeo4jRepository.class)
+class RepositoryConfiguration {
+
+}
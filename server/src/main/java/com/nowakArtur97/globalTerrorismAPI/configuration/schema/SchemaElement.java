@@ -0,0 +1,40 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.schema;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+enum SchemaElement {
+
+    REGION_NAME("region_name", SchemaElementType.INDEX, "Region", "name"),
+    COUNTRY_NAME("country_name", SchemaElementType.UNIQUE_CONSTRAINT, "Country", "name"),
+    PROVINCE_NAME("province_name", SchemaElementType.INDEX, "Province", "name"),
+    CITY_NAME_LATITUDE_LONGITUDE("city_name_latitude_longitude", SchemaElementType.INDEX, "City",
+            "name", "latitude", "longitude"),
+    CITY_LOCATION("city_location", SchemaElementType.INDEX, "City", "location"),
+    EVENT_DATE("event_date", SchemaElementType.INDEX, "Event", "date"),
+    USER_USER_NAME("user_user_name", SchemaElementType.UNIQUE_CONSTRAINT, "User", "userName"),
+    USER_EMAIL("user_email", SchemaElementType.UNIQUE_CONSTRAINT, "User", "email");
+
+    private final String name;
+
+    private final SchemaElementType type;
+
+    private final String label;
+
+    private final List<String> properties;
+
+    SchemaElement(String name, SchemaElementType type, String label, String... properties) {
+
+        this.name = name;
+        this.type = type;
+        this.label = label;
+        this.properties = List.of(properties);
+    }
+
+    String getCreateStatement() {
+
+        return type.getCreateStatement(name, label, properties);
+    }
+}
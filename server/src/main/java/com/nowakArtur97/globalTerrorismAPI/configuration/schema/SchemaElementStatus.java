@@ -0,0 +1,6 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.schema;
+
+enum SchemaElementStatus {
+
+    NOT_APPLIED, EXISTING, CREATED, FAILED
+}
@@ -0,0 +1,27 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.schema;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+enum SchemaElementType {
+
+    INDEX {
+        @Override
+        String getCreateStatement(String name, String label, List<String> properties) {
+
+            return "CREATE INDEX " + name + " IF NOT EXISTS FOR (node:" + label + ") ON ("
+                    + properties.stream().map(property -> "node." + property).collect(Collectors.joining(", ")) + ")";
+        }
+    },
+
+    UNIQUE_CONSTRAINT {
+        @Override
+        String getCreateStatement(String name, String label, List<String> properties) {
+
+            return "CREATE CONSTRAINT " + name + " IF NOT EXISTS ON (node:" + label + ") ASSERT node."
+                    + properties.get(0) + " IS UNIQUE";
+        }
+    };
+
+    abstract String getCreateStatement(String name, String label, List<String> properties);
+}
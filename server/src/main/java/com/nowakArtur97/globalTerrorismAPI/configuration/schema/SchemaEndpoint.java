@@ -0,0 +1,22 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.schema;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "schema")
+@RequiredArgsConstructor
+class SchemaEndpoint {
+
+    private final SchemaManager schemaManager;
+
+    @ReadOperation
+    Map<String, Object> schema() {
+
+        return schemaManager.toDetails();
+    }
+}
@@ -0,0 +1,146 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class SchemaManager {
+
+    private static final String FIND_INDEXES_QUERY =
+            "CALL db.indexes() YIELD name, state, populationPercent RETURN name, state, populationPercent";
+
+    private static final String UPDATE_CITY_LOCATIONS_QUERY =
+            "MATCH (city:City) WHERE city.location IS NULL AND city.latitude IS NOT NULL AND city.longitude IS NOT NULL " +
+                    "SET city.location = point({latitude: city.latitude, longitude: city.longitude})";
+
+    private final Driver driver;
+
+    private final Map<SchemaElement, SchemaElementStatus> statuses = new ConcurrentHashMap<>();
+
+    private final Map<SchemaElement, String> failures = new ConcurrentHashMap<>();
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    void onApplicationStartup(ContextRefreshedEvent event) {
+
+        if (statuses.isEmpty()) {
+            applySchema();
+        }
+    }
+
+    void applySchema() {
+
+        Map<String, Map<String, Object>> existingIndexes = findIndexes();
+
+        try (Session session = driver.session()) {
+
+            for (SchemaElement schemaElement : SchemaElement.values()) {
+
+                try {
+
+                    session.run(schemaElement.getCreateStatement()).consume();
+
+                    statuses.put(schemaElement, existingIndexes.containsKey(schemaElement.getName())
+                            ? SchemaElementStatus.EXISTING : SchemaElementStatus.CREATED);
+                    failures.remove(schemaElement);
+
+                } catch (RuntimeException exception) {
+
+                    log.error("Could not create: " + schemaElement.getName() + " on: " + schemaElement.getLabel(),
+                            exception);
+
+                    statuses.put(schemaElement, SchemaElementStatus.FAILED);
+                    failures.put(schemaElement, exception.getMessage());
+                }
+            }
+
+            updateCityLocations(session);
+        }
+
+        log.info("##################### Schema applied: " + getStatuses() + " #####################");
+    }
+
+    Map<String, Object> toDetails() {
+
+        Map<String, Map<String, Object>> indexes = findIndexes();
+
+        Map<String, Object> details = new LinkedHashMap<>();
+
+        for (SchemaElement schemaElement : SchemaElement.values()) {
+
+            Map<String, Object> elementDetails = new LinkedHashMap<>();
+
+            elementDetails.put("type", schemaElement.getType());
+            elementDetails.put("label", schemaElement.getLabel());
+            elementDetails.put("properties", schemaElement.getProperties());
+            elementDetails.put("status", statuses.getOrDefault(schemaElement, SchemaElementStatus.NOT_APPLIED));
+            elementDetails.putAll(indexes.getOrDefault(schemaElement.getName(), Map.of()));
+
+            if (failures.containsKey(schemaElement)) {
+                elementDetails.put("failure", failures.get(schemaElement));
+            }
+
+            details.put(schemaElement.getName(), elementDetails);
+        }
+
+        return details;
+    }
+
+    Map<SchemaElement, SchemaElementStatus> getStatuses() {
+
+        return new EnumMap<>(statuses);
+    }
+
+    private void updateCityLocations(Session session) {
+
+        try {
+            session.run(UPDATE_CITY_LOCATIONS_QUERY).consume();
+
+        } catch (RuntimeException exception) {
+
+            log.error("Could not update City locations", exception);
+        }
+    }
+
+    private Map<String, Map<String, Object>> findIndexes() {
+
+        Map<String, Map<String, Object>> indexes = new HashMap<>();
+
+        try (Session session = driver.session()) {
+
+            Result result = session.run(FIND_INDEXES_QUERY);
+
+            while (result.hasNext()) {
+
+                Record record = result.next();
+
+                indexes.put(record.get("name").asString(),
+                        Map.of("state", record.get("state").asString(),
+                                "populationPercent", record.get("populationPercent").asDouble()));
+            }
+
+        } catch (RuntimeException exception) {
+
+            log.warn("Could not read indexes: " + exception.getMessage());
+        }
+
+        return indexes;
+    }
+}
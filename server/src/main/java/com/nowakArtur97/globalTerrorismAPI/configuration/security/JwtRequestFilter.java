@@ -1,8 +1,6 @@
 package com.nowakArtur97.globalTerrorismAPI.configuration.security;
 
 import com.nowakArtur97.globalTerrorismAPI.common.exception.JwtTokenMissingException;
-import com.nowakArtur97.globalTerrorismAPI.common.util.JwtUtil;
-import com.nowakArtur97.globalTerrorismAPI.feature.user.shared.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,9 +21,7 @@ import java.util.List;
 @RequiredArgsConstructor
 class JwtRequestFilter extends OncePerRequestFilter {
 
-    private final CustomUserDetailsService customUserDetailsService;
-
-    private final JwtUtil jwtUtil;
+    private final JwtTokenAuthenticator jwtTokenAuthenticator;
 
     @Value("#{'${app.jwt.ignoredEndpoints}'.split(',')}")
     private List<String> ignoredEndpointsList;
@@ -36,30 +32,20 @@ class JwtRequestFilter extends OncePerRequestFilter {
 
         String authorizationHeader = request.getHeader("Authorization");
 
-        String userName;
-        String jwt;
-
-        if (isBearerTypeAuthorization(authorizationHeader)) {
-
-            jwt = authorizationHeader.substring(7);
-            userName = jwtUtil.extractUserName(jwt);
-        } else {
+        if (!isBearerTypeAuthorization(authorizationHeader)) {
             throw new JwtTokenMissingException("Missing JWT token in request headers.");
         }
 
-        if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(userName);
+            UserDetails userDetails = jwtTokenAuthenticator.authenticate(authorizationHeader.substring(7));
 
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-            }
+            SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
         }
 
         filterChain.doFilter(request, response);
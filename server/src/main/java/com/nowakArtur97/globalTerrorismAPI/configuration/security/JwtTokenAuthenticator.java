@@ -0,0 +1,76 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.security;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCache;
+import com.nowakArtur97.globalTerrorismAPI.common.util.JwtUtil;
+import com.nowakArtur97.globalTerrorismAPI.feature.user.shared.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+class JwtTokenAuthenticator {
+
+    private final JwtUtil jwtUtil;
+
+    private final CustomUserDetailsService customUserDetailsService;
+
+    private final boolean isStateless;
+
+    private final ExpiringCache<String, UserDetails> verifiedTokens;
+
+    JwtTokenAuthenticator(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService,
+                          @Value("${app.jwt.stateless:true}") boolean isStateless,
+                          @Value("${app.jwt.cache.maximumSize:10000}") int maximumSize,
+                          @Value("${app.jwt.cache.timeToLive:600000}") long timeToLiveInMilliseconds) {
+
+        this.jwtUtil = jwtUtil;
+        this.customUserDetailsService = customUserDetailsService;
+        this.isStateless = isStateless;
+        this.verifiedTokens = new ExpiringCache<>(maximumSize, timeToLiveInMilliseconds);
+    }
+
+    UserDetails authenticate(String token) {
+
+        UserDetails userDetails = isStateless ? verifiedTokens.get(token) : null;
+
+        if (userDetails != null) {
+            return userDetails;
+        }
+
+        Claims claims = jwtUtil.extractAllClaims(token);
+
+        if (claims.getSubject() == null) {
+            throw new MalformedJwtException("Missing subject in JWT token.");
+        }
+
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("Missing expiration in JWT token.");
+        }
+
+        if (!isStateless) {
+            return customUserDetailsService.loadUserByUsername(claims.getSubject());
+        }
+
+        List<String> roles = jwtUtil.extractRoles(claims);
+
+        userDetails = roles != null
+                ? new User(claims.getSubject(), "", toAuthorities(roles))
+                : customUserDetailsService.loadUserByUsername(claims.getSubject());
+
+        verifiedTokens.put(token, userDetails, claims.getExpiration().getTime());
+
+        return userDetails;
+    }
+
+    private List<SimpleGrantedAuthority> toAuthorities(List<String> roles) {
+
+        return roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+    }
+}
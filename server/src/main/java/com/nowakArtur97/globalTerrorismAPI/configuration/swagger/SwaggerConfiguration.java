@@ -2,12 +2,16 @@ package com.nowakArtur97.globalTerrorismAPI.configuration.swagger;
 
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryTag;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventBatchTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventTargetTag;
+import com.nowakArtur97.globalTerrorismAPI.feature.export.ExportTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupEventsTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupTag;
+import com.nowakArtur97.globalTerrorismAPI.feature.marker.MarkerTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionTag;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.user.loginUser.AuthenticationTag;
 import com.nowakArtur97.globalTerrorismAPI.feature.user.registerUser.UserRegistrationTag;
@@ -50,11 +54,15 @@ class SwaggerConfiguration {
                         new Tag(GroupTag.RESOURCE, GroupTag.DESCRIPTION),
                         new Tag(GroupEventsTag.RESOURCE, GroupEventsTag.DESCRIPTION),
                         new Tag(EventTargetTag.RESOURCE, EventTargetTag.DESCRIPTION),
+                        new Tag(EventBatchTag.RESOURCE, EventBatchTag.DESCRIPTION),
                         new Tag(CityTag.RESOURCE, CityTag.DESCRIPTION),
                         new Tag(ProvinceTag.RESOURCE, ProvinceTag.DESCRIPTION),
                         new Tag(CountryTag.RESOURCE, CountryTag.DESCRIPTION),
                         new Tag(RegionTag.RESOURCE, RegionTag.DESCRIPTION),
                         new Tag(VictimTag.RESOURCE, VictimTag.DESCRIPTION),
+                        new Tag(StatisticsTag.RESOURCE, StatisticsTag.DESCRIPTION),
+                        new Tag(MarkerTag.RESOURCE, MarkerTag.DESCRIPTION),
+                        new Tag(ExportTag.RESOURCE, ExportTag.DESCRIPTION),
                         new Tag(UserRegistrationTag.RESOURCE, UserRegistrationTag.DESCRIPTION),
                         new Tag(AuthenticationTag.RESOURCE, AuthenticationTag.DESCRIPTION)
                 )
@@ -0,0 +1,155 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Values;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+class BulkEventRecordWriter implements EventRecordWriter {
+
+    private static final String INSERT_EVENTS_QUERY =
+            "UNWIND $rows AS row " +
+                    "MERGE (region:Region:Node {name: row.regionName}) " +
+                    "MERGE (country:Country:Node {name: row.countryName}) " +
+                    "MERGE (country)-[:PART_OF]->(region) " +
+                    "MERGE (province:Province:Node {name: row.provinceName})-[:PART_OF]->(country) " +
+                    "MERGE (city:City:Node {name: row.cityName, latitude: row.cityLatitude, longitude: row.cityLongitude}) " +
+                    "ON CREATE SET city.location = point({latitude: row.cityLatitude, longitude: row.cityLongitude}) " +
+                    "MERGE (city)-[:PART_OF]->(province) " +
+                    "CREATE (target:Target:Node {target: row.target})-[:IS_FROM]->(country) " +
+                    "CREATE (victim:Victim:Node {totalNumberOfFatalities: row.totalNumberOfFatalities, " +
+                    "numberOfPerpetratorsFatalities: row.numberOfPerpetratorsFatalities, " +
+                    "totalNumberOfInjured: row.totalNumberOfInjured, " +
+                    "numberOfPerpetratorsInjured: row.numberOfPerpetratorsInjured, " +
+                    "valueOfPropertyDamage: row.valueOfPropertyDamage}) " +
+                    "CREATE (event:Event:Node {summary: row.summary, motive: row.motive, date: row.date, " +
+                    "isPartOfMultipleIncidents: row.isPartOfMultipleIncidents, isSuccessful: row.isSuccessful, " +
+                    "isSuicidal: row.isSuicidal, eventId: row.eventId, fingerprint: row.fingerprint}) " +
+                    "CREATE (event)-[:TARGETS]->(target), (event)-[:LOCATED_IN]->(city), (event)-[:CASUALTIES]->(victim) " +
+                    "FOREACH (ignored IN CASE WHEN row.isGroupUnknown THEN [1] ELSE [] END | " +
+                    "CREATE (:Group:Node {name: row.groupName})-[:CARRIES_OUT]->(event)) " +
+                    "FOREACH (ignored IN CASE WHEN row.isGroupUnknown THEN [] ELSE [1] END | " +
+                    "MERGE (group:Group:Node {name: row.groupName}) " +
+                    "CREATE (group)-[:CARRIES_OUT]->(event))";
+
+    private final Driver driver;
+
+    private final int batchSize;
+
+    private final int commitInterval;
+
+    private List<Map<String, Object>> batch = new ArrayList<>();
+
+    private Session session;
+
+    private Transaction transaction;
+
+    private int batchesInTransaction;
+
+    private long rowsWritten;
+
+    BulkEventRecordWriter(Driver driver, ImportConfigurationProperties importConfigurationProperties) {
+
+        this.driver = driver;
+        this.batchSize = importConfigurationProperties.getBatchSize();
+        this.commitInterval = importConfigurationProperties.getCommitInterval();
+    }
+
+    @Override
+    public ImportMode getMode() {
+
+        return ImportMode.BULK;
+    }
+
+    @Override
+    public void write(EventRecord eventRecord) {
+
+        batch.add(eventRecord.toParameters());
+
+        if (batch.size() >= batchSize) {
+            writeBatch();
+        }
+    }
+
+    @Override
+    public void flush() {
+
+        try {
+            if (!batch.isEmpty()) {
+                writeBatch();
+            }
+
+            commit();
+
+        } finally {
+
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+
+        batch = new ArrayList<>();
+        batchesInTransaction = 0;
+
+        try {
+            if (transaction != null) {
+
+                transaction.close();
+                transaction = null;
+
+                log.info("##################### Rolled back uncommitted rows #####################");
+            }
+
+        } finally {
+
+            if (session != null) {
+                session.close();
+                session = null;
+            }
+        }
+    }
+
+    private void writeBatch() {
+
+        if (session == null) {
+            session = driver.session();
+        }
+
+        if (transaction == null) {
+            transaction = session.beginTransaction();
+        }
+
+        transaction.run(INSERT_EVENTS_QUERY, Values.parameters("rows", batch));
+
+        rowsWritten += batch.size();
+        batch = new ArrayList<>();
+        batchesInTransaction++;
+
+        if (batchesInTransaction >= commitInterval) {
+            commit();
+        }
+    }
+
+    private void commit() {
+
+        if (transaction != null) {
+
+            transaction.commit();
+            transaction.close();
+            transaction = null;
+            batchesInTransaction = 0;
+
+            log.info("##################### Committed " + rowsWritten + " rows #####################");
+        }
+    }
+}
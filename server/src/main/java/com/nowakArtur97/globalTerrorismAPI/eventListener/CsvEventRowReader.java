@@ -0,0 +1,211 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+class CsvEventRowReader implements EventRowReader {
+
+    private static final byte SEPARATOR = ',';
+
+    private static final byte QUOTE = '"';
+
+    private static final byte LINE_FEED = '\n';
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final int INITIAL_FIELD_BUFFER_SIZE = 1024;
+
+    private final Path file;
+
+    private final EventRowSampler eventRowSampler;
+
+    private final Charset charset;
+
+    private byte[] fieldBuffer = new byte[INITIAL_FIELD_BUFFER_SIZE];
+
+    CsvEventRowReader(Path file, EventRowSampler eventRowSampler, Charset charset) {
+
+        this.file = file;
+        this.eventRowSampler = eventRowSampler;
+        this.charset = charset;
+    }
+
+    @Override
+    public void read(EventRowListener eventRowListener) throws IOException, InterruptedException {
+
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            if (fileChannel.size() > Integer.MAX_VALUE) {
+                throw new IOException("CSV file: " + file + " is too large to be memory-mapped");
+            }
+
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+
+            eventRowListener.onNumberOfRows(Math.max(countLines(buffer) - 1, 0));
+
+            readRows(buffer, eventRowListener);
+        }
+    }
+
+    private void readRows(MappedByteBuffer buffer, EventRowListener eventRowListener) throws InterruptedException {
+
+        int position = 0;
+        int limit = buffer.limit();
+        int rowNum = 0;
+
+        while (position < limit && !eventRowSampler.isPastLastRow(rowNum)) {
+
+            eventRowListener.onRowRead();
+
+            if (eventRowSampler.isRowSelected(rowNum)) {
+
+                String[] rowValues = new String[XlsxColumnType.getNumberOfColumns()];
+
+                position = readRecord(buffer, position, rowValues);
+
+                if (eventRowSampler.isYearSelected(rowValues[XlsxColumnType.YEAR_OF_EVENT.getIndex()])) {
+                    eventRowListener.onRowSelected(new EventRow(rowNum, rowValues));
+                }
+
+            } else {
+
+                position = skipRecord(buffer, position);
+            }
+
+            rowNum++;
+        }
+    }
+
+    private int readRecord(MappedByteBuffer buffer, int position, String[] rowValues) {
+
+        int limit = buffer.limit();
+        int columnIndex = 0;
+
+        while (true) {
+
+            int fieldLength = 0;
+
+            if (position < limit && buffer.get(position) == QUOTE) {
+
+                position++;
+
+                while (position < limit) {
+
+                    byte character = buffer.get(position++);
+
+                    if (character == QUOTE) {
+
+                        if (position < limit && buffer.get(position) == QUOTE) {
+                            position++;
+                        } else {
+                            break;
+                        }
+                    }
+
+                    fieldLength = appendToField(fieldLength, character);
+                }
+            }
+
+            while (position < limit) {
+
+                byte character = buffer.get(position);
+
+                if (character == SEPARATOR || character == LINE_FEED || character == CARRIAGE_RETURN) {
+                    break;
+                }
+
+                fieldLength = appendToField(fieldLength, character);
+
+                position++;
+            }
+
+            rowValues[columnIndex] = new String(fieldBuffer, 0, fieldLength, charset);
+
+            if (position >= limit) {
+                return limit;
+            }
+
+            byte delimiter = buffer.get(position++);
+
+            if (delimiter != SEPARATOR) {
+                return skipLineFeed(buffer, position, delimiter);
+            }
+
+            columnIndex++;
+
+            if (columnIndex == rowValues.length) {
+                return skipRecord(buffer, position);
+            }
+        }
+    }
+
+    private int skipRecord(MappedByteBuffer buffer, int position) {
+
+        int limit = buffer.limit();
+        boolean isInQuotes = false;
+
+        while (position < limit) {
+
+            byte character = buffer.get(position++);
+
+            if (character == QUOTE) {
+
+                isInQuotes = !isInQuotes;
+
+            } else if (!isInQuotes && (character == LINE_FEED || character == CARRIAGE_RETURN)) {
+
+                return skipLineFeed(buffer, position, character);
+            }
+        }
+
+        return limit;
+    }
+
+    private int skipLineFeed(MappedByteBuffer buffer, int position, byte lineEnding) {
+
+        if (lineEnding == CARRIAGE_RETURN && position < buffer.limit() && buffer.get(position) == LINE_FEED) {
+            return position + 1;
+        }
+
+        return position;
+    }
+
+    private int appendToField(int fieldLength, byte character) {
+
+        if (fieldLength == fieldBuffer.length) {
+
+            byte[] largerFieldBuffer = new byte[fieldBuffer.length * 2];
+
+            System.arraycopy(fieldBuffer, 0, largerFieldBuffer, 0, fieldLength);
+
+            fieldBuffer = largerFieldBuffer;
+        }
+
+        fieldBuffer[fieldLength] = character;
+
+        return fieldLength + 1;
+    }
+
+    private long countLines(MappedByteBuffer buffer) {
+
+        long lines = 0;
+        boolean isInQuotes = false;
+
+        for (int position = 0; position < buffer.limit(); position++) {
+
+            byte character = buffer.get(position);
+
+            if (character == QUOTE) {
+                isInQuotes = !isInQuotes;
+            } else if (character == LINE_FEED && !isInQuotes) {
+                lines++;
+            }
+        }
+
+        return buffer.limit() > 0 && buffer.get(buffer.limit() - 1) != LINE_FEED ? lines + 1 : lines;
+    }
+}
@@ -0,0 +1,89 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+class DimensionCache<K, V> {
+
+    @Getter
+    private final String name;
+
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    DimensionCache(String name) {
+
+        this.name = name;
+    }
+
+    static List<Object> key(Object... naturalKeyParts) {
+
+        return Arrays.asList(naturalKeyParts);
+    }
+
+    V resolve(K key, Function<K, V> loader) {
+
+        V value = values.get(key);
+
+        if (value != null) {
+
+            hits.incrementAndGet();
+
+            return value;
+        }
+
+        boolean[] isLoaded = {false};
+
+        value = values.computeIfAbsent(key, newKey -> {
+
+            isLoaded[0] = true;
+
+            return loader.apply(newKey);
+        });
+
+        if (isLoaded[0]) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+
+        return value;
+    }
+
+    long getHits() {
+
+        return hits.get();
+    }
+
+    long getMisses() {
+
+        return misses.get();
+    }
+
+    int size() {
+
+        return values.size();
+    }
+
+    void clear() {
+
+        values.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+
+        return name + " cache: size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses();
+    }
+}
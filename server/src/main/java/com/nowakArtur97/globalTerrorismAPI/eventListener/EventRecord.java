@@ -0,0 +1,93 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+class EventRecord {
+
+    private static final DateStringConverter DATE_CONVERTER = new DateStringConverter(DateString.ISO_8601);
+
+    private final Long eventId;
+
+    private final long fingerprint;
+
+    private final String regionName;
+
+    private final String countryName;
+
+    private final String provinceName;
+
+    private final String cityName;
+
+    private final Double cityLatitude;
+
+    private final Double cityLongitude;
+
+    private final String summary;
+
+    private final String motive;
+
+    private final Date date;
+
+    private final Boolean isPartOfMultipleIncidents;
+
+    private final Boolean isSuccessful;
+
+    private final Boolean isSuicidal;
+
+    private final String target;
+
+    private final Long totalNumberOfFatalities;
+
+    private final Long numberOfPerpetratorsFatalities;
+
+    private final Long totalNumberOfInjured;
+
+    private final Long numberOfPerpetratorsInjured;
+
+    private final Long valueOfPropertyDamage;
+
+    private final String groupName;
+
+    private final boolean isGroupUnknown;
+
+    Map<String, Object> toParameters() {
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("eventId", eventId);
+        parameters.put("fingerprint", fingerprint);
+        parameters.put("regionName", regionName);
+        parameters.put("countryName", countryName);
+        parameters.put("provinceName", provinceName);
+        parameters.put("cityName", cityName);
+        parameters.put("cityLatitude", cityLatitude);
+        parameters.put("cityLongitude", cityLongitude);
+        parameters.put("summary", summary);
+        parameters.put("motive", motive);
+        parameters.put("date", DATE_CONVERTER.toGraphProperty(date));
+        parameters.put("isPartOfMultipleIncidents", isPartOfMultipleIncidents);
+        parameters.put("isSuccessful", isSuccessful);
+        parameters.put("isSuicidal", isSuicidal);
+        parameters.put("target", target);
+        parameters.put("totalNumberOfFatalities", totalNumberOfFatalities);
+        parameters.put("numberOfPerpetratorsFatalities", numberOfPerpetratorsFatalities);
+        parameters.put("totalNumberOfInjured", totalNumberOfInjured);
+        parameters.put("numberOfPerpetratorsInjured", numberOfPerpetratorsInjured);
+        parameters.put("valueOfPropertyDamage", valueOfPropertyDamage);
+        parameters.put("groupName", groupName);
+        parameters.put("isGroupUnknown", isGroupUnknown);
+
+        return parameters;
+    }
+}
@@ -0,0 +1,129 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.XlsxUtil;
+import org.springframework.stereotype.Component;
+
+@Component
+class EventRecordMapper {
+
+    private static final String DEFAULT_EVENT_SUMMARY = "The specific summary of the attack is unknown.";
+    private static final String DEFAULT_EVENT_MOTIVE = "The specific motive of the attack is unknown.";
+    private static final int DEFAULT_YEAR_OF_EVENT = 1970;
+    private static final int DEFAULT_MONTH_OF_EVENT = 1;
+    private static final int DEFAULT_DAY_OF_EVENT = 1;
+    private static final String DEFAULT_TARGET = "The specific target of the attack is unknown.";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    EventRecord map(EventRow row) {
+
+        String cellValue = row.getValue(XlsxColumnType.YEAR_OF_EVENT);
+        int yearOfEvent = XlsxUtil.isNumeric(cellValue) ? XlsxUtil.parseInt(cellValue) : DEFAULT_YEAR_OF_EVENT;
+
+        cellValue = row.getValue(XlsxColumnType.MONTH_OF_EVENT);
+        int monthOfEvent = XlsxUtil.isNumeric(cellValue) ? XlsxUtil.parseInt(cellValue) : DEFAULT_MONTH_OF_EVENT;
+
+        cellValue = row.getValue(XlsxColumnType.DAY_OF_EVENT);
+        int dayOfEvent = XlsxUtil.isNumeric(cellValue) ? XlsxUtil.parseInt(cellValue) : DEFAULT_DAY_OF_EVENT;
+
+        cellValue = row.getValue(XlsxColumnType.EVENT_SUMMARY);
+        String eventSummary = cellValue.isEmpty() || XlsxUtil.isUnknown(cellValue) ? DEFAULT_EVENT_SUMMARY : cellValue;
+
+        cellValue = row.getValue(XlsxColumnType.EVENT_MOTIVE);
+        String motive = cellValue.isEmpty() || XlsxUtil.isUnknown(cellValue) ? DEFAULT_EVENT_MOTIVE : cellValue;
+
+        cellValue = row.getValue(XlsxColumnType.WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS);
+        boolean isPartOfMultipleIncidents = XlsxUtil.parseBoolean(cellValue);
+
+        cellValue = row.getValue(XlsxColumnType.WAS_EVENT_SUCCESS);
+        boolean isSuccessful = XlsxUtil.parseBoolean(cellValue);
+
+        cellValue = row.getValue(XlsxColumnType.WAS_EVENT_SUICIDE);
+        boolean isSuicidal = XlsxUtil.parseBoolean(cellValue);
+
+        cellValue = row.getValue(XlsxColumnType.TARGET_NAME);
+        String targetName = cellValue.isEmpty() || XlsxUtil.isUnknown(cellValue) ? DEFAULT_TARGET : cellValue;
+
+        cellValue = row.getValue(XlsxColumnType.CITY_LATITUDE);
+        double latitude = XlsxUtil.isNumeric(cellValue) ? Double.parseDouble(cellValue) : 0;
+
+        cellValue = row.getValue(XlsxColumnType.CITY_LONGITUDE);
+        double longitude = XlsxUtil.isNumeric(cellValue) ? Double.parseDouble(cellValue) : 0;
+
+        String groupName = row.getValue(XlsxColumnType.GROUP_NAME);
+
+        cellValue = row.getValue(XlsxColumnType.EVENT_ID);
+        Long eventId = XlsxUtil.isNumeric(cellValue) ? (long) Double.parseDouble(cellValue) : null;
+
+        String regionName = row.getValue(XlsxColumnType.REGION_NAME);
+        String countryName = row.getValue(XlsxColumnType.COUNTRY_NAME);
+        String provinceName = row.getValue(XlsxColumnType.PROVINCE_NAME);
+        String cityName = row.getValue(XlsxColumnType.CITY_NAME);
+
+        long totalNumberOfFatalities = getPositiveValue(row, XlsxColumnType.TOTAL_NUMBER_OF_FATALITIES);
+        long numberOfPerpetratorsFatalities = getPositiveValue(row, XlsxColumnType.NUMBER_OF_PERPETRATOR_FATALITIES);
+        long totalNumberOfInjured = getPositiveValue(row, XlsxColumnType.TOTAL_NUMBER_OF_INJURED);
+        long numberOfPerpetratorsInjured = getPositiveValue(row, XlsxColumnType.NUMBER_OF_PERPETRATOR_INJURED);
+        long valueOfPropertyDamage = getPositiveValue(row, XlsxColumnType.VALUE_OF_PROPERTY_DAMAGE);
+
+        long fingerprint = getFingerprint(regionName, countryName, provinceName, cityName, latitude, longitude,
+                eventSummary, motive, yearOfEvent, monthOfEvent, dayOfEvent, isPartOfMultipleIncidents, isSuccessful,
+                isSuicidal, targetName, totalNumberOfFatalities, numberOfPerpetratorsFatalities, totalNumberOfInjured,
+                numberOfPerpetratorsInjured, valueOfPropertyDamage, groupName);
+
+        return EventRecord.builder()
+                .eventId(eventId)
+                .fingerprint(fingerprint)
+                .regionName(regionName)
+                .countryName(countryName)
+                .provinceName(provinceName)
+                .cityName(cityName)
+                .cityLatitude(latitude)
+                .cityLongitude(longitude)
+                .summary(eventSummary)
+                .motive(motive)
+                .date(XlsxUtil.getDate(yearOfEvent, monthOfEvent, dayOfEvent))
+                .isPartOfMultipleIncidents(isPartOfMultipleIncidents)
+                .isSuccessful(isSuccessful)
+                .isSuicidal(isSuicidal)
+                .target(targetName)
+                .totalNumberOfFatalities(totalNumberOfFatalities)
+                .numberOfPerpetratorsFatalities(numberOfPerpetratorsFatalities)
+                .totalNumberOfInjured(totalNumberOfInjured)
+                .numberOfPerpetratorsInjured(numberOfPerpetratorsInjured)
+                .valueOfPropertyDamage(valueOfPropertyDamage)
+                .groupName(groupName)
+                .isGroupUnknown(XlsxUtil.isUnknown(groupName))
+                .build();
+    }
+
+    private long getPositiveValue(EventRow row, XlsxColumnType columnType) {
+
+        String cellValue = row.getValue(columnType);
+
+        return XlsxUtil.getPositiveValue(cellValue, 0);
+    }
+
+    private long getFingerprint(Object... values) {
+
+        long hash = FNV_OFFSET_BASIS;
+
+        for (Object value : values) {
+
+            String text = String.valueOf(value);
+
+            for (int i = 0; i < text.length(); i++) {
+
+                hash ^= text.charAt(i);
+                hash *= FNV_PRIME;
+            }
+
+            hash ^= FIELD_SEPARATOR;
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,13 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+interface EventRecordWriter {
+
+    ImportMode getMode();
+
+    void write(EventRecord eventRecord);
+
+    void flush();
+
+    default void close() {
+    }
+}
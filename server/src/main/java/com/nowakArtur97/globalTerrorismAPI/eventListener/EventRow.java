@@ -0,0 +1,24 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.Getter;
+
+class EventRow {
+
+    @Getter
+    private final int rowNum;
+
+    private final String[] values;
+
+    EventRow(int rowNum, String[] values) {
+
+        this.rowNum = rowNum;
+        this.values = values;
+    }
+
+    String getValue(XlsxColumnType columnType) {
+
+        int index = columnType.getIndex();
+
+        return index < values.length && values[index] != null ? values[index] : "";
+    }
+}
@@ -0,0 +1,10 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+interface EventRowListener {
+
+    void onNumberOfRows(long numberOfRows);
+
+    void onRowRead();
+
+    void onRowSelected(EventRow eventRow) throws InterruptedException;
+}
@@ -0,0 +1,8 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import java.io.IOException;
+
+interface EventRowReader {
+
+    void read(EventRowListener eventRowListener) throws IOException, InterruptedException;
+}
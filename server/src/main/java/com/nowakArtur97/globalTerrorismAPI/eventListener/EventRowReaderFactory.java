@@ -0,0 +1,35 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Component
+@RequiredArgsConstructor
+class EventRowReaderFactory {
+
+    private static final String XLSX_EXTENSION = ".xlsx";
+
+    private static final String CSV_EXTENSION = ".csv";
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    EventRowReader create(Path file) {
+
+        EventRowSampler eventRowSampler = new EventRowSampler(importConfigurationProperties.getSampling());
+
+        String fileName = file.getFileName().toString().toLowerCase();
+
+        if (fileName.endsWith(XLSX_EXTENSION)) {
+
+            return new XlsxEventRowReader(file, eventRowSampler);
+
+        } else if (fileName.endsWith(CSV_EXTENSION)) {
+
+            return new CsvEventRowReader(file, eventRowSampler, importConfigurationProperties.getCsvCharset());
+        }
+
+        throw new IllegalArgumentException("Unsupported import file format: " + file.getFileName());
+    }
+}
@@ -0,0 +1,61 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.XlsxUtil;
+
+class EventRowSampler {
+
+    private static final int FIRST_DATA_ROW = 1;
+
+    private final int stride;
+
+    private final int fromRow;
+
+    private final int toRow;
+
+    private final Integer fromYear;
+
+    private final Integer toYear;
+
+    EventRowSampler(ImportSamplingProperties importSamplingProperties) {
+
+        boolean isFullLoad = importSamplingProperties.isFullLoad();
+
+        this.stride = isFullLoad ? 1 : Math.max(importSamplingProperties.getStride(), 1);
+        this.fromRow = isFullLoad || importSamplingProperties.getFromRow() == null
+                ? FIRST_DATA_ROW : Math.max(importSamplingProperties.getFromRow(), FIRST_DATA_ROW);
+        this.toRow = isFullLoad || importSamplingProperties.getToRow() == null
+                ? Integer.MAX_VALUE : importSamplingProperties.getToRow();
+        this.fromYear = isFullLoad ? null : importSamplingProperties.getFromYear();
+        this.toYear = isFullLoad ? null : importSamplingProperties.getToYear();
+    }
+
+    boolean isRowSelected(int rowNum) {
+
+        return rowNum >= fromRow && rowNum <= toRow && (rowNum - fromRow) % stride == 0;
+    }
+
+    boolean isPastLastRow(int rowNum) {
+
+        return rowNum > toRow;
+    }
+
+    boolean isFilteringByYear() {
+
+        return fromYear != null || toYear != null;
+    }
+
+    boolean isYearSelected(String yearValue) {
+
+        if (!isFilteringByYear()) {
+            return true;
+        }
+
+        if (!XlsxUtil.isNumeric(yearValue)) {
+            return false;
+        }
+
+        int year = XlsxUtil.parseInt(yearValue);
+
+        return (fromYear == null || year >= fromYear) && (toYear == null || year <= toYear);
+    }
+}
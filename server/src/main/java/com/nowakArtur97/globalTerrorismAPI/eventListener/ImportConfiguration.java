@@ -0,0 +1,9 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(value = ImportConfigurationProperties.class)
+class ImportConfiguration {
+}
@@ -0,0 +1,33 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.nio.charset.Charset;
+
+@ConfigurationProperties(prefix = "app.import")
+@ConstructorBinding
+@Getter
+@AllArgsConstructor
+final class ImportConfigurationProperties {
+
+    private final boolean async;
+
+    private final boolean incremental;
+
+    private final ImportMode mode;
+
+    private final int batchSize;
+
+    private final int commitInterval;
+
+    private final int workerThreads;
+
+    private final int queueCapacity;
+
+    private final ImportSamplingProperties sampling;
+
+    private final Charset csvCharset;
+}
@@ -0,0 +1,67 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+class ImportInProgressFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH = "/api/";
+
+    private static final long DEFAULT_RETRY_AFTER_IN_SECONDS = 30;
+
+    private final ImportProgress importProgress;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!importProgress.isRunning() || importProgress.isDataAvailable()) {
+
+            filterChain.doFilter(request, response);
+
+            return;
+        }
+
+        long estimatedSecondsLeft = importProgress.getEstimatedSecondsLeft();
+        long retryAfter = estimatedSecondsLeft > 0 ? estimatedSecondsLeft : DEFAULT_RETRY_AFTER_IN_SECONDS;
+
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        errorResponse.addError("Data import is in progress. Try again later.");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        return !HttpMethod.GET.matches(request.getMethod()) || !path.startsWith(API_PATH);
+    }
+}
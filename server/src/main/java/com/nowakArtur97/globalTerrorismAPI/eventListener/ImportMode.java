@@ -0,0 +1,6 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+enum ImportMode {
+
+    BULK, ROW_BY_ROW
+}
@@ -0,0 +1,322 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@Slf4j
+class ImportPipeline {
+
+    private static final String METRIC_PREFIX = "app.import.pipeline";
+
+    private static final int ROWS_PER_CHUNK = 100;
+
+    private static final long WRITER_POLL_TIMEOUT_IN_MILLISECONDS = 500;
+
+    private final EventRecordMapper eventRecordMapper;
+
+    private final ImportProgress importProgress;
+
+    private final int workerThreads;
+
+    private final int queueCapacity;
+
+    private final Counter parsedRows;
+
+    private final Counter resolvedRows;
+
+    private final Counter writtenRows;
+
+    private final Timer parseBackpressure;
+
+    private final Timer resolveBackpressure;
+
+    private volatile BlockingQueue<List<EventRow>> rowQueue = new ArrayBlockingQueue<>(1);
+
+    private volatile BlockingQueue<List<EventRecord>> recordQueue = new ArrayBlockingQueue<>(1);
+
+    ImportPipeline(EventRecordMapper eventRecordMapper, ImportProgress importProgress,
+                   ImportConfigurationProperties importConfigurationProperties, MeterRegistry meterRegistry) {
+
+        this.eventRecordMapper = eventRecordMapper;
+        this.importProgress = importProgress;
+        this.workerThreads = importConfigurationProperties.getWorkerThreads();
+        this.queueCapacity = importConfigurationProperties.getQueueCapacity();
+
+        this.parsedRows = stageCounter(meterRegistry, "parse");
+        this.resolvedRows = stageCounter(meterRegistry, "resolve");
+        this.writtenRows = stageCounter(meterRegistry, "write");
+
+        this.parseBackpressure = backpressureTimer(meterRegistry, "parse");
+        this.resolveBackpressure = backpressureTimer(meterRegistry, "resolve");
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", this, pipeline -> pipeline.rowQueue.size())
+                .tag("queue", "rows")
+                .description("Number of parsed row chunks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", this, pipeline -> pipeline.recordQueue.size())
+                .tag("queue", "records")
+                .description("Number of resolved record chunks waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    void run(EventRowReader eventRowReader, EventRecordWriter eventRecordWriter) {
+
+        rowQueue = new ArrayBlockingQueue<>(queueCapacity);
+        recordQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(workerThreads + 1, createThreadFactory());
+
+        long startTime = System.nanoTime();
+
+        try {
+            executorService.execute(() -> parse(eventRowReader, failure));
+
+            for (int i = 0; i < workerThreads; i++) {
+                executorService.execute(() -> resolve(failure));
+            }
+
+            write(eventRecordWriter, failure);
+
+        } finally {
+
+            executorService.shutdownNow();
+
+            eventRecordWriter.close();
+        }
+
+        double seconds = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), 1) / 1000.0;
+
+        log.info("##################### Import pipeline: parsed " + (long) parsedRows.count()
+                + ", resolved " + (long) resolvedRows.count() + ", written " + (long) writtenRows.count()
+                + " rows in " + seconds + "s (" + (long) (writtenRows.count() / seconds)
+                + " rows/s) #####################");
+    }
+
+    private void parse(EventRowReader eventRowReader, AtomicReference<Throwable> failure) {
+
+        try {
+            ChunkingEventRowListener chunkingEventRowListener = new ChunkingEventRowListener(failure);
+
+            eventRowReader.read(chunkingEventRowListener);
+
+            chunkingEventRowListener.flush();
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+        } catch (IOException | RuntimeException e) {
+
+            failure.compareAndSet(null, e);
+
+        } finally {
+
+            for (int i = 0; i < workerThreads; i++) {
+                endStream(rowQueue);
+            }
+        }
+    }
+
+    private void resolve(AtomicReference<Throwable> failure) {
+
+        try {
+            List<EventRow> chunk = rowQueue.take();
+
+            while (!chunk.isEmpty()) {
+
+                List<EventRecord> eventRecords = new ArrayList<>(chunk.size());
+
+                for (EventRow eventRow : chunk) {
+                    eventRecords.add(eventRecordMapper.map(eventRow));
+                }
+
+                put(recordQueue, eventRecords, resolveBackpressure);
+                resolvedRows.increment(eventRecords.size());
+
+                chunk = rowQueue.take();
+            }
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+        } catch (RuntimeException e) {
+
+            failure.compareAndSet(null, e);
+
+        } finally {
+
+            endStream(recordQueue);
+        }
+    }
+
+    private void write(EventRecordWriter eventRecordWriter, AtomicReference<Throwable> failure) {
+
+        int finishedWorkers = 0;
+
+        try {
+            while (finishedWorkers < workerThreads) {
+
+                List<EventRecord> eventRecords = recordQueue.poll(WRITER_POLL_TIMEOUT_IN_MILLISECONDS,
+                        TimeUnit.MILLISECONDS);
+
+                throwIfFailed(failure);
+
+                if (eventRecords == null) {
+                    continue;
+                }
+
+                if (eventRecords.isEmpty()) {
+
+                    finishedWorkers++;
+
+                    continue;
+                }
+
+                for (EventRecord eventRecord : eventRecords) {
+                    eventRecordWriter.write(eventRecord);
+                }
+
+                writtenRows.increment(eventRecords.size());
+                importProgress.rowsWritten(eventRecords.size());
+            }
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Import pipeline was interrupted", e);
+        }
+
+        throwIfFailed(failure);
+
+        eventRecordWriter.flush();
+    }
+
+    private <T> void put(BlockingQueue<List<T>> queue, List<T> chunk, Timer backpressure)
+            throws InterruptedException {
+
+        long startTime = System.nanoTime();
+
+        queue.put(chunk);
+
+        backpressure.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private <T> void endStream(BlockingQueue<List<T>> queue) {
+
+        try {
+            queue.put(Collections.emptyList());
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void throwIfFailed(AtomicReference<Throwable> failure) {
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("Import pipeline failed", failure.get());
+        }
+    }
+
+    private static Counter stageCounter(MeterRegistry meterRegistry, String stage) {
+
+        return Counter.builder(METRIC_PREFIX + ".rows")
+                .tag("stage", stage)
+                .description("Number of rows processed by the import pipeline stage")
+                .register(meterRegistry);
+    }
+
+    private static Timer backpressureTimer(MeterRegistry meterRegistry, String stage) {
+
+        return Timer.builder(METRIC_PREFIX + ".backpressure")
+                .tag("stage", stage)
+                .description("Time the import pipeline stage spent blocked on a full queue")
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory createThreadFactory() {
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return runnable -> {
+
+            Thread thread = new Thread(runnable, "import-pipeline-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private class ChunkingEventRowListener implements EventRowListener {
+
+        private final AtomicReference<Throwable> failure;
+
+        private List<EventRow> chunk = new ArrayList<>(ROWS_PER_CHUNK);
+
+        private ChunkingEventRowListener(AtomicReference<Throwable> failure) {
+
+            this.failure = failure;
+        }
+
+        @Override
+        public void onNumberOfRows(long numberOfRows) {
+
+            importProgress.setTotalRows(numberOfRows);
+        }
+
+        @Override
+        public void onRowRead() {
+
+            if (failure.get() != null) {
+                throw new IllegalStateException("Import pipeline failed");
+            }
+
+            importProgress.rowRead();
+        }
+
+        @Override
+        public void onRowSelected(EventRow eventRow) throws InterruptedException {
+
+            chunk.add(eventRow);
+
+            if (chunk.size() == ROWS_PER_CHUNK) {
+                flush();
+            }
+        }
+
+        private void flush() throws InterruptedException {
+
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            put(rowQueue, chunk, parseBackpressure);
+            parsedRows.increment(chunk.size());
+
+            chunk = new ArrayList<>(ROWS_PER_CHUNK);
+        }
+    }
+}
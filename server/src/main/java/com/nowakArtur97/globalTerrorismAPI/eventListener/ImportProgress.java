@@ -0,0 +1,126 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+class ImportProgress {
+
+    @Getter
+    private volatile ImportStatus status = ImportStatus.NOT_STARTED;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile long totalRows;
+
+    private volatile Instant startTime;
+
+    private volatile Instant endTime;
+
+    private volatile String failureMessage;
+
+    private volatile boolean isServingExistingData;
+
+    void start(boolean isServingExistingData) {
+
+        this.isServingExistingData = isServingExistingData;
+        this.startTime = Instant.now();
+        this.status = ImportStatus.IN_PROGRESS;
+    }
+
+    void setTotalRows(long totalRows) {
+
+        this.totalRows = totalRows;
+    }
+
+    void rowRead() {
+
+        rowsRead.incrementAndGet();
+    }
+
+    void rowsWritten(long numberOfRows) {
+
+        rowsWritten.addAndGet(numberOfRows);
+    }
+
+    void complete() {
+
+        finish(ImportStatus.COMPLETED);
+    }
+
+    void skip() {
+
+        finish(ImportStatus.SKIPPED);
+    }
+
+    void fail(Throwable exception) {
+
+        failureMessage = exception.getMessage();
+
+        finish(ImportStatus.FAILED);
+    }
+
+    boolean isDataAvailable() {
+
+        return status == ImportStatus.COMPLETED || status == ImportStatus.SKIPPED || isServingExistingData;
+    }
+
+    boolean isRunning() {
+
+        return status == ImportStatus.NOT_STARTED || status == ImportStatus.IN_PROGRESS;
+    }
+
+    long getEstimatedSecondsLeft() {
+
+        long read = rowsRead.get();
+
+        if (status != ImportStatus.IN_PROGRESS || read == 0 || totalRows <= read) {
+            return 0;
+        }
+
+        long elapsedMillis = Duration.between(startTime, Instant.now()).toMillis();
+
+        return (long) Math.ceil(elapsedMillis * ((double) (totalRows - read) / read) / 1000);
+    }
+
+    Map<String, Object> toDetails() {
+
+        Map<String, Object> details = new LinkedHashMap<>();
+
+        details.put("status", status);
+        details.put("rowsRead", rowsRead.get());
+        details.put("totalRows", totalRows);
+        details.put("rowsWritten", rowsWritten.get());
+
+        if (startTime != null) {
+
+            Instant lastTime = endTime != null ? endTime : Instant.now();
+
+            details.put("elapsedSeconds", Duration.between(startTime, lastTime).getSeconds());
+        }
+
+        if (status == ImportStatus.IN_PROGRESS) {
+            details.put("etaSeconds", getEstimatedSecondsLeft());
+        }
+
+        if (failureMessage != null) {
+            details.put("failure", failureMessage);
+        }
+
+        return details;
+    }
+
+    private void finish(ImportStatus finalStatus) {
+
+        this.endTime = Instant.now();
+        this.status = finalStatus;
+    }
+}
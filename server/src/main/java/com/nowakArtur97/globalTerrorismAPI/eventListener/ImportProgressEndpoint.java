@@ -0,0 +1,22 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "import")
+@RequiredArgsConstructor
+class ImportProgressEndpoint {
+
+    private final ImportProgress importProgress;
+
+    @ReadOperation
+    Map<String, Object> importProgress() {
+
+        return importProgress.toDetails();
+    }
+}
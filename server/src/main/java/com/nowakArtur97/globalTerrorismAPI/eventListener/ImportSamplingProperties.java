@@ -0,0 +1,21 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+final class ImportSamplingProperties {
+
+    private final boolean fullLoad;
+
+    private final int stride;
+
+    private final Integer fromRow;
+
+    private final Integer toRow;
+
+    private final Integer fromYear;
+
+    private final Integer toYear;
+}
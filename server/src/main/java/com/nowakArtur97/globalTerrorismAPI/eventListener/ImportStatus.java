@@ -0,0 +1,6 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+enum ImportStatus {
+
+    NOT_STARTED, IN_PROGRESS, COMPLETED, SKIPPED, FAILED
+}
@@ -0,0 +1,194 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Values;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+class IncrementalEventRecordWriter implements EventRecordWriter {
+
+    private static final String FIND_IMPORTED_EVENTS_QUERY =
+            "MATCH (event:Event) WHERE event.eventId IS NOT NULL " +
+                    "RETURN event.eventId AS eventId, id(event) AS nodeId, event.fingerprint AS fingerprint";
+
+    private static final String DELETE_EVENTS_QUERY =
+            "MATCH (event:Event) WHERE id(event) IN $nodeIds " +
+                    "OPTIONAL MATCH (event)-[:TARGETS]->(target:Target) " +
+                    "OPTIONAL MATCH (event)-[:CASUALTIES]->(victim:Victim) " +
+                    "OPTIONAL MATCH (group:Group)-[:CARRIES_OUT]->(event) " +
+                    "WITH collect(DISTINCT event) AS events, collect(DISTINCT target) AS targets, " +
+                    "collect(DISTINCT victim) AS victims, collect(DISTINCT group) AS groups " +
+                    "FOREACH (node IN events + targets + victims | DETACH DELETE node) " +
+                    "WITH [group IN groups WHERE NOT (group)-[:CARRIES_OUT]->()] AS orphanedGroups " +
+                    "FOREACH (group IN orphanedGroups | DETACH DELETE group)";
+
+    private final Driver driver;
+
+    private final EventRecordWriter eventRecordWriter;
+
+    private final int batchSize;
+
+    private final boolean isDeletingRemovedEvents;
+
+    private Map<Long, ImportedEvent> importedEvents;
+
+    private final List<Long> obsoleteNodeIds = new ArrayList<>();
+
+    private long newEvents;
+
+    private long changedEvents;
+
+    private long unchangedEvents;
+
+    IncrementalEventRecordWriter(Driver driver, EventRecordWriter eventRecordWriter, int batchSize,
+                                 boolean isDeletingRemovedEvents) {
+
+        this.driver = driver;
+        this.eventRecordWriter = eventRecordWriter;
+        this.batchSize = batchSize;
+        this.isDeletingRemovedEvents = isDeletingRemovedEvents;
+    }
+
+    @Override
+    public ImportMode getMode() {
+
+        return eventRecordWriter.getMode();
+    }
+
+    @Override
+    public void write(EventRecord eventRecord) {
+
+        loadImportedEvents();
+
+        Long eventId = eventRecord.getEventId();
+
+        ImportedEvent importedEvent = eventId != null ? importedEvents.remove(eventId) : null;
+
+        if (importedEvent == null) {
+
+            newEvents++;
+
+            eventRecordWriter.write(eventRecord);
+
+        } else if (Objects.equals(importedEvent.fingerprint, eventRecord.getFingerprint())) {
+
+            unchangedEvents++;
+
+        } else {
+
+            changedEvents++;
+
+            obsoleteNodeIds.add(importedEvent.nodeId);
+
+            eventRecordWriter.write(eventRecord);
+        }
+    }
+
+    @Override
+    public void flush() {
+
+        loadImportedEvents();
+
+        eventRecordWriter.flush();
+
+        long removedEvents = 0;
+
+        if (isDeletingRemovedEvents) {
+
+            for (ImportedEvent importedEvent : importedEvents.values()) {
+                obsoleteNodeIds.add(importedEvent.nodeId);
+            }
+
+            removedEvents = importedEvents.size();
+        }
+
+        deleteObsoleteEvents();
+
+        log.info("##################### Incremental import: " + newEvents + " new, " + changedEvents + " changed, "
+                + unchangedEvents + " unchanged, " + removedEvents + " removed events #####################");
+
+        importedEvents = null;
+    }
+
+    @Override
+    public void close() {
+
+        importedEvents = null;
+        obsoleteNodeIds.clear();
+
+        eventRecordWriter.close();
+    }
+
+    private void loadImportedEvents() {
+
+        if (importedEvents != null) {
+            return;
+        }
+
+        importedEvents = new HashMap<>();
+
+        try (Session session = driver.session()) {
+
+            Result result = session.run(FIND_IMPORTED_EVENTS_QUERY);
+
+            while (result.hasNext()) {
+
+                Record record = result.next();
+
+                Long fingerprint = record.get("fingerprint").isNull() ? null : record.get("fingerprint").asLong();
+
+                importedEvents.put(record.get("eventId").asLong(),
+                        new ImportedEvent(record.get("nodeId").asLong(), fingerprint));
+            }
+        }
+
+        log.info("##################### Found " + importedEvents.size() + " imported events #####################");
+    }
+
+    private void deleteObsoleteEvents() {
+
+        if (obsoleteNodeIds.isEmpty()) {
+            return;
+        }
+
+        try (Session session = driver.session()) {
+
+            for (int fromIndex = 0; fromIndex < obsoleteNodeIds.size(); fromIndex += batchSize) {
+
+                List<Long> batch = obsoleteNodeIds.subList(fromIndex,
+                        Math.min(fromIndex + batchSize, obsoleteNodeIds.size()));
+
+                try (Transaction transaction = session.beginTransaction()) {
+
+                    transaction.run(DELETE_EVENTS_QUERY, Values.parameters("nodeIds", batch));
+                    transaction.commit();
+                }
+            }
+        }
+
+        obsoleteNodeIds.clear();
+    }
+
+    private static class ImportedEvent {
+
+        private final long nodeId;
+
+        private final Long fingerprint;
+
+        private ImportedEvent(long nodeId, Long fingerprint) {
+
+            this.nodeId = nodeId;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class ReadinessHealthIndicator extends AbstractHealthIndicator {
+
+    private final ImportProgress importProgress;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+
+        if (importProgress.isDataAvailable()) {
+            builder.up();
+        } else {
+            builder.down();
+        }
+
+        builder.withDetails(importProgress.toDetails());
+    }
+}
@@ -0,0 +1,214 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityService;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupService;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceReference;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionService;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetService;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class RowByRowEventRecordWriter implements EventRecordWriter {
+
+    private final Map<String, GroupNode> groupsWithEvents = new HashMap<>();
+
+    private final DimensionCache<String, RegionNode> regions = new DimensionCache<>("Region");
+
+    private final DimensionCache<String, CountryNode> countries = new DimensionCache<>("Country");
+
+    private final DimensionCache<List<Object>, ProvinceNode> provinces = new DimensionCache<>("Province");
+
+    private final DimensionCache<List<Object>, CityNode> cities = new DimensionCache<>("City");
+
+    private final TargetService targetService;
+
+    private final GenericService<EventNode, EventDTO> eventService;
+
+    private final GroupService groupService;
+
+    private final ProvinceService provinceService;
+
+    private final CountryService countryService;
+
+    private final RegionService regionService;
+
+    private final CityService cityService;
+
+    private final VictimService victimService;
+
+    @Override
+    public ImportMode getMode() {
+
+        return ImportMode.ROW_BY_ROW;
+    }
+
+    @Override
+    public void write(EventRecord eventRecord) {
+
+        RegionNode region = saveRegion(eventRecord);
+
+        CountryNode country = saveCountry(eventRecord, region);
+
+        ProvinceNode province = saveProvince(eventRecord, country);
+
+        CityNode city = saveCity(eventRecord, province);
+
+        TargetNode target = saveTarget(eventRecord, country);
+
+        VictimNode victim = saveVictim(eventRecord);
+
+        EventNode event = saveEvent(eventRecord, target, city, victim);
+
+        manageGroup(eventRecord, event);
+    }
+
+    @Override
+    public void flush() {
+
+        for (GroupNode group : groupsWithEvents.values()) {
+
+            if (group.getId() == null) {
+
+                groupService.save(group);
+
+            } else {
+
+                groupService.addEvents(group.getId(), group.getEventsCaused());
+            }
+        }
+
+        groupsWithEvents.clear();
+
+        for (DimensionCache<?, ?> dimensionCache : List.of(regions, countries, provinces, cities)) {
+
+            log.info("##################### " + dimensionCache + " #####################");
+
+            dimensionCache.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+
+        groupsWithEvents.clear();
+
+        for (DimensionCache<?, ?> dimensionCache : List.of(regions, countries, provinces, cities)) {
+            dimensionCache.clear();
+        }
+    }
+
+    private void manageGroup(EventRecord eventRecord, EventNode event) {
+
+        String groupName = eventRecord.getGroupName();
+
+        if (groupsWithEvents.containsKey(groupName)) {
+
+            groupsWithEvents.get(groupName).addEvent(event);
+
+        } else if (eventRecord.isGroupUnknown()) {
+
+            GroupNode group = new GroupNode(groupName);
+
+            group.addEvent(event);
+
+            groupService.save(group);
+
+        } else {
+
+            GroupNode group = groupService.findByName(groupName).orElseGet(() -> new GroupNode(groupName));
+
+            group.addEvent(event);
+
+            groupsWithEvents.put(groupName, group);
+        }
+    }
+
+    private EventNode saveEvent(EventRecord eventRecord, TargetNode target, CityNode city, VictimNode victim) {
+
+        EventNode event = EventNode.builder().date(eventRecord.getDate()).summary(eventRecord.getSummary())
+                .isPartOfMultipleIncidents(eventRecord.getIsPartOfMultipleIncidents())
+                .isSuccessful(eventRecord.getIsSuccessful()).isSuicidal(eventRecord.getIsSuicidal())
+                .motive(eventRecord.getMotive()).target(target).city(city).victim(victim)
+                .build();
+
+        event.setEventId(eventRecord.getEventId());
+        event.setFingerprint(eventRecord.getFingerprint());
+
+        return eventService.save(event);
+    }
+
+    private TargetNode saveTarget(EventRecord eventRecord, CountryNode country) {
+
+        return targetService.save(new TargetNode(eventRecord.getTarget(), country));
+    }
+
+    private VictimNode saveVictim(EventRecord eventRecord) {
+
+        VictimNode victim = VictimNode.builder()
+                .totalNumberOfFatalities(eventRecord.getTotalNumberOfFatalities())
+                .numberOfPerpetratorsFatalities(eventRecord.getNumberOfPerpetratorsFatalities())
+                .totalNumberOfInjured(eventRecord.getTotalNumberOfInjured())
+                .numberOfPerpetratorsInjured(eventRecord.getNumberOfPerpetratorsInjured())
+                .valueOfPropertyDamage(eventRecord.getValueOfPropertyDamage())
+                .build();
+
+        return victimService.save(victim);
+    }
+
+    private CountryNode saveCountry(EventRecord eventRecord, RegionNode regionNode) {
+
+        return countries.resolve(eventRecord.getCountryName(),
+                name -> countryService.findReferenceByName(name).map(CountryReference::toNode)
+                        .orElseGet(() -> countryService.save(new CountryNode(name, regionNode))));
+    }
+
+    private RegionNode saveRegion(EventRecord eventRecord) {
+
+        return regions.resolve(eventRecord.getRegionName(), name -> regionService.findIdByName(name)
+                .flatMap(regionService::findById).orElseGet(() -> regionService.save(new RegionNode(name))));
+    }
+
+    private ProvinceNode saveProvince(EventRecord eventRecord, CountryNode country) {
+
+        List<Object> key = DimensionCache.key(eventRecord.getProvinceName(), country.getName());
+
+        return provinces.resolve(key, newKey -> provinceService
+                .findReferenceByNameAndCountryName(eventRecord.getProvinceName(), country.getName())
+                .map(ProvinceReference::toNode)
+                .orElseGet(() -> provinceService.save(new ProvinceNode(eventRecord.getProvinceName(), country))));
+    }
+
+    private CityNode saveCity(EventRecord eventRecord, ProvinceNode province) {
+
+        List<Object> key = DimensionCache.key(eventRecord.getCityName(), eventRecord.getCityLatitude(),
+                eventRecord.getCityLongitude());
+
+        return cities.resolve(key, newKey -> cityService
+                .findByNameAndLatitudeAndLongitude(eventRecord.getCityName(), eventRecord.getCityLatitude(),
+                        eventRecord.getCityLongitude())
+                .orElseGet(() -> cityService.save(new CityNode(eventRecord.getCityName(),
+                        eventRecord.getCityLatitude(), eventRecord.getCityLongitude(), province))));
+    }
+}
@@ -2,20 +2,35 @@ package com.nowakArtur97.globalTerrorismAPI.eventListener;
 
 import lombok.Getter;
 
-enum XlsxColumnType {
+import java.util.Arrays;
 
-    YEAR_OF_EVENT(1), MONTH_OF_EVENT(2), DAY_OF_EVENT(3), COUNTRY_NAME(8),
-    REGION_NAME(10), PROVINCE_NAME(11), CITY_NAME(12), CITY_LATITUDE(13), CITY_LONGITUDE(14),
-    EVENT_SUMMARY(18), WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS(25), WAS_EVENT_SUCCESS(26),
-    WAS_EVENT_SUICIDE(27), TARGET_NAME(39), GROUP_NAME(58), EVENT_MOTIVE(64),
-    TOTAL_NUMBER_OF_FATALITIES(98), NUMBER_OF_PERPETRATOR_FATALITIES(100), TOTAL_NUMBER_OF_INJURED(101),
-    NUMBER_OF_PERPETRATOR_INJURED(103), VALUE_OF_PROPERTY_DAMAGE(107);
+@Getter
+public enum XlsxColumnType {
+
+    EVENT_ID(0, "eventid"), YEAR_OF_EVENT(1, "iyear"), MONTH_OF_EVENT(2, "imonth"), DAY_OF_EVENT(3, "iday"),
+    COUNTRY_NAME(8, "country_txt"), REGION_NAME(10, "region_txt"), PROVINCE_NAME(11, "provstate"),
+    CITY_NAME(12, "city"), CITY_LATITUDE(13, "latitude"), CITY_LONGITUDE(14, "longitude"),
+    EVENT_SUMMARY(18, "summary"), WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS(25, "multiple"),
+    WAS_EVENT_SUCCESS(26, "success"), WAS_EVENT_SUICIDE(27, "suicide"), TARGET_NAME(39, "target1"),
+    GROUP_NAME(58, "gname"), EVENT_MOTIVE(64, "motive"), TOTAL_NUMBER_OF_FATALITIES(98, "nkill"),
+    NUMBER_OF_PERPETRATOR_FATALITIES(100, "nkillter"), TOTAL_NUMBER_OF_INJURED(101, "nwound"),
+    NUMBER_OF_PERPETRATOR_INJURED(103, "nwoundte"), VALUE_OF_PROPERTY_DAMAGE(107, "propvalue");
+
+    private static final int NUMBER_OF_COLUMNS = Arrays.stream(values()).mapToInt(XlsxColumnType::getIndex).max()
+            .orElse(0) + 1;
 
-    @Getter
     private final int index;
 
-    XlsxColumnType(int index) {
+    private final String headerName;
+
+    XlsxColumnType(int index, String headerName) {
 
         this.index = index;
+        this.headerName = headerName;
+    }
+
+    public static int getNumberOfColumns() {
+
+        return NUMBER_OF_COLUMNS;
     }
 }
@@ -0,0 +1,276 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+class XlsxEventRowReader implements EventRowReader {
+
+    private final Path file;
+
+    private final EventRowSampler eventRowSampler;
+
+    XlsxEventRowReader(Path file, EventRowSampler eventRowSampler) {
+
+        this.file = file;
+        this.eventRowSampler = eventRowSampler;
+    }
+
+    @Override
+    public void read(EventRowListener eventRowListener) throws IOException, InterruptedException {
+
+        try {
+            OPCPackage opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ);
+
+            try {
+                readFirstSheet(opcPackage, eventRowListener);
+
+            } finally {
+
+                opcPackage.revert();
+            }
+
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException exception) {
+
+            throw new IOException("Couldn't read XLSX file: " + file, exception);
+        }
+    }
+
+    private void readFirstSheet(OPCPackage opcPackage, EventRowListener eventRowListener)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException,
+            InterruptedException {
+
+        ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+
+        XSSFReader xssfReader = new XSSFReader(opcPackage);
+
+        SheetHandler sheetHandler = new SheetHandler(sharedStrings, eventRowListener);
+
+        XMLReader xmlReader = SAXHelper.newXMLReader();
+        xmlReader.setContentHandler(sheetHandler);
+
+        try (InputStream sheetInputStream = xssfReader.getSheetsData().next()) {
+
+            xmlReader.parse(new InputSource(sheetInputStream));
+
+        } catch (SAXException exception) {
+
+            if (sheetHandler.interruptedException != null) {
+                throw sheetHandler.interruptedException;
+            }
+
+            if (!sheetHandler.isLastRowReached) {
+                throw exception;
+            }
+        }
+    }
+
+    private class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+
+        private final EventRowListener eventRowListener;
+
+        private final StringBuilder cellValue = new StringBuilder();
+
+        private String[] rowValues;
+
+        private int rowNum;
+
+        private boolean isSkippingRow;
+
+        private int cellColumn;
+
+        private int columnIndex;
+
+        private String cellType;
+
+        private boolean isCapturingValue;
+
+        private boolean isLastRowReached;
+
+        private InterruptedException interruptedException;
+
+        private SheetHandler(ReadOnlySharedStringsTable sharedStrings, EventRowListener eventRowListener) {
+
+            this.sharedStrings = sharedStrings;
+            this.eventRowListener = eventRowListener;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+
+            switch (localName) {
+
+                case "dimension":
+                    startDimension(attributes);
+                    break;
+
+                case "row":
+                    startRow(attributes);
+                    break;
+
+                case "c":
+                    startCell(attributes);
+                    break;
+
+                case "v":
+                case "t":
+                    isCapturingValue = !isSkippingRow && columnIndex >= 0;
+                    cellValue.setLength(0);
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+
+            switch (localName) {
+
+                case "v":
+                case "t":
+                    endValue();
+                    break;
+
+                case "row":
+                    endRow();
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] characters, int start, int length) {
+
+            if (isCapturingValue) {
+                cellValue.append(characters, start, length);
+            }
+        }
+
+        private void startDimension(Attributes attributes) {
+
+            String reference = attributes.getValue("ref");
+
+            if (reference != null && reference.contains(":")) {
+
+                CellReference lastCell = new CellReference(reference.substring(reference.indexOf(':') + 1));
+
+                eventRowListener.onNumberOfRows(lastCell.getRow());
+            }
+        }
+
+        private void startRow(Attributes attributes) throws SAXException {
+
+            String rowReference = attributes.getValue("r");
+
+            rowNum = rowReference != null ? Integer.parseInt(rowReference) - 1 : rowNum + 1;
+
+            if (eventRowSampler.isPastLastRow(rowNum)) {
+
+                isLastRowReached = true;
+
+                throw new SAXException("Last selected row reached");
+            }
+
+            eventRowListener.onRowRead();
+
+            isSkippingRow = !eventRowSampler.isRowSelected(rowNum);
+            rowValues = isSkippingRow ? null : new String[XlsxColumnType.getNumberOfColumns()];
+            cellColumn = -1;
+            columnIndex = -1;
+        }
+
+        private void startCell(Attributes attributes) {
+
+            if (isSkippingRow) {
+                return;
+            }
+
+            String cellReference = attributes.getValue("r");
+
+            cellColumn = cellReference != null ? getColumnIndex(cellReference) : cellColumn + 1;
+
+            columnIndex = cellColumn < rowValues.length ? cellColumn : -1;
+            cellType = attributes.getValue("t");
+        }
+
+        private int getColumnIndex(String cellReference) {
+
+            int column = 0;
+
+            for (int i = 0; i < cellReference.length(); i++) {
+
+                char character = cellReference.charAt(i);
+
+                if (character < 'A' || character > 'Z') {
+                    break;
+                }
+
+                column = column * 26 + (character - 'A' + 1);
+            }
+
+            return column - 1;
+        }
+
+        private void endValue() {
+
+            if (!isCapturingValue) {
+                return;
+            }
+
+            isCapturingValue = false;
+
+            String value = cellValue.toString();
+
+            rowValues[columnIndex] = "s".equals(cellType)
+                    ? sharedStrings.getItemAt(Integer.parseInt(value)).getString()
+                    : value;
+
+            if (columnIndex == XlsxColumnType.YEAR_OF_EVENT.getIndex()
+                    && !eventRowSampler.isYearSelected(rowValues[columnIndex])) {
+                isSkippingRow = true;
+            }
+        }
+
+        private void endRow() throws SAXException {
+
+            if (isSkippingRow) {
+                return;
+            }
+
+            if (eventRowSampler.isFilteringByYear() && rowValues[XlsxColumnType.YEAR_OF_EVENT.getIndex()] == null) {
+                return;
+            }
+
+            try {
+                eventRowListener.onRowSelected(new EventRow(rowNum, rowValues));
+
+            } catch (InterruptedException exception) {
+
+                interruptedException = exception;
+
+                throw new SAXException("Reading interrupted", exception);
+            }
+        }
+    }
+}
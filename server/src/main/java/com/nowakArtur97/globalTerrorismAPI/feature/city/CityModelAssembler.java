@@ -1,15 +1,15 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceModelAssembler;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class CityModelAssembler extends RepresentationModelAssemblerSupport<CityNode, CityModel> {
+public class CityModelAssembler extends MemoizingModelAssemblerSupport<CityNode, CityModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(CityController.class, "findById", Long.class);
 
     private final ProvinceModelAssembler provinceModelAssembler;
 
@@ -23,7 +23,7 @@ public class CityModelAssembler extends RepresentationModelAssemblerSupport<City
     }
 
     @Override
-    public CityModel toModel(CityNode cityNode) {
+    protected CityModel assemble(CityNode cityNode) {
 
         CityModel cityModel = modelMapper.map(cityNode, CityModel.class);
 
@@ -31,7 +31,7 @@ public class CityModelAssembler extends RepresentationModelAssemblerSupport<City
             cityModel.setProvince(provinceModelAssembler.toModel(cityNode.getProvince()));
         }
 
-        cityModel.add(linkTo(methodOn(CityController.class).findById(cityModel.getId())).withSelfRel());
+        cityModel.add(SELF_LINK_TEMPLATE.withSelfRel(cityModel.getId()));
 
         return cityModel;
     }
@@ -2,10 +2,16 @@ package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
 import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CityRepository extends BaseRepository<CityNode> {
 
     Optional<CityNode> findByNameAndLatitudeAndLongitude(String name, Double latitude, Double longitude, @Depth int depth);
+
+    @Query("MATCH (city:City) WHERE id(city) = $id AND city.latitude IS NOT NULL AND city.longitude IS NOT NULL " +
+            "SET city.location = point({latitude: city.latitude, longitude: city.longitude})")
+    void updateLocation(@Param("id") Long id);
 }
@@ -1,12 +1,17 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericServiceImpl;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceReference;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -18,8 +23,9 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
 
     private final ProvinceService provinceService;
 
-    CityService(CityRepository repository, ModelMapper modelMapper, ProvinceService provinceService) {
-        super(repository, modelMapper);
+    CityService(CityRepository repository, ModelMapper modelMapper, DirtyChecker dirtyChecker,
+                ProvinceService provinceService) {
+        super(repository, modelMapper, dirtyChecker);
         this.repository = repository;
         this.provinceService = provinceService;
     }
@@ -29,8 +35,8 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
 
         ProvinceNode provinceNode = cityNode.getProvince();
 
-        Optional<ProvinceNode> provinceNodeOptional = provinceService
-                .findByNameAndCountryName(provinceNode.getName(), provinceNode.getCountry().getName());
+        Optional<ProvinceNode> provinceNodeOptional = findProvince(provinceNode.getName(),
+                provinceNode.getCountry().getName());
 
         if (provinceNodeOptional.isPresent()) {
             cityNode.setProvince(provinceNodeOptional.get());
@@ -38,7 +44,7 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
             cityNode.setProvince(provinceService.save(cityNode.getProvince()));
         }
 
-        return repository.save(cityNode);
+        return saveWithLocation(cityNode);
     }
 
     @Override
@@ -48,8 +54,8 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
 
         ProvinceDTO provinceDTO = cityDTO.getProvince();
 
-        Optional<ProvinceNode> provinceNodeOptional = provinceService
-                .findByNameAndCountryName(provinceDTO.getName(), provinceDTO.getCountry().getName());
+        Optional<ProvinceNode> provinceNodeOptional = findProvince(provinceDTO.getName(),
+                provinceDTO.getCountry().getName());
 
         if (provinceNodeOptional.isPresent()) {
             cityNode.setProvince(provinceNodeOptional.get());
@@ -57,9 +63,10 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
             cityNode.setProvince(provinceService.saveNew(cityDTO.getProvince()));
         }
 
-        return repository.save(cityNode);
+        return saveWithLocation(cityNode);
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     @Override
     public CityNode update(CityNode cityNode, CityDTO cityDTO) {
 
@@ -67,8 +74,8 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
 
         ProvinceDTO provinceDTO = cityDTO.getProvince();
 
-        Optional<ProvinceNode> provinceNodeOptional = provinceService
-                .findByNameAndCountryName(provinceDTO.getName(), provinceDTO.getCountry().getName());
+        Optional<ProvinceNode> provinceNodeOptional = findProvince(provinceDTO.getName(),
+                provinceDTO.getCountry().getName());
 
         ProvinceNode updatedProvince;
 
@@ -78,12 +85,40 @@ public class CityService extends GenericServiceImpl<CityNode, CityDTO> {
             updatedProvince = provinceService.update(cityNode.getProvince(), cityDTO.getProvince());
         }
 
-        cityNode = modelMapper.map(cityDTO, CityNode.class);
+        CityNode updatedCityNode = modelMapper.map(cityDTO, CityNode.class);
 
-        cityNode.setId(id);
-        cityNode.setProvince(updatedProvince);
+        updatedCityNode.setId(id);
+        updatedCityNode.setProvince(updatedProvince);
 
-        return repository.save(cityNode);
+        return dirtyChecker.saveIfDirty(cityNode, updatedCityNode, this::saveWithLocation);
+    }
+
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Override
+    public boolean updateProperties(Long id, Map<String, Object> properties) {
+
+        boolean isUpdated = super.updateProperties(id, properties);
+
+        if (isUpdated) {
+            repository.updateLocation(id);
+        }
+
+        return isUpdated;
+    }
+
+    private Optional<ProvinceNode> findProvince(String provinceName, String countryName) {
+
+        return provinceService.findReferenceByNameAndCountryName(provinceName, countryName)
+                .map(ProvinceReference::toNode);
+    }
+
+    private CityNode saveWithLocation(CityNode cityNode) {
+
+        CityNode savedCityNode = repository.save(cityNode);
+
+        repository.updateLocation(savedCityNode.getId());
+
+        return savedCityNode;
     }
 
     public Optional<CityNode> findByNameAndLatitudeAndLongitude(String name, Double latitude, Double longitude) {
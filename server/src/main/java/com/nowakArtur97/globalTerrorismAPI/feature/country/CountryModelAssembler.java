@@ -1,15 +1,15 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.country;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionModelAssembler;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class CountryModelAssembler extends RepresentationModelAssemblerSupport<CountryNode, CountryModel> {
+public class CountryModelAssembler extends MemoizingModelAssemblerSupport<CountryNode, CountryModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(CountryController.class, "findById", Long.class);
 
     private final RegionModelAssembler regionModelAssembler;
 
@@ -23,7 +23,7 @@ public class CountryModelAssembler extends RepresentationModelAssemblerSupport<C
     }
 
     @Override
-    public CountryModel toModel(CountryNode countryNode) {
+    protected CountryModel assemble(CountryNode countryNode) {
 
         CountryModel countryModel = modelMapper.map(countryNode, CountryModel.class);
 
@@ -31,7 +31,7 @@ public class CountryModelAssembler extends RepresentationModelAssemblerSupport<C
             countryModel.setRegion(regionModelAssembler.toModel(countryNode.getRegion()));
         }
 
-        countryModel.add(linkTo(methodOn(CountryController.class).findById(countryModel.getId())).withSelfRel());
+        countryModel.add(SELF_LINK_TEMPLATE.withSelfRel(countryModel.getId()));
 
         return countryModel;
     }
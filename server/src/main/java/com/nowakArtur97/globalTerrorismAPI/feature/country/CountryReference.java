@@ -0,0 +1,33 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.country;
+
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import lombok.Getter;
+
+@Getter
+public final class CountryReference {
+
+    private final Long id;
+
+    private final String name;
+
+    private final Long regionId;
+
+    private final String regionName;
+
+    public CountryReference(CountryNode countryNode) {
+
+        RegionNode regionNode = countryNode.getRegion();
+
+        this.id = countryNode.getId();
+        this.name = countryNode.getName();
+        this.regionId = regionNode != null ? regionNode.getId() : null;
+        this.regionName = regionNode != null ? regionNode.getName() : null;
+    }
+
+    public CountryNode toNode() {
+
+        RegionNode regionNode = regionId != null ? new RegionNode(regionId, regionName) : null;
+
+        return new CountryNode(id, name, regionNode);
+    }
+}
@@ -1,6 +1,9 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.country;
 
 import com.nowakArtur97.globalTerrorismAPI.common.service.BasicGenericServiceImpl;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -9,6 +12,10 @@ import java.util.Optional;
 public
 class CountryService extends BasicGenericServiceImpl<CountryNode> {
 
+    public static final String COUNTRY_CACHE = "countries";
+
+    public static final String COUNTRY_EXISTS_CACHE = "countryExists";
+
     private final CountryRepository repository;
 
     CountryService(CountryRepository repository) {
@@ -16,13 +23,22 @@ class CountryService extends BasicGenericServiceImpl<CountryNode> {
         this.repository = repository;
     }
 
-    public Optional<CountryNode> findByName(String name) {
+    @Cacheable(value = COUNTRY_CACHE, unless = "#result == null")
+    public Optional<CountryReference> findReferenceByName(String name) {
 
-        return repository.findByName(name);
+        return repository.findByName(name).map(CountryReference::new);
     }
 
+    @Cacheable(value = COUNTRY_EXISTS_CACHE, unless = "!#result")
     public boolean existsByName(String name) {
 
         return repository.existsByName(name);
     }
+
+    @Override
+    @CacheEvict(value = {COUNTRY_CACHE, COUNTRY_EXISTS_CACHE, ProvinceService.PROVINCE_CACHE}, allEntries = true)
+    public CountryNode save(CountryNode countryNode) {
+
+        return repository.save(countryNode);
+    }
 }
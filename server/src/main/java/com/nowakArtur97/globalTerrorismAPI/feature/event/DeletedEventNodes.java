@@ -0,0 +1,43 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+@QueryResult
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletedEventNodes {
+
+    private long deletedEvents;
+
+    private long deletedTargets;
+
+    private long deletedVictims;
+
+    private long deletedCities;
+
+    public long getTotalDeletedNodes() {
+
+        return deletedEvents + deletedTargets + deletedVictims + deletedCities;
+    }
+
+    public DeletedEventNodes add(DeletedEventNodes deletedEventNodes) {
+
+        return new DeletedEventNodes(deletedEvents + deletedEventNodes.getDeletedEvents(),
+                deletedTargets + deletedEventNodes.getDeletedTargets(),
+                deletedVictims + deletedEventNodes.getDeletedVictims(),
+                deletedCities + deletedEventNodes.getDeletedCities());
+    }
+
+    @Override
+    public String toString() {
+
+        return deletedEvents + " events, " + deletedTargets + " targets, " + deletedVictims + " victims, "
+                + deletedCities + " cities";
+    }
+}
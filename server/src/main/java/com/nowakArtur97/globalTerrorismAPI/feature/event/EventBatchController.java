@@ -0,0 +1,80 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
+import io.swagger.annotations.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/events/batch")
+@Api(tags = {EventBatchTag.RESOURCE})
+@ApiResponses(value = {
+        @ApiResponse(code = 401, message = "Permission to the resource is prohibited"),
+        @ApiResponse(code = 403, message = "Access to the resource is prohibited")})
+@RequiredArgsConstructor
+class EventBatchController {
+
+    private final EventBatchService eventBatchService;
+
+    private final RepresentationModelAssemblerSupport<EventNode, EventModel> eventModelAssembler;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED) // Added to remove the default 200 status added by Swagger
+    @ApiOperation(value = "Add many Events", notes = "Add new Events. All Events are validated before any of them is saved")
+    @ApiResponses({
+            @ApiResponse(code = 201, message = "Successfully added new Events", response = CollectionModel.class),
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+    public ResponseEntity<CollectionModel<EventModel>> addAll(
+            @ApiParam(value = "New Events", name = "events", required = true) @RequestBody @Valid EventBatchDTO dto) {
+
+        List<EventNode> eventNodes = eventBatchService.saveAllNew(dto.getEvents());
+
+        return new ResponseEntity<>(eventModelAssembler.toCollectionModel(eventNodes), HttpStatus.CREATED);
+    }
+
+    @PutMapping
+    @ApiOperation(value = "Update many Events", notes = "Update Events by their ids. All Events are validated and must exist before any of them is updated")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Successfully updated Events", response = CollectionModel.class),
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 404, message = "Could not find Event with provided id", response = ErrorResponse.class)})
+    public ResponseEntity<CollectionModel<EventModel>> updateAll(
+            @ApiParam(value = "Events to update by their ids", name = "events", required = true) @RequestBody @Valid EventUpdateBatchDTO dto) {
+
+        List<EventNode> eventNodes = eventBatchService.updateAll(dto.getEvents());
+
+        return new ResponseEntity<>(eventModelAssembler.toCollectionModel(eventNodes), HttpStatus.OK);
+    }
+
+    @DeleteMapping
+    @ApiOperation(value = "Delete many Events by ids", notes = "Provide ids to delete Events. All Events must exist before any of them is deleted. Returns numbers of deleted nodes")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Successfully deleted Events", response = DeletedEventNodes.class),
+            @ApiResponse(code = 400, message = "Invalid Events ids supplied", response = ErrorResponse.class),
+            @ApiResponse(code = 404, message = "Could not find Event with provided id", response = ErrorResponse.class)})
+    public ResponseEntity<DeletedEventNodes> deleteAll(@Valid EventDeleteBatchDTO dto) {
+
+        DeletedEventNodes deletedEventNodes = eventBatchService.deleteAll(dto.getIds());
+
+        return new ResponseEntity<>(deletedEventNodes, HttpStatus.OK);
+    }
+
+    @RequestMapping(method = RequestMethod.OPTIONS)
+    @ApiOperation(value = "Find all Events batch resource options")
+    @ApiResponse(code = 200, message = "Successfully found all Events batch resource options", response = ResponseEntity.class)
+    public ResponseEntity<?> getOptions() {
+
+        return ResponseEntity
+                .ok()
+                .allow(HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.OPTIONS)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@ApiModel(description = "Model responsible for Events batch validation")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBatchDTO {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    @ApiModelProperty(notes = "The events to add", required = true)
+    @NotNull(message = "{event.batch.size}")
+    @Size(min = 1, max = MAX_BATCH_SIZE, message = "{event.batch.size}")
+    private List<@Valid @NotNull(message = "{event.batch.event.notNull}") EventDTO> events;
+}
@@ -0,0 +1,85 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+class EventBatchService {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final EventService eventService;
+
+    EventBatchService(EventService eventService) {
+        this.eventService = eventService;
+    }
+
+    List<EventNode> saveAllNew(List<EventDTO> eventDTOs) {
+
+        List<EventNode> eventNodes = new ArrayList<>();
+
+        for (int fromIndex = 0; fromIndex < eventDTOs.size(); fromIndex += CHUNK_SIZE) {
+
+            eventNodes.addAll(eventService.saveAllNew(eventDTOs.subList(fromIndex,
+                    Math.min(fromIndex + CHUNK_SIZE, eventDTOs.size()))));
+        }
+
+        return eventNodes;
+    }
+
+    List<EventNode> updateAll(Map<Long, EventDTO> eventDTOs) {
+
+        checkIfEventsExist(eventDTOs.keySet());
+
+        List<EventNode> eventNodes = new ArrayList<>();
+        Map<Long, EventDTO> chunk = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, EventDTO> eventDTO : eventDTOs.entrySet()) {
+
+            chunk.put(eventDTO.getKey(), eventDTO.getValue());
+
+            if (chunk.size() == CHUNK_SIZE) {
+
+                eventNodes.addAll(eventService.updateAll(chunk));
+
+                chunk = new LinkedHashMap<>();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            eventNodes.addAll(eventService.updateAll(chunk));
+        }
+
+        return eventNodes;
+    }
+
+    DeletedEventNodes deleteAll(List<Long> ids) {
+
+        checkIfEventsExist(ids);
+
+        DeletedEventNodes deletedEventNodes = new DeletedEventNodes();
+
+        for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += CHUNK_SIZE) {
+
+            deletedEventNodes = deletedEventNodes.add(eventService.deleteAll(ids.subList(fromIndex,
+                    Math.min(fromIndex + CHUNK_SIZE, ids.size()))));
+        }
+
+        return deletedEventNodes;
+    }
+
+    private void checkIfEventsExist(Collection<Long> ids) {
+
+        List<Long> missingIds = eventService.findMissingIds(ids);
+
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("EventModel", missingIds.get(0));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+public final class EventBatchTag {
+
+	public static final String RESOURCE = "Event Batch Resource";
+	
+	public static final String DESCRIPTION = "Operations on many Events in one request";
+}
@@ -1,17 +1,22 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
 import com.github.wnameless.spring.bulkapi.Bulkable;
+import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiCursorPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestControllerImpl;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.common.mediaType.PatchMediaType;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
 import io.swagger.annotations.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.http.HttpStatus;
@@ -36,8 +41,9 @@ class EventController extends GenericRestControllerImpl<EventModel, EventDTO, Ev
     EventController(EventService service,
                     RepresentationModelAssemblerSupport<EventNode, EventModel> modelAssembler,
                     PagedResourcesAssembler<EventNode> pagedResourcesAssembler,
-                    PatchUtil patchUtil, ViolationUtil<EventNode, EventDTO> violationUtil) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                    PatchUtil patchUtil, ViolationUtil<EventNode, EventDTO> violationUtil,
+                    PatchEngine patchEngine) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
         this.service = service;
     }
 
@@ -50,6 +56,16 @@ class EventController extends GenericRestControllerImpl<EventModel, EventDTO, Ev
         return super.findAll(pageable);
     }
 
+    @GetMapping(params = "cursor")
+    @Override
+    @ApiOperation(value = "Find All Events by cursor", notes = "Look up all events page by page using continuation tokens")
+    @ApiResponse(code = 200, message = "Displayed page of Events with a link to the next page", response = CollectionModel.class)
+    @ApiCursorPageable
+    public ResponseEntity<CollectionModel<EventModel>> findAll(@RequestParam("cursor") String cursor,
+                                                               @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        return super.findAll(cursor, size);
+    }
+
     @GetMapping("/depth/{depth}")
     @ApiOperation(value = "Find All Events with depth", notes = "Look up all events with depth")
     @ApiResponse(code = 200, message = "Displayed list of all Events", response = PagedModel.class)
@@ -67,6 +83,25 @@ class EventController extends GenericRestControllerImpl<EventModel, EventDTO, Ev
         return new ResponseEntity<>(pagedModel, HttpStatus.OK);
     }
 
+    @GetMapping(path = "/depth/{depth}", params = "cursor")
+    @ApiOperation(value = "Find All Events with depth by cursor",
+            notes = "Look up all events with depth page by page using continuation tokens")
+    @ApiResponse(code = 200, message = "Displayed page of Events with a link to the next page", response = CollectionModel.class)
+    @ApiCursorPageable
+    public ResponseEntity<CollectionModel<EventModel>> findAllWithDepth(@RequestParam("cursor") String cursor,
+                                                                        @RequestParam(value = "size", required = false, defaultValue = "20") int size,
+                                                                        @ApiParam(value = "Depth is responsible for the number of nested objects",
+                                                                                name = "depth", type = "integer", required = true, example = "1")
+                                                                        @PathVariable Integer depth) {
+
+        depth = setDepth(depth);
+        size = getCursorPageSize(size);
+
+        CursorPage<EventNode> resources = service.findAll(Cursor.decode(cursor), size, depth);
+
+        return new ResponseEntity<>(toCollectionModel(resources, size), HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     @Override
     @ApiOperation(value = "Find Event by id", notes = "Provide an id to look up specific Event")
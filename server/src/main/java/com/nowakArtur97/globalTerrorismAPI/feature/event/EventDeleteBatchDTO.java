@@ -0,0 +1,25 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@ApiModel(description = "Model responsible for Events batch deletion validation")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDeleteBatchDTO {
+
+    @ApiModelProperty(notes = "The ids of the events to delete", required = true, example = "1,2,3")
+    @NotNull(message = "{event.batch.size}")
+    @Size(min = 1, max = EventBatchDTO.MAX_BATCH_SIZE, message = "{event.batch.size}")
+    private List<@NotNull(message = "{event.batch.event.notNull}") Long> ids;
+}
@@ -1,17 +1,20 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityModelAssembler;
 import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetModelAssembler;
 import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimModelAssembler;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class EventModelAssembler extends RepresentationModelAssemblerSupport<EventNode, EventModel> {
+public class EventModelAssembler extends MemoizingModelAssemblerSupport<EventNode, EventModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(EventController.class, "findById", Long.class);
+
+    private static final LinkTemplate TARGET_LINK_TEMPLATE = LinkTemplate.of(EventTargetController.class,
+            "findEventTarget", Long.class);
 
     private final TargetModelAssembler targetModelAssembler;
 
@@ -32,16 +35,16 @@ public class EventModelAssembler extends RepresentationModelAssemblerSupport<Eve
     }
 
     @Override
-    public EventModel toModel(EventNode eventNode) {
+    protected EventModel assemble(EventNode eventNode) {
 
         EventModel eventModel = modelMapper.map(eventNode, EventModel.class);
 
-        eventModel.add(linkTo(methodOn(EventController.class).findById(eventModel.getId())).withSelfRel());
+        eventModel.add(SELF_LINK_TEMPLATE.withSelfRel(eventModel.getId()));
 
         if (eventNode.getTarget() != null) {
             eventModel.setTarget(targetModelAssembler.toModel(eventNode.getTarget()));
 
-            eventModel.add(linkTo(methodOn(EventTargetController.class).findEventTarget(eventModel.getId())).withRel("target"));
+            eventModel.add(TARGET_LINK_TEMPLATE.withRel("target", eventModel.getId()));
         }
 
         if (eventNode.getCity() != null) {
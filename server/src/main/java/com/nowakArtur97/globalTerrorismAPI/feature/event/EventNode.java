@@ -32,6 +32,10 @@ public class EventNode extends Node implements Event {
 
     private Boolean isSuicidal;
 
+    private Long eventId;
+
+    private Long fingerprint;
+
     @Relationship("TARGETS")
     private TargetNode target;
 
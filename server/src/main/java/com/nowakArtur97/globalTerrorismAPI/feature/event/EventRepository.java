@@ -1,7 +1,51 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface EventRepository extends BaseRepository<EventNode> {
 
+    @Query("UNWIND $events AS row " +
+            "MATCH (targetCountry:Country {name: row.targetCountryName}) " +
+            "MATCH (cityCountry:Country {name: row.cityCountryName}) " +
+            "MERGE (city:City:Node {name: row.cityName, latitude: row.cityLatitude, longitude: row.cityLongitude}) " +
+            "ON CREATE SET city.location = point({latitude: row.cityLatitude, longitude: row.cityLongitude}) " +
+            "FOREACH (ignored IN CASE WHEN exists((city)-[:PART_OF]->(:Province)) THEN [] ELSE [1] END | " +
+            "MERGE (province:Province:Node {name: row.provinceName})-[:PART_OF]->(cityCountry) " +
+            "MERGE (city)-[:PART_OF]->(province)) " +
+            "CREATE (target:Target:Node {target: row.target})-[:IS_FROM]->(targetCountry) " +
+            "CREATE (victim:Victim:Node {totalNumberOfFatalities: row.totalNumberOfFatalities, " +
+            "numberOfPerpetratorsFatalities: row.numberOfPerpetratorsFatalities, " +
+            "totalNumberOfInjured: row.totalNumberOfInjured, " +
+            "numberOfPerpetratorsInjured: row.numberOfPerpetratorsInjured, " +
+            "valueOfPropertyDamage: row.valueOfPropertyDamage}) " +
+            "CREATE (event:Event:Node {summary: row.summary, motive: row.motive, date: row.date, " +
+            "isPartOfMultipleIncidents: row.isPartOfMultipleIncidents, isSuccessful: row.isSuccessful, " +
+            "isSuicidal: row.isSuicidal}) " +
+            "CREATE (event)-[:TARGETS]->(target), (event)-[:LOCATED_IN]->(city), (event)-[:CASUALTIES]->(victim) " +
+            "RETURN id(event)")
+    List<Long> createEvents(@Param("events") List<Map<String, Object>> events);
+
+    @Query("MATCH (event:Event) WHERE id(event) IN $ids RETURN id(event)")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("MATCH (event:Event) WHERE id(event) IN $eventIds " +
+            "OPTIONAL MATCH (event)-[:TARGETS]->(target:Target) " +
+            "OPTIONAL MATCH (event)-[:CASUALTIES]->(victim:Victim) " +
+            "OPTIONAL MATCH (event)-[:LOCATED_IN]->(city:City) " +
+            "WITH collect(DISTINCT event) AS events, collect(DISTINCT target) AS targets, " +
+            "collect(DISTINCT victim) AS victims, collect(DISTINCT city) AS cities " +
+            "FOREACH (node IN events + targets + victims | DETACH DELETE node) " +
+            "WITH events, targets, victims, " +
+            "[city IN cities WHERE $isDeletingOrphanedCities AND NOT ()-[:LOCATED_IN]->(city)] AS orphanedCities " +
+            "FOREACH (city IN orphanedCities | DETACH DELETE city) " +
+            "RETURN size(events) AS deletedEvents, size(targets) AS deletedTargets, " +
+            "size(victims) AS deletedVictims, size(orphanedCities) AS deletedCities")
+    DeletedEventNodes deleteEvents(@Param("eventIds") List<Long> eventIds,
+                                   @Param("isDeletingOrphanedCities") boolean isDeletingOrphanedCities);
 }
@@ -1,38 +1,61 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
-import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericServiceImpl;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityService;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
 import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetNode;
 import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimService;
 import org.apache.poi.ss.formula.functions.T;
 import org.modelmapper.ModelMapper;
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class EventService extends GenericServiceImpl<EventNode, EventDTO> {
 
+    private static final DateStringConverter DATE_CONVERTER = new DateStringConverter(DateString.ISO_8601);
+
+    private static final String CURSOR_SORT_PROPERTY = "date";
+
+    private final int DEFAULT_DEPTH_FOR_EVENT_NODE = 4;
+
+    private final EventRepository repository;
+
     private final GenericService<TargetNode, TargetDTO> targetService;
 
     private final CityService cityService;
 
     private final VictimService victimService;
 
-    EventService(BaseRepository<EventNode> repository, ModelMapper modelMapper,
+    EventService(EventRepository repository, ModelMapper modelMapper, DirtyChecker dirtyChecker,
                  GenericService<TargetNode, TargetDTO> targetService, CityService cityService,
                  VictimService victimService) {
-        super(repository, modelMapper);
+        super(repository, modelMapper, dirtyChecker);
+        this.repository = repository;
         this.targetService = targetService;
         this.cityService = cityService;
         this.victimService = victimService;
@@ -44,6 +67,19 @@ public class EventService extends GenericServiceImpl<EventNode, EventDTO> {
         return repository.findAll(pageable, depth);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<EventNode> findAll(Cursor cursor, int size, int depth) {
+
+        return repository.findAll(cursor, size, CURSOR_SORT_PROPERTY, depth);
+    }
+
+    @Override
+    protected String getCursorSortProperty() {
+
+        return CURSOR_SORT_PROPERTY;
+    }
+
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     @Override
     public EventNode save(EventNode eventNode) {
 
@@ -64,70 +100,99 @@ public class EventService extends GenericServiceImpl<EventNode, EventDTO> {
         return repository.save(eventNode);
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
     @Override
     public EventNode saveNew(EventDTO eventDTO) {
 
-        EventNode eventNode = modelMapper.map(eventDTO, EventNode.class);
+        return saveAllNew(List.of(eventDTO)).get(0);
+    }
 
-        eventNode.setTarget(targetService.saveNew(eventDTO.getTarget()));
-        eventNode.setVictim(victimService.saveNew(eventDTO.getVictim()));
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
+    public List<EventNode> saveAllNew(List<EventDTO> eventDTOs) {
 
-        CityDTO cityDTO = eventDTO.getCity();
+        List<Map<String, Object>> events = eventDTOs.stream().map(this::toParameters).collect(Collectors.toList());
 
-        Optional<CityNode> cityNodeOptional = cityService
-                .findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude());
+        List<Long> ids = repository.createEvents(events);
 
-        if (cityNodeOptional.isPresent()) {
-            eventNode.setCity(cityNodeOptional.get());
-        } else {
-            eventNode.setCity(cityService.saveNew(cityDTO));
+        if (ids.size() != eventDTOs.size()) {
+            throw new ResourceNotFoundException("CountryModel");
         }
 
-        return repository.save(eventNode);
+        Map<Long, EventNode> eventNodes = new HashMap<>();
+
+        repository.findAllById(ids, DEFAULT_DEPTH_FOR_EVENT_NODE)
+                .forEach(eventNode -> eventNodes.put(eventNode.getId(), eventNode));
+
+        return ids.stream().map(eventNodes::get).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findMissingIds(Collection<Long> ids) {
+
+        Set<Long> existingIds = new HashSet<>(repository.findExistingIds(ids));
+
+        return ids.stream().filter(id -> !existingIds.contains(id)).collect(Collectors.toList());
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
+    public List<EventNode> updateAll(Map<Long, EventDTO> eventDTOs) {
+
+        return eventDTOs.entrySet().stream()
+                .map(eventDTO -> update(findById(eventDTO.getKey())
+                        .orElseThrow(() -> new ResourceNotFoundException("EventModel", eventDTO.getKey())),
+                        eventDTO.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
+    public DeletedEventNodes deleteAll(List<Long> ids) {
+
+        return repository.deleteEvents(ids, false);
+    }
+
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     @Override
     public EventNode update(EventNode eventNode, EventDTO eventDTO) {
 
-        Long id = eventNode.getId();
-
         TargetNode updatedTarget = targetService.update(eventNode.getTarget(), eventDTO.getTarget());
         VictimNode updatedVictim = victimService.update(eventNode.getVictim(), eventDTO.getVictim());
 
-        eventNode = modelMapper.map(eventDTO, EventNode.class);
+        EventNode updatedEventNode = modelMapper.map(eventDTO, EventNode.class);
 
-        setEventCityForUpdate(eventNode, eventDTO);
+        setEventCityForUpdate(updatedEventNode, eventDTO);
 
-        eventNode.setId(id);
-        eventNode.setTarget(updatedTarget);
-        eventNode.setVictim(updatedVictim);
+        updatedEventNode.setId(eventNode.getId());
+        updatedEventNode.setEventId(eventNode.getEventId());
+        updatedEventNode.setFingerprint(eventNode.getFingerprint());
+        updatedEventNode.setTarget(updatedTarget);
+        updatedEventNode.setVictim(updatedVictim);
 
-        return repository.save(eventNode);
+        return dirtyChecker.saveIfDirty(eventNode, updatedEventNode, repository::save);
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     @Override
-    public Optional<EventNode> delete(Long id) {
-
-        Optional<EventNode> eventNodeOptional = findById(id);
+    public boolean updateProperties(Long id, Map<String, Object> properties) {
 
-        if (eventNodeOptional.isPresent()) {
-
-            EventNode eventNode = eventNodeOptional.get();
+        return super.updateProperties(id, properties);
+    }
 
-            if (eventNode.getTarget() != null) {
-                targetService.delete(eventNode.getTarget().getId());
-            }
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Override
+    public Optional<EventNode> delete(Long id) {
 
-            if (eventNode.getVictim() != null) {
-                victimService.delete(eventNode.getVictim().getId());
-            }
+        Optional<EventNode> eventNodeOptional = findById(id);
 
-            repository.delete(eventNode);
-        }
+        eventNodeOptional.ifPresent(eventNode -> repository.deleteEvents(List.of(id), false));
 
         return eventNodeOptional;
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     public Optional<EventNode> deleteEventTarget(Long id) {
 
         Optional<EventNode> eventNodeOptional = findById(id);
@@ -143,6 +208,7 @@ public class EventService extends GenericServiceImpl<EventNode, EventDTO> {
         return eventNodeOptional;
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     public EventNode addOrUpdateEventTarget(EventNode eventNode, TargetDTO targetDTO) {
 
         TargetNode targetNode;
@@ -161,6 +227,36 @@ public class EventService extends GenericServiceImpl<EventNode, EventDTO> {
         return repository.save(eventNode);
     }
 
+    private Map<String, Object> toParameters(EventDTO eventDTO) {
+
+        TargetDTO targetDTO = eventDTO.getTarget();
+        CityDTO cityDTO = eventDTO.getCity();
+        VictimDTO victimDTO = eventDTO.getVictim();
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("summary", eventDTO.getSummary());
+        parameters.put("motive", eventDTO.getMotive());
+        parameters.put("date", DATE_CONVERTER.toGraphProperty(eventDTO.getDate()));
+        parameters.put("isPartOfMultipleIncidents", eventDTO.getIsPartOfMultipleIncidents());
+        parameters.put("isSuccessful", eventDTO.getIsSuccessful());
+        parameters.put("isSuicidal", eventDTO.getIsSuicidal());
+        parameters.put("target", targetDTO.getTarget());
+        parameters.put("targetCountryName", targetDTO.getCountryOfOrigin().getName());
+        parameters.put("cityName", cityDTO.getName());
+        parameters.put("cityLatitude", cityDTO.getLatitude());
+        parameters.put("cityLongitude", cityDTO.getLongitude());
+        parameters.put("provinceName", cityDTO.getProvince().getName());
+        parameters.put("cityCountryName", cityDTO.getProvince().getCountry().getName());
+        parameters.put("totalNumberOfFatalities", victimDTO.getTotalNumberOfFatalities());
+        parameters.put("numberOfPerpetratorsFatalities", victimDTO.getNumberOfPerpetratorsFatalities());
+        parameters.put("totalNumberOfInjured", victimDTO.getTotalNumberOfInjured());
+        parameters.put("numberOfPerpetratorsInjured", victimDTO.getNumberOfPerpetratorsInjured());
+        parameters.put("valueOfPropertyDamage", victimDTO.getValueOfPropertyDamage());
+
+        return parameters;
+    }
+
     private void setEventCityForUpdate(EventNode eventNode, EventDTO eventDTO) {
 
         CityDTO cityDTO = eventDTO.getCity();
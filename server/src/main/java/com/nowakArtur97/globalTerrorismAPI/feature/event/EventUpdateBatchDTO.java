@@ -0,0 +1,26 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.Map;
+
+@ApiModel(description = "Model responsible for Events batch update validation")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventUpdateBatchDTO {
+
+    @ApiModelProperty(notes = "The events to update by their ids", required = true)
+    @NotNull(message = "{event.batch.size}")
+    @Size(min = 1, max = EventBatchDTO.MAX_BATCH_SIZE, message = "{event.batch.size}")
+    private Map<@NotNull Long, @Valid @NotNull(message = "{event.batch.event.notNull}") EventDTO> events;
+}
@@ -0,0 +1,87 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+class CsvEventExportWriter implements EventExportWriter {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    CsvEventExportWriter(OutputStream outputStream) throws IOException {
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        writeHeader();
+    }
+
+    @Override
+    public void write(Map<String, Object> event) throws IOException {
+
+        EventExportColumn[] columns = EventExportColumn.values();
+
+        for (int index = 0; index < columns.length; index++) {
+
+            if (index > 0) {
+                writer.write(SEPARATOR);
+            }
+
+            Object value = event.get(columns[index].getName());
+
+            if (value != null) {
+                writeField(value.toString());
+            }
+        }
+
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void finish() throws IOException {
+
+        writer.flush();
+    }
+
+    private void writeHeader() throws IOException {
+
+        EventExportColumn[] columns = EventExportColumn.values();
+
+        for (int index = 0; index < columns.length; index++) {
+
+            if (index > 0) {
+                writer.write(SEPARATOR);
+            }
+
+            writer.write(columns[index].getName());
+        }
+
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(String value) throws IOException {
+
+        boolean isQuotingRequired = value.indexOf(SEPARATOR) != -1 || value.indexOf(QUOTE) != -1
+                || value.indexOf('\n') != -1 || value.indexOf('\r') != -1;
+
+        if (!isQuotingRequired) {
+
+            writer.write(value);
+
+            return;
+        }
+
+        writer.write(QUOTE);
+        writer.write(value.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+}
@@ -0,0 +1,24 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import lombok.Getter;
+
+enum EventExportColumn {
+
+    ID("id"), EVENT_ID("eventId"), DATE("date"), SUMMARY("summary"), MOTIVE("motive"),
+    IS_PART_OF_MULTIPLE_INCIDENTS("isPartOfMultipleIncidents"), IS_SUCCESSFUL("isSuccessful"),
+    IS_SUICIDAL("isSuicidal"), TARGET("target"), TARGET_COUNTRY_NAME("targetCountryName"), CITY_NAME("cityName"),
+    CITY_LATITUDE("cityLatitude"), CITY_LONGITUDE("cityLongitude"), PROVINCE_NAME("provinceName"),
+    COUNTRY_NAME("countryName"), REGION_NAME("regionName"), GROUP_NAME("groupName"),
+    TOTAL_NUMBER_OF_FATALITIES("totalNumberOfFatalities"),
+    NUMBER_OF_PERPETRATORS_FATALITIES("numberOfPerpetratorsFatalities"),
+    TOTAL_NUMBER_OF_INJURED("totalNumberOfInjured"), NUMBER_OF_PERPETRATORS_INJURED("numberOfPerpetratorsInjured"),
+    VALUE_OF_PROPERTY_DAMAGE("valueOfPropertyDamage");
+
+    @Getter
+    private final String name;
+
+    EventExportColumn(String name) {
+
+        this.name = name;
+    }
+}
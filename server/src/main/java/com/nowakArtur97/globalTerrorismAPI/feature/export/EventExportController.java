@@ -0,0 +1,51 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import io.swagger.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/events/export")
+@Api(tags = {ExportTag.RESOURCE})
+@ApiResponses(value = {
+        @ApiResponse(code = 401, message = "Permission to the resource is prohibited"),
+        @ApiResponse(code = 403, message = "Access to the resource is prohibited")})
+class EventExportController {
+
+    private static final String FILE_NAME = "events";
+
+    private final EventExportService eventExportService;
+
+    EventExportController(EventExportService eventExportService) {
+        this.eventExportService = eventExportService;
+    }
+
+    @GetMapping
+    @ApiOperation(value = "Export Events",
+            notes = "Stream all Events matching the filters as NDJSON, CSV or XLSX in the GTD spreadsheet layout")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Streamed Events export"),
+            @ApiResponse(code = 400, message = "Invalid filter supplied")})
+    public ResponseEntity<StreamingResponseBody> export(
+            @Valid EventExportFilter filter,
+            @ApiParam(value = "Format of the export", name = "format", allowableValues = "NDJSON, CSV, XLSX",
+                    example = "NDJSON")
+            @RequestParam(value = "format", defaultValue = "NDJSON") EventExportFormat format) {
+
+        StreamingResponseBody responseBody = outputStream -> eventExportService.export(filter, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + FILE_NAME + "." + format.getFileExtension() + "\"")
+                .body(responseBody);
+    }
+}
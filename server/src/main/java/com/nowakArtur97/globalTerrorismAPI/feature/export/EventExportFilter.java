@@ -0,0 +1,41 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.AssertTrue;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventExportFilter {
+
+    @ApiModelProperty(notes = "The earliest Event's date", example = "2000-01-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @ApiModelProperty(notes = "The latest Event's date", example = "2010-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+
+    @ApiModelProperty(notes = "The name of the Event's country", example = "Poland")
+    private String countryName;
+
+    @ApiModelProperty(notes = "The name of the Event's region", example = "Western Europe")
+    private String regionName;
+
+    @ApiModelProperty(notes = "The name of the Group responsible for the Event", example = "Irish Republican Army (IRA)")
+    private String groupName;
+
+    @AssertTrue(message = "{export.dates.valid}")
+    boolean isDateRangeValid() {
+
+        return fromDate == null || toDate == null || !fromDate.isAfter(toDate);
+    }
+}
@@ -0,0 +1,20 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import lombok.Getter;
+
+@Getter
+public enum EventExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String mediaType;
+
+    private final String fileExtension;
+
+    EventExportFormat(String mediaType, String fileExtension) {
+
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+}
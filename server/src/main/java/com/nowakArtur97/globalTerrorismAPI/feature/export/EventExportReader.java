@@ -0,0 +1,92 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.DateUtil;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+class EventExportReader {
+
+    private static final String FIND_EVENTS_QUERY = "MATCH (event:Event) " +
+            "WHERE ($fromDate IS NULL OR event.date >= $fromDate) " +
+            "AND ($toDate IS NULL OR event.date < $toDate) " +
+            "AND ($groupName IS NULL OR exists((:Group {name: $groupName})-[:CARRIES_OUT]->(event))) " +
+            "OPTIONAL MATCH (event)-[:LOCATED_IN]->(city:City) " +
+            "OPTIONAL MATCH (city)-[:PART_OF]->(province:Province) " +
+            "OPTIONAL MATCH (province)-[:PART_OF]->(country:Country) " +
+            "OPTIONAL MATCH (country)-[:PART_OF]->(region:Region) " +
+            "WITH event, city, province, country, region " +
+            "WHERE ($countryName IS NULL OR country.name = $countryName) " +
+            "AND ($regionName IS NULL OR region.name = $regionName) " +
+            "OPTIONAL MATCH (event)-[:TARGETS]->(target:Target) " +
+            "OPTIONAL MATCH (target)-[:IS_FROM]->(targetCountry:Country) " +
+            "OPTIONAL MATCH (event)-[:CASUALTIES]->(victim:Victim) " +
+            "RETURN id(event) AS id, event.eventId AS eventId, event.date AS date, event.summary AS summary, " +
+            "event.motive AS motive, event.isPartOfMultipleIncidents AS isPartOfMultipleIncidents, " +
+            "event.isSuccessful AS isSuccessful, event.isSuicidal AS isSuicidal, target.target AS target, " +
+            "targetCountry.name AS targetCountryName, city.name AS cityName, city.latitude AS cityLatitude, " +
+            "city.longitude AS cityLongitude, province.name AS provinceName, country.name AS countryName, " +
+            "region.name AS regionName, [(group:Group)-[:CARRIES_OUT]->(event) | group.name][0] AS groupName, " +
+            "victim.totalNumberOfFatalities AS totalNumberOfFatalities, " +
+            "victim.numberOfPerpetratorsFatalities AS numberOfPerpetratorsFatalities, " +
+            "victim.totalNumberOfInjured AS totalNumberOfInjured, " +
+            "victim.numberOfPerpetratorsInjured AS numberOfPerpetratorsInjured, " +
+            "victim.valueOfPropertyDamage AS valueOfPropertyDamage";
+
+    private final Driver driver;
+
+    EventExportReader(Driver driver) {
+        this.driver = driver;
+    }
+
+    long read(EventExportFilter filter, EventExportWriter eventExportWriter) throws IOException {
+
+        long numberOfEvents = 0;
+
+        try (Session session = driver.session(SessionConfig.builder().withDefaultAccessMode(AccessMode.READ).build())) {
+
+            Result result = session.run(FIND_EVENTS_QUERY, getParameters(filter));
+
+            while (result.hasNext()) {
+
+                eventExportWriter.write(result.next().asMap());
+
+                numberOfEvents++;
+            }
+        }
+
+        return numberOfEvents;
+    }
+
+    private Map<String, Object> getParameters(EventExportFilter filter) {
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("fromDate", formatFromDate(filter.getFromDate()));
+        parameters.put("toDate", formatToDate(filter.getToDate()));
+        parameters.put("countryName", filter.getCountryName());
+        parameters.put("regionName", filter.getRegionName());
+        parameters.put("groupName", filter.getGroupName());
+
+        return parameters;
+    }
+
+    private String formatFromDate(LocalDate date) {
+
+        return date != null ? DateUtil.toGraphDate(date) : null;
+    }
+
+    private String formatToDate(LocalDate date) {
+
+        return date != null ? DateUtil.toGraphDate(date.plusDays(1)) : null;
+    }
+}
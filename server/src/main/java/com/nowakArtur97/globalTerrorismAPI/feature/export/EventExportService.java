@@ -0,0 +1,52 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@Slf4j
+class EventExportService {
+
+    private final EventExportReader eventExportReader;
+
+    private final ObjectMapper objectMapper;
+
+    EventExportService(EventExportReader eventExportReader, ObjectMapper objectMapper) {
+        this.eventExportReader = eventExportReader;
+        this.objectMapper = objectMapper;
+    }
+
+    void export(EventExportFilter filter, EventExportFormat format, OutputStream outputStream) throws IOException {
+
+        long numberOfEvents;
+
+        try (EventExportWriter eventExportWriter = createWriter(format, outputStream)) {
+
+            numberOfEvents = eventExportReader.read(filter, eventExportWriter);
+
+            eventExportWriter.finish();
+        }
+
+        log.info("##################### Exported " + numberOfEvents + " events as " + format + " #####################");
+    }
+
+    private EventExportWriter createWriter(EventExportFormat format, OutputStream outputStream) throws IOException {
+
+        switch (format) {
+
+            case CSV:
+                return new CsvEventExportWriter(outputStream);
+
+            case XLSX:
+                return new XlsxEventExportWriter(outputStream);
+
+            case NDJSON:
+            default:
+                return new NdjsonEventExportWriter(outputStream, objectMapper);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+interface EventExportWriter extends Closeable {
+
+    void write(Map<String, Object> event) throws IOException;
+
+    void finish() throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
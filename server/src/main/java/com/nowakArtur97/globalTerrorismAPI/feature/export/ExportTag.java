@@ -0,0 +1,8 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+public final class ExportTag {
+
+    public static final String RESOURCE = "Export Resource";
+
+    public static final String DESCRIPTION = "Operations related to streaming Events exports";
+}
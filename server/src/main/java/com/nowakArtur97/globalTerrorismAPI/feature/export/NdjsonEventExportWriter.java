@@ -0,0 +1,41 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class NdjsonEventExportWriter implements EventExportWriter {
+
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final JsonGenerator generator;
+
+    NdjsonEventExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+
+        this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(Map<String, Object> event) throws IOException {
+
+        Map<String, Object> row = new LinkedHashMap<>();
+
+        for (EventExportColumn column : EventExportColumn.values()) {
+            row.put(column.getName(), event.get(column.getName()));
+        }
+
+        generator.writeObject(row);
+        generator.writeRaw(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void finish() throws IOException {
+
+        generator.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.DateUtil;
+import com.nowakArtur97.globalTerrorismAPI.eventListener.XlsxColumnType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+class XlsxEventExportWriter implements EventExportWriter {
+
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private static final String SHEET_NAME = "Data";
+
+    private static final Map<XlsxColumnType, EventExportColumn> COLUMNS = new EnumMap<>(XlsxColumnType.class);
+
+    static {
+        COLUMNS.put(XlsxColumnType.EVENT_ID, EventExportColumn.EVENT_ID);
+        COLUMNS.put(XlsxColumnType.COUNTRY_NAME, EventExportColumn.COUNTRY_NAME);
+        COLUMNS.put(XlsxColumnType.REGION_NAME, EventExportColumn.REGION_NAME);
+        COLUMNS.put(XlsxColumnType.PROVINCE_NAME, EventExportColumn.PROVINCE_NAME);
+        COLUMNS.put(XlsxColumnType.CITY_NAME, EventExportColumn.CITY_NAME);
+        COLUMNS.put(XlsxColumnType.CITY_LATITUDE, EventExportColumn.CITY_LATITUDE);
+        COLUMNS.put(XlsxColumnType.CITY_LONGITUDE, EventExportColumn.CITY_LONGITUDE);
+        COLUMNS.put(XlsxColumnType.EVENT_SUMMARY, EventExportColumn.SUMMARY);
+        COLUMNS.put(XlsxColumnType.WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS,
+                EventExportColumn.IS_PART_OF_MULTIPLE_INCIDENTS);
+        COLUMNS.put(XlsxColumnType.WAS_EVENT_SUCCESS, EventExportColumn.IS_SUCCESSFUL);
+        COLUMNS.put(XlsxColumnType.WAS_EVENT_SUICIDE, EventExportColumn.IS_SUICIDAL);
+        COLUMNS.put(XlsxColumnType.TARGET_NAME, EventExportColumn.TARGET);
+        COLUMNS.put(XlsxColumnType.GROUP_NAME, EventExportColumn.GROUP_NAME);
+        COLUMNS.put(XlsxColumnType.EVENT_MOTIVE, EventExportColumn.MOTIVE);
+        COLUMNS.put(XlsxColumnType.TOTAL_NUMBER_OF_FATALITIES, EventExportColumn.TOTAL_NUMBER_OF_FATALITIES);
+        COLUMNS.put(XlsxColumnType.NUMBER_OF_PERPETRATOR_FATALITIES,
+                EventExportColumn.NUMBER_OF_PERPETRATORS_FATALITIES);
+        COLUMNS.put(XlsxColumnType.TOTAL_NUMBER_OF_INJURED, EventExportColumn.TOTAL_NUMBER_OF_INJURED);
+        COLUMNS.put(XlsxColumnType.NUMBER_OF_PERPETRATOR_INJURED, EventExportColumn.NUMBER_OF_PERPETRATORS_INJURED);
+        COLUMNS.put(XlsxColumnType.VALUE_OF_PROPERTY_DAMAGE, EventExportColumn.VALUE_OF_PROPERTY_DAMAGE);
+    }
+
+    private final OutputStream outputStream;
+
+    private final SXSSFWorkbook workbook;
+
+    private final Sheet sheet;
+
+    private int rowNum;
+
+    XlsxEventExportWriter(OutputStream outputStream) {
+
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(SHEET_NAME);
+
+        writeHeader();
+    }
+
+    @Override
+    public void write(Map<String, Object> event) {
+
+        Row row = sheet.createRow(rowNum++);
+
+        LocalDate date = getDate(event);
+
+        for (XlsxColumnType columnType : XlsxColumnType.values()) {
+
+            Object value = getValue(columnType, event, date);
+
+            if (value instanceof Number) {
+                row.createCell(columnType.getIndex()).setCellValue(((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                row.createCell(columnType.getIndex()).setCellValue((Boolean) value ? 1 : 0);
+            } else if (value != null) {
+                row.createCell(columnType.getIndex()).setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+
+        workbook.write(outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void writeHeader() {
+
+        Row row = sheet.createRow(rowNum++);
+
+        for (XlsxColumnType columnType : XlsxColumnType.values()) {
+            row.createCell(columnType.getIndex()).setCellValue(columnType.getHeaderName());
+        }
+    }
+
+    private Object getValue(XlsxColumnType columnType, Map<String, Object> event, LocalDate date) {
+
+        switch (columnType) {
+
+            case YEAR_OF_EVENT:
+                return date != null ? date.getYear() : null;
+
+            case MONTH_OF_EVENT:
+                return date != null ? date.getMonthValue() : null;
+
+            case DAY_OF_EVENT:
+                return date != null ? date.getDayOfMonth() : null;
+
+            default:
+                return event.get(COLUMNS.get(columnType).getName());
+        }
+    }
+
+    private LocalDate getDate(Map<String, Object> event) {
+
+        Object date = event.get(EventExportColumn.DATE.getName());
+
+        return date instanceof String ? DateUtil.toLocalDate((String) date) : null;
+    }
+}
@@ -1,16 +1,19 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.github.wnameless.spring.bulkapi.Bulkable;
+import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiCursorPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestControllerImpl;
 import com.nowakArtur97.globalTerrorismAPI.common.mediaType.PatchMediaType;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
 import io.swagger.annotations.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.http.HttpStatus;
@@ -33,8 +36,9 @@ class GroupController extends GenericRestControllerImpl<GroupModel, GroupDTO, Gr
     GroupController(GenericService<GroupNode, GroupDTO> service,
                     RepresentationModelAssemblerSupport<GroupNode, GroupModel> modelAssembler,
                     PagedResourcesAssembler<GroupNode> pagedResourcesAssembler,
-                    PatchUtil patchUtil, ViolationUtil<GroupNode, GroupDTO> violationUtil) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                    PatchUtil patchUtil, ViolationUtil<GroupNode, GroupDTO> violationUtil,
+                    PatchEngine patchEngine) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
     }
 
     @GetMapping
@@ -46,6 +50,16 @@ class GroupController extends GenericRestControllerImpl<GroupModel, GroupDTO, Gr
         return super.findAll(pageable);
     }
 
+    @GetMapping(params = "cursor")
+    @Override
+    @ApiOperation(value = "Find All Groups by cursor", notes = "Look up all groups page by page using continuation tokens")
+    @ApiResponse(code = 200, message = "Displayed page of Groups with a link to the next page", response = CollectionModel.class)
+    @ApiCursorPageable
+    public ResponseEntity<CollectionModel<GroupModel>> findAll(@RequestParam("cursor") String cursor,
+                                                               @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        return super.findAll(cursor, size);
+    }
+
     @GetMapping("/{id}")
     @Override
     @ApiOperation(value = "Find Group by id", notes = "Provide an id to look up specific Group")
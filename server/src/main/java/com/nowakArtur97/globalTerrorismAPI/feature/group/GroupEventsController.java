@@ -4,15 +4,17 @@ import com.github.wnameless.spring.bulkapi.Bulkable;
 import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
-import com.nowakArtur97.globalTerrorismAPI.common.util.PageUtil;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.DeletedEventNodes;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.http.HttpMethod;
@@ -21,7 +23,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/groups")
@@ -33,16 +34,14 @@ import java.util.List;
 @RequiredArgsConstructor
 class GroupEventsController {
 
-    private final GroupService groupService;
+    private static final LinkTemplate GROUP_LINK_TEMPLATE = LinkTemplate.of(GroupController.class, "findById", Long.class);
 
-    private final RepresentationModelAssemblerSupport<GroupNode, GroupModel> groupModelAssembler;
+    private final GroupService groupService;
 
     private final RepresentationModelAssemblerSupport<EventNode, EventModel> eventModelAssembler;
 
     private final PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    private final PageUtil pageUtil;
-
     @GetMapping("/{id}/events")
     @ApiOperation(value = "Find Group's Events by id", notes = "Provide an id to look up specific Group's Events")
     @ApiResponses({
@@ -53,10 +52,8 @@ class GroupEventsController {
     public ResponseEntity<PagedModel<EventModel>> findGroupEvents(@ApiParam(value = "Group's id value needed to retrieve events",
             name = "id", type = "integer", required = true, example = "1") @PathVariable("id") Long id, Pageable pageable) {
 
-        List<EventNode> eventsCausedByGroup = groupService.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("GroupModel", id)).getEventsCaused();
-
-        PageImpl<EventNode> pages = pageUtil.convertListToPage(pageable, eventsCausedByGroup);
+        Page<EventNode> pages = groupService.findGroupEvents(id, pageable)
+                .orElseThrow(() -> new ResourceNotFoundException("GroupModel", id));
 
         PagedModel<EventModel> pagedModel = eventsPagedResourcesAssembler.toModel(pages, eventModelAssembler);
 
@@ -70,32 +67,37 @@ class GroupEventsController {
             @ApiResponse(code = 201, message = "Successfully added a new Group's Event", response = EventModel.class),
             @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
             @ApiResponse(code = 404, message = "Could not find Group with provided id", response = ErrorResponse.class)})
-    public ResponseEntity<GroupModel> addGroupEvent(
+    public ResponseEntity<EventModel> addGroupEvent(
             @ApiParam(value = "Group's id value needed to retrieve events", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
             @ApiParam(value = "New Group's Event", name = "event", required = true) @RequestBody @Valid EventDTO dto) {
 
-        GroupNode groupNode = groupService.addEventToGroup(id, dto)
+        EventNode eventNode = groupService.addEventToGroup(id, dto)
                 .orElseThrow(() -> new ResourceNotFoundException("GroupModel", id));
 
-        GroupModel groupModel = groupModelAssembler.toModel(groupNode);
+        EventModel eventModel = eventModelAssembler.toModel(eventNode);
+
+        eventModel.add(GROUP_LINK_TEMPLATE.withRel("group", id));
 
-        return new ResponseEntity<>(groupModel, HttpStatus.CREATED);
+        return ResponseEntity.created(eventModel.getRequiredLink(IanaLinkRelations.SELF).toUri()).body(eventModel);
     }
 
     @DeleteMapping("/{id}/events")
-    @ResponseStatus(HttpStatus.NO_CONTENT) // Added to remove the default 200 status added by Swagger
-    @ApiOperation(value = "Delete Group's Event by id", notes = "Provide an id to delete specific Group's Event")
+    @ApiOperation(value = "Delete Group's Events by id", notes = "Provide an id to delete all Group's Events. Returns numbers of deleted nodes")
     @ApiResponses({
-            @ApiResponse(code = 204, message = "Successfully deleted Group's Event"),
+            @ApiResponse(code = 200, message = "Successfully deleted Group's Events", response = DeletedEventNodes.class),
             @ApiResponse(code = 400, message = "Invalid Group's id supplied"),
             @ApiResponse(code = 404, message = "Could not find Group with provided id", response = ErrorResponse.class)})
-    public ResponseEntity<Void> deleteAllGroupEvents(@ApiParam(value = "Group's id value needed to delete events", name = "id",
-            type = "integer", required = true, example = "1") @PathVariable("id") Long id) {
+    public ResponseEntity<DeletedEventNodes> deleteAllGroupEvents(@ApiParam(value = "Group's id value needed to delete events", name = "id",
+            type = "integer", required = true, example = "1") @PathVariable("id") Long id,
+            @ApiParam(value = "Whether to also delete Cities left without any Event", name = "deleteOrphanedCities",
+                    type = "boolean", example = "false")
+            @RequestParam(value = "deleteOrphanedCities", defaultValue = "false") boolean isDeletingOrphanedCities) {
 
-        groupService.deleteAllGroupEvents(id).orElseThrow(() -> new ResourceNotFoundException("GroupModel", id));
+        DeletedEventNodes deletedEventNodes = groupService.deleteAllGroupEvents(id, isDeletingOrphanedCities)
+                .orElseThrow(() -> new ResourceNotFoundException("GroupModel", id));
 
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        return new ResponseEntity<>(deletedEventNodes, HttpStatus.OK);
     }
 
     @RequestMapping(path = "/{id}/events", method = RequestMethod.OPTIONS)
@@ -1,20 +1,23 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModelAssembler;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Pageable;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-class GroupModelAssembler extends RepresentationModelAssemblerSupport<GroupNode, GroupModel> {
+class GroupModelAssembler extends MemoizingModelAssemblerSupport<GroupNode, GroupModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(GroupController.class, "findById", Long.class);
+
+    private static final LinkTemplate EVENTS_CAUSED_LINK_TEMPLATE = LinkTemplate.of(GroupEventsController.class,
+            "findGroupEvents", Long.class, Pageable.class);
 
     private final EventModelAssembler eventModelAssembler;
 
@@ -28,7 +31,7 @@ class GroupModelAssembler extends RepresentationModelAssemblerSupport<GroupNode,
     }
 
     @Override
-    public GroupModel toModel(GroupNode groupNode) {
+    protected GroupModel assemble(GroupNode groupNode) {
 
         GroupModel groupModel = modelMapper.map(groupNode, GroupModel.class);
 
@@ -38,9 +41,8 @@ class GroupModelAssembler extends RepresentationModelAssemblerSupport<GroupNode,
 
         groupModel.setEventsCaused(eventsCaused);
 
-        groupModel.add(linkTo(methodOn(GroupController.class).findById(groupModel.getId())).withSelfRel());
-        groupModel.add(linkTo(methodOn(GroupEventsController.class).findGroupEvents(groupModel.getId(), Pageable.unpaged()))
-                .withRel("eventsCaused"));
+        groupModel.add(SELF_LINK_TEMPLATE.withSelfRel(groupModel.getId()));
+        groupModel.add(EVENTS_CAUSED_LINK_TEMPLATE.withRel("eventsCaused", groupModel.getId()));
 
         return groupModel;
     }
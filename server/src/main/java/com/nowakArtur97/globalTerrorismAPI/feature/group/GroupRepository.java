@@ -1,7 +1,53 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.DeletedEventNodes;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface GroupRepository extends BaseRepository<GroupNode> {
 
+    Optional<GroupNode> findByName(String name, @Depth int depth);
+
+    @Query("MATCH (group:Group)-[:CARRIES_OUT]->(event:Event) WHERE id(group) = $groupId " +
+            "WITH event, CASE WHEN $sortProperty = 'id' THEN id(event) ELSE event[$sortProperty] END AS sortValue " +
+            "ORDER BY CASE WHEN $ascending THEN sortValue END ASC, CASE WHEN $ascending THEN null ELSE sortValue END DESC, " +
+            "id(event) " +
+            "SKIP $skip LIMIT $limit " +
+            "RETURN event, [(event)-[relationship:TARGETS|LOCATED_IN|CASUALTIES]->(node) | [relationship, node]]")
+    List<EventNode> findGroupEvents(@Param("groupId") Long groupId, @Param("sortProperty") String sortProperty,
+                                    @Param("ascending") boolean ascending, @Param("skip") long skip,
+                                    @Param("limit") int limit);
+
+    @Query("MATCH (group:Group)-[:CARRIES_OUT]->(event:Event) WHERE id(group) = $groupId RETURN count(event)")
+    long countGroupEvents(@Param("groupId") Long groupId);
+
+    @Query("MATCH (group:Group), (event:Event) WHERE id(group) = $groupId AND id(event) = $eventId " +
+            "CREATE (group)-[:CARRIES_OUT]->(event)")
+    void addEvent(@Param("groupId") Long groupId, @Param("eventId") Long eventId);
+
+    @Query("MATCH (group:Group), (event:Event) WHERE id(group) = $groupId AND id(event) IN $eventIds " +
+            "CREATE (group)-[:CARRIES_OUT]->(event)")
+    void addEvents(@Param("groupId") Long groupId, @Param("eventIds") List<Long> eventIds);
+
+    @Query("MATCH (group:Group)-[:CARRIES_OUT]->(event:Event) WHERE id(group) = $groupId " +
+            "WITH event LIMIT $batchSize " +
+            "OPTIONAL MATCH (event)-[:TARGETS]->(target:Target) " +
+            "OPTIONAL MATCH (event)-[:CASUALTIES]->(victim:Victim) " +
+            "OPTIONAL MATCH (event)-[:LOCATED_IN]->(city:City) " +
+            "WITH collect(DISTINCT event) AS events, collect(DISTINCT target) AS targets, " +
+            "collect(DISTINCT victim) AS victims, collect(DISTINCT city) AS cities " +
+            "FOREACH (node IN events + targets + victims | DETACH DELETE node) " +
+            "WITH events, targets, victims, " +
+            "[city IN cities WHERE $isDeletingOrphanedCities AND NOT ()-[:LOCATED_IN]->(city)] AS orphanedCities " +
+            "FOREACH (city IN orphanedCities | DETACH DELETE city) " +
+            "RETURN size(events) AS deletedEvents, size(targets) AS deletedTargets, " +
+            "size(victims) AS deletedVictims, size(orphanedCities) AS deletedCities")
+    DeletedEventNodes deleteGroupEvents(@Param("groupId") Long groupId, @Param("batchSize") int batchSize,
+                                        @Param("isDeletingOrphanedCities") boolean isDeletingOrphanedCities);
 }
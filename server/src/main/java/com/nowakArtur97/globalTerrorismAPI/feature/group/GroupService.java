@@ -1,28 +1,70 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
-import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericServiceImpl;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.DeletedEventNodes;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class GroupService extends GenericServiceImpl<GroupNode, GroupDTO> {
 
+    private static final int GROUP_ONLY_DEPTH = 0;
+
+    private static final int EVENTS_DELETION_BATCH_SIZE = 1000;
+
+    private static final Set<String> EVENT_SORT_PROPERTIES = Set.of("id", "summary", "motive", "date",
+            "isPartOfMultipleIncidents", "isSuccessful", "isSuicidal");
+
+    private static final Sort.Order DEFAULT_EVENT_ORDER = Sort.Order.asc("id");
+
+    private final GroupRepository repository;
+
     private final GenericService<EventNode, EventDTO> eventService;
 
-    GroupService(BaseRepository<GroupNode> repository, ModelMapper modelMapper,
+    GroupService(GroupRepository repository, ModelMapper modelMapper, DirtyChecker dirtyChecker,
                  GenericService<EventNode, EventDTO> eventService) {
-        super(repository, modelMapper);
+        super(repository, modelMapper, dirtyChecker);
+        this.repository = repository;
         this.eventService = eventService;
     }
 
+    @Transactional(readOnly = true)
+    public Optional<Page<EventNode>> findGroupEvents(Long id, Pageable pageable) {
+
+        if (findById(id, GROUP_ONLY_DEPTH).isEmpty()) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = pageable.getSort().stream()
+                .filter(sortOrder -> EVENT_SORT_PROPERTIES.contains(sortOrder.getProperty()))
+                .findFirst()
+                .orElse(DEFAULT_EVENT_ORDER);
+
+        List<EventNode> events = repository.findGroupEvents(id, order.getProperty(), order.isAscending(),
+                pageable.getOffset(), pageable.getPageSize());
+
+        return Optional.of(PageableExecutionUtils.getPage(events, pageable, () -> repository.countGroupEvents(id)));
+    }
+
     @Override
     public GroupNode save(GroupNode groupNode) {
 
@@ -31,6 +73,7 @@ public class GroupService extends GenericServiceImpl<GroupNode, GroupDTO> {
         return repository.save(groupNode);
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     @Override
     public GroupNode saveNew(GroupDTO groupDTO) {
 
@@ -43,12 +86,13 @@ public class GroupService extends GenericServiceImpl<GroupNode, GroupDTO> {
         return repository.save(groupNode);
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
     @Override
     public GroupNode update(GroupNode groupNode, GroupDTO groupDTO) {
 
         Long id = groupNode.getId();
 
-        deleteEvents(groupNode);
+        deleteEvents(id, false);
 
         List<EventNode> eventsCaused = saveNewEvents(groupDTO);
 
@@ -60,16 +104,25 @@ public class GroupService extends GenericServiceImpl<GroupNode, GroupDTO> {
         return repository.save(groupNode);
     }
 
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Override
+    public boolean updateProperties(Long id, Map<String, Object> properties) {
+
+        return super.updateProperties(id, properties);
+    }
+
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
     @Override
     public Optional<GroupNode> delete(Long id) {
 
-        Optional<GroupNode> groupNodeOptional = findById(id);
+        Optional<GroupNode> groupNodeOptional = findById(id, GROUP_ONLY_DEPTH);
 
         if (groupNodeOptional.isPresent()) {
 
             GroupNode groupNode = groupNodeOptional.get();
 
-            deleteEvents(groupNode);
+            deleteEvents(id, false);
 
             repository.delete(groupNode);
         }
@@ -77,31 +130,41 @@ public class GroupService extends GenericServiceImpl<GroupNode, GroupDTO> {
         return groupNodeOptional;
     }
 
-    public Optional<GroupNode> addEventToGroup(Long id, EventDTO eventDTO) {
-
-        Optional<GroupNode> groupNodeOptional = findById(id);
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
+    public Optional<EventNode> addEventToGroup(Long id, EventDTO eventDTO) {
 
-        if (groupNodeOptional.isPresent()) {
+        if (findById(id, GROUP_ONLY_DEPTH).isEmpty()) {
+            return Optional.empty();
+        }
 
-            GroupNode groupNode = groupNodeOptional.get();
+        EventNode eventNode = eventService.saveNew(eventDTO);
 
-            EventNode eventNode = eventService.saveNew(eventDTO);
+        repository.addEvent(id, eventNode.getId());
 
-            groupNode.addEvent(eventNode);
+        return Optional.of(eventNode);
+    }
 
-            repository.save(groupNode);
-        }
+    public Optional<GroupNode> findByName(String name) {
 
-        return groupNodeOptional;
+        return repository.findByName(name, GROUP_ONLY_DEPTH);
     }
 
-    public Optional<GroupNode> deleteAllGroupEvents(Long id) {
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    public void addEvents(Long id, List<EventNode> eventNodes) {
 
-        Optional<GroupNode> groupNodeOptional = findById(id);
+        repository.addEvents(id, eventNodes.stream().map(EventNode::getId).collect(Collectors.toList()));
+    }
 
-        groupNodeOptional.ifPresent(this::deleteEvents);
+    @CacheEvict(value = StatisticsService.STATISTICS_CACHE, allEntries = true)
+    @Transactional
+    public Optional<DeletedEventNodes> deleteAllGroupEvents(Long id, boolean isDeletingOrphanedCities) {
 
-        return groupNodeOptional;
+        if (findById(id, GROUP_ONLY_DEPTH).isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(deleteEvents(id, isDeletingOrphanedCities));
     }
 
     private List<EventNode> saveNewEvents(GroupDTO groupDTO) {
@@ -111,8 +174,21 @@ public class GroupService extends GenericServiceImpl<GroupNode, GroupDTO> {
                 .collect(Collectors.toList());
     }
 
-    private void deleteEvents(GroupNode groupNode) {
+    private DeletedEventNodes deleteEvents(Long id, boolean isDeletingOrphanedCities) {
+
+        DeletedEventNodes deletedEventNodes = new DeletedEventNodes();
+        DeletedEventNodes deletedBatch;
+
+        do {
+
+            deletedBatch = repository.deleteGroupEvents(id, EVENTS_DELETION_BATCH_SIZE, isDeletingOrphanedCities);
+
+            deletedEventNodes = deletedEventNodes.add(deletedBatch);
+
+        } while (deletedBatch.getDeletedEvents() == EVENTS_DELETION_BATCH_SIZE);
+
+        log.info("Deleted events of group with id: " + id + ": " + deletedEventNodes);
 
-        groupNode.getEventsCaused().forEach(event -> eventService.delete(event.getId()));
+        return deletedEventNodes;
     }
 }
@@ -0,0 +1,33 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+@QueryResult
+@ApiModel(description = "Compact Event's map marker")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventMarker {
+
+    @ApiModelProperty(notes = "The unique id of the Event")
+    private Long id;
+
+    @ApiModelProperty(notes = "The latitude of the Event's City")
+    private Double latitude;
+
+    @ApiModelProperty(notes = "The longitude of the Event's City")
+    private Double longitude;
+
+    @ApiModelProperty(notes = "The Event's date", example = "2000-01-31")
+    private String date;
+
+    @ApiModelProperty(notes = "The total number of fatalities")
+    private Long totalNumberOfFatalities;
+}
@@ -0,0 +1,30 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+@QueryResult
+@ApiModel(description = "Events grouped into one map marker")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventMarkerCluster {
+
+    @ApiModelProperty(notes = "The average latitude of the Events")
+    private Double latitude;
+
+    @ApiModelProperty(notes = "The average longitude of the Events")
+    private Double longitude;
+
+    @ApiModelProperty(notes = "The number of Events")
+    private Long numberOfEvents;
+
+    @ApiModelProperty(notes = "The total number of fatalities")
+    private Long totalNumberOfFatalities;
+}
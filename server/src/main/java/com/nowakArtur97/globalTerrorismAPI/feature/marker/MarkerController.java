@@ -0,0 +1,61 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import io.swagger.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/markers")
+@Api(tags = {MarkerTag.RESOURCE})
+@ApiResponses(value = {
+        @ApiResponse(code = 401, message = "Permission to the resource is prohibited"),
+        @ApiResponse(code = 403, message = "Access to the resource is prohibited")})
+class MarkerController {
+
+    private static final int MAX_NUMBER_OF_MARKERS = 50000;
+
+    private static final double MIN_CELL_SIZE = 0.01;
+
+    private final MarkerService markerService;
+
+    MarkerController(MarkerService markerService) {
+        this.markerService = markerService;
+    }
+
+    @GetMapping
+    @ApiOperation(value = "Find Events markers", notes = "Look up compact Events markers in the bounding box, date range and radius")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Displayed list of Events markers", response = EventMarker.class,
+                    responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Invalid filter supplied")})
+    public ResponseEntity<List<EventMarker>> findMarkers(
+            @Valid MarkerFilter markerFilter,
+            @ApiParam(value = "Maximum number of markers", name = "limit", type = "integer", example = "5000")
+            @RequestParam(value = "limit", defaultValue = "5000") int limit) {
+
+        int markersLimit = Math.max(1, Math.min(limit, MAX_NUMBER_OF_MARKERS));
+
+        return ResponseEntity.ok(markerService.findMarkers(markerFilter, markersLimit));
+    }
+
+    @GetMapping("/clusters")
+    @ApiOperation(value = "Find Events markers clusters",
+            notes = "Look up Events grouped into grid cells in the bounding box, date range and radius")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Displayed list of Events markers clusters",
+                    response = EventMarkerCluster.class, responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Invalid filter supplied")})
+    public ResponseEntity<List<EventMarkerCluster>> findMarkerClusters(
+            @Valid MarkerFilter markerFilter,
+            @ApiParam(value = "Size of the grid cell in degrees", name = "cellSize", type = "number", example = "1.0")
+            @RequestParam(value = "cellSize", defaultValue = "1.0") double cellSize) {
+
+        return ResponseEntity.ok(markerService.findMarkerClusters(markerFilter, Math.max(cellSize, MIN_CELL_SIZE)));
+    }
+}
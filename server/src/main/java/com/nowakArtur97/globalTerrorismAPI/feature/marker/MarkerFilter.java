@@ -0,0 +1,81 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkerFilter {
+
+    @ApiModelProperty(notes = "The southern edge of the bounding box", example = "-90")
+    @Min(value = -90, message = "{marker.latitude.min}")
+    @Max(value = 90, message = "{marker.latitude.max}")
+    private double minLatitude = -90;
+
+    @ApiModelProperty(notes = "The western edge of the bounding box", example = "-180")
+    @Min(value = -180, message = "{marker.longitude.min}")
+    @Max(value = 180, message = "{marker.longitude.max}")
+    private double minLongitude = -180;
+
+    @ApiModelProperty(notes = "The northern edge of the bounding box", example = "90")
+    @Min(value = -90, message = "{marker.latitude.min}")
+    @Max(value = 90, message = "{marker.latitude.max}")
+    private double maxLatitude = 90;
+
+    @ApiModelProperty(notes = "The eastern edge of the bounding box", example = "180")
+    @Min(value = -180, message = "{marker.longitude.min}")
+    @Max(value = 180, message = "{marker.longitude.max}")
+    private double maxLongitude = 180;
+
+    @ApiModelProperty(notes = "The latitude of the radius center", example = "45.0")
+    @Min(value = -90, message = "{marker.latitude.min}")
+    @Max(value = 90, message = "{marker.latitude.max}")
+    private Double latitude;
+
+    @ApiModelProperty(notes = "The longitude of the radius center", example = "12.0")
+    @Min(value = -180, message = "{marker.longitude.min}")
+    @Max(value = 180, message = "{marker.longitude.max}")
+    private Double longitude;
+
+    @ApiModelProperty(notes = "The radius around the center in kilometers", example = "100")
+    @Positive(message = "{marker.radius.positive}")
+    private Double radius;
+
+    @ApiModelProperty(notes = "The earliest Event's date", example = "2000-01-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @ApiModelProperty(notes = "The latest Event's date", example = "2010-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+
+    @AssertTrue(message = "{marker.radius.center}")
+    boolean isRadiusCenterPresent() {
+
+        return radius == null || (latitude != null && longitude != null);
+    }
+
+    @AssertTrue(message = "{marker.boundingBox.valid}")
+    boolean isBoundingBoxValid() {
+
+        return minLatitude <= maxLatitude && minLongitude <= maxLongitude;
+    }
+
+    @AssertTrue(message = "{marker.dates.valid}")
+    boolean isDateRangeValid() {
+
+        return fromDate == null || toDate == null || !fromDate.isAfter(toDate);
+    }
+}
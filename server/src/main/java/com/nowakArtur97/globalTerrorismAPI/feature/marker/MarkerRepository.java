@@ -0,0 +1,46 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MarkerRepository extends BaseRepository<EventNode> {
+
+    String FIND_EVENTS_IN_AREA = "MATCH (city:City) " +
+            "WHERE point({latitude: $minLatitude, longitude: $minLongitude}) <= city.location " +
+            "<= point({latitude: $maxLatitude, longitude: $maxLongitude}) " +
+            "AND ($radius IS NULL OR " +
+            "distance(city.location, point({latitude: $latitude, longitude: $longitude})) <= $radius) " +
+            "MATCH (event:Event)-[:LOCATED_IN]->(city) " +
+            "WHERE ($fromDate IS NULL OR event.date >= $fromDate) " +
+            "AND ($toDate IS NULL OR event.date < $toDate) " +
+            "OPTIONAL MATCH (event)-[:CASUALTIES]->(victim:Victim) ";
+
+    @Query(FIND_EVENTS_IN_AREA +
+            "RETURN id(event) AS id, city.latitude AS latitude, city.longitude AS longitude, " +
+            "event.date AS date, victim.totalNumberOfFatalities AS totalNumberOfFatalities " +
+            "ORDER BY event.date DESC, id(event) " +
+            "LIMIT $limit")
+    List<EventMarker> findMarkers(@Param("minLatitude") double minLatitude, @Param("minLongitude") double minLongitude,
+                                  @Param("maxLatitude") double maxLatitude, @Param("maxLongitude") double maxLongitude,
+                                  @Param("latitude") Double latitude, @Param("longitude") Double longitude,
+                                  @Param("radius") Double radius, @Param("fromDate") String fromDate,
+                                  @Param("toDate") String toDate, @Param("limit") int limit);
+
+    @Query(FIND_EVENTS_IN_AREA +
+            "WITH floor(city.latitude / $cellSize) AS latitudeCell, floor(city.longitude / $cellSize) AS longitudeCell, " +
+            "city, event, victim " +
+            "WITH latitudeCell, longitudeCell, avg(city.latitude) AS latitude, avg(city.longitude) AS longitude, " +
+            "count(event) AS numberOfEvents, sum(coalesce(victim.totalNumberOfFatalities, 0)) AS totalNumberOfFatalities " +
+            "RETURN latitude, longitude, numberOfEvents, totalNumberOfFatalities")
+    List<EventMarkerCluster> findMarkerClusters(@Param("minLatitude") double minLatitude,
+                                                @Param("minLongitude") double minLongitude,
+                                                @Param("maxLatitude") double maxLatitude,
+                                                @Param("maxLongitude") double maxLongitude,
+                                                @Param("latitude") Double latitude, @Param("longitude") Double longitude,
+                                                @Param("radius") Double radius, @Param("fromDate") String fromDate,
+                                                @Param("toDate") String toDate, @Param("cellSize") double cellSize);
+}
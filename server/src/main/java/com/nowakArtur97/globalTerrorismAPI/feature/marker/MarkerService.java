@@ -0,0 +1,58 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.DateUtil;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class MarkerService {
+
+    private static final double METERS_IN_KILOMETER = 1000.0;
+
+    private final MarkerRepository repository;
+
+    MarkerService(MarkerRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventMarker> findMarkers(MarkerFilter markerFilter, int limit) {
+
+        List<EventMarker> markers = repository.findMarkers(markerFilter.getMinLatitude(),
+                markerFilter.getMinLongitude(), markerFilter.getMaxLatitude(), markerFilter.getMaxLongitude(),
+                markerFilter.getLatitude(), markerFilter.getLongitude(), getRadiusInMeters(markerFilter),
+                formatFromDate(markerFilter.getFromDate()), formatToDate(markerFilter.getToDate()), limit);
+
+        markers.stream().filter(marker -> marker.getDate() != null)
+                .forEach(marker -> marker.setDate(DateUtil.toLocalDate(marker.getDate()).toString()));
+
+        return markers;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventMarkerCluster> findMarkerClusters(MarkerFilter markerFilter, double cellSize) {
+
+        return repository.findMarkerClusters(markerFilter.getMinLatitude(), markerFilter.getMinLongitude(),
+                markerFilter.getMaxLatitude(), markerFilter.getMaxLongitude(), markerFilter.getLatitude(),
+                markerFilter.getLongitude(), getRadiusInMeters(markerFilter),
+                formatFromDate(markerFilter.getFromDate()), formatToDate(markerFilter.getToDate()), cellSize);
+    }
+
+    private Double getRadiusInMeters(MarkerFilter markerFilter) {
+
+        return markerFilter.getRadius() != null ? markerFilter.getRadius() * METERS_IN_KILOMETER : null;
+    }
+
+    private String formatFromDate(LocalDate date) {
+
+        return date != null ? DateUtil.toGraphDate(date) : null;
+    }
+
+    private String formatToDate(LocalDate date) {
+
+        return date != null ? DateUtil.toGraphDate(date.plusDays(1)) : null;
+    }
+}
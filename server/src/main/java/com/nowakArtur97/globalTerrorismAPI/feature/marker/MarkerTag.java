@@ -0,0 +1,8 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+public final class MarkerTag {
+
+    public static final String RESOURCE = "Marker Resource";
+
+    public static final String DESCRIPTION = "Operations related to Event map markers";
+}
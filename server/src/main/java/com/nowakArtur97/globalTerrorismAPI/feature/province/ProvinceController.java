@@ -1,16 +1,19 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
 import com.github.wnameless.spring.bulkapi.Bulkable;
+import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiCursorPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestControllerImpl;
 import com.nowakArtur97.globalTerrorismAPI.common.mediaType.PatchMediaType;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
 import io.swagger.annotations.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.http.HttpStatus;
@@ -33,8 +36,9 @@ class ProvinceController extends GenericRestControllerImpl<ProvinceModel, Provin
     ProvinceController(GenericService<ProvinceNode, ProvinceDTO> service,
                        RepresentationModelAssemblerSupport<ProvinceNode, ProvinceModel> modelAssembler,
                        PagedResourcesAssembler<ProvinceNode> pagedResourcesAssembler,
-                       PatchUtil patchUtil, ViolationUtil<ProvinceNode, ProvinceDTO> violationUtil) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                       PatchUtil patchUtil, ViolationUtil<ProvinceNode, ProvinceDTO> violationUtil,
+                       PatchEngine patchEngine) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
     }
 
     @GetMapping
@@ -46,6 +50,16 @@ class ProvinceController extends GenericRestControllerImpl<ProvinceModel, Provin
         return super.findAll(pageable);
     }
 
+    @GetMapping(params = "cursor")
+    @Override
+    @ApiOperation(value = "Find All Provinces by cursor", notes = "Look up all provinces page by page using continuation tokens")
+    @ApiResponse(code = 200, message = "Displayed page of Provinces with a link to the next page", response = CollectionModel.class)
+    @ApiCursorPageable
+    public ResponseEntity<CollectionModel<ProvinceModel>> findAll(@RequestParam("cursor") String cursor,
+                                                                  @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        return super.findAll(cursor, size);
+    }
+
     @GetMapping("/{id}")
     @Override
     @ApiOperation(value = "Find Province by id", notes = "Provide an id to look up specific Province")
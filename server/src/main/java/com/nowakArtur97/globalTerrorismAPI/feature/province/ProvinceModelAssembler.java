@@ -1,15 +1,15 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryModelAssembler;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class ProvinceModelAssembler extends RepresentationModelAssemblerSupport<ProvinceNode, ProvinceModel> {
+public class ProvinceModelAssembler extends MemoizingModelAssemblerSupport<ProvinceNode, ProvinceModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(ProvinceController.class, "findById", Long.class);
 
     private final CountryModelAssembler countryModelAssembler;
 
@@ -23,7 +23,7 @@ public class ProvinceModelAssembler extends RepresentationModelAssemblerSupport<
     }
 
     @Override
-    public ProvinceModel toModel(ProvinceNode provinceNode) {
+    protected ProvinceModel assemble(ProvinceNode provinceNode) {
 
         ProvinceModel provinceModel = modelMapper.map(provinceNode, ProvinceModel.class);
 
@@ -31,7 +31,7 @@ public class ProvinceModelAssembler extends RepresentationModelAssemblerSupport<
             provinceModel.setCountry(countryModelAssembler.toModel(provinceNode.getCountry()));
         }
 
-        provinceModel.add(linkTo(methodOn(ProvinceController.class).findById(provinceModel.getId())).withSelfRel());
+        provinceModel.add(SELF_LINK_TEMPLATE.withSelfRel(provinceModel.getId()));
 
         return provinceModel;
     }
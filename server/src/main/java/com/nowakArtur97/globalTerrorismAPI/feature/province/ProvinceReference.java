@@ -0,0 +1,29 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.province;
+
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
+import lombok.Getter;
+
+@Getter
+public final class ProvinceReference {
+
+    private final Long id;
+
+    private final String name;
+
+    private final CountryReference country;
+
+    public ProvinceReference(ProvinceNode provinceNode) {
+
+        CountryNode countryNode = provinceNode.getCountry();
+
+        this.id = provinceNode.getId();
+        this.name = provinceNode.getName();
+        this.country = countryNode != null ? new CountryReference(countryNode) : null;
+    }
+
+    public ProvinceNode toNode() {
+
+        return new ProvinceNode(id, name, country != null ? country.toNode() : null);
+    }
+}
@@ -1,66 +1,96 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericServiceImpl;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public
 class ProvinceService extends GenericServiceImpl<ProvinceNode, ProvinceDTO> {
 
-    private final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = 2;
+    public static final String PROVINCE_CACHE = "provinces";
+
+    private static final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = 2;
 
     private final ProvinceRepository provinceRepository;
 
     private final CountryService countryService;
 
-    ProvinceService(ProvinceRepository provinceRepository, ModelMapper modelMapper, CountryService countryService) {
-        super(provinceRepository, modelMapper);
+    ProvinceService(ProvinceRepository provinceRepository, ModelMapper modelMapper, DirtyChecker dirtyChecker,
+                    CountryService countryService) {
+        super(provinceRepository, modelMapper, dirtyChecker);
         this.countryService = countryService;
         this.provinceRepository = provinceRepository;
     }
 
     @Override
+    @CacheEvict(value = PROVINCE_CACHE, allEntries = true)
     public ProvinceNode save(ProvinceNode provinceNode) {
 
-        provinceNode.setCountry(countryService.findByName(provinceNode.getCountry().getName())
-                .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
+        provinceNode.setCountry(findCountry(provinceNode.getCountry().getName()));
 
         return provinceRepository.save(provinceNode);
     }
 
     @Override
+    @CacheEvict(value = PROVINCE_CACHE, allEntries = true)
     public ProvinceNode saveNew(ProvinceDTO provinceDTO) {
 
         ProvinceNode provinceNode = modelMapper.map(provinceDTO, ProvinceNode.class);
 
-        provinceNode.setCountry(countryService.findByName(provinceDTO.getCountry().getName())
-                .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
+        provinceNode.setCountry(findCountry(provinceDTO.getCountry().getName()));
 
         return provinceRepository.save(provinceNode);
     }
 
     @Override
+    @CacheEvict(value = {PROVINCE_CACHE, StatisticsService.STATISTICS_CACHE}, allEntries = true)
     public ProvinceNode update(ProvinceNode provinceNode, ProvinceDTO provinceDTO) {
 
-        Long id = provinceNode.getId();
+        ProvinceNode updatedProvinceNode = modelMapper.map(provinceDTO, ProvinceNode.class);
 
-        provinceNode = modelMapper.map(provinceDTO, ProvinceNode.class);
+        updatedProvinceNode.setId(provinceNode.getId());
 
-        provinceNode.setId(id);
+        updatedProvinceNode.setCountry(findCountry(provinceDTO.getCountry().getName()));
 
-        provinceNode.setCountry(countryService.findByName(provinceDTO.getCountry().getName())
-                .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
+        return dirtyChecker.saveIfDirty(provinceNode, updatedProvinceNode, provinceRepository::save);
+    }
 
-        return provinceRepository.save(provinceNode);
+    @Override
+    @CacheEvict(value = {PROVINCE_CACHE, StatisticsService.STATISTICS_CACHE}, allEntries = true)
+    public boolean updateProperties(Long id, Map<String, Object> properties) {
+
+        return super.updateProperties(id, properties);
+    }
+
+    @Override
+    @CacheEvict(value = PROVINCE_CACHE, allEntries = true)
+    public Optional<ProvinceNode> delete(Long id) {
+
+        return super.delete(id);
+    }
+
+    @Cacheable(value = PROVINCE_CACHE, unless = "#result == null")
+    public Optional<ProvinceReference> findReferenceByNameAndCountryName(String provinceName, String countryName) {
+
+        return provinceRepository.findByNameAndCountry_Name(provinceName, countryName, DEFAULT_DEPTH_FOR_PROVINCE_NODE)
+                .map(ProvinceReference::new);
     }
 
-    public Optional<ProvinceNode> findByNameAndCountryName(String provinceName, String countryName) {
+    private CountryNode findCountry(String name) {
 
-        return provinceRepository.findByNameAndCountry_Name(provinceName, countryName, DEFAULT_DEPTH_FOR_PROVINCE_NODE);
+        return countryService.findReferenceByName(name).map(CountryReference::toNode)
+                .orElseThrow(() -> new ResourceNotFoundException("CountryModel"));
     }
 }
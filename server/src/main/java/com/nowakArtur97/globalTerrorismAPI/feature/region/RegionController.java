@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.region;
 
 import com.github.wnameless.spring.bulkapi.Bulkable;
+import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiCursorPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.annotation.ApiPageable;
 import com.nowakArtur97.globalTerrorismAPI.common.baseModel.ErrorResponse;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.BasicGenericRestControllerImpl;
@@ -8,6 +9,7 @@ import com.nowakArtur97.globalTerrorismAPI.common.service.BasicGenericService;
 import io.swagger.annotations.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +39,16 @@ class RegionController extends BasicGenericRestControllerImpl<RegionModel, Regio
         return super.findAll(pageable);
     }
 
+    @GetMapping(params = "cursor")
+    @Override
+    @ApiOperation(value = "Find All Regions by cursor", notes = "Look up all regions page by page using continuation tokens")
+    @ApiResponse(code = 200, message = "Displayed page of Regions with a link to the next page", response = CollectionModel.class)
+    @ApiCursorPageable
+    public ResponseEntity<CollectionModel<RegionModel>> findAll(@RequestParam("cursor") String cursor,
+                                                                @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        return super.findAll(cursor, size);
+    }
+
     @GetMapping("/{id}")
     @Override
     @ApiOperation(value = "Find Region by id", notes = "Provide an id to look up specific Region")
@@ -1,14 +1,14 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.region;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class RegionModelAssembler extends RepresentationModelAssemblerSupport<RegionNode, RegionModel> {
+public class RegionModelAssembler extends MemoizingModelAssemblerSupport<RegionNode, RegionModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(RegionController.class, "findById", Long.class);
 
     private final ModelMapper modelMapper;
 
@@ -19,11 +19,11 @@ public class RegionModelAssembler extends RepresentationModelAssemblerSupport<Re
     }
 
     @Override
-    public RegionModel toModel(RegionNode regionNode) {
+    protected RegionModel assemble(RegionNode regionNode) {
 
         RegionModel regionModel = modelMapper.map(regionNode, RegionModel.class);
 
-        regionModel.add(linkTo(methodOn(RegionController.class).findById(regionModel.getId())).withSelfRel());
+        regionModel.add(SELF_LINK_TEMPLATE.withSelfRel(regionModel.getId()));
 
         return regionModel;
     }
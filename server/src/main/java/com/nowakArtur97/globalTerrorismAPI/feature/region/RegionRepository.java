@@ -1,12 +1,13 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.region;
 
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
-
-import java.util.Optional;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.repository.query.Param;
 
 interface RegionRepository extends BaseRepository<RegionNode> {
 
-    Optional<RegionNode> findByName(String name);
+    @Query("MATCH (region:Region) WHERE region.name = $name RETURN id(region)")
+    Long findIdByName(@Param("name") String name);
 
     boolean existsByName(String name);
 }
@@ -1,6 +1,9 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.region;
 
 import com.nowakArtur97.globalTerrorismAPI.common.service.BasicGenericServiceImpl;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -8,6 +11,10 @@ import java.util.Optional;
 @Service
 public class RegionService extends BasicGenericServiceImpl<RegionNode> {
 
+    public static final String REGION_CACHE = "regions";
+
+    public static final String REGION_EXISTS_CACHE = "regionExists";
+
     private final RegionRepository repository;
 
     RegionService(RegionRepository repository) {
@@ -15,13 +22,22 @@ public class RegionService extends BasicGenericServiceImpl<RegionNode> {
         this.repository = repository;
     }
 
-    public Optional<RegionNode> findByName(String name) {
+    @Cacheable(value = REGION_CACHE, unless = "#result == null")
+    public Optional<Long> findIdByName(String name) {
 
-        return repository.findByName(name);
+        return Optional.ofNullable(repository.findIdByName(name));
     }
 
+    @Cacheable(value = REGION_EXISTS_CACHE, unless = "!#result")
     public boolean existsByName(String name) {
 
         return repository.existsByName(name);
     }
+
+    @Override
+    @CacheEvict(value = {REGION_CACHE, REGION_EXISTS_CACHE, CountryService.COUNTRY_CACHE}, allEntries = true)
+    public RegionNode save(RegionNode regionNode) {
+
+        return repository.save(regionNode);
+    }
 }
@@ -0,0 +1,19 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+@QueryResult
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventsPerDateStatistic {
+
+    private String date;
+
+    private Long numberOfEvents;
+}
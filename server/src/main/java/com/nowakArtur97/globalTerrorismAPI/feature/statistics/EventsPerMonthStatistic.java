@@ -0,0 +1,25 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@ApiModel(description = "Number of Events in a month")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventsPerMonthStatistic {
+
+    @ApiModelProperty(notes = "The year of the Events")
+    private Integer year;
+
+    @ApiModelProperty(notes = "The month of the Events")
+    private Integer month;
+
+    @ApiModelProperty(notes = "The number of Events")
+    private Long numberOfEvents;
+}
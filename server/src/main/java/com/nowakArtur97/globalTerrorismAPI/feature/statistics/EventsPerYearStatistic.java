@@ -0,0 +1,22 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@ApiModel(description = "Number of Events in a year")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventsPerYearStatistic {
+
+    @ApiModelProperty(notes = "The year of the Events")
+    private Integer year;
+
+    @ApiModelProperty(notes = "The number of Events")
+    private Long numberOfEvents;
+}
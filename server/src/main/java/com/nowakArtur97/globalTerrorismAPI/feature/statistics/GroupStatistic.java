@@ -0,0 +1,51 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+@QueryResult
+@ApiModel(description = "Success and suicide rates of the Group's Events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupStatistic {
+
+    @ApiModelProperty(notes = "The Group's name")
+    private String groupName;
+
+    @ApiModelProperty(notes = "The number of Events caused by the Group")
+    private Long numberOfEvents;
+
+    @ApiModelProperty(notes = "The number of successful Events")
+    private Long numberOfSuccessfulEvents;
+
+    @ApiModelProperty(notes = "The number of suicidal Events")
+    private Long numberOfSuicidalEvents;
+
+    @ApiModelProperty(notes = "The share of successful Events")
+    public Double getSuccessRate() {
+
+        return getRate(numberOfSuccessfulEvents);
+    }
+
+    @ApiModelProperty(notes = "The share of suicidal Events")
+    public Double getSuicideRate() {
+
+        return getRate(numberOfSuicidalEvents);
+    }
+
+    private Double getRate(Long numberOfMatchingEvents) {
+
+        if (numberOfEvents == null || numberOfEvents == 0 || numberOfMatchingEvents == null) {
+            return 0.0;
+        }
+
+        return (double) numberOfMatchingEvents / numberOfEvents;
+    }
+}
@@ -0,0 +1,21 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class Statistics {
+
+    private final List<EventsPerYearStatistic> eventsPerYear;
+
+    private final List<EventsPerMonthStatistic> eventsPerMonth;
+
+    private final List<VictimsPerCountryStatistic> victimsPerCountry;
+
+    private final List<VictimsPerRegionStatistic> victimsPerRegion;
+
+    private final List<GroupStatistic> groups;
+}
@@ -0,0 +1,37 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@RestController
+@RequestMapping("/api/v1/statistics")
+@Api(tags = {StatisticsTag.RESOURCE})
+@ApiResponses(value = {
+        @ApiResponse(code = 401, message = "Permission to the resource is prohibited"),
+        @ApiResponse(code = 403, message = "Access to the resource is prohibited")})
+class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    StatisticsController(StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    @GetMapping
+    @ApiOperation(value = "Find Events statistics", notes = "Look up Events aggregated per year, month, Country, Region and Group")
+    @ApiResponse(code = 200, message = "Displayed Events statistics", response = StatisticsModel.class)
+    public ResponseEntity<StatisticsModel> findAll() {
+
+        StatisticsModel statisticsModel = new StatisticsModel(statisticsService.getStatistics());
+
+        statisticsModel.add(linkTo(methodOn(StatisticsController.class).findAll()).withSelfRel());
+
+        return ResponseEntity.ok(statisticsModel);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+@ApiModel(description = "Aggregated statistics about Events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsModel extends RepresentationModel<StatisticsModel> {
+
+    @ApiModelProperty(notes = "The number of Events per year")
+    private List<EventsPerYearStatistic> eventsPerYear;
+
+    @ApiModelProperty(notes = "The number of Events per month")
+    private List<EventsPerMonthStatistic> eventsPerMonth;
+
+    @ApiModelProperty(notes = "The number of victims per Country")
+    private List<VictimsPerCountryStatistic> victimsPerCountry;
+
+    @ApiModelProperty(notes = "The number of victims per Region")
+    private List<VictimsPerRegionStatistic> victimsPerRegion;
+
+    @ApiModelProperty(notes = "The success and suicide rates per Group")
+    private List<GroupStatistic> groups;
+
+    StatisticsModel(Statistics statistics) {
+
+        this(statistics.getEventsPerYear(), statistics.getEventsPerMonth(), statistics.getVictimsPerCountry(),
+                statistics.getVictimsPerRegion(), statistics.getGroups());
+    }
+}
@@ -0,0 +1,30 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import org.springframework.data.neo4j.annotation.Query;
+
+import java.util.List;
+
+public interface StatisticsRepository extends BaseRepository<EventNode> {
+
+    @Query("MATCH (event:Event) WHERE event.date IS NOT NULL " +
+            "RETURN substring(event.date, 0, 16) + ':00.000Z' AS date, count(*) AS numberOfEvents")
+    List<EventsPerDateStatistic> countEventsPerMinute();
+
+    @Query("MATCH (event:Event)-[:LOCATED_IN]->(:City)-[:PART_OF]->(:Province)-[:PART_OF]->(country:Country) " +
+            "OPTIONAL MATCH (country)-[:PART_OF]->(region:Region) " +
+            "OPTIONAL MATCH (event)-[:CASUALTIES]->(victim:Victim) " +
+            "RETURN country.name AS countryName, region.name AS regionName, count(event) AS numberOfEvents, " +
+            "sum(coalesce(victim.totalNumberOfFatalities, 0)) AS totalNumberOfFatalities, " +
+            "sum(coalesce(victim.totalNumberOfInjured, 0)) AS totalNumberOfInjured " +
+            "ORDER BY countryName")
+    List<VictimsPerCountryStatistic> sumVictimsPerCountry();
+
+    @Query("MATCH (group:Group)-[:CARRIES_OUT]->(event:Event) " +
+            "RETURN group.name AS groupName, count(event) AS numberOfEvents, " +
+            "sum(CASE WHEN event.isSuccessful THEN 1 ELSE 0 END) AS numberOfSuccessfulEvents, " +
+            "sum(CASE WHEN event.isSuicidal THEN 1 ELSE 0 END) AS numberOfSuicidalEvents " +
+            "ORDER BY numberOfEvents DESC, groupName")
+    List<GroupStatistic> countGroupEvents();
+}
@@ -0,0 +1,93 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.DateUtil;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class StatisticsService {
+
+    public static final String STATISTICS_CACHE = "statistics";
+
+    private static final String UNKNOWN_REGION = "Unknown";
+
+    private final StatisticsRepository repository;
+
+    StatisticsService(StatisticsRepository repository) {
+        this.repository = repository;
+    }
+
+    @Cacheable(STATISTICS_CACHE)
+    @Transactional(readOnly = true)
+    public Statistics getStatistics() {
+
+        List<EventsPerMonthStatistic> eventsPerMonth = sumEventsPerMonth(repository.countEventsPerMinute());
+        List<VictimsPerCountryStatistic> victimsPerCountry = repository.sumVictimsPerCountry();
+
+        return new Statistics(sumEventsPerYear(eventsPerMonth), eventsPerMonth, victimsPerCountry,
+                sumVictimsPerRegion(victimsPerCountry), repository.countGroupEvents());
+    }
+
+    @CacheEvict(value = STATISTICS_CACHE, allEntries = true)
+    public void evictStatistics() {
+    }
+
+    private List<EventsPerMonthStatistic> sumEventsPerMonth(List<EventsPerDateStatistic> eventsPerMinute) {
+
+        Map<YearMonth, Long> eventsPerMonth = new TreeMap<>();
+
+        eventsPerMinute.forEach(statistic -> eventsPerMonth.merge(
+                YearMonth.from(DateUtil.toLocalDate(statistic.getDate())), statistic.getNumberOfEvents(), Long::sum));
+
+        List<EventsPerMonthStatistic> statistics = new ArrayList<>();
+
+        eventsPerMonth.forEach((month, numberOfEvents) -> statistics.add(new EventsPerMonthStatistic(month.getYear(),
+                month.getMonthValue(), numberOfEvents)));
+
+        return statistics;
+    }
+
+    private List<EventsPerYearStatistic> sumEventsPerYear(List<EventsPerMonthStatistic> eventsPerMonth) {
+
+        Map<Integer, Long> eventsPerYear = new TreeMap<>();
+
+        eventsPerMonth.forEach(statistic -> eventsPerYear.merge(statistic.getYear(), statistic.getNumberOfEvents(),
+                Long::sum));
+
+        List<EventsPerYearStatistic> statistics = new ArrayList<>();
+
+        eventsPerYear.forEach((year, numberOfEvents) -> statistics.add(new EventsPerYearStatistic(year, numberOfEvents)));
+
+        return statistics;
+    }
+
+    private List<VictimsPerRegionStatistic> sumVictimsPerRegion(List<VictimsPerCountryStatistic> victimsPerCountry) {
+
+        Map<String, VictimsPerRegionStatistic> victimsPerRegion = new LinkedHashMap<>();
+
+        for (VictimsPerCountryStatistic statistic : victimsPerCountry) {
+
+            String regionName = statistic.getRegionName() != null ? statistic.getRegionName() : UNKNOWN_REGION;
+
+            VictimsPerRegionStatistic regionStatistic = victimsPerRegion.computeIfAbsent(regionName,
+                    name -> new VictimsPerRegionStatistic(name, 0L, 0L, 0L));
+
+            regionStatistic.setNumberOfEvents(regionStatistic.getNumberOfEvents() + statistic.getNumberOfEvents());
+            regionStatistic.setTotalNumberOfFatalities(regionStatistic.getTotalNumberOfFatalities()
+                    + statistic.getTotalNumberOfFatalities());
+            regionStatistic.setTotalNumberOfInjured(regionStatistic.getTotalNumberOfInjured()
+                    + statistic.getTotalNumberOfInjured());
+        }
+
+        return new ArrayList<>(victimsPerRegion.values());
+    }
+}
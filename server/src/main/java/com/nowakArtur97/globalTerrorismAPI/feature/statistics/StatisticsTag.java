@@ -0,0 +1,8 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+public final class StatisticsTag {
+
+    public static final String RESOURCE = "Statistics Resource";
+
+    public static final String DESCRIPTION = "Aggregated statistics about Events";
+}
@@ -0,0 +1,33 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+@QueryResult
+@ApiModel(description = "Victims of Events in a Country")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VictimsPerCountryStatistic {
+
+    @ApiModelProperty(notes = "The Country's name")
+    private String countryName;
+
+    @ApiModelProperty(notes = "The name of the Region the Country is part of")
+    private String regionName;
+
+    @ApiModelProperty(notes = "The number of Events")
+    private Long numberOfEvents;
+
+    @ApiModelProperty(notes = "The total number of fatalities")
+    private Long totalNumberOfFatalities;
+
+    @ApiModelProperty(notes = "The total number of injured")
+    private Long totalNumberOfInjured;
+}
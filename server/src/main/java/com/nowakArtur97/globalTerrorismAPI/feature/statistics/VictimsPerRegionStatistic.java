@@ -0,0 +1,28 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@ApiModel(description = "Victims of Events in a Region")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VictimsPerRegionStatistic {
+
+    @ApiModelProperty(notes = "The Region's name")
+    private String regionName;
+
+    @ApiModelProperty(notes = "The number of Events")
+    private Long numberOfEvents;
+
+    @ApiModelProperty(notes = "The total number of fatalities")
+    private Long totalNumberOfFatalities;
+
+    @ApiModelProperty(notes = "The total number of injured")
+    private Long totalNumberOfInjured;
+}
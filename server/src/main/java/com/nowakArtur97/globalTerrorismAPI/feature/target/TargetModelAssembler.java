@@ -1,15 +1,15 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.target;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryModelAssembler;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class TargetModelAssembler extends RepresentationModelAssemblerSupport<TargetNode, TargetModel> {
+public class TargetModelAssembler extends MemoizingModelAssemblerSupport<TargetNode, TargetModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(TargetController.class, "findById", Long.class);
 
     private final CountryModelAssembler countryModelAssembler;
 
@@ -23,7 +23,7 @@ public class TargetModelAssembler extends RepresentationModelAssemblerSupport<Ta
     }
 
     @Override
-    public TargetModel toModel(TargetNode targetNode) {
+    protected TargetModel assemble(TargetNode targetNode) {
 
         TargetModel targetModel = modelMapper.map(targetNode, TargetModel.class);
 
@@ -31,7 +31,7 @@ public class TargetModelAssembler extends RepresentationModelAssemblerSupport<Ta
             targetModel.setCountryOfOrigin(countryModelAssembler.toModel(targetNode.getCountryOfOrigin()));
         }
 
-        targetModel.add(linkTo(methodOn(TargetController.class).findById(targetModel.getId())).withSelfRel());
+        targetModel.add(SELF_LINK_TEMPLATE.withSelfRel(targetModel.getId()));
 
         return targetModel;
     }
@@ -1,8 +1,11 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.target;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericServiceImpl;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
@@ -13,16 +16,16 @@ class TargetService extends GenericServiceImpl<TargetNode, TargetDTO> {
 
     private final CountryService countryService;
 
-    TargetService(BaseRepository<TargetNode> repository, ModelMapper modelMapper, CountryService countryService) {
-        super(repository, modelMapper);
+    TargetService(BaseRepository<TargetNode> repository, ModelMapper modelMapper, DirtyChecker dirtyChecker,
+                  CountryService countryService) {
+        super(repository, modelMapper, dirtyChecker);
         this.countryService = countryService;
     }
 
     @Override
     public TargetNode save(TargetNode targetNode) {
 
-        targetNode.setCountryOfOrigin(countryService.findByName(targetNode.getCountryOfOrigin().getName())
-                .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
+        targetNode.setCountryOfOrigin(findCountry(targetNode.getCountryOfOrigin().getName()));
 
         return repository.save(targetNode);
     }
@@ -32,8 +35,7 @@ class TargetService extends GenericServiceImpl<TargetNode, TargetDTO> {
 
         TargetNode targetNode = modelMapper.map(targetDTO, TargetNode.class);
 
-        targetNode.setCountryOfOrigin(countryService.findByName(targetDTO.getCountryOfOrigin().getName())
-                .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
+        targetNode.setCountryOfOrigin(findCountry(targetDTO.getCountryOfOrigin().getName()));
 
         return repository.save(targetNode);
     }
@@ -41,20 +43,23 @@ class TargetService extends GenericServiceImpl<TargetNode, TargetDTO> {
     @Override
     public TargetNode update(TargetNode targetNode, TargetDTO targetDTO) {
 
-        Long id = targetNode.getId();
+        TargetNode updatedTargetNode = modelMapper.map(targetDTO, TargetNode.class);
 
-        targetNode = modelMapper.map(targetDTO, TargetNode.class);
+        updatedTargetNode.setId(targetNode.getId());
 
-        targetNode.setId(id);
+        updatedTargetNode.setCountryOfOrigin(findCountry(targetDTO.getCountryOfOrigin().getName()));
 
-        targetNode.setCountryOfOrigin(countryService.findByName(targetDTO.getCountryOfOrigin().getName())
-                .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
-
-        return repository.save(targetNode);
+        return dirtyChecker.saveIfDirty(targetNode, updatedTargetNode, repository::save);
     }
 
     public boolean isDatabaseEmpty() {
 
         return repository.count() == 0;
     }
+
+    private CountryNode findCountry(String name) {
+
+        return countryService.findReferenceByName(name).map(CountryReference::toNode)
+                .orElseThrow(() -> new ResourceNotFoundException("CountryModel"));
+    }
 }
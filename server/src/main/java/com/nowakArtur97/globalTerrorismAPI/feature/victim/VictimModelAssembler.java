@@ -1,14 +1,14 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.victim;
 
+import com.nowakArtur97.globalTerrorismAPI.common.assembler.MemoizingModelAssemblerSupport;
+import com.nowakArtur97.globalTerrorismAPI.common.link.LinkTemplate;
 import org.modelmapper.ModelMapper;
-import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Component
-public class VictimModelAssembler extends RepresentationModelAssemblerSupport<VictimNode, VictimModel> {
+public class VictimModelAssembler extends MemoizingModelAssemblerSupport<VictimNode, VictimModel> {
+
+    private static final LinkTemplate SELF_LINK_TEMPLATE = LinkTemplate.of(VictimController.class, "findById", Long.class);
 
     private final ModelMapper modelMapper;
 
@@ -19,11 +19,11 @@ public class VictimModelAssembler extends RepresentationModelAssemblerSupport<Vi
     }
 
     @Override
-    public VictimModel toModel(VictimNode victimNode) {
+    protected VictimModel assemble(VictimNode victimNode) {
 
         VictimModel victimModel = modelMapper.map(victimNode, VictimModel.class);
 
-        victimModel.add(linkTo(methodOn(VictimController.class).findById(victimModel.getId())).withSelfRel());
+        victimModel.add(SELF_LINK_TEMPLATE.withSelfRel(victimModel.getId()));
 
         return victimModel;
     }
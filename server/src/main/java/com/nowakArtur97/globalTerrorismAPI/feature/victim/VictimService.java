@@ -1,5 +1,6 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.victim;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericServiceImpl;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
@@ -7,7 +8,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class VictimService extends GenericServiceImpl<VictimNode, VictimDTO> {
 
-    VictimService(VictimRepository repository, ModelMapper modelMapper) {
-        super(repository, modelMapper);
+    VictimService(VictimRepository repository, ModelMapper modelMapper, DirtyChecker dirtyChecker) {
+        super(repository, modelMapper, dirtyChecker);
     }
 }
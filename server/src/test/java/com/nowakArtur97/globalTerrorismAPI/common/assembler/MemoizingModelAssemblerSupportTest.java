@@ -0,0 +1,191 @@
+package com.nowakArtur97.globalTerrorismAPI.common.assembler;
+
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("MemoizingModelAssemblerSupport_Tests")
+class MemoizingModelAssemblerSupportTest {
+
+    private static RegionBuilder regionBuilder;
+    private static CountryBuilder countryBuilder;
+
+    private RegionTestModelAssembler regionModelAssembler;
+
+    private CountryTestModelAssembler countryModelAssembler;
+
+    @BeforeAll
+    private static void setUpBuilders() {
+
+        regionBuilder = new RegionBuilder();
+        countryBuilder = new CountryBuilder();
+    }
+
+    @BeforeEach
+    private void setUp() {
+
+        regionModelAssembler = new RegionTestModelAssembler();
+        countryModelAssembler = new CountryTestModelAssembler(regionModelAssembler);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void when_assemble_same_node_twice_in_request_should_return_same_model() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+
+        RegionModel regionModelActual = regionModelAssembler.toModel(regionNode);
+        RegionModel regionModelActual2 = regionModelAssembler.toModel(regionNode);
+
+        assertAll(() -> assertSame(regionModelActual, regionModelActual2,
+                () -> "should return same model: " + regionModelActual + ", but was: " + regionModelActual2),
+                () -> assertEquals(1, regionModelAssembler.numberOfAssembledModels,
+                        () -> "should assemble model once, but was: " + regionModelAssembler.numberOfAssembledModels));
+    }
+
+    @Test
+    void when_assemble_page_with_shared_node_should_assemble_shared_node_once() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        List<CountryNode> countryNodes = List.of(
+                (CountryNode) countryBuilder.withId(1L).withName("country1").withRegion(regionNode).build(ObjectType.NODE),
+                (CountryNode) countryBuilder.withId(2L).withName("country2").withRegion(regionNode).build(ObjectType.NODE),
+                (CountryNode) countryBuilder.withId(3L).withName("country3").withRegion(regionNode).build(ObjectType.NODE));
+
+        List<CountryModel> countryModelsActual = countryNodes.stream().map(countryModelAssembler::toModel)
+                .collect(Collectors.toList());
+
+        assertAll(() -> assertEquals(3, countryModelAssembler.numberOfAssembledModels,
+                () -> "should assemble every country, but was: " + countryModelAssembler.numberOfAssembledModels),
+                () -> assertEquals(1, regionModelAssembler.numberOfAssembledModels,
+                        () -> "should assemble region once, but was: " + regionModelAssembler.numberOfAssembledModels),
+                () -> assertSame(countryModelsActual.get(0).getRegion(), countryModelsActual.get(2).getRegion(),
+                        () -> "should share region model, but was: " + countryModelsActual.get(0).getRegion()
+                                + " and: " + countryModelsActual.get(2).getRegion()),
+                () -> assertEquals("country2", countryModelsActual.get(1).getName(),
+                        () -> "should return country model with name: country2, but was: "
+                                + countryModelsActual.get(1).getName()));
+    }
+
+    @Test
+    void when_assemble_other_node_instance_with_same_id_should_assemble_new_model() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.withId(1L).withName("region").build(ObjectType.NODE);
+        RegionNode regionNodeUpdated = (RegionNode) regionBuilder.withId(1L).withName("updated region")
+                .build(ObjectType.NODE);
+
+        RegionModel regionModelActual = regionModelAssembler.toModel(regionNode);
+        RegionModel regionModelUpdatedActual = regionModelAssembler.toModel(regionNodeUpdated);
+
+        assertAll(() -> assertNotSame(regionModelActual, regionModelUpdatedActual,
+                () -> "should return new model, but was: " + regionModelUpdatedActual),
+                () -> assertEquals("updated region", regionModelUpdatedActual.getName(),
+                        () -> "should return model with name: updated region, but was: "
+                                + regionModelUpdatedActual.getName()));
+    }
+
+    @Test
+    void when_assemble_node_without_id_should_not_memoize_model() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.withId(null).build(ObjectType.NODE);
+
+        regionModelAssembler.toModel(regionNode);
+        regionModelAssembler.toModel(regionNode);
+
+        assertEquals(2, regionModelAssembler.numberOfAssembledModels,
+                () -> "should assemble model twice, but was: " + regionModelAssembler.numberOfAssembledModels);
+    }
+
+    @Test
+    void when_assemble_node_outside_of_request_should_not_memoize_model() {
+
+        RequestContextHolder.resetRequestAttributes();
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+
+        regionModelAssembler.toModel(regionNode);
+        regionModelAssembler.toModel(regionNode);
+
+        assertEquals(2, regionModelAssembler.numberOfAssembledModels,
+                () -> "should assemble model twice, but was: " + regionModelAssembler.numberOfAssembledModels);
+    }
+
+    @Test
+    void when_assemble_same_node_in_next_request_should_assemble_new_model() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+
+        RegionModel regionModelActual = regionModelAssembler.toModel(regionNode);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        RegionModel regionModelActual2 = regionModelAssembler.toModel(regionNode);
+
+        assertAll(() -> assertNotSame(regionModelActual, regionModelActual2,
+                () -> "should return new model, but was: " + regionModelActual2),
+                () -> assertEquals(2, regionModelAssembler.numberOfAssembledModels,
+                        () -> "should assemble model twice, but was: " + regionModelAssembler.numberOfAssembledModels));
+    }
+
+    private static class RegionTestModelAssembler extends MemoizingModelAssemblerSupport<RegionNode, RegionModel> {
+
+        private int numberOfAssembledModels;
+
+        private RegionTestModelAssembler() {
+
+            super(Object.class, RegionModel.class);
+        }
+
+        @Override
+        protected RegionModel assemble(RegionNode regionNode) {
+
+            numberOfAssembledModels++;
+
+            return new RegionModel(regionNode.getId(), regionNode.getName());
+        }
+    }
+
+    private static class CountryTestModelAssembler extends MemoizingModelAssemblerSupport<CountryNode, CountryModel> {
+
+        private final RegionTestModelAssembler regionModelAssembler;
+
+        private int numberOfAssembledModels;
+
+        private CountryTestModelAssembler(RegionTestModelAssembler regionModelAssembler) {
+
+            super(Object.class, CountryModel.class);
+            this.regionModelAssembler = regionModelAssembler;
+        }
+
+        @Override
+        protected CountryModel assemble(CountryNode countryNode) {
+
+            numberOfAssembledModels++;
+
+            return new CountryModel(countryNode.getId(), countryNode.getName(),
+                    regionModelAssembler.toModel(countryNode.getRegion()));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.nowakArtur97.globalTerrorismAPI.common.cache;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ExpiringCacheManager_Tests")
+class ExpiringCacheManagerTest {
+
+    private ExpiringCacheManager cacheManager;
+
+    @BeforeEach
+    private void setUp() {
+
+        cacheManager = new ExpiringCacheManager(List.of("countries"), 2, 1000);
+        cacheManager.afterPropertiesSet();
+    }
+
+    @Test
+    void when_get_configured_cache_should_return_expiring_cache() {
+
+        Cache cache = cacheManager.getCache("countries");
+
+        assertAll(() -> assertTrue(cacheManager.getCacheNames().contains("countries"),
+                () -> "should create configured cache, but was: " + cacheManager.getCacheNames()),
+                () -> assertTrue(cache instanceof ExpiringSpringCache,
+                        () -> "should return expiring cache, but was: " + cache));
+    }
+
+    @Test
+    void when_get_not_configured_cache_should_create_cache() {
+
+        Cache cache = cacheManager.getCache("regions");
+
+        assertAll(() -> assertNotNull(cache, () -> "should create missing cache, but was: " + cache),
+                () -> assertEquals("regions", cache.getName(),
+                        () -> "should return cache with name: regions, but was: " + cache.getName()));
+    }
+
+    @Test
+    void when_put_and_evict_values_should_update_cache() {
+
+        Cache cache = cacheManager.getCache("countries");
+
+        cache.put("country", Optional.of("value"));
+        cache.put("emptyCountry", null);
+
+        Cache.ValueWrapper valueBeforeEviction = cache.get("country");
+        Cache.ValueWrapper nullValue = cache.get("emptyCountry");
+
+        cache.evict("country");
+
+        Cache.ValueWrapper valueAfterEviction = cache.get("country");
+
+        assertAll(() -> assertEquals(Optional.of("value"), valueBeforeEviction.get(),
+                () -> "should return cached value, but was: " + valueBeforeEviction.get()),
+                () -> assertNull(nullValue.get(), () -> "should cache null value, but was: " + nullValue.get()),
+                () -> assertNull(valueAfterEviction, () -> "should evict value, but was: " + valueAfterEviction));
+    }
+
+    @Test
+    void when_get_value_with_loader_should_load_value_only_once() {
+
+        Cache cache = cacheManager.getCache("countries");
+
+        String firstValue = cache.get("country", () -> "loaded");
+        String secondValue = cache.get("country", () -> "loadedAgain");
+
+        assertAll(() -> assertEquals("loaded", firstValue,
+                () -> "should return loaded value, but was: " + firstValue),
+                () -> assertEquals("loaded", secondValue,
+                        () -> "should return cached value, but was: " + secondValue));
+    }
+
+    @Test
+    void when_bind_metrics_should_export_cache_statistics() {
+
+        ExpiringSpringCache cache = (ExpiringSpringCache) cacheManager.getCache("countries");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new ExpiringCacheMeterBinder(cache, List.of()).bindTo(registry);
+
+        cache.put("country1", "value1");
+        cache.put("country2", "value2");
+        cache.put("country3", "value3");
+        cache.get("country3");
+        cache.get("country1");
+
+        double hits = registry.get("cache.gets").tag("result", "hit").functionCounter().count();
+        double misses = registry.get("cache.gets").tag("result", "miss").functionCounter().count();
+        double evictions = registry.get("cache.evictions").functionCounter().count();
+        double puts = registry.get("cache.puts").functionCounter().count();
+        double size = registry.get("cache.size").gauge().value();
+
+        assertAll(() -> assertEquals(1, hits, () -> "should record: 1 hit, but was: " + hits),
+                () -> assertEquals(1, misses, () -> "should record: 1 miss, but was: " + misses),
+                () -> assertEquals(1, evictions, () -> "should record: 1 eviction, but was: " + evictions),
+                () -> assertEquals(3, puts, () -> "should record: 3 puts, but was: " + puts),
+                () -> assertEquals(2, size, () -> "should hold: 2 entries, but was: " + size));
+    }
+}
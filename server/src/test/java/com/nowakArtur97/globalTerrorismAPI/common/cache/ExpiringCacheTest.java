@@ -0,0 +1,121 @@
+package com.nowakArtur97.globalTerrorismAPI.common.cache;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ExpiringCache_Tests")
+class ExpiringCacheTest {
+
+    private final Instant NOW = Instant.parse("2020-01-01T00:00:00Z");
+
+    @Test
+    void when_put_more_entries_than_maximum_size_should_evict_least_recently_used_entry() {
+
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, 1000, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        cache.get("key1");
+        cache.put("key3", "value3");
+
+        assertAll(() -> assertEquals("value1", cache.get("key1"),
+                () -> "should keep recently used entry, but was: " + cache.get("key1")),
+                () -> assertNull(cache.get("key2"), () -> "should evict least recently used entry, but was: "
+                        + cache.get("key2")),
+                () -> assertEquals(2, cache.size(), () -> "should hold: 2 entries, but was: " + cache.size()),
+                () -> assertEquals(1, cache.getEvictions(),
+                        () -> "should record: 1 eviction, but was: " + cache.getEvictions()));
+    }
+
+    @Test
+    void when_get_entry_after_time_to_live_should_return_null() {
+
+        MutableClock clock = new MutableClock(NOW);
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 1000, clock);
+
+        cache.put("key", "value");
+
+        String valueBeforeExpiration = cache.get("key");
+
+        clock.advance(Duration.ofMillis(1000));
+
+        String valueAfterExpiration = cache.get("key");
+
+        assertAll(() -> assertEquals("value", valueBeforeExpiration,
+                () -> "should return value before expiration, but was: " + valueBeforeExpiration),
+                () -> assertNull(valueAfterExpiration,
+                        () -> "should not return value after expiration, but was: " + valueAfterExpiration),
+                () -> assertEquals(1, cache.getHits(), () -> "should record: 1 hit, but was: " + cache.getHits()),
+                () -> assertEquals(1, cache.getMisses(), () -> "should record: 1 miss, but was: " + cache.getMisses()),
+                () -> assertEquals(0, cache.size(), () -> "should remove expired entry, but was: " + cache.size()));
+    }
+
+    @Test
+    void when_get_entry_after_its_own_expiration_should_return_null() {
+
+        MutableClock clock = new MutableClock(NOW);
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 1000, clock);
+
+        cache.put("key", "value", NOW.toEpochMilli() + 100);
+
+        clock.advance(Duration.ofMillis(100));
+
+        assertNull(cache.get("key"), () -> "should not return value after entry expiration, but was: " + cache.get("key"));
+    }
+
+    @Test
+    void when_invalidate_all_should_remove_all_entries() {
+
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 1000, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size(), () -> "should remove all entries, but was: " + cache.size());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.XlsxUtil;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetNode;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.EventBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.GroupBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.TargetBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("DirtyChecker_Tests")
+class DirtyCheckerTest {
+
+    private DirtyChecker dirtyChecker;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TimeZone defaultTimeZone;
+
+    private static CountryBuilder countryBuilder;
+    private static TargetBuilder targetBuilder;
+    private static EventBuilder eventBuilder;
+    private static GroupBuilder groupBuilder;
+
+    @BeforeAll
+    private static void setUpBuilders() {
+
+        countryBuilder = new CountryBuilder();
+        targetBuilder = new TargetBuilder();
+        eventBuilder = new EventBuilder();
+        groupBuilder = new GroupBuilder();
+    }
+
+    @BeforeEach
+    private void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        dirtyChecker = new DirtyChecker(meterRegistry);
+
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void when_save_unchanged_node_should_elide_write() {
+
+        CountryNode countryNode = (CountryNode) countryBuilder.build(ObjectType.NODE);
+        TargetNode loadedTargetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        TargetNode updatedTargetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+
+        AtomicInteger numberOfWrites = new AtomicInteger();
+
+        TargetNode targetNodeActual = dirtyChecker.saveIfDirty(loadedTargetNode, updatedTargetNode, targetNode -> {
+            numberOfWrites.incrementAndGet();
+            return targetNode;
+        });
+
+        assertAll(() -> assertEquals(updatedTargetNode, targetNodeActual,
+                () -> "should return updated node: " + updatedTargetNode + ", but was: " + targetNodeActual),
+                () -> assertEquals(0, numberOfWrites.get(),
+                        () -> "should not write node, but was written: " + numberOfWrites.get() + " times"),
+                () -> assertEquals(1.0, getWrites("TargetNode", "elided"),
+                        () -> "should count elided write, but was: " + getWrites("TargetNode", "elided")),
+                () -> assertEquals(0.0, getWrites("TargetNode", "applied"),
+                        () -> "should not count applied write, but was: " + getWrites("TargetNode", "applied")));
+    }
+
+    @Test
+    void when_save_node_with_changed_property_should_apply_write() {
+
+        TargetNode loadedTargetNode = (TargetNode) targetBuilder.build(ObjectType.NODE);
+        TargetNode updatedTargetNode = (TargetNode) targetBuilder.withTarget("updated target").build(ObjectType.NODE);
+
+        AtomicInteger numberOfWrites = new AtomicInteger();
+
+        TargetNode targetNodeActual = dirtyChecker.saveIfDirty(loadedTargetNode, updatedTargetNode, targetNode -> {
+            numberOfWrites.incrementAndGet();
+            return targetNode;
+        });
+
+        assertAll(() -> assertEquals(updatedTargetNode, targetNodeActual,
+                () -> "should return saved node: " + updatedTargetNode + ", but was: " + targetNodeActual),
+                () -> assertEquals(1, numberOfWrites.get(),
+                        () -> "should write node once, but was written: " + numberOfWrites.get() + " times"),
+                () -> assertEquals(1.0, getWrites("TargetNode", "applied"),
+                        () -> "should count applied write, but was: " + getWrites("TargetNode", "applied")));
+    }
+
+    @Test
+    void when_check_node_related_to_other_node_should_be_dirty() {
+
+        CountryNode countryNode = (CountryNode) countryBuilder.build(ObjectType.NODE);
+        CountryNode anotherCountryNode = (CountryNode) countryBuilder.withId(2L).withName("another country")
+                .build(ObjectType.NODE);
+        TargetNode loadedTargetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        TargetNode updatedTargetNode = (TargetNode) targetBuilder.withCountry(anotherCountryNode).build(ObjectType.NODE);
+
+        assertTrue(dirtyChecker.isDirty(loadedTargetNode, updatedTargetNode),
+                () -> "should detect changed relationship, but was not dirty");
+    }
+
+    @Test
+    void when_check_node_related_to_new_node_should_be_dirty() {
+
+        CountryNode countryNode = (CountryNode) countryBuilder.build(ObjectType.NODE);
+        CountryNode newCountryNode = (CountryNode) countryBuilder.withId(null).build(ObjectType.NODE);
+        TargetNode loadedTargetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        TargetNode updatedTargetNode = (TargetNode) targetBuilder.withCountry(newCountryNode).build(ObjectType.NODE);
+
+        assertTrue(dirtyChecker.isDirty(loadedTargetNode, updatedTargetNode),
+                () -> "should detect relationship to new node, but was not dirty");
+    }
+
+    @Test
+    void when_check_node_related_to_same_node_with_changed_properties_should_not_be_dirty() {
+
+        CountryNode countryNode = (CountryNode) countryBuilder.build(ObjectType.NODE);
+        CountryNode updatedCountryNode = (CountryNode) countryBuilder.withName("updated country").build(ObjectType.NODE);
+        TargetNode loadedTargetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        TargetNode updatedTargetNode = (TargetNode) targetBuilder.withCountry(updatedCountryNode).build(ObjectType.NODE);
+
+        assertFalse(dirtyChecker.isDirty(loadedTargetNode, updatedTargetNode),
+                () -> "should compare related nodes by id, but was dirty");
+    }
+
+    @Test
+    void when_check_node_with_different_related_nodes_should_be_dirty() {
+
+        EventNode eventNode = (EventNode) eventBuilder.build(ObjectType.NODE);
+        EventNode anotherEventNode = (EventNode) eventBuilder.withId(2L).build(ObjectType.NODE);
+        GroupNode loadedGroupNode = (GroupNode) groupBuilder.withEventsCaused(List.of(eventNode, anotherEventNode))
+                .build(ObjectType.NODE);
+        GroupNode sameGroupNode = (GroupNode) groupBuilder.withEventsCaused(List.of(anotherEventNode, eventNode))
+                .build(ObjectType.NODE);
+        GroupNode updatedGroupNode = (GroupNode) groupBuilder.withEventsCaused(List.of(eventNode))
+                .build(ObjectType.NODE);
+
+        assertAll(() -> assertFalse(dirtyChecker.isDirty(loadedGroupNode, sameGroupNode),
+                () -> "should ignore order of related nodes, but was dirty"),
+                () -> assertTrue(dirtyChecker.isDirty(loadedGroupNode, updatedGroupNode),
+                        () -> "should detect removed related node, but was not dirty"));
+    }
+
+    @Test
+    void when_check_imported_event_with_same_day_from_request_should_not_be_dirty() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Warsaw"));
+
+        Date importedDate = XlsxUtil.getDate(2019, 5, 13);
+        Date requestDate = Date.from(LocalDate.of(2019, 5, 13).atStartOfDay(ZoneOffset.UTC).toInstant());
+        Date nextDayRequestDate = Date.from(LocalDate.of(2019, 5, 14).atStartOfDay(ZoneOffset.UTC).toInstant());
+        EventNode loadedEventNode = (EventNode) eventBuilder.withDate(importedDate).build(ObjectType.NODE);
+        EventNode updatedEventNode = (EventNode) eventBuilder.withDate(requestDate).build(ObjectType.NODE);
+        EventNode nextDayEventNode = (EventNode) eventBuilder.withDate(nextDayRequestDate).build(ObjectType.NODE);
+
+        assertAll(() -> assertFalse(dirtyChecker.isDirty(loadedEventNode, updatedEventNode),
+                () -> "should compare dates by day, but was dirty for: " + importedDate + " and " + requestDate),
+                () -> assertTrue(dirtyChecker.isDirty(loadedEventNode, nextDayEventNode),
+                        () -> "should detect changed day, but was not dirty for: " + importedDate + " and "
+                                + nextDayRequestDate));
+    }
+
+    @Test
+    void when_check_node_with_other_id_should_be_dirty() {
+
+        TargetNode loadedTargetNode = (TargetNode) targetBuilder.build(ObjectType.NODE);
+        TargetNode updatedTargetNode = (TargetNode) targetBuilder.withId(null).build(ObjectType.NODE);
+
+        assertTrue(dirtyChecker.isDirty(loadedTargetNode, updatedTargetNode),
+                () -> "should treat node without id as dirty, but was not dirty");
+    }
+
+    private double getWrites(String node, String outcome) {
+
+        return meterRegistry.find("app.node.writes").tag("node", node).tag("outcome", outcome).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,254 @@
+package com.nowakArtur97.globalTerrorismAPI.common.link;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("LinkTemplate_Tests")
+class LinkTemplateTest {
+
+    private static final int BENCHMARK_PAGE_SIZE = 100;
+
+    private static final int BENCHMARK_WARMUP_PAGES = 2_000;
+
+    private static final int BENCHMARK_PAGES = 10_000;
+
+    private LinkTemplate selfLinkTemplate;
+
+    private LinkTemplate eventsLinkTemplate;
+
+    @BeforeEach
+    private void setUp() {
+
+        selfLinkTemplate = LinkTemplate.of(TestController.class, "findById", Long.class);
+        eventsLinkTemplate = LinkTemplate.of(TestController.class, "findEvents", Long.class, String.class);
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void when_create_template_should_resolve_controller_mapping() {
+
+        assertAll(() -> assertEquals("/api/v1/tests/{id}", selfLinkTemplate.getTemplate(),
+                () -> "should resolve template: /api/v1/tests/{id}, but was: " + selfLinkTemplate.getTemplate()),
+                () -> assertEquals("/api/v1/tests/{id}/events/{type}", eventsLinkTemplate.getTemplate(),
+                        () -> "should resolve template: /api/v1/tests/{id}/events/{type}, but was: "
+                                + eventsLinkTemplate.getTemplate()));
+    }
+
+    @Test
+    void when_expand_template_should_return_same_link_as_link_builder() {
+
+        setCurrentRequest(new MockHttpServletRequest());
+
+        assertSameLinks(1L, "bombing");
+    }
+
+    @Test
+    void when_expand_template_with_context_path_should_return_same_link_as_link_builder() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setScheme("https");
+        request.setServerName("example.com");
+        request.setServerPort(8443);
+        request.setContextPath("/gtd");
+
+        setCurrentRequest(request);
+
+        Link selfLink = selfLinkTemplate.withSelfRel(2L);
+
+        assertAll(() -> assertEquals("https://example.com:8443/gtd/api/v1/tests/2", selfLink.getHref(),
+                () -> "should return link with context path: https://example.com:8443/gtd/api/v1/tests/2, but was: "
+                        + selfLink.getHref()),
+                () -> assertSameLinks(2L, "bombing"));
+    }
+
+    @Test
+    void when_expand_template_with_forwarded_headers_should_return_same_link_as_link_builder()
+            throws IOException, ServletException {
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Forwarded-Proto", "https");
+        request.addHeader("X-Forwarded-Host", "api.example.com");
+        request.addHeader("X-Forwarded-Port", "443");
+        request.addHeader("X-Forwarded-Prefix", "/gateway");
+
+        MockFilterChain filterChain = new MockFilterChain();
+
+        new ForwardedHeaderFilter().doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        setCurrentRequest((HttpServletRequest) filterChain.getRequest());
+
+        Link selfLink = selfLinkTemplate.withSelfRel(3L);
+
+        assertAll(() -> assertEquals("https://api.example.com/gateway/api/v1/tests/3", selfLink.getHref(),
+                () -> "should return forwarded link: https://api.example.com/gateway/api/v1/tests/3, but was: "
+                        + selfLink.getHref()),
+                () -> assertSameLinks(3L, "bombing"));
+    }
+
+    @Test
+    void when_expand_template_with_value_to_encode_should_return_same_link_as_link_builder() {
+
+        setCurrentRequest(new MockHttpServletRequest());
+
+        assertSameLinks(4L, "armed assault/explosives");
+    }
+
+    @Test
+    void when_expand_template_without_request_should_return_relative_link() {
+
+        Link selfLink = selfLinkTemplate.withSelfRel(5L);
+
+        assertEquals("/api/v1/tests/5", selfLink.getHref(),
+                () -> "should return relative link: /api/v1/tests/5, but was: " + selfLink.getHref());
+    }
+
+    @Test
+    void when_expand_template_with_wrong_number_of_values_should_throw_exception() {
+
+        assertThrows(IllegalArgumentException.class, () -> eventsLinkTemplate.expand(1L),
+                () -> "should throw IllegalArgumentException, but wasn't");
+    }
+
+    @Test
+    void when_create_template_for_not_existing_method_should_throw_exception() {
+
+        assertThrows(IllegalStateException.class, () -> LinkTemplate.of(TestController.class, "findAll"),
+                () -> "should throw IllegalStateException, but wasn't");
+    }
+
+    @Nested
+    @Tag("BenchmarkLinkTemplate_Tests")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    class BenchmarkLinkTemplateTest {
+
+        @Test
+        void when_build_links_for_page_should_be_faster_than_link_builder() {
+
+            setCurrentRequest(new MockHttpServletRequest());
+
+            buildPageWithLinkBuilder(BENCHMARK_WARMUP_PAGES);
+            buildPageWithLinkTemplate(BENCHMARK_WARMUP_PAGES);
+
+            long linkBuilderTime = buildPageWithLinkBuilder(BENCHMARK_PAGES);
+            long linkTemplateTime = buildPageWithLinkTemplate(BENCHMARK_PAGES);
+
+            System.out.printf("Links for page of %d models: WebMvcLinkBuilder %.1f us/page, LinkTemplate %.1f us/page%n",
+                    BENCHMARK_PAGE_SIZE, linkBuilderTime / 1_000.0 / BENCHMARK_PAGES,
+                    linkTemplateTime / 1_000.0 / BENCHMARK_PAGES);
+
+            assertTrue(linkTemplateTime < linkBuilderTime,
+                    () -> "should be faster than WebMvcLinkBuilder: " + linkBuilderTime + "ns, but was: "
+                            + linkTemplateTime + "ns");
+        }
+
+        private long buildPageWithLinkBuilder(int pages) {
+
+            List<Link> links = new ArrayList<>(BENCHMARK_PAGE_SIZE * 2);
+
+            long start = System.nanoTime();
+
+            for (int page = 0; page < pages; page++) {
+
+                links.clear();
+
+                for (long id = 0; id < BENCHMARK_PAGE_SIZE; id++) {
+
+                    links.add(linkTo(methodOn(TestController.class).findById(id)).withSelfRel());
+                    links.add(linkTo(methodOn(TestController.class).findEvents(id, "bombing")).withRel("events"));
+                }
+            }
+
+            return System.nanoTime() - start;
+        }
+
+        private long buildPageWithLinkTemplate(int pages) {
+
+            List<Link> links = new ArrayList<>(BENCHMARK_PAGE_SIZE * 2);
+
+            long start = System.nanoTime();
+
+            for (int page = 0; page < pages; page++) {
+
+                links.clear();
+
+                for (long id = 0; id < BENCHMARK_PAGE_SIZE; id++) {
+
+                    links.add(selfLinkTemplate.withSelfRel(id));
+                    links.add(eventsLinkTemplate.withRel("events", id, "bombing"));
+                }
+            }
+
+            return System.nanoTime() - start;
+        }
+    }
+
+    private void assertSameLinks(Long id, String type) {
+
+        Link selfLinkExpected = linkTo(methodOn(TestController.class).findById(id)).withSelfRel();
+        Link eventsLinkExpected = linkTo(methodOn(TestController.class).findEvents(id, type)).withRel("events");
+
+        Link selfLinkActual = selfLinkTemplate.withSelfRel(id);
+        Link eventsLinkActual = eventsLinkTemplate.withRel("events", id, type);
+
+        assertAll(() -> assertEquals(selfLinkExpected.getHref(), selfLinkActual.getHref(),
+                () -> "should return link: " + selfLinkExpected.getHref() + ", but was: " + selfLinkActual.getHref()),
+                () -> assertEquals(selfLinkExpected.getRel(), selfLinkActual.getRel(),
+                        () -> "should return link relation: " + selfLinkExpected.getRel() + ", but was: "
+                                + selfLinkActual.getRel()),
+                () -> assertEquals(eventsLinkExpected.getHref(), eventsLinkActual.getHref(),
+                        () -> "should return link: " + eventsLinkExpected.getHref() + ", but was: "
+                                + eventsLinkActual.getHref()),
+                () -> assertEquals(eventsLinkExpected.getRel(), eventsLinkActual.getRel(),
+                        () -> "should return link relation: " + eventsLinkExpected.getRel() + ", but was: "
+                                + eventsLinkActual.getRel()));
+    }
+
+    private void setCurrentRequest(HttpServletRequest request) {
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @RequestMapping("/api/v1/tests")
+    static class TestController {
+
+        @GetMapping("/{id}")
+        ResponseEntity<String> findById(@PathVariable("id") Long id) {
+
+            return ResponseEntity.ok("test");
+        }
+
+        @GetMapping("/{id}/events/{type}")
+        ResponseEntity<String> findEvents(@PathVariable("id") Long id, @PathVariable("type") String type) {
+
+            return ResponseEntity.ok("test");
+        }
+    }
+}
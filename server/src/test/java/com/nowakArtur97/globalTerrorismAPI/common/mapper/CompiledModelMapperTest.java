@@ -0,0 +1,515 @@
+package com.nowakArtur97.globalTerrorismAPI.common.mapper;
+
+import com.nowakArtur97.globalTerrorismAPI.feature.city.City;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.Country;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.Event;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.Province;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.Region;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.Target;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.user.registerUser.UserDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.user.shared.UserNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.Victim;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimModel;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.*;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("CompiledModelMapper_Tests")
+class CompiledModelMapperTest {
+
+    private static final int BENCHMARK_WARMUP_ITERATIONS = 20_000;
+
+    private static final int BENCHMARK_ITERATIONS = 200_000;
+
+    private static final Set<String> NOT_COMPARED_FIELDS = Set.of("CountryNode.region");
+
+    private ModelMapper modelMapper;
+
+    private CompiledModelMapper compiledModelMapper;
+
+    private static RegionBuilder regionBuilder;
+    private static CountryBuilder countryBuilder;
+    private static TargetBuilder targetBuilder;
+    private static ProvinceBuilder provinceBuilder;
+    private static CityBuilder cityBuilder;
+    private static VictimBuilder victimBuilder;
+    private static EventBuilder eventBuilder;
+    private static GroupBuilder groupBuilder;
+    private static UserBuilder userBuilder;
+
+    @BeforeAll
+    private static void setUpBuilders() {
+
+        regionBuilder = new RegionBuilder();
+        countryBuilder = new CountryBuilder();
+        targetBuilder = new TargetBuilder();
+        provinceBuilder = new ProvinceBuilder();
+        cityBuilder = new CityBuilder();
+        victimBuilder = new VictimBuilder();
+        eventBuilder = new EventBuilder();
+        groupBuilder = new GroupBuilder();
+        userBuilder = new UserBuilder();
+    }
+
+    @BeforeEach
+    private void setUp() {
+
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
+
+        compiledModelMapper = new CompiledModelMapper(Set.of(RegionModel.class, CountryModel.class,
+                ProvinceModel.class, CityModel.class, TargetModel.class, VictimModel.class, EventModel.class,
+                GroupModel.class, CountryNode.class, TargetNode.class, ProvinceNode.class, CityNode.class,
+                VictimNode.class, EventNode.class, GroupNode.class, UserNode.class, CountryDTO.class, TargetDTO.class,
+                ProvinceDTO.class, CityDTO.class, VictimDTO.class, EventDTO.class, GroupDTO.class));
+        compiledModelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
+    }
+
+    @Nested
+    @Tag("NodeToModelCompiledModelMapper_Tests")
+    class NodeToModelCompiledModelMapperTest {
+
+        @Test
+        void when_map_region_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createRegion(ObjectType.NODE), RegionModel.class);
+        }
+
+        @Test
+        void when_map_country_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createCountry(ObjectType.NODE), CountryModel.class);
+        }
+
+        @Test
+        void when_map_province_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createProvince(ObjectType.NODE), ProvinceModel.class);
+        }
+
+        @Test
+        void when_map_city_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createCity(ObjectType.NODE), CityModel.class);
+        }
+
+        @Test
+        void when_map_target_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createTarget(ObjectType.NODE), TargetModel.class);
+        }
+
+        @Test
+        void when_map_victim_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createVictim(ObjectType.NODE), VictimModel.class);
+        }
+
+        @Test
+        void when_map_event_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createEvent(ObjectType.NODE), EventModel.class);
+        }
+
+        @Test
+        void when_map_event_node_without_relationships_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(eventBuilder.build(ObjectType.NODE), EventModel.class);
+        }
+
+        @Test
+        void when_map_group_node_to_model_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createGroup(ObjectType.NODE), GroupModel.class);
+        }
+    }
+
+    @Nested
+    @Tag("DTOToNodeCompiledModelMapper_Tests")
+    class DTOToNodeCompiledModelMapperTest {
+
+        @Test
+        void when_map_country_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createCountry(ObjectType.DTO), CountryNode.class);
+        }
+
+        @Test
+        void when_map_target_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createTarget(ObjectType.DTO), TargetNode.class);
+        }
+
+        @Test
+        void when_map_province_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createProvince(ObjectType.DTO), ProvinceNode.class);
+        }
+
+        @Test
+        void when_map_city_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createCity(ObjectType.DTO), CityNode.class);
+        }
+
+        @Test
+        void when_map_victim_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createVictim(ObjectType.DTO), VictimNode.class);
+        }
+
+        @Test
+        void when_map_event_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createEvent(ObjectType.DTO), EventNode.class);
+        }
+
+        @Test
+        void when_map_group_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createGroup(ObjectType.DTO), GroupNode.class);
+        }
+
+        @Test
+        void when_map_country_dto_to_node_should_not_create_region_from_country_name() {
+
+            CountryDTO countryDTO = (CountryDTO) createCountry(ObjectType.DTO);
+
+            CountryNode countryNodeActual = compiledModelMapper.map(countryDTO, CountryNode.class);
+
+            assertAll(() -> assertEquals(countryDTO.getName(), countryNodeActual.getName(),
+                    () -> "should return country node with name: " + countryDTO.getName() + ", but was: "
+                            + countryNodeActual.getName()),
+                    () -> assertNull(countryNodeActual.getRegion(),
+                            () -> "should return country node without region, but was: "
+                                    + countryNodeActual.getRegion()));
+        }
+
+        @Test
+        void when_map_user_dto_to_node_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(userBuilder.build(ObjectType.DTO), UserNode.class);
+        }
+    }
+
+    @Nested
+    @Tag("NodeToDTOCompiledModelMapper_Tests")
+    class NodeToDTOCompiledModelMapperTest {
+
+        @Test
+        void when_map_country_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createCountry(ObjectType.NODE), CountryDTO.class);
+        }
+
+        @Test
+        void when_map_target_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createTarget(ObjectType.NODE), TargetDTO.class);
+        }
+
+        @Test
+        void when_map_province_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createProvince(ObjectType.NODE), ProvinceDTO.class);
+        }
+
+        @Test
+        void when_map_city_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createCity(ObjectType.NODE), CityDTO.class);
+        }
+
+        @Test
+        void when_map_victim_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createVictim(ObjectType.NODE), VictimDTO.class);
+        }
+
+        @Test
+        void when_map_event_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createEvent(ObjectType.NODE), EventDTO.class);
+        }
+
+        @Test
+        void when_map_group_node_to_dto_should_match_model_mapper() {
+
+            assertMappedLikeModelMapper(createGroup(ObjectType.NODE), GroupDTO.class);
+        }
+    }
+
+    @Nested
+    @Tag("TypeSelectionCompiledModelMapper_Tests")
+    class TypeSelectionCompiledModelMapperTest {
+
+        @Test
+        void when_map_to_type_not_selected_for_compilation_should_fall_back_to_model_mapper() {
+
+            CompiledModelMapper partiallyCompiledModelMapper = new CompiledModelMapper(Set.of(RegionModel.class));
+
+            RegionNode regionNode = (RegionNode) createRegion(ObjectType.NODE);
+            CountryNode countryNode = (CountryNode) createCountry(ObjectType.NODE);
+
+            RegionModel regionModelActual = partiallyCompiledModelMapper.map(regionNode, RegionModel.class);
+            CountryModel countryModelActual = partiallyCompiledModelMapper.map(countryNode, CountryModel.class);
+
+            assertAll(() -> assertTrue(partiallyCompiledModelMapper.isCompiled(RegionModel.class),
+                    () -> "should be compiled, but was not"),
+                    () -> assertFalse(partiallyCompiledModelMapper.isCompiled(CountryModel.class),
+                            () -> "should not be compiled, but was"),
+                    () -> assertEquals(regionNode.getName(), regionModelActual.getName(),
+                            () -> "should return region model with name: " + regionNode.getName() + ", but was: "
+                                    + regionModelActual.getName()),
+                    () -> assertEquals(countryNode.getName(), countryModelActual.getName(),
+                            () -> "should return country model with name: " + countryNode.getName() + ", but was: "
+                                    + countryModelActual.getName()),
+                    () -> assertEquals(countryNode.getRegion().getName(), countryModelActual.getRegion().getName(),
+                            () -> "should return country model with region: " + countryNode.getRegion().getName()
+                                    + ", but was: " + countryModelActual.getRegion().getName()));
+        }
+
+        @Test
+        void when_map_null_should_fall_back_to_model_mapper() {
+
+            assertThrows(IllegalArgumentException.class, () -> compiledModelMapper.map(null, RegionModel.class),
+                    () -> "should throw IllegalArgumentException, but wasn't");
+        }
+    }
+
+    @Nested
+    @Tag("BenchmarkCompiledModelMapper_Tests")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    class BenchmarkCompiledModelMapperTest {
+
+        @Test
+        void when_map_event_node_to_model_should_be_faster_than_model_mapper() {
+
+            benchmark(createEvent(ObjectType.NODE), EventModel.class);
+        }
+
+        @Test
+        void when_map_group_node_to_model_should_be_faster_than_model_mapper() {
+
+            benchmark(createGroup(ObjectType.NODE), GroupModel.class);
+        }
+
+        @Test
+        void when_map_event_dto_to_node_should_be_faster_than_model_mapper() {
+
+            benchmark(createEvent(ObjectType.DTO), EventNode.class);
+        }
+
+        private void benchmark(Object source, Class<?> destinationType) {
+
+            measure(modelMapper, source, destinationType, BENCHMARK_WARMUP_ITERATIONS);
+            measure(compiledModelMapper, source, destinationType, BENCHMARK_WARMUP_ITERATIONS);
+
+            long modelMapperTime = measure(modelMapper, source, destinationType, BENCHMARK_ITERATIONS);
+            long compiledModelMapperTime = measure(compiledModelMapper, source, destinationType, BENCHMARK_ITERATIONS);
+
+            System.out.printf("%s -> %s: ModelMapper %.1f ops/ms, CompiledModelMapper %.1f ops/ms%n",
+                    source.getClass().getSimpleName(), destinationType.getSimpleName(),
+                    BENCHMARK_ITERATIONS / (modelMapperTime / 1_000_000.0),
+                    BENCHMARK_ITERATIONS / (compiledModelMapperTime / 1_000_000.0));
+
+            assertTrue(compiledModelMapperTime < modelMapperTime,
+                    () -> "should be faster than ModelMapper: " + modelMapperTime + "ns, but was: "
+                            + compiledModelMapperTime + "ns");
+        }
+
+        private long measure(ModelMapper mapper, Object source, Class<?> destinationType, int iterations) {
+
+            Object blackhole = null;
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < iterations; i++) {
+                blackhole = mapper.map(source, destinationType);
+            }
+
+            long time = System.nanoTime() - start;
+
+            assertNotNull(blackhole, () -> "should map object, but was: null");
+
+            return time;
+        }
+    }
+
+    private void assertMappedLikeModelMapper(Object source, Class<?> destinationType) {
+
+        Object expected = modelMapper.map(source, destinationType);
+        Object actual = compiledModelMapper.map(source, destinationType);
+
+        List<String> differences = new ArrayList<>();
+
+        compare(destinationType.getSimpleName(), expected, actual, differences);
+
+        assertAll(() -> assertTrue(compiledModelMapper.isCompiled(destinationType),
+                () -> "should be compiled, but was not"),
+                () -> assertEquals(destinationType, actual.getClass(),
+                        () -> "should return: " + destinationType + ", but was: " + actual.getClass()),
+                () -> assertTrue(differences.isEmpty(),
+                        () -> "should map the same as ModelMapper, but differed in: " + differences));
+    }
+
+    private void compare(String path, Object expected, Object actual, List<String> differences) {
+
+        if (expected == null || actual == null) {
+
+            if (expected != actual) {
+                differences.add(path + " (expected: " + expected + ", actual: " + actual + ")");
+            }
+
+            return;
+        }
+
+        if (expected instanceof Collection && actual instanceof Collection) {
+
+            Collection<?> expectedCollection = (Collection<?>) expected;
+            Collection<?> actualCollection = (Collection<?>) actual;
+
+            if (expectedCollection.size() != actualCollection.size()) {
+
+                differences.add(path + ".size (expected: " + expectedCollection.size() + ", actual: "
+                        + actualCollection.size() + ")");
+
+                return;
+            }
+
+            Iterator<?> expectedIterator = expectedCollection.iterator();
+            Iterator<?> actualIterator = actualCollection.iterator();
+
+            for (int index = 0; expectedIterator.hasNext(); index++) {
+                compare(path + "[" + index + "]", expectedIterator.next(), actualIterator.next(), differences);
+            }
+
+            return;
+        }
+
+        if (!expected.getClass().equals(actual.getClass())) {
+
+            differences.add(path + ".class (expected: " + expected.getClass() + ", actual: " + actual.getClass() + ")");
+
+            return;
+        }
+
+        if (!expected.getClass().getName().startsWith("com.nowakArtur97")) {
+
+            if (!Objects.equals(expected, actual)) {
+                differences.add(path + " (expected: " + expected + ", actual: " + actual + ")");
+            }
+
+            return;
+        }
+
+        for (Class<?> type = expected.getClass(); type != RepresentationModel.class && type != Object.class;
+             type = type.getSuperclass()) {
+
+            for (Field field : type.getDeclaredFields()) {
+
+                if (Modifier.isStatic(field.getModifiers())
+                        || NOT_COMPARED_FIELDS.contains(type.getSimpleName() + "." + field.getName())) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+
+                try {
+                    compare(path + "." + field.getName(), field.get(expected), field.get(actual), differences);
+
+                } catch (IllegalAccessException exception) {
+
+                    throw new IllegalStateException(exception);
+                }
+            }
+        }
+    }
+
+    private Region createRegion(ObjectType type) {
+
+        return regionBuilder.withId(11L).withName("region").build(type);
+    }
+
+    private Country createCountry(ObjectType type) {
+
+        Region region = type == ObjectType.DTO ? null : createRegion(type);
+
+        return countryBuilder.withId(12L).withName("country").withRegion(region).build(type);
+    }
+
+    private Province createProvince(ObjectType type) {
+
+        return provinceBuilder.withId(13L).withName("province").withCountry(createCountry(type)).build(type);
+    }
+
+    private City createCity(ObjectType type) {
+
+        return cityBuilder.withId(14L).withName("city").withLatitude(20.0).withLongitude(40.0)
+                .withProvince(createProvince(type)).build(type);
+    }
+
+    private Target createTarget(ObjectType type) {
+
+        return targetBuilder.withId(15L).withTarget("target").withCountry(createCountry(type)).build(type);
+    }
+
+    private Victim createVictim(ObjectType type) {
+
+        return victimBuilder.withId(16L).withTotalNumberOfFatalities(10L).withNumberOfPerpetratorsFatalities(2L)
+                .withTotalNumberOfInjured(11L).withNumberOfPerpetratorsInjured(3L).withValueOfPropertyDamage(1000L)
+                .build(type);
+    }
+
+    private Event createEvent(ObjectType type) {
+
+        return eventBuilder.withId(17L).withTarget(createTarget(type)).withCity(createCity(type))
+                .withVictim(createVictim(type)).build(type);
+    }
+
+    private Object createGroup(ObjectType type) {
+
+        List<Event> events = List.of(createEvent(type), createEvent(type));
+
+        return groupBuilder.withId(18L).withName("group").withEventsCaused(events).build(type);
+    }
+}
@@ -0,0 +1,58 @@
+package com.nowakArtur97.globalTerrorismAPI.common.pagination;
+
+import com.nowakArtur97.globalTerrorismAPI.common.exception.InvalidCursorException;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("Cursor_Tests")
+class CursorTest {
+
+    @Test
+    void when_encode_and_decode_cursor_with_id_should_return_same_cursor() {
+
+        Cursor cursorExpected = new Cursor(15L);
+
+        String token = cursorExpected.encode();
+        Cursor cursorActual = Cursor.decode(token);
+
+        assertAll(() -> assertEquals(cursorExpected, cursorActual,
+                () -> "should return cursor: " + cursorExpected + ", but was: " + cursorActual),
+                () -> assertFalse(token.contains("15"), () -> "should return opaque token, but was: " + token));
+    }
+
+    @Test
+    void when_encode_and_decode_cursor_with_sort_value_should_return_same_cursor() {
+
+        Cursor cursorExpected = new Cursor(15L, "2019-10-01T00:00:00.000Z");
+
+        String token = cursorExpected.encode();
+        Cursor cursorActual = Cursor.decode(token);
+
+        assertAll(() -> assertEquals(cursorExpected, cursorActual,
+                () -> "should return cursor: " + cursorExpected + ", but was: " + cursorActual),
+                () -> assertTrue(token.matches("[A-Za-z0-9_-]+"),
+                        () -> "should return url safe token, but was: " + token));
+    }
+
+    @Test
+    void when_decode_empty_token_should_return_null() {
+
+        Cursor cursorActual = Cursor.decode("");
+
+        assertNull(cursorActual, () -> "should return null, but was: " + cursorActual);
+    }
+
+    @Test
+    void when_decode_invalid_token_should_throw_exception() {
+
+        assertAll(() -> assertThrows(InvalidCursorException.class, () -> Cursor.decode("not a cursor"),
+                () -> "should throw InvalidCursorException, but nothing was thrown"),
+                () -> assertThrows(InvalidCursorException.class, () -> Cursor.decode("YWJj"),
+                        () -> "should throw InvalidCursorException, but nothing was thrown"));
+    }
+}
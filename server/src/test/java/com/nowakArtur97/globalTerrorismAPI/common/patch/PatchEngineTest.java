@@ -0,0 +1,274 @@
+package com.nowakArtur97.globalTerrorismAPI.common.patch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.SessionFactory;
+
+import javax.json.Json;
+import javax.json.JsonMergePatch;
+import javax.json.JsonPatch;
+import javax.json.JsonValue;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("PatchEngine_Tests")
+class PatchEngineTest {
+
+    private PatchEngine patchEngine;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    private static MetaData metaData;
+
+    private static Validator validator;
+
+    private static ObjectMapper objectMapper;
+
+    @BeforeAll
+    private static void setUpMetaData() {
+
+        metaData = new MetaData(EventNode.class.getPackageName(), CityNode.class.getPackageName(),
+                VictimNode.class.getPackageName());
+
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        objectMapper = new ObjectMapper()
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .findAndRegisterModules();
+    }
+
+    @BeforeEach
+    private void setUp() {
+
+        patchEngine = new PatchEngine(sessionFactory, objectMapper, validator);
+    }
+
+    @Nested
+    @Tag("JsonPatchEngine_Tests")
+    class JsonPatchEngineTest {
+
+        @Test
+        void when_compile_json_patch_replacing_root_properties_should_return_graph_properties() {
+
+            JsonPatch jsonPatch = createJsonPatch("[" +
+                    "{ \"op\": \"replace\", \"path\": \"/summary\", \"value\": \"summary updated\" }," +
+                    "{ \"op\": \"replace\", \"path\": \"/date\", \"value\": \"2001-08-05\" }," +
+                    "{ \"op\": \"replace\", \"path\": \"/isSuicidal\", \"value\": \"false\" }" +
+                    "]");
+
+            Map<String, Object> propertiesExpected = new HashMap<>();
+            propertiesExpected.put("summary", "summary updated");
+            propertiesExpected.put("date", "2001-08-05T00:00:00.000Z");
+            propertiesExpected.put("isSuicidal", false);
+
+            when(sessionFactory.metaData()).thenReturn(metaData);
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonPatch, EventNode.class,
+                    EventDTO.class);
+
+            assertAll(() -> assertTrue(compiledPatchActual.isPresent(),
+                    () -> "should compile patch, but was: " + compiledPatchActual),
+                    () -> assertEquals(propertiesExpected, compiledPatchActual.get().getProperties(),
+                            () -> "should return graph properties: " + propertiesExpected + ", but was: "
+                                    + compiledPatchActual.get().getProperties()),
+                    () -> assertTrue(compiledPatchActual.get().isValid(),
+                            () -> "should not have violations, but was: " + compiledPatchActual.get().getViolations()));
+        }
+
+        @Test
+        void when_compile_json_patch_removing_required_property_should_return_violations_of_changed_properties() {
+
+            JsonPatch jsonPatch = createJsonPatch("[" +
+                    "{ \"op\": \"remove\", \"path\": \"/latitude\" }," +
+                    "{ \"op\": \"add\", \"path\": \"/longitude\", \"value\": 200.0 }" +
+                    "]");
+
+            when(sessionFactory.metaData()).thenReturn(metaData);
+
+            Optional<CompiledPatch<CityDTO>> compiledPatchActual = patchEngine.compile(jsonPatch, CityNode.class,
+                    CityDTO.class);
+
+            assertAll(() -> assertTrue(compiledPatchActual.isPresent(),
+                    () -> "should compile patch, but was: " + compiledPatchActual),
+                    () -> assertTrue(compiledPatchActual.get().getProperties().containsKey("latitude"),
+                            () -> "should remove property, but was: " + compiledPatchActual.get().getProperties()),
+                    () -> assertNull(compiledPatchActual.get().getProperties().get("latitude"),
+                            () -> "should remove property, but was: " + compiledPatchActual.get().getProperties()),
+                    () -> assertEquals(Map.of("latitude", 1L, "longitude", 1L),
+                            getViolatedProperties(compiledPatchActual.get()),
+                            () -> "should validate only changed properties, but was: "
+                                    + compiledPatchActual.get().getViolations()));
+        }
+
+        @Test
+        void when_compile_json_patch_with_nested_path_should_fall_back() {
+
+            JsonPatch jsonPatch = createJsonPatch(
+                    "[{ \"op\": \"replace\", \"path\": \"/target/target\", \"value\": \"target updated\" }]");
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonPatch, EventNode.class,
+                    EventDTO.class);
+
+            assertFalse(compiledPatchActual.isPresent(),
+                    () -> "should not compile nested path, but was: " + compiledPatchActual);
+        }
+
+        @Test
+        void when_compile_json_patch_with_move_operation_should_fall_back() {
+
+            JsonPatch jsonPatch = createJsonPatch("[{ \"op\": \"move\", \"from\": \"/summary\", \"path\": \"/motive\" }]");
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonPatch, EventNode.class,
+                    EventDTO.class);
+
+            assertFalse(compiledPatchActual.isPresent(),
+                    () -> "should not compile move operation, but was: " + compiledPatchActual);
+        }
+
+        @Test
+        void when_compile_json_patch_of_property_missing_in_dto_should_fall_back() {
+
+            JsonPatch jsonPatch = createJsonPatch("[{ \"op\": \"replace\", \"path\": \"/eventId\", \"value\": 1 }]");
+
+            when(sessionFactory.metaData()).thenReturn(metaData);
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonPatch, EventNode.class,
+                    EventDTO.class);
+
+            assertFalse(compiledPatchActual.isPresent(),
+                    () -> "should not compile property missing in DTO, but was: " + compiledPatchActual);
+        }
+
+        @Test
+        void when_compile_json_patch_of_id_should_fall_back() {
+
+            JsonPatch jsonPatch = createJsonPatch("[{ \"op\": \"replace\", \"path\": \"/id\", \"value\": 1 }]");
+
+            when(sessionFactory.metaData()).thenReturn(metaData);
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonPatch, EventNode.class,
+                    EventDTO.class);
+
+            assertFalse(compiledPatchActual.isPresent(),
+                    () -> "should not compile id, but was: " + compiledPatchActual);
+        }
+    }
+
+    @Nested
+    @Tag("JsonMergePatchEngine_Tests")
+    class JsonMergePatchEngineTest {
+
+        @Test
+        void when_compile_json_merge_patch_with_scalar_members_should_return_graph_properties() {
+
+            JsonMergePatch jsonMergePatch = createJsonMergePatch("{ \"name\": \"city updated\", \"latitude\": 20.0 }");
+
+            Map<String, Object> propertiesExpected = Map.of("name", "city updated", "latitude", 20.0);
+
+            when(sessionFactory.metaData()).thenReturn(metaData);
+
+            Optional<CompiledPatch<CityDTO>> compiledPatchActual = patchEngine.compile(jsonMergePatch, CityNode.class,
+                    CityDTO.class);
+
+            assertAll(() -> assertTrue(compiledPatchActual.isPresent(),
+                    () -> "should compile patch, but was: " + compiledPatchActual),
+                    () -> assertEquals(propertiesExpected, compiledPatchActual.get().getProperties(),
+                            () -> "should return graph properties: " + propertiesExpected + ", but was: "
+                                    + compiledPatchActual.get().getProperties()),
+                    () -> assertTrue(compiledPatchActual.get().isValid(),
+                            () -> "should not have violations, but was: " + compiledPatchActual.get().getViolations()));
+        }
+
+        @Test
+        void when_compile_json_merge_patch_with_null_member_should_return_violation() {
+
+            JsonMergePatch jsonMergePatch = createJsonMergePatch("{ \"summary\": null }");
+
+            when(sessionFactory.metaData()).thenReturn(metaData);
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonMergePatch, EventNode.class,
+                    EventDTO.class);
+
+            assertAll(() -> assertTrue(compiledPatchActual.isPresent(),
+                    () -> "should compile patch, but was: " + compiledPatchActual),
+                    () -> assertEquals(Map.of("summary", 1L), getViolatedProperties(compiledPatchActual.get()),
+                            () -> "should have violation, but was: " + compiledPatchActual.get().getViolations()));
+        }
+
+        @Test
+        void when_compile_json_merge_patch_with_object_member_should_fall_back() {
+
+            JsonMergePatch jsonMergePatch = createJsonMergePatch("{ \"target\": { \"target\": \"target updated\" } }");
+
+            Optional<CompiledPatch<EventDTO>> compiledPatchActual = patchEngine.compile(jsonMergePatch, EventNode.class,
+                    EventDTO.class);
+
+            assertFalse(compiledPatchActual.isPresent(),
+                    () -> "should not compile object member, but was: " + compiledPatchActual);
+        }
+
+        @Test
+        void when_compile_json_merge_patch_of_dto_with_class_level_constraints_should_fall_back() {
+
+            JsonMergePatch jsonMergePatch = createJsonMergePatch("{ \"totalNumberOfFatalities\": 10 }");
+
+            Optional<CompiledPatch<VictimDTO>> compiledPatchActual = patchEngine.compile(jsonMergePatch,
+                    VictimNode.class, VictimDTO.class);
+
+            assertFalse(compiledPatchActual.isPresent(),
+                    () -> "should not compile cross-property constraints, but was: " + compiledPatchActual);
+        }
+    }
+
+    private JsonPatch createJsonPatch(String jsonPatch) {
+
+        return Json.createPatch(Json.createReader(new StringReader(jsonPatch)).readArray());
+    }
+
+    private JsonMergePatch createJsonMergePatch(String jsonMergePatch) {
+
+        JsonValue patch = Json.createReader(new StringReader(jsonMergePatch)).readValue();
+
+        return Json.createMergePatch(patch);
+    }
+
+    private Map<String, Long> getViolatedProperties(CompiledPatch<?> compiledPatch) {
+
+        return compiledPatch.getViolations().stream()
+                .map(ConstraintViolation::getPropertyPath)
+                .collect(Collectors.groupingBy(Object::toString, Collectors.counting()));
+    }
+}
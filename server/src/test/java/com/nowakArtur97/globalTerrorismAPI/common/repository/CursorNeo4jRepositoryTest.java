@@ -0,0 +1,227 @@
+package com.nowakArtur97.globalTerrorismAPI.common.repository;
+
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("CursorNeo4jRepository_Tests")
+class CursorNeo4jRepositoryTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Result result;
+
+    @Captor
+    private ArgumentCaptor<String> queryCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<String, Object>> parametersCaptor;
+
+    @Test
+    void when_find_all_by_cursor_and_more_nodes_exist_should_return_page_in_id_order_with_next_cursor() {
+
+        CursorNeo4jRepository<RegionNode> repository = new CursorNeo4jRepository<>(RegionNode.class, session);
+
+        RegionNode regionNode1 = createRegion(11L);
+        RegionNode regionNode2 = createRegion(12L);
+
+        when(session.query(anyString(), anyMap(), eq(true))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(Map.of("id", 11L), Map.of("id", 12L), Map.of("id", 13L)));
+        when(session.loadAll(eq(RegionNode.class), anyCollection(), eq(1))).thenReturn(List.of(regionNode2, regionNode1));
+
+        CursorPage<RegionNode> pageActual = repository.findAll(new Cursor(10L), 2, null, 1);
+
+        verify(session).query(queryCaptor.capture(), parametersCaptor.capture(), eq(true));
+
+        assertAll(() -> assertEquals(List.of(regionNode1, regionNode2), pageActual.getContent(),
+                () -> "should return nodes in cursor order, but was: " + pageActual.getContent()),
+                () -> assertEquals(new Cursor(12L), pageActual.getNext(),
+                        () -> "should return cursor of last node, but was: " + pageActual.getNext()),
+                () -> assertTrue(queryCaptor.getValue().startsWith("MATCH (node:`Region`) WHERE id(node) > $id "),
+                        () -> "should seek past cursor, but was: " + queryCaptor.getValue()),
+                () -> assertFalse(queryCaptor.getValue().contains("SKIP"),
+                        () -> "should not skip rows, but was: " + queryCaptor.getValue()),
+                () -> assertEquals(Map.of("id", 10L, "limit", 3), parametersCaptor.getValue(),
+                        () -> "should fetch one extra row, but was: " + parametersCaptor.getValue()));
+    }
+
+    @Test
+    void when_find_first_page_by_sort_property_should_seek_only_nodes_with_sort_value() {
+
+        CursorNeo4jRepository<EventNode> repository = new CursorNeo4jRepository<>(EventNode.class, session);
+
+        EventNode eventNode1 = new EventNode();
+        eventNode1.setId(21L);
+        EventNode eventNode2 = new EventNode();
+        eventNode2.setId(22L);
+
+        when(session.query(anyString(), anyMap(), eq(true))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(Map.of("id", 21L, "sortValue", "2019-01-01T00:00:00.000Z"),
+                Map.of("id", 22L, "sortValue", "2019-01-02T00:00:00.000Z"),
+                Map.of("id", 23L, "sortValue", "2019-01-03T00:00:00.000Z")));
+        when(session.loadAll(eq(EventNode.class), anyCollection(), eq(4))).thenReturn(List.of(eventNode1, eventNode2));
+
+        CursorPage<EventNode> pageActual = repository.findAll(null, 2, "date", 4);
+
+        verify(session, times(1)).query(queryCaptor.capture(), parametersCaptor.capture(), eq(true));
+
+        assertAll(() -> assertEquals(List.of(eventNode1, eventNode2), pageActual.getContent(),
+                () -> "should return nodes, but was: " + pageActual.getContent()),
+                () -> assertEquals(new Cursor(22L, "2019-01-02T00:00:00.000Z"), pageActual.getNext(),
+                        () -> "should return cursor of last node, but was: " + pageActual.getNext()),
+                () -> assertEquals("MATCH (node:`Event`) WHERE node.`date` IS NOT NULL " +
+                                "RETURN id(node) AS id, node.`date` AS sortValue " +
+                                "ORDER BY node.`date`, id(node) LIMIT $limit", queryCaptor.getValue(),
+                        () -> "should scan only nodes with sort value, but was: " + queryCaptor.getValue()));
+    }
+
+    @Test
+    void when_find_last_page_by_sort_property_should_continue_with_nodes_without_sort_value() {
+
+        CursorNeo4jRepository<EventNode> repository = new CursorNeo4jRepository<>(EventNode.class, session);
+
+        EventNode eventNode1 = new EventNode();
+        eventNode1.setId(21L);
+        EventNode eventNode2 = new EventNode();
+        eventNode2.setId(5L);
+
+        Map<String, Object> rowWithoutValue = new HashMap<>();
+        rowWithoutValue.put("id", 5L);
+        rowWithoutValue.put("sortValue", null);
+
+        when(session.query(anyString(), anyMap(), eq(true))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(Map.of("id", 21L, "sortValue", "2019-01-01T00:00:00.000Z")),
+                List.of(rowWithoutValue));
+        when(session.loadAll(eq(EventNode.class), anyCollection(), eq(4))).thenReturn(List.of(eventNode2, eventNode1));
+
+        CursorPage<EventNode> pageActual = repository.findAll(new Cursor(20L, "2018-12-31T00:00:00.000Z"), 2,
+                "date", 4);
+
+        verify(session, times(2)).query(queryCaptor.capture(), parametersCaptor.capture(), eq(true));
+
+        List<String> queries = queryCaptor.getAllValues();
+        List<Map<String, Object>> parameters = parametersCaptor.getAllValues();
+
+        assertAll(() -> assertEquals(List.of(eventNode1, eventNode2), pageActual.getContent(),
+                () -> "should return nodes with sort value first, but was: " + pageActual.getContent()),
+                () -> assertFalse(pageActual.hasNext(), () -> "should not return next cursor, but was: "
+                        + pageActual.getNext()),
+                () -> assertTrue(queries.get(0).startsWith("MATCH (node:`Event`) WHERE node.`date` >= $sortValue " +
+                                "AND (node.`date` > $sortValue OR id(node) > $id) "),
+                        () -> "should seek by range of sort value, but was: " + queries.get(0)),
+                () -> assertTrue(queries.get(0).endsWith("ORDER BY node.`date`, id(node) LIMIT $limit"),
+                        () -> "should order by sort property and id, but was: " + queries.get(0)),
+                () -> assertEquals(Map.of("sortValue", "2018-12-31T00:00:00.000Z", "id", 20L, "limit", 3),
+                        parameters.get(0), () -> "should seek past cursor sort value, but was: " + parameters.get(0)),
+                () -> assertTrue(queries.get(1).startsWith("MATCH (node:`Event`) WHERE node.`date` IS NULL RETURN"),
+                        () -> "should read nodes without sort value from the start, but was: " + queries.get(1)),
+                () -> assertEquals(Map.of("limit", 2), parameters.get(1),
+                        () -> "should fetch only remaining rows, but was: " + parameters.get(1)));
+    }
+
+    @Test
+    void when_find_page_by_cursor_without_sort_value_should_seek_only_nodes_without_sort_value() {
+
+        CursorNeo4jRepository<EventNode> repository = new CursorNeo4jRepository<>(EventNode.class, session);
+
+        when(session.query(anyString(), anyMap(), eq(true))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of());
+
+        CursorPage<EventNode> pageActual = repository.findAll(new Cursor(5L), 2, "date", 4);
+
+        verify(session, times(1)).query(queryCaptor.capture(), parametersCaptor.capture(), eq(true));
+
+        assertAll(() -> assertTrue(pageActual.getContent().isEmpty(),
+                () -> "should return empty page, but was: " + pageActual.getContent()),
+                () -> assertEquals("MATCH (node:`Event`) WHERE node.`date` IS NULL AND id(node) > $id " +
+                                "RETURN id(node) AS id, null AS sortValue ORDER BY id(node) LIMIT $limit",
+                        queryCaptor.getValue(), () -> "should seek past cursor id, but was: " + queryCaptor.getValue()),
+                () -> assertEquals(Map.of("id", 5L, "limit", 3), parametersCaptor.getValue(),
+                        () -> "should fetch one extra row, but was: " + parametersCaptor.getValue()));
+    }
+
+    @Test
+    void when_find_all_by_cursor_and_no_nodes_exist_should_not_load_nodes() {
+
+        CursorNeo4jRepository<RegionNode> repository = new CursorNeo4jRepository<>(RegionNode.class, session);
+
+        when(session.query(anyString(), anyMap(), eq(true))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of());
+
+        CursorPage<RegionNode> pageActual = repository.findAll(null, 20, null, 1);
+
+        assertAll(() -> assertTrue(pageActual.getContent().isEmpty(),
+                () -> "should return empty page, but was: " + pageActual.getContent()),
+                () -> assertFalse(pageActual.hasNext(), () -> "should not return next cursor, but was: "
+                        + pageActual.getNext()),
+                () -> verify(session, never()).loadAll(eq(RegionNode.class), any(Collection.class), anyInt()));
+    }
+
+    @Test
+    void when_update_properties_of_existing_node_should_set_only_given_properties() {
+
+        CursorNeo4jRepository<EventNode> repository = new CursorNeo4jRepository<>(EventNode.class, session);
+
+        Map<String, Object> properties = Map.of("summary", "summary updated");
+
+        when(session.query(anyString(), anyMap(), eq(false))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(Map.of("id", 21L)));
+
+        boolean isUpdatedActual = repository.updateProperties(21L, properties);
+
+        verify(session).query(queryCaptor.capture(), parametersCaptor.capture(), eq(false));
+
+        assertAll(() -> assertTrue(isUpdatedActual, () -> "should update node, but was: " + isUpdatedActual),
+                () -> assertEquals("MATCH (node:`Event`) WHERE id(node) = $id SET node += $properties RETURN id(node) AS id",
+                        queryCaptor.getValue(), () -> "should set given properties, but was: " + queryCaptor.getValue()),
+                () -> assertEquals(Map.of("id", 21L, "properties", properties), parametersCaptor.getValue(),
+                        () -> "should pass id and properties, but was: " + parametersCaptor.getValue()),
+                () -> verify(session, never()).load(eq(EventNode.class), anyLong(), anyInt()));
+    }
+
+    @Test
+    void when_update_properties_of_not_existing_node_should_return_false() {
+
+        CursorNeo4jRepository<EventNode> repository = new CursorNeo4jRepository<>(EventNode.class, session);
+
+        when(session.query(anyString(), anyMap(), eq(false))).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of());
+
+        boolean isUpdatedActual = repository.updateProperties(21L, Map.of("summary", "summary updated"));
+
+        assertFalse(isUpdatedActual, () -> "should not update node, but was: " + isUpdatedActual);
+    }
+
+    private RegionNode createRegion(Long id) {
+
+        RegionNode regionNode = new RegionNode("region" + id);
+        regionNode.setId(id);
+
+        return regionNode;
+    }
+}
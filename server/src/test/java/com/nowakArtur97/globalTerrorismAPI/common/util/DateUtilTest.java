@@ -0,0 +1,65 @@
+package com.nowakArtur97.globalTerrorismAPI.common.util;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("DateUtil_Tests")
+class DateUtilTest {
+
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    private void setUp() {
+
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void when_convert_graph_date_stored_on_jvm_ahead_of_utc_should_return_local_date_of_import() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Warsaw"));
+
+        LocalDate localDateActual = DateUtil.toLocalDate("2018-12-31T23:00:00.000Z");
+
+        assertEquals(LocalDate.of(2019, 1, 1), localDateActual,
+                () -> "should return date: 2019-01-01, but was: " + localDateActual);
+    }
+
+    @Test
+    void when_convert_graph_date_stored_on_jvm_behind_utc_should_return_local_date_of_import() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+
+        LocalDate localDateActual = DateUtil.toLocalDate("2019-01-01T22:00:00.000Z");
+
+        assertEquals(LocalDate.of(2019, 1, 1), localDateActual,
+                () -> "should return date: 2019-01-01, but was: " + localDateActual);
+    }
+
+    @Test
+    void when_convert_local_date_should_return_graph_date_of_start_of_day_in_default_zone() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Warsaw"));
+
+        String graphDateActual = DateUtil.toGraphDate(LocalDate.of(2019, 1, 1));
+
+        assertEquals("2018-12-31T23:00:00.000Z", graphDateActual,
+                () -> "should return graph date: 2018-12-31T23:00:00.000Z, but was: " + graphDateActual);
+    }
+}
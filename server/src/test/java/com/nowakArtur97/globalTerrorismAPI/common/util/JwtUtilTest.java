@@ -77,4 +77,17 @@ class JwtUtilTest {
 
         assertNotNull(expectedExpirationDate, () -> "shouldn't return token expiration date as null, but was");
     }
+
+    @Test
+    void when_generate_token_should_return_token_with_roles() {
+
+        User userDetails = new User("user123", "Password1@",
+                List.of(new SimpleGrantedAuthority("user"), new SimpleGrantedAuthority("admin")));
+
+        String expectedToken = jwtUtilI.generateToken(userDetails);
+
+        List<String> expectedRoles = jwtUtilI.extractRoles(jwtUtilI.extractAllClaims(expectedToken));
+
+        assertEquals(List.of("admin", "user"), expectedRoles, () -> "should return token with roles: [admin, user], but was: " + expectedRoles);
+    }
 }
@@ -0,0 +1,102 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.schema;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ClientException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("SchemaManager_Tests")
+class SchemaManagerTest {
+
+    private SchemaManager schemaManager;
+
+    @Mock
+    private Driver driver;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Result indexesResult;
+
+    @Mock
+    private Result createResult;
+
+    @BeforeEach
+    private void setUp() {
+
+        schemaManager = new SchemaManager(driver);
+
+        when(driver.session()).thenReturn(session);
+        when(session.run(anyString())).thenReturn(createResult);
+        when(session.run(startsWith("CALL db.indexes()"))).thenReturn(indexesResult);
+
+        Record countryNameIndex = mock(Record.class);
+        when(countryNameIndex.get("name")).thenReturn(Values.value("country_name"));
+        when(countryNameIndex.get("state")).thenReturn(Values.value("ONLINE"));
+        when(countryNameIndex.get("populationPercent")).thenReturn(Values.value(100.0));
+
+        when(indexesResult.hasNext()).thenReturn(true, false);
+        when(indexesResult.next()).thenReturn(countryNameIndex);
+    }
+
+    @Test
+    void when_apply_schema_should_create_missing_elements_and_keep_existing() {
+
+        schemaManager.applySchema();
+
+        Map<SchemaElement, SchemaElementStatus> statuses = schemaManager.getStatuses();
+
+        assertAll(() -> assertEquals(SchemaElementStatus.EXISTING, statuses.get(SchemaElement.COUNTRY_NAME),
+                () -> "should keep existing constraint, but was: " + statuses.get(SchemaElement.COUNTRY_NAME)),
+                () -> assertEquals(SchemaElementStatus.CREATED, statuses.get(SchemaElement.EVENT_DATE),
+                        () -> "should create missing index, but was: " + statuses.get(SchemaElement.EVENT_DATE)),
+                () -> assertEquals(SchemaElement.values().length, statuses.size(),
+                        () -> "should apply all schema elements, but was: " + statuses.size()),
+                () -> verify(session, times(1)).run("CREATE CONSTRAINT country_name IF NOT EXISTS "
+                        + "ON (node:Country) ASSERT node.name IS UNIQUE"),
+                () -> verify(session, times(1)).run("CREATE INDEX city_name_latitude_longitude IF NOT EXISTS "
+                        + "FOR (node:City) ON (node.name, node.latitude, node.longitude)"));
+    }
+
+    @Test
+    void when_creating_schema_element_fails_should_report_failure_and_continue() {
+
+        when(session.run(startsWith("CREATE CONSTRAINT user_email")))
+                .thenThrow(new ClientException("Neo.ClientError.Schema.ConstraintCreationFailed", "duplicated email"));
+
+        schemaManager.applySchema();
+
+        Map<SchemaElement, SchemaElementStatus> statuses = schemaManager.getStatuses();
+
+        when(indexesResult.hasNext()).thenReturn(false);
+
+        Map<String, Object> userEmailDetails = (Map<String, Object>) schemaManager.toDetails().get("user_email");
+
+        assertAll(() -> assertEquals(SchemaElementStatus.FAILED, statuses.get(SchemaElement.USER_EMAIL),
+                () -> "should report failed constraint, but was: " + statuses.get(SchemaElement.USER_EMAIL)),
+                () -> assertEquals(SchemaElementStatus.CREATED, statuses.get(SchemaElement.USER_USER_NAME),
+                        () -> "should create other constraints, but was: " + statuses.get(SchemaElement.USER_USER_NAME)),
+                () -> assertEquals("duplicated email", userEmailDetails.get("failure"),
+                        () -> "should report failure, but was: " + userEmailDetails.get("failure")));
+    }
+}
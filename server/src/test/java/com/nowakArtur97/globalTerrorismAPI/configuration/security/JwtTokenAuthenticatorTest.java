@@ -0,0 +1,134 @@
+package com.nowakArtur97.globalTerrorismAPI.configuration.security;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.JwtUtil;
+import com.nowakArtur97.globalTerrorismAPI.feature.user.shared.CustomUserDetailsService;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("JwtTokenAuthenticator_Tests")
+class JwtTokenAuthenticatorTest {
+
+    private final String SECRET_KEY = "secret";
+
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @BeforeEach
+    private void setUp() {
+
+        jwtUtil = spy(new JwtUtil());
+
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+    }
+
+    @Test
+    void when_authenticate_token_with_roles_should_not_load_user_and_verify_token_once() {
+
+        JwtTokenAuthenticator jwtTokenAuthenticator = new JwtTokenAuthenticator(jwtUtil, customUserDetailsService,
+                true, 100, 60000);
+
+        String token = jwtUtil.generateToken(new User("user123", "Password1@",
+                List.of(new SimpleGrantedAuthority("user"))));
+
+        UserDetails userDetailsActual = jwtTokenAuthenticator.authenticate(token);
+        UserDetails userDetailsFromCacheActual = jwtTokenAuthenticator.authenticate(token);
+
+        assertAll(() -> assertEquals("user123", userDetailsActual.getUsername(),
+                () -> "should return user with name: user123, but was: " + userDetailsActual.getUsername()),
+                () -> assertEquals(List.of(new SimpleGrantedAuthority("user")),
+                        List.copyOf(userDetailsActual.getAuthorities()),
+                        () -> "should return user with roles from token, but was: " + userDetailsActual.getAuthorities()),
+                () -> assertSame(userDetailsActual, userDetailsFromCacheActual,
+                        () -> "should return cached user, but was: " + userDetailsFromCacheActual),
+                () -> verify(jwtUtil, times(1)).extractAllClaims(token),
+                () -> verifyNoInteractions(customUserDetailsService));
+    }
+
+    @Test
+    void when_authenticate_token_without_roles_should_load_user() {
+
+        JwtTokenAuthenticator jwtTokenAuthenticator = new JwtTokenAuthenticator(jwtUtil, customUserDetailsService,
+                true, 100, 60000);
+
+        String token = Jwts.builder().setSubject("user123")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact();
+
+        UserDetails userDetailsExpected = new User("user123", "Password1@",
+                List.of(new SimpleGrantedAuthority("user")));
+
+        when(customUserDetailsService.loadUserByUsername("user123")).thenReturn(userDetailsExpected);
+
+        UserDetails userDetailsActual = jwtTokenAuthenticator.authenticate(token);
+
+        assertAll(() -> assertEquals(userDetailsExpected, userDetailsActual,
+                () -> "should return user: " + userDetailsExpected + ", but was: " + userDetailsActual),
+                () -> verify(customUserDetailsService, times(1)).loadUserByUsername("user123"),
+                () -> verifyNoMoreInteractions(customUserDetailsService));
+    }
+
+    @Test
+    void when_authenticate_token_in_stateful_mode_should_load_user_for_every_request() {
+
+        JwtTokenAuthenticator jwtTokenAuthenticator = new JwtTokenAuthenticator(jwtUtil, customUserDetailsService,
+                false, 100, 60000);
+
+        UserDetails userDetailsExpected = new User("user123", "Password1@",
+                List.of(new SimpleGrantedAuthority("user")));
+
+        String token = jwtUtil.generateToken(userDetailsExpected);
+
+        when(customUserDetailsService.loadUserByUsername("user123")).thenReturn(userDetailsExpected);
+
+        jwtTokenAuthenticator.authenticate(token);
+        jwtTokenAuthenticator.authenticate(token);
+
+        assertAll(() -> verify(jwtUtil, times(2)).extractAllClaims(token),
+                () -> verify(customUserDetailsService, times(2)).loadUserByUsername("user123"),
+                () -> verifyNoMoreInteractions(customUserDetailsService));
+    }
+
+    @Test
+    void when_authenticate_token_without_expiration_should_throw_exception() {
+
+        JwtTokenAuthenticator jwtTokenAuthenticator = new JwtTokenAuthenticator(jwtUtil, customUserDetailsService,
+                true, 100, 60000);
+
+        String token = Jwts.builder().setSubject("user123")
+                .claim(JwtUtil.ROLES_CLAIM, List.of("user"))
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact();
+
+        MalformedJwtException exception = assertThrows(MalformedJwtException.class,
+                () -> jwtTokenAuthenticator.authenticate(token), "should throw MalformedJwtException");
+
+        assertAll(() -> assertEquals("Missing expiration in JWT token.", exception.getMessage(),
+                () -> "should throw exception with message: Missing expiration in JWT token., but was: "
+                        + exception.getMessage()),
+                () -> verifyNoInteractions(customUserDetailsService));
+    }
+}
@@ -0,0 +1,131 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("BulkEventRecordWriter_Tests")
+class BulkEventRecordWriterTest {
+
+    @Mock
+    private Driver driver;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Transaction transaction;
+
+    @Test
+    void when_write_records_should_send_one_query_per_batch_and_commit_every_interval() {
+
+        BulkEventRecordWriter bulkEventRecordWriter = createWriter(2, 2);
+
+        when(driver.session()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+
+        for (int i = 0; i < 5; i++) {
+            bulkEventRecordWriter.write(createEventRecord());
+        }
+
+        bulkEventRecordWriter.flush();
+
+        assertAll(() -> verify(driver, times(1)).session(),
+                () -> verify(session, times(2)).beginTransaction(),
+                () -> verify(transaction, times(3)).run(anyString(), any(Value.class)),
+                () -> verify(transaction, times(2)).commit(),
+                () -> verify(session, times(1)).close());
+    }
+
+    @Test
+    void when_write_less_records_than_batch_size_should_write_them_on_flush() {
+
+        BulkEventRecordWriter bulkEventRecordWriter = createWriter(10, 1);
+
+        when(driver.session()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+
+        bulkEventRecordWriter.write(createEventRecord());
+        bulkEventRecordWriter.write(createEventRecord());
+
+        verifyNoInteractions(driver);
+
+        bulkEventRecordWriter.flush();
+
+        assertAll(() -> verify(transaction, times(1)).run(anyString(), any(Value.class)),
+                () -> verify(transaction, times(1)).commit(),
+                () -> verify(session, times(1)).close());
+    }
+
+    @Test
+    void when_flush_without_records_should_not_open_session() {
+
+        BulkEventRecordWriter bulkEventRecordWriter = createWriter(10, 1);
+
+        bulkEventRecordWriter.flush();
+
+        verifyNoInteractions(driver);
+    }
+
+    @Test
+    void when_write_fails_and_writer_is_closed_should_roll_back_transaction_and_close_session() {
+
+        BulkEventRecordWriter bulkEventRecordWriter = createWriter(1, 10);
+
+        when(driver.session()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        when(transaction.run(anyString(), any(Value.class)))
+                .thenReturn(null)
+                .thenThrow(new IllegalStateException("Constraint violation"));
+
+        bulkEventRecordWriter.write(createEventRecord());
+
+        assertThrows(IllegalStateException.class, () -> bulkEventRecordWriter.write(createEventRecord()),
+                "should throw IllegalStateException");
+
+        bulkEventRecordWriter.close();
+        bulkEventRecordWriter.close();
+
+        assertAll(() -> verify(transaction, never()).commit(),
+                () -> verify(transaction, times(1)).close(),
+                () -> verify(session, times(1)).close());
+    }
+
+    private BulkEventRecordWriter createWriter(int batchSize, int commitInterval) {
+
+        return new BulkEventRecordWriter(driver,
+                new ImportConfigurationProperties(false, false, ImportMode.BULK, batchSize, commitInterval, 1, 1, null, null));
+    }
+
+    private EventRecord createEventRecord() {
+
+        return EventRecord.builder()
+                .regionName("region").countryName("country").provinceName("province").cityName("city")
+                .cityLatitude(10.0).cityLongitude(20.0)
+                .summary("summary").motive("motive").date(new Date())
+                .isPartOfMultipleIncidents(true).isSuccessful(false).isSuicidal(true)
+                .target("target")
+                .totalNumberOfFatalities(1L).numberOfPerpetratorsFatalities(0L)
+                .totalNumberOfInjured(2L).numberOfPerpetratorsInjured(0L).valueOfPropertyDamage(100L)
+                .groupName("group").isGroupUnknown(false)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("CsvEventRowReader_Tests")
+class CsvEventRowReaderTest {
+
+    private Path csvFile;
+
+    @AfterEach
+    private void tearDown() throws IOException {
+
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Test
+    void when_read_quoted_fields_should_unescape_quotes_and_keep_line_breaks() throws IOException, InterruptedException {
+
+        csvFile = createCsvFile("eventid,iyear,imonth\r\n"
+                + createRow(1, 1970, "\"Summary with \"\"quotes\"\", commas\nand line break\"") + "\r\n"
+                + createRow(2, 1971, "plain summary") + "\r\n");
+
+        RecordingEventRowListener listener = read(new ImportSamplingProperties(true, 1, null, null, null, null));
+
+        assertAll(() -> assertEquals(2, listener.selectedRows.size(),
+                () -> "should select: 2 rows, but was: " + listener.selectedRows.size()),
+                () -> assertEquals("Summary with \"quotes\", commas\nand line break",
+                        listener.selectedRows.get(0).getValue(XlsxColumnType.EVENT_SUMMARY),
+                        () -> "should unescape quoted value, but was: "
+                                + listener.selectedRows.get(0).getValue(XlsxColumnType.EVENT_SUMMARY)),
+                () -> assertEquals("1971", listener.selectedRows.get(1).getValue(XlsxColumnType.YEAR_OF_EVENT),
+                        () -> "should read year: 1971, but was: "
+                                + listener.selectedRows.get(1).getValue(XlsxColumnType.YEAR_OF_EVENT)),
+                () -> assertEquals("country 2", listener.selectedRows.get(1).getValue(XlsxColumnType.COUNTRY_NAME),
+                        () -> "should read country: country 2, but was: "
+                                + listener.selectedRows.get(1).getValue(XlsxColumnType.COUNTRY_NAME)),
+                () -> assertEquals("group 2", listener.selectedRows.get(1).getValue(XlsxColumnType.GROUP_NAME),
+                        () -> "should read group: group 2, but was: "
+                                + listener.selectedRows.get(1).getValue(XlsxColumnType.GROUP_NAME)));
+    }
+
+    @Test
+    void when_read_with_stride_and_year_range_should_skip_rows() throws IOException, InterruptedException {
+
+        StringBuilder content = new StringBuilder("eventid,iyear\n");
+
+        for (int rowNum = 1; rowNum <= 20; rowNum++) {
+            content.append(createRow(rowNum, 2000 + rowNum, "\"skipped\nsummary\"")).append("\n");
+        }
+
+        csvFile = createCsvFile(content.toString());
+
+        RecordingEventRowListener listener = read(new ImportSamplingProperties(false, 2, 1, 15, 2005, 2020));
+
+        List<Integer> rowNums = new ArrayList<>();
+        listener.selectedRows.forEach(eventRow -> rowNums.add(eventRow.getRowNum()));
+
+        assertAll(() -> assertEquals(List.of(5, 7, 9, 11, 13, 15), rowNums,
+                () -> "should select rows: [5, 7, 9, 11, 13, 15], but was: " + rowNums),
+                () -> assertEquals(16, listener.rowsRead,
+                        () -> "should stop reading after row: 15, but read: " + listener.rowsRead),
+                () -> assertEquals(20, listener.numberOfRows,
+                        () -> "should estimate: 20 rows, but was: " + listener.numberOfRows));
+    }
+
+    private RecordingEventRowListener read(ImportSamplingProperties importSamplingProperties)
+            throws IOException, InterruptedException {
+
+        RecordingEventRowListener listener = new RecordingEventRowListener();
+
+        new CsvEventRowReader(csvFile, new EventRowSampler(importSamplingProperties), StandardCharsets.ISO_8859_1)
+                .read(listener);
+
+        return listener;
+    }
+
+    private String createRow(int rowNum, int year, String summary) {
+
+        List<String> values = new ArrayList<>(Collections.nCopies(XlsxColumnType.getNumberOfColumns() + 10, ""));
+
+        values.set(0, String.valueOf(rowNum));
+        values.set(XlsxColumnType.YEAR_OF_EVENT.getIndex(), String.valueOf(year));
+        values.set(XlsxColumnType.COUNTRY_NAME.getIndex(), "country " + rowNum);
+        values.set(XlsxColumnType.EVENT_SUMMARY.getIndex(), summary);
+        values.set(XlsxColumnType.GROUP_NAME.getIndex(), "group " + rowNum);
+
+        return String.join(",", values);
+    }
+
+    private Path createCsvFile(String content) throws IOException {
+
+        Path file = Files.createTempFile("events", ".csv");
+
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+
+        return file;
+    }
+
+    private static class RecordingEventRowListener implements EventRowListener {
+
+        private final List<EventRow> selectedRows = new ArrayList<>();
+
+        private long numberOfRows;
+
+        private int rowsRead;
+
+        @Override
+        public void onNumberOfRows(long numberOfRows) {
+
+            this.numberOfRows = numberOfRows;
+        }
+
+        @Override
+        public void onRowRead() {
+
+            rowsRead++;
+        }
+
+        @Override
+        public void onRowSelected(EventRow eventRow) {
+
+            selectedRows.add(eventRow);
+        }
+    }
+}
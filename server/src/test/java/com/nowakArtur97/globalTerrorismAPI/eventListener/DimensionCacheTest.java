@@ -0,0 +1,69 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("DimensionCache_Tests")
+class DimensionCacheTest {
+
+    private DimensionCache<List<Object>, String> dimensionCache;
+
+    @BeforeEach
+    private void setUp() {
+
+        dimensionCache = new DimensionCache<>("City");
+    }
+
+    @Test
+    void when_resolve_same_natural_key_should_call_loader_once_and_count_hits() {
+
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        String firstValue = dimensionCache.resolve(DimensionCache.key("city", 10.0, 20.0),
+                key -> "city" + loaderCalls.incrementAndGet());
+        String secondValue = dimensionCache.resolve(DimensionCache.key("city", 10.0, 20.0),
+                key -> "city" + loaderCalls.incrementAndGet());
+
+        assertAll(() -> assertEquals("city1", firstValue, () -> "should return loaded value: city1, but was: " + firstValue),
+                () -> assertEquals(firstValue, secondValue, () -> "should return cached value: " + firstValue + ", but was: " + secondValue),
+                () -> assertEquals(1, loaderCalls.get(), () -> "should call loader once, but was: " + loaderCalls.get()),
+                () -> assertEquals(1, dimensionCache.getHits(), () -> "should count one hit, but was: " + dimensionCache.getHits()),
+                () -> assertEquals(1, dimensionCache.getMisses(), () -> "should count one miss, but was: " + dimensionCache.getMisses()),
+                () -> assertEquals(1, dimensionCache.size(), () -> "should contain one value, but was: " + dimensionCache.size()));
+    }
+
+    @Test
+    void when_resolve_different_natural_keys_should_count_misses() {
+
+        dimensionCache.resolve(DimensionCache.key("city", 10.0, 20.0), key -> "city");
+        dimensionCache.resolve(DimensionCache.key("city", 10.0, 21.0), key -> "city with other longitude");
+        dimensionCache.resolve(DimensionCache.key("other city", 10.0, 20.0), key -> "other city");
+
+        assertAll(() -> assertEquals(0, dimensionCache.getHits(), () -> "should not count hits, but was: " + dimensionCache.getHits()),
+                () -> assertEquals(3, dimensionCache.getMisses(), () -> "should count three misses, but was: " + dimensionCache.getMisses()),
+                () -> assertEquals(3, dimensionCache.size(), () -> "should contain three values, but was: " + dimensionCache.size()));
+    }
+
+    @Test
+    void when_clear_should_remove_values_and_reset_counters() {
+
+        dimensionCache.resolve(DimensionCache.key("city", 10.0, 20.0), key -> "city");
+        dimensionCache.resolve(DimensionCache.key("city", 10.0, 20.0), key -> "city");
+
+        dimensionCache.clear();
+
+        assertAll(() -> assertEquals(0, dimensionCache.getHits(), () -> "should reset hits, but was: " + dimensionCache.getHits()),
+                () -> assertEquals(0, dimensionCache.getMisses(), () -> "should reset misses, but was: " + dimensionCache.getMisses()),
+                () -> assertEquals(0, dimensionCache.size(), () -> "should be empty, but was: " + dimensionCache.size()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportInProgressFilter_Tests")
+class ImportInProgressFilterTest {
+
+    private ImportInProgressFilter importInProgressFilter;
+
+    private ImportProgress importProgress;
+
+    @BeforeEach
+    private void setUp() {
+
+        importProgress = new ImportProgress();
+
+        importInProgressFilter = new ImportInProgressFilter(importProgress, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void when_get_resource_during_import_should_return_service_unavailable_with_retry_after()
+            throws ServletException, IOException {
+
+        importProgress.start(false);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        importInProgressFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/events"), response, filterChain);
+
+        assertAll(() -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus(),
+                () -> "should return status: " + HttpStatus.SERVICE_UNAVAILABLE.value() + ", but was: " + response.getStatus()),
+                () -> assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER),
+                        () -> "should return Retry-After header, but was: null"),
+                () -> assertNull(filterChain.getRequest(), () -> "should not pass request to controller"));
+    }
+
+    @Test
+    void when_modify_resource_during_import_should_pass_request() throws ServletException, IOException {
+
+        importProgress.start(false);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        importInProgressFilter.doFilter(new MockHttpServletRequest("POST", "/api/v1/events"), response, filterChain);
+
+        assertAll(() -> assertEquals(HttpStatus.OK.value(), response.getStatus(),
+                () -> "should return status: " + HttpStatus.OK.value() + ", but was: " + response.getStatus()),
+                () -> assertNotNull(filterChain.getRequest(), () -> "should pass request to controller"));
+    }
+
+    @Test
+    void when_get_resource_after_import_should_pass_request() throws ServletException, IOException {
+
+        importProgress.start(false);
+        importProgress.complete();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        importInProgressFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/events"), response, filterChain);
+
+        assertAll(() -> assertEquals(HttpStatus.OK.value(), response.getStatus(),
+                () -> "should return status: " + HttpStatus.OK.value() + ", but was: " + response.getStatus()),
+                () -> assertNull(response.getHeader(HttpHeaders.RETRY_AFTER),
+                        () -> "should not return Retry-After header, but was: " + response.getHeader(HttpHeaders.RETRY_AFTER)),
+                () -> assertNotNull(filterChain.getRequest(), () -> "should pass request to controller"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportPipeline_Tests")
+class ImportPipelineTest {
+
+    private ImportPipeline importPipeline;
+
+    private MeterRegistry meterRegistry;
+
+    private ImportProgress importProgress;
+
+    @Mock
+    private EventRecordMapper eventRecordMapper;
+
+    @Mock
+    private EventRecordWriter eventRecordWriter;
+
+    @BeforeEach
+    private void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        importProgress = new ImportProgress();
+
+        importPipeline = new ImportPipeline(eventRecordMapper, importProgress,
+                new ImportConfigurationProperties(false, false, ImportMode.BULK, 10, 1, 3, 2, null, null), meterRegistry);
+    }
+
+    @Test
+    void when_run_pipeline_should_write_every_filtered_row_and_flush_once() {
+
+        EventRecord eventRecord = EventRecord.builder().regionName("region").build();
+
+        when(eventRecordMapper.map(any(EventRow.class))).thenReturn(eventRecord);
+
+        importPipeline.run(createReader(1000, 2), eventRecordWriter);
+
+        double writtenRows = meterRegistry.get("app.import.pipeline.rows").tag("stage", "write").counter().count();
+        Map<String, Object> progressDetails = importProgress.toDetails();
+
+        assertAll(() -> verify(eventRecordMapper, times(500)).map(any(EventRow.class)),
+                () -> verify(eventRecordWriter, times(500)).write(eventRecord),
+                () -> verify(eventRecordWriter, times(1)).flush(),
+                () -> verify(eventRecordWriter, times(1)).close(),
+                () -> assertEquals(500, writtenRows, () -> "should count 500 written rows, but was: " + writtenRows),
+                () -> assertEquals(1000L, progressDetails.get("rowsRead"),
+                        () -> "should report 1000 read rows, but was: " + progressDetails.get("rowsRead")),
+                () -> assertEquals(500L, progressDetails.get("rowsWritten"),
+                        () -> "should report 500 written rows, but was: " + progressDetails.get("rowsWritten")));
+    }
+
+    @Test
+    void when_worker_fails_should_throw_exception_and_close_writer_without_flush() {
+
+        when(eventRecordMapper.map(any(EventRow.class))).thenThrow(new IllegalArgumentException("Invalid row"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> importPipeline.run(createReader(1000, 1), eventRecordWriter),
+                "should throw IllegalStateException");
+
+        assertAll(() -> assertTrue(exception.getCause() instanceof IllegalArgumentException,
+                () -> "should contain worker exception as cause, but was: " + exception.getCause()),
+                () -> verify(eventRecordWriter, never()).flush(),
+                () -> verify(eventRecordWriter, times(1)).close());
+    }
+
+    @Test
+    void when_writer_fails_should_throw_exception_and_close_writer() {
+
+        EventRecord eventRecord = EventRecord.builder().regionName("region").build();
+
+        when(eventRecordMapper.map(any(EventRow.class))).thenReturn(eventRecord);
+        doThrow(new IllegalStateException("Constraint violation")).when(eventRecordWriter).write(eventRecord);
+
+        assertThrows(IllegalStateException.class, () -> importPipeline.run(createReader(1000, 1), eventRecordWriter),
+                "should throw IllegalStateException");
+
+        assertAll(() -> verify(eventRecordWriter, never()).flush(),
+                () -> verify(eventRecordWriter, times(1)).close());
+    }
+
+    private EventRowReader createReader(int numberOfRows, int stride) {
+
+        return eventRowListener -> {
+
+            eventRowListener.onNumberOfRows(numberOfRows);
+
+            for (int rowNum = 0; rowNum < numberOfRows; rowNum++) {
+
+                eventRowListener.onRowRead();
+
+                if (rowNum % stride == 0) {
+                    eventRowListener.onRowSelected(new EventRow(rowNum, new String[0]));
+                }
+            }
+        };
+    }
+}
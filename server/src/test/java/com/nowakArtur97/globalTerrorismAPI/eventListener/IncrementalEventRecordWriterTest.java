@@ -0,0 +1,151 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("IncrementalEventRecordWriter_Tests")
+class IncrementalEventRecordWriterTest {
+
+    @Mock
+    private Driver driver;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Transaction transaction;
+
+    @Mock
+    private Result result;
+
+    @Mock
+    private EventRecordWriter eventRecordWriter;
+
+    @BeforeEach
+    private void setUp() {
+
+        when(driver.session()).thenReturn(session);
+        when(session.run(anyString())).thenReturn(result);
+
+        Record unchangedEvent = createImportedEvent(1L, 101L, 1001L);
+        Record changedEvent = createImportedEvent(2L, 102L, 1002L);
+        Record removedEvent = createImportedEvent(3L, 103L, 1003L);
+
+        when(result.hasNext()).thenReturn(true, true, true, false);
+        when(result.next()).thenReturn(unchangedEvent, changedEvent, removedEvent);
+    }
+
+    @Test
+    void when_write_records_should_skip_unchanged_and_replace_changed_and_removed_events() {
+
+        when(session.beginTransaction()).thenReturn(transaction);
+
+        IncrementalEventRecordWriter incrementalEventRecordWriter =
+                new IncrementalEventRecordWriter(driver, eventRecordWriter, 100, true);
+
+        EventRecord unchangedRecord = createEventRecord(1L, 1001L);
+        EventRecord changedRecord = createEventRecord(2L, 9999L);
+        EventRecord newRecord = createEventRecord(4L, 1004L);
+
+        incrementalEventRecordWriter.write(unchangedRecord);
+        incrementalEventRecordWriter.write(changedRecord);
+        incrementalEventRecordWriter.write(newRecord);
+        incrementalEventRecordWriter.flush();
+
+        ArgumentCaptor<Value> parametersCaptor = ArgumentCaptor.forClass(Value.class);
+
+        assertAll(() -> verify(eventRecordWriter, never()).write(unchangedRecord),
+                () -> verify(eventRecordWriter, times(1)).write(changedRecord),
+                () -> verify(eventRecordWriter, times(1)).write(newRecord),
+                () -> verify(eventRecordWriter, times(1)).flush(),
+                () -> verify(transaction, times(1)).run(anyString(), parametersCaptor.capture()),
+                () -> assertEquals(List.of(102L, 103L), parametersCaptor.getValue().get("nodeIds").asList(),
+                        () -> "should delete changed and removed events, but was: "
+                                + parametersCaptor.getValue().get("nodeIds").asList()),
+                () -> verify(transaction, times(1)).commit());
+    }
+
+    @Test
+    void when_write_sampled_records_should_not_delete_events_missing_from_sample() {
+
+        IncrementalEventRecordWriter incrementalEventRecordWriter =
+                new IncrementalEventRecordWriter(driver, eventRecordWriter, 100, false);
+
+        incrementalEventRecordWriter.write(createEventRecord(1L, 1001L));
+        incrementalEventRecordWriter.flush();
+
+        assertAll(() -> verify(eventRecordWriter, never()).write(any(EventRecord.class)),
+                () -> verify(eventRecordWriter, times(1)).flush(),
+                () -> verify(session, never()).beginTransaction());
+    }
+
+    @Test
+    void when_delete_events_of_same_group_in_one_batch_should_delete_group_after_all_its_events() {
+
+        when(session.beginTransaction()).thenReturn(transaction);
+
+        IncrementalEventRecordWriter incrementalEventRecordWriter =
+                new IncrementalEventRecordWriter(driver, eventRecordWriter, 100, true);
+
+        incrementalEventRecordWriter.flush();
+
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Value> parametersCaptor = ArgumentCaptor.forClass(Value.class);
+
+        verify(transaction, times(1)).run(queryCaptor.capture(), parametersCaptor.capture());
+
+        String query = queryCaptor.getValue();
+        int eventsDeletionIndex = query.indexOf("DETACH DELETE node");
+        int orphanedGroupsIndex = query.indexOf("NOT (group)-[:CARRIES_OUT]->()");
+
+        assertAll(() -> assertEquals(List.of(101L, 102L, 103L), parametersCaptor.getValue().get("nodeIds").asList(),
+                () -> "should delete all removed events in one statement, but was: "
+                        + parametersCaptor.getValue().get("nodeIds").asList()),
+                () -> assertTrue(eventsDeletionIndex >= 0 && orphanedGroupsIndex > eventsDeletionIndex,
+                        () -> "should look for groups without events after deleting events, but was: " + query),
+                () -> assertFalse(query.contains("UNWIND"),
+                        () -> "should not check remaining events of group per deleted event, but was: " + query),
+                () -> verify(transaction, times(1)).commit());
+    }
+
+    private Record createImportedEvent(long eventId, long nodeId, long fingerprint) {
+
+        Record record = mock(Record.class);
+
+        when(record.get("eventId")).thenReturn(Values.value(eventId));
+        when(record.get("nodeId")).thenReturn(Values.value(nodeId));
+        when(record.get("fingerprint")).thenReturn(Values.value(fingerprint));
+
+        return record;
+    }
+
+    private EventRecord createEventRecord(Long eventId, long fingerprint) {
+
+        return EventRecord.builder().eventId(eventId).fingerprint(fingerprint).regionName("region").build();
+    }
+}
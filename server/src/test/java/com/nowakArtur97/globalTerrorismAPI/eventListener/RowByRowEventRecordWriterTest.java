@@ -0,0 +1,175 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.city.CityService;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.group.GroupService;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceReference;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionService;
+import com.nowakArtur97.globalTerrorismAPI.feature.target.TargetService;
+import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimService;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CityBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.EventBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.ProvinceBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("RowByRowEventRecordWriter_Tests")
+class RowByRowEventRecordWriterTest {
+
+    private RowByRowEventRecordWriter rowByRowEventRecordWriter;
+
+    @Mock
+    private TargetService targetService;
+
+    @Mock
+    private GenericService<EventNode, EventDTO> eventService;
+
+    @Mock
+    private GroupService groupService;
+
+    @Mock
+    private ProvinceService provinceService;
+
+    @Mock
+    private CountryService countryService;
+
+    @Mock
+    private RegionService regionService;
+
+    @Mock
+    private CityService cityService;
+
+    @Mock
+    private VictimService victimService;
+
+    private static RegionBuilder regionBuilder;
+    private static CountryBuilder countryBuilder;
+    private static ProvinceBuilder provinceBuilder;
+    private static CityBuilder cityBuilder;
+    private static EventBuilder eventBuilder;
+
+    @BeforeAll
+    private static void setUpBuilders() {
+
+        regionBuilder = new RegionBuilder();
+        countryBuilder = new CountryBuilder();
+        provinceBuilder = new ProvinceBuilder();
+        cityBuilder = new CityBuilder();
+        eventBuilder = new EventBuilder();
+    }
+
+    @BeforeEach
+    private void setUp() {
+
+        rowByRowEventRecordWriter = new RowByRowEventRecordWriter(targetService, eventService, groupService,
+                provinceService, countryService, regionService, cityService, victimService);
+    }
+
+    @Test
+    void when_write_records_of_existing_dimensions_and_group_should_reuse_existing_nodes() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        CountryNode countryNode = (CountryNode) countryBuilder.withRegion(regionNode).build(ObjectType.NODE);
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        CityNode cityNode = (CityNode) cityBuilder.withProvince(provinceNode).build(ObjectType.NODE);
+        GroupNode groupNode = new GroupNode(10L, "group", new ArrayList<>());
+        EventNode firstEventNode = (EventNode) eventBuilder.withId(21L).build(ObjectType.NODE);
+        EventNode secondEventNode = (EventNode) eventBuilder.withId(22L).build(ObjectType.NODE);
+
+        when(regionService.findIdByName("region")).thenReturn(Optional.of(regionNode.getId()));
+        when(regionService.findById(regionNode.getId())).thenReturn(Optional.of(regionNode));
+        when(countryService.findReferenceByName("country")).thenReturn(Optional.of(new CountryReference(countryNode)));
+        when(provinceService.findReferenceByNameAndCountryName("province", "country"))
+                .thenReturn(Optional.of(new ProvinceReference(provinceNode)));
+        when(cityService.findByNameAndLatitudeAndLongitude("city", 45.0, 45.0)).thenReturn(Optional.of(cityNode));
+        when(eventService.save(any(EventNode.class))).thenReturn(firstEventNode, secondEventNode);
+        when(groupService.findByName("group")).thenReturn(Optional.of(groupNode));
+
+        rowByRowEventRecordWriter.write(createEventRecord(1L));
+        rowByRowEventRecordWriter.write(createEventRecord(2L));
+        rowByRowEventRecordWriter.flush();
+
+        assertAll(() -> verify(regionService, times(1)).findIdByName("region"),
+                () -> verify(regionService, never()).save(any(RegionNode.class)),
+                () -> verify(countryService, times(1)).findReferenceByName("country"),
+                () -> verify(countryService, never()).findById(any()),
+                () -> verify(countryService, never()).save(any(CountryNode.class)),
+                () -> verify(provinceService, times(1)).findReferenceByNameAndCountryName("province", "country"),
+                () -> verify(provinceService, never()).findById(any(), anyInt()),
+                () -> verify(provinceService, never()).save(any(ProvinceNode.class)),
+                () -> verify(cityService, times(1)).findByNameAndLatitudeAndLongitude("city", 45.0, 45.0),
+                () -> verify(cityService, never()).save(any(CityNode.class)),
+                () -> verify(eventService, times(2)).save(any(EventNode.class)),
+                () -> verify(groupService, times(1)).findByName("group"),
+                () -> verify(groupService, times(1)).addEvents(10L, List.of(firstEventNode, secondEventNode)),
+                () -> verify(groupService, never()).save(any(GroupNode.class)));
+    }
+
+    @Test
+    void when_write_records_of_new_dimensions_and_group_should_save_new_nodes() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        CountryNode countryNode = (CountryNode) countryBuilder.withRegion(regionNode).build(ObjectType.NODE);
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        CityNode cityNode = (CityNode) cityBuilder.withProvince(provinceNode).build(ObjectType.NODE);
+        EventNode eventNode = (EventNode) eventBuilder.build(ObjectType.NODE);
+
+        when(regionService.findIdByName("region")).thenReturn(Optional.empty());
+        when(regionService.save(any(RegionNode.class))).thenReturn(regionNode);
+        when(countryService.findReferenceByName("country")).thenReturn(Optional.empty());
+        when(countryService.save(any(CountryNode.class))).thenReturn(countryNode);
+        when(provinceService.findReferenceByNameAndCountryName("province", "country")).thenReturn(Optional.empty());
+        when(provinceService.save(any(ProvinceNode.class))).thenReturn(provinceNode);
+        when(cityService.findByNameAndLatitudeAndLongitude("city", 45.0, 45.0)).thenReturn(Optional.empty());
+        when(cityService.save(any(CityNode.class))).thenReturn(cityNode);
+        when(eventService.save(any(EventNode.class))).thenReturn(eventNode);
+        when(groupService.findByName("group")).thenReturn(Optional.empty());
+
+        rowByRowEventRecordWriter.write(createEventRecord(1L));
+        rowByRowEventRecordWriter.flush();
+
+        assertAll(() -> verify(regionService, times(1)).save(any(RegionNode.class)),
+                () -> verify(countryService, times(1)).save(any(CountryNode.class)),
+                () -> verify(provinceService, times(1)).save(any(ProvinceNode.class)),
+                () -> verify(cityService, times(1)).save(any(CityNode.class)),
+                () -> verify(groupService, times(1)).save(any(GroupNode.class)),
+                () -> verify(groupService, never()).addEvents(any(), any()));
+    }
+
+    private EventRecord createEventRecord(Long eventId) {
+
+        return EventRecord.builder().eventId(eventId).regionName("region").countryName("country")
+                .provinceName("province").cityName("city").cityLatitude(45.0).cityLongitude(45.0)
+                .target("target").groupName("group").build();
+    }
+}
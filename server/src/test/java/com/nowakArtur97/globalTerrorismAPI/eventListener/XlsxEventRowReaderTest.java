@@ -0,0 +1,162 @@
+package com.nowakArtur97.globalTerrorismAPI.eventListener;
+
+import com.nowakArtur97.globalTerrorismAPI.common.util.XlsxUtil;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("XlsxEventRowReader_Tests")
+class XlsxEventRowReaderTest {
+
+    private static final int NUMBER_OF_DATA_ROWS = 20;
+
+    private static Path xlsxFile;
+
+    @BeforeAll
+    private static void setUpFile() throws IOException {
+
+        xlsxFile = Files.createTempFile("events", ".xlsx");
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(xlsxFile)) {
+
+            Sheet sheet = workbook.createSheet();
+
+            Row header = sheet.createRow(0);
+            header.createCell(XlsxColumnType.YEAR_OF_EVENT.getIndex()).setCellValue("iyear");
+            header.createCell(XlsxColumnType.COUNTRY_NAME.getIndex()).setCellValue("country_txt");
+
+            for (int rowNum = 1; rowNum <= NUMBER_OF_DATA_ROWS; rowNum++) {
+
+                Row row = sheet.createRow(rowNum);
+                row.createCell(XlsxColumnType.YEAR_OF_EVENT.getIndex()).setCellValue(2000 + rowNum);
+                row.createCell(XlsxColumnType.COUNTRY_NAME.getIndex()).setCellValue("country " + rowNum);
+                row.createCell(XlsxColumnType.GROUP_NAME.getIndex()).setCellValue("group");
+            }
+
+            workbook.write(outputStream);
+        }
+    }
+
+    @AfterAll
+    private static void tearDown() throws IOException {
+
+        Files.deleteIfExists(xlsxFile);
+    }
+
+    @Test
+    void when_read_with_full_load_should_select_every_data_row() throws IOException, InterruptedException {
+
+        RecordingEventRowListener listener = read(new ImportSamplingProperties(true, 850, null, null, null, null));
+
+        assertAll(() -> assertEquals(NUMBER_OF_DATA_ROWS, listener.selectedRows.size(),
+                () -> "should select: " + NUMBER_OF_DATA_ROWS + " rows, but was: " + listener.selectedRows.size()),
+                () -> assertEquals(NUMBER_OF_DATA_ROWS + 1, listener.rowsRead,
+                        () -> "should read: " + (NUMBER_OF_DATA_ROWS + 1) + " rows, but was: " + listener.rowsRead),
+                () -> assertEquals(NUMBER_OF_DATA_ROWS, listener.numberOfRows,
+                        () -> "should report: " + NUMBER_OF_DATA_ROWS + " rows, but was: " + listener.numberOfRows),
+                () -> assertEquals("country 1", listener.selectedRows.get(0).getValue(XlsxColumnType.COUNTRY_NAME),
+                        () -> "should read shared string value, but was: "
+                                + listener.selectedRows.get(0).getValue(XlsxColumnType.COUNTRY_NAME)),
+                () -> assertEquals(2001, XlsxUtil.parseInt(listener.selectedRows.get(0).getValue(XlsxColumnType.YEAR_OF_EVENT)),
+                        () -> "should read numeric value, but was: "
+                                + listener.selectedRows.get(0).getValue(XlsxColumnType.YEAR_OF_EVENT)),
+                () -> assertEquals("", listener.selectedRows.get(0).getValue(XlsxColumnType.CITY_NAME),
+                        () -> "should return empty value for missing cell, but was: "
+                                + listener.selectedRows.get(0).getValue(XlsxColumnType.CITY_NAME)));
+    }
+
+    @Test
+    void when_read_with_stride_should_select_every_nth_row() throws IOException, InterruptedException {
+
+        RecordingEventRowListener listener = read(new ImportSamplingProperties(false, 5, 1, null, null, null));
+
+        assertAll(() -> assertEquals(4, listener.selectedRows.size(),
+                () -> "should select: 4 rows, but was: " + listener.selectedRows.size()),
+                () -> assertEquals(List.of(1, 6, 11, 16), getRowNums(listener),
+                        () -> "should select rows: [1, 6, 11, 16], but was: " + getRowNums(listener)));
+    }
+
+    @Test
+    void when_read_with_row_range_should_stop_after_last_row() throws IOException, InterruptedException {
+
+        RecordingEventRowListener listener = read(new ImportSamplingProperties(false, 2, 4, 9, null, null));
+
+        assertAll(() -> assertEquals(List.of(4, 6, 8), getRowNums(listener),
+                () -> "should select rows: [4, 6, 8], but was: " + getRowNums(listener)),
+                () -> assertEquals(10, listener.rowsRead,
+                        () -> "should stop reading after row: 9, but read: " + listener.rowsRead));
+    }
+
+    @Test
+    void when_read_with_year_range_should_select_rows_from_years() throws IOException, InterruptedException {
+
+        RecordingEventRowListener listener = read(new ImportSamplingProperties(false, 1, null, null, 2005, 2007));
+
+        assertEquals(List.of(5, 6, 7), getRowNums(listener),
+                () -> "should select rows: [5, 6, 7], but was: " + getRowNums(listener));
+    }
+
+    private RecordingEventRowListener read(ImportSamplingProperties importSamplingProperties)
+            throws IOException, InterruptedException {
+
+        RecordingEventRowListener listener = new RecordingEventRowListener();
+
+        new XlsxEventRowReader(xlsxFile, new EventRowSampler(importSamplingProperties))
+                .read(listener);
+
+        return listener;
+    }
+
+    private List<Integer> getRowNums(RecordingEventRowListener listener) {
+
+        List<Integer> rowNums = new ArrayList<>();
+
+        listener.selectedRows.forEach(eventRow -> rowNums.add(eventRow.getRowNum()));
+
+        return rowNums;
+    }
+
+    private static class RecordingEventRowListener implements EventRowListener {
+
+        private final List<EventRow> selectedRows = new ArrayList<>();
+
+        private long numberOfRows;
+
+        private int rowsRead;
+
+        @Override
+        public void onNumberOfRows(long numberOfRows) {
+
+            this.numberOfRows = numberOfRows;
+        }
+
+        @Override
+        public void onRowRead() {
+
+            rowsRead++;
+        }
+
+        @Override
+        public void onRowSelected(EventRow eventRow) {
+
+            selectedRows.add(eventRow);
+        }
+    }
+}
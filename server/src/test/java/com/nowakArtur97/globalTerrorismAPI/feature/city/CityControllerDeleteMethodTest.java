@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -53,6 +54,9 @@ class CityControllerDeleteMethodTest {
     @Mock
     private ViolationUtil<CityNode, CityDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static ProvinceBuilder provinceBuilder;
     private static CityBuilder cityBuilder;
 
@@ -67,7 +71,7 @@ class CityControllerDeleteMethodTest {
     private void setUp() {
 
         GenericRestController<CityModel, CityDTO> cityController
-                = new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                = new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(cityController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -91,6 +95,7 @@ class CityControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -113,6 +118,7 @@ class CityControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -135,6 +141,7 @@ class CityControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 }
@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -67,6 +68,9 @@ class CityControllerGetMethodTest {
     @Mock
     private ViolationUtil<CityNode, CityDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static ProvinceBuilder provinceBuilder;
     private static CityBuilder cityBuilder;
 
@@ -81,7 +85,7 @@ class CityControllerGetMethodTest {
     private void setUp() {
 
         GenericRestController<CityModel, CityDTO> cityController =
-                new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(cityController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -194,7 +198,8 @@ class CityControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(citiesExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -291,7 +296,8 @@ class CityControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(citiesExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -349,7 +355,8 @@ class CityControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(citiesExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -392,6 +399,7 @@ class CityControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -418,6 +426,7 @@ class CityControllerGetMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
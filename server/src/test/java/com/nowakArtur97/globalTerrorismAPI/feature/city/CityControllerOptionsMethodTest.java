@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -46,11 +47,14 @@ class CityControllerOptionsMethodTest {
     @Mock
     private ViolationUtil<CityNode, CityDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     @BeforeEach
     private void setUp() {
 
         GenericRestController<CityModel, CityDTO> cityController =
-                new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(cityController).build();
     }
@@ -71,7 +75,8 @@ class CityControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -96,6 +101,7 @@ class CityControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 }
@@ -0,0 +1,152 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.city;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheManager;
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceRepository;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CityBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.ProvinceBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CityServiceCacheTest.CityServiceCacheConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("CityServiceCache_Tests")
+class CityServiceCacheTest {
+
+    private final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = 2;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private ProvinceRepository provinceRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    private void setUp() {
+
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        reset(cityRepository, provinceRepository);
+    }
+
+    @Test
+    void when_save_two_cities_from_same_province_should_load_province_only_once() {
+
+        CountryNode countryNode = (CountryNode) new CountryBuilder().build(ObjectType.NODE);
+        ProvinceNode provinceNode = (ProvinceNode) new ProvinceBuilder().withCountry(countryNode)
+                .build(ObjectType.NODE);
+        CityNode firstCityNode = (CityNode) new CityBuilder().withId(null).withProvince(provinceNode)
+                .build(ObjectType.NODE);
+        CityNode secondCityNode = (CityNode) new CityBuilder().withId(null).withName("city 2")
+                .withProvince(provinceNode).build(ObjectType.NODE);
+
+        when(provinceRepository.findByNameAndCountry_Name(provinceNode.getName(), countryNode.getName(),
+                DEFAULT_DEPTH_FOR_PROVINCE_NODE)).thenReturn(Optional.of(provinceNode));
+        when(cityRepository.save(any(CityNode.class))).then(invocation -> invocation.getArgument(0));
+
+        cityService.save(firstCityNode);
+        cityService.save(secondCityNode);
+
+        ArgumentCaptor<CityNode> cityNodeCaptor = ArgumentCaptor.forClass(CityNode.class);
+
+        verify(cityRepository, times(2)).save(cityNodeCaptor.capture());
+
+        ProvinceNode secondProvinceNode = cityNodeCaptor.getAllValues().get(1).getProvince();
+
+        assertAll(() -> assertEquals(provinceNode.getId(), secondProvinceNode.getId(),
+                () -> "should relate second city to province with id: " + provinceNode.getId() + ", but was: "
+                        + secondProvinceNode.getId()),
+                () -> assertEquals(countryNode.getId(), secondProvinceNode.getCountry().getId(),
+                        () -> "should keep province country with id: " + countryNode.getId() + ", but was: "
+                                + secondProvinceNode.getCountry().getId()),
+                () -> verify(provinceRepository, times(1)).findByNameAndCountry_Name(provinceNode.getName(),
+                        countryNode.getName(), DEFAULT_DEPTH_FOR_PROVINCE_NODE),
+                () -> verify(provinceRepository, never()).findById(any()),
+                () -> verify(provinceRepository, never()).findById(any(), anyInt()),
+                () -> verifyNoMoreInteractions(provinceRepository));
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    @Import(ProvinceService.class)
+    static class CityServiceCacheConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+
+            return new ExpiringCacheManager(List.of(ProvinceService.PROVINCE_CACHE,
+                    StatisticsService.STATISTICS_CACHE), 100, 60000);
+        }
+
+        @Bean
+        CityRepository cityRepository() {
+
+            return mock(CityRepository.class);
+        }
+
+        @Bean
+        ProvinceRepository provinceRepository() {
+
+            return mock(ProvinceRepository.class);
+        }
+
+        @Bean
+        ModelMapper modelMapper() {
+
+            return mock(ModelMapper.class);
+        }
+
+        @Bean
+        DirtyChecker dirtyChecker() {
+
+            return new DirtyChecker(new SimpleMeterRegistry());
+        }
+
+        @Bean
+        CountryService countryService() {
+
+            return mock(CountryService.class);
+        }
+
+        @Bean
+        CityService cityService(CityRepository cityRepository, ModelMapper modelMapper, DirtyChecker dirtyChecker,
+                                ProvinceService provinceService) {
+
+            return new CityService(cityRepository, modelMapper, dirtyChecker, provinceService);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.city;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceReference;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
 import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CityBuilder;
@@ -12,6 +14,7 @@ import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.ProvinceBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -64,7 +67,7 @@ class CityServiceTest {
     @BeforeEach
     private void setUp() {
 
-        cityService = new CityService(cityRepository, modelMapper, provinceService);
+        cityService = new CityService(cityRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()), provinceService);
     }
 
     @Test
@@ -382,7 +385,7 @@ class CityServiceTest {
                 .build(ObjectType.NODE);
         CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
 
-        when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
+        when(provinceService.findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.empty());
         when(provinceService.save(provinceNodeBeforeSave)).thenReturn(provinceNodeExpected);
         when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
@@ -433,10 +436,11 @@ class CityServiceTest {
                         () -> "should return city node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + cityNodeActual.getProvince().getCountry().getRegion().getName()),
                 () -> verify(provinceService, times(1))
-                        .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
+                        .findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verify(provinceService, times(1)).save(provinceNodeBeforeSave),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(cityRepository, times(1)).save(cityNodeExpectedBeforeSave),
+                () -> verify(cityRepository, times(1)).updateLocation(cityNodeExpected.getId()),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verifyNoInteractions(modelMapper));
     }
@@ -453,8 +457,8 @@ class CityServiceTest {
                 .build(ObjectType.NODE);
         CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
 
-        when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
-                .thenReturn(Optional.of(provinceNodeExpected));
+        when(provinceService.findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
+                .thenReturn(Optional.of(new ProvinceReference(provinceNodeExpected)));
         when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.save(cityNodeExpected);
@@ -503,9 +507,10 @@ class CityServiceTest {
                         () -> "should return city node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + cityNodeActual.getProvince().getCountry().getRegion().getName()),
                 () -> verify(provinceService, times(1))
-                        .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
+                        .findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(cityRepository, times(1)).save(cityNodeExpectedBeforeSave),
+                () -> verify(cityRepository, times(1)).updateLocation(cityNodeExpected.getId()),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verifyNoInteractions(modelMapper));
     }
@@ -527,7 +532,7 @@ class CityServiceTest {
         CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(cityDTO, CityNode.class)).thenReturn(cityNodeExpectedBeforeSave);
-        when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
+        when(provinceService.findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.empty());
         when(provinceService.saveNew(provinceDTO)).thenReturn(provinceNodeExpected);
         when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
@@ -578,10 +583,11 @@ class CityServiceTest {
                         () -> "should return city node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + cityNodeActual.getProvince().getCountry().getRegion().getName()),
                 () -> verify(provinceService, times(1))
-                        .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
+                        .findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verify(provinceService, times(1)).saveNew(provinceDTO),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).updateLocation(cityNodeExpected.getId()),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(modelMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(modelMapper));
@@ -604,8 +610,8 @@ class CityServiceTest {
         CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(cityDTO, CityNode.class)).thenReturn(cityNodeExpectedBeforeSave);
-        when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
-                .thenReturn(Optional.of(provinceNodeExpected));
+        when(provinceService.findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
+                .thenReturn(Optional.of(new ProvinceReference(provinceNodeExpected)));
         when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.saveNew(cityDTO);
@@ -654,9 +660,10 @@ class CityServiceTest {
                         () -> "should return city node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + cityNodeActual.getProvince().getCountry().getRegion().getName()),
                 () -> verify(provinceService, times(1))
-                        .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
+                        .findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).updateLocation(cityNodeExpected.getId()),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(modelMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(modelMapper));
@@ -689,7 +696,7 @@ class CityServiceTest {
                 .withProvince(provinceNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(cityDTO, CityNode.class)).thenReturn(cityNodeExpectedBeforeSave);
-        when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
+        when(provinceService.findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.empty());
         when(provinceService.update(provinceNodeExpected, provinceDTO)).thenReturn(provinceNodeExpected);
         when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
@@ -740,10 +747,11 @@ class CityServiceTest {
                         () -> "should return city node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + cityNodeActual.getProvince().getCountry().getRegion().getName()),
                 () -> verify(provinceService, times(1))
-                        .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
+                        .findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verify(provinceService, times(1)).update(provinceNodeExpected, provinceDTO),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).updateLocation(cityNodeExpected.getId()),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(modelMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(modelMapper));
@@ -776,8 +784,8 @@ class CityServiceTest {
                 .withProvince(provinceNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(cityDTO, CityNode.class)).thenReturn(cityNodeExpectedBeforeSave);
-        when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
-                .thenReturn(Optional.of(provinceNodeExpected));
+        when(provinceService.findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
+                .thenReturn(Optional.of(new ProvinceReference(provinceNodeExpected)));
         when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.update(cityNodeToUpdate, cityDTO);
@@ -826,9 +834,10 @@ class CityServiceTest {
                         () -> "should return city node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + cityNodeActual.getProvince().getCountry().getRegion().getName()),
                 () -> verify(provinceService, times(1))
-                        .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
+                        .findReferenceByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).updateLocation(cityNodeExpected.getId()),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(modelMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(modelMapper));
@@ -0,0 +1,119 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.country;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheManager;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CountryServiceCacheTest.CountryServiceCacheConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("CountryServiceCache_Tests")
+class CountryServiceCacheTest {
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    private void setUp() {
+
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        reset(countryRepository);
+    }
+
+    @Test
+    void when_find_country_reference_by_name_twice_should_cache_detached_reference() {
+
+        CountryNode countryNode = (CountryNode) new CountryBuilder().build(ObjectType.NODE);
+
+        when(countryRepository.findByName("country")).thenReturn(Optional.of(countryNode));
+
+        Optional<CountryReference> countryReferenceActualOptional = countryService.findReferenceByName("country");
+        Optional<CountryReference> countryReferenceCachedOptional = countryService.findReferenceByName("country");
+
+        Object cachedValue = cacheManager.getCache(CountryService.COUNTRY_CACHE).get("country").get();
+
+        assertAll(() -> assertTrue(countryReferenceActualOptional.isPresent(),
+                () -> "should return country reference, but was: " + countryReferenceActualOptional),
+                () -> assertEquals(countryNode.getId(), countryReferenceActualOptional.get().getId(),
+                        () -> "should return country reference with id: " + countryNode.getId() + ", but was: "
+                                + countryReferenceActualOptional.get().getId()),
+                () -> assertSame(countryReferenceActualOptional.get(), countryReferenceCachedOptional.get(),
+                        () -> "should return cached country reference, but was: " + countryReferenceCachedOptional),
+                () -> assertTrue(cachedValue instanceof CountryReference,
+                        () -> "should cache detached country reference, but was: " + cachedValue),
+                () -> verify(countryRepository, times(1)).findByName("country"),
+                () -> verifyNoMoreInteractions(countryRepository));
+    }
+
+    @Test
+    void when_save_country_should_evict_country_and_province_caches() {
+
+        CountryNode countryNode = (CountryNode) new CountryBuilder().build(ObjectType.NODE);
+
+        when(countryRepository.findByName("country")).thenReturn(Optional.of(countryNode));
+        when(countryRepository.existsByName("country")).thenReturn(true);
+
+        countryService.findReferenceByName("country");
+        countryService.existsByName("country");
+        cacheManager.getCache(ProvinceService.PROVINCE_CACHE).put("province", 3L);
+
+        countryService.save(countryNode);
+
+        countryService.findReferenceByName("country");
+        countryService.existsByName("country");
+
+        assertAll(() -> verify(countryRepository, times(2)).findByName("country"),
+                () -> verify(countryRepository, times(2)).existsByName("country"),
+                () -> assertNull(cacheManager.getCache(ProvinceService.PROVINCE_CACHE).get("province"),
+                        () -> "should evict provinces, but was: "
+                                + cacheManager.getCache(ProvinceService.PROVINCE_CACHE).get("province")));
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    static class CountryServiceCacheConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+
+            return new ExpiringCacheManager(List.of(CountryService.COUNTRY_CACHE, CountryService.COUNTRY_EXISTS_CACHE,
+                    ProvinceService.PROVINCE_CACHE), 100, 60000);
+        }
+
+        @Bean
+        CountryRepository countryRepository() {
+
+            return mock(CountryRepository.class);
+        }
+
+        @Bean
+        CountryService countryService(CountryRepository countryRepository) {
+
+            return new CountryService(countryRepository);
+        }
+    }
+}
@@ -103,48 +103,46 @@ class CountryServiceTest {
     }
 
     @Test
-    void when_find_existing_country_by_name_should_return_country() {
+    void when_find_existing_country_reference_by_name_should_return_detached_reference() {
 
         String countryName = "country";
-
         RegionNode regionNodeExpected = (RegionNode) regionBuilder.build(ObjectType.NODE);
-        CountryNode countryNodeExpected = (CountryNode) countryBuilder.withName(countryName).withRegion(regionNodeExpected)
+        CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected)
                 .build(ObjectType.NODE);
 
         when(countryRepository.findByName(countryName)).thenReturn(Optional.of(countryNodeExpected));
 
-        Optional<CountryNode> countryNodeActualOptional = countryService.findByName(countryName);
+        Optional<CountryReference> countryReferenceActualOptional = countryService.findReferenceByName(countryName);
 
-        CountryNode countryNodeActual = countryNodeActualOptional.get();
+        CountryNode countryNodeActual = countryReferenceActualOptional.get().toNode();
 
         assertAll(() -> assertEquals(countryNodeExpected.getId(), countryNodeActual.getId(),
-                () -> "should return country node with id: " + countryNodeExpected.getId()
-                        + ", but was: " + countryNodeActual.getId()),
-                () -> assertEquals(countryNodeExpected.getName(), countryNodeActual.getName(),
-                        () -> "should return country node with name: " + countryNodeExpected.getName()
-                                + ", but was: " + countryNodeActual.getName()),
-                () -> assertEquals(regionNodeExpected.getId(),
-                        countryNodeActual.getRegion().getId(),
-                        () -> "should return country node with region id: " +
-                                regionNodeExpected.getId()
+                () -> "should return country node with id: " + countryNodeExpected.getId() + ", but was: "
+                        + countryNodeActual.getId()),
+                () -> assertEquals(countryNodeExpected, countryNodeActual,
+                        () -> "should return country node: " + countryNodeExpected + ", but was: "
+                                + countryNodeActual),
+                () -> assertEquals(regionNodeExpected.getId(), countryNodeActual.getRegion().getId(),
+                        () -> "should return country node with region id: " + regionNodeExpected.getId()
                                 + ", but was: " + countryNodeActual.getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(), countryNodeActual.getRegion().getName(),
-                        () -> "should return country node with region name: " + regionNodeExpected.getName()
-                                + ", but was: " + countryNodeActual.getRegion().getName()),
+                () -> assertNotSame(countryNodeExpected, countryNodeActual,
+                        () -> "should return new country node, but was: " + countryNodeActual),
+                () -> assertNotSame(countryNodeActual, countryReferenceActualOptional.get().toNode(),
+                        () -> "should return new country node for every call, but was: " + countryNodeActual),
                 () -> verify(countryRepository, times(1)).findByName(countryName),
                 () -> verifyNoMoreInteractions(countryRepository));
     }
 
     @Test
-    void when_country_not_exists_and_return_one_country_should_return_empty_optional() {
+    void when_country_not_exists_and_return_country_reference_should_return_empty_optional() {
 
         String countryName = "country";
 
         when(countryRepository.findByName(countryName)).thenReturn(Optional.empty());
 
-        Optional<CountryNode> countryNodeActualOptional = countryService.findByName(countryName);
+        Optional<CountryReference> countryReferenceActualOptional = countryService.findReferenceByName(countryName);
 
-        assertAll(() -> assertTrue(countryNodeActualOptional.isEmpty(), () -> "should return empty optional"),
+        assertAll(() -> assertTrue(countryReferenceActualOptional.isEmpty(), () -> "should return empty optional"),
                 () -> verify(countryRepository, times(1)).findByName(countryName),
                 () -> verifyNoMoreInteractions(countryRepository));
     }
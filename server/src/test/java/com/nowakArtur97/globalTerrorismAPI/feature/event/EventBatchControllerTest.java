@@ -0,0 +1,123 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
+import com.nowakArtur97.globalTerrorismAPI.advice.RestResponseGlobalEntityExceptionHandler;
+import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.mapper.ObjectTestMapper;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventBatchController_Tests")
+class EventBatchControllerTest {
+
+    private final String BASE_PATH = "http://localhost:8080/api/v1/events/batch";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private EventBatchService eventBatchService;
+
+    @Mock
+    private RepresentationModelAssemblerSupport<EventNode, EventModel> eventModelAssembler;
+
+    @BeforeEach
+    private void setUp() {
+
+        EventBatchController eventBatchController = new EventBatchController(eventBatchService, eventModelAssembler);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(eventBatchController, new RestResponseGlobalEntityExceptionHandler())
+                .setControllerAdvice(new GenericRestControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void when_delete_existing_events_should_return_deleted_nodes() {
+
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        when(eventBatchService.deleteAll(ids)).thenReturn(new DeletedEventNodes(3L, 3L, 3L, 0L));
+
+        assertAll(
+                () -> mockMvc.perform(delete(BASE_PATH).param("ids", "1,2,3"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("deletedEvents", is(3)))
+                        .andExpect(jsonPath("deletedTargets", is(3)))
+                        .andExpect(jsonPath("deletedVictims", is(3)))
+                        .andExpect(jsonPath("deletedCities", is(0)))
+                        .andExpect(jsonPath("totalDeletedNodes", is(9))),
+                () -> verify(eventBatchService, times(1)).deleteAll(ids),
+                () -> verifyNoMoreInteractions(eventBatchService),
+                () -> verifyNoInteractions(eventModelAssembler));
+    }
+
+    @Test
+    void when_delete_events_but_one_event_does_not_exist_should_return_error_response() {
+
+        List<Long> ids = List.of(1L, 2L);
+
+        when(eventBatchService.deleteAll(ids)).thenThrow(new ResourceNotFoundException("EventModel", 2L));
+
+        assertAll(
+                () -> mockMvc.perform(delete(BASE_PATH).param("ids", "1,2"))
+                        .andExpect(status().isNotFound())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("timestamp").isNotEmpty()).andExpect(content().json("{'status': 404}"))
+                        .andExpect(jsonPath("errors[0]", is("Could not find EventModel with id: 2.")))
+                        .andExpect(jsonPath("errors", hasSize(1))),
+                () -> verify(eventBatchService, times(1)).deleteAll(ids),
+                () -> verifyNoMoreInteractions(eventBatchService),
+                () -> verifyNoInteractions(eventModelAssembler));
+    }
+
+    @Test
+    void when_delete_events_without_ids_should_return_error_response() {
+
+        assertAll(
+                () -> mockMvc.perform(delete(BASE_PATH))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("timestamp").isNotEmpty()).andExpect(content().json("{'status': 400}"))
+                        .andExpect(jsonPath("errors", hasSize(1))),
+                () -> verifyNoInteractions(eventBatchService),
+                () -> verifyNoInteractions(eventModelAssembler));
+    }
+
+    @Test
+    void when_add_empty_events_batch_should_return_error_response() {
+
+        EventBatchDTO eventBatchDTO = new EventBatchDTO(List.of());
+
+        assertAll(
+                () -> mockMvc.perform(post(BASE_PATH).content(ObjectTestMapper.asJsonString(eventBatchDTO))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("timestamp").isNotEmpty()).andExpect(content().json("{'status': 400}"))
+                        .andExpect(jsonPath("errors", hasSize(1))),
+                () -> verifyNoInteractions(eventBatchService),
+                () -> verifyNoInteractions(eventModelAssembler));
+    }
+}
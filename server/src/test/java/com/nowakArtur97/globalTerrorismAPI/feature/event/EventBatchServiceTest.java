@@ -0,0 +1,116 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.event;
+
+import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventBatchService_Tests")
+class EventBatchServiceTest {
+
+    private EventBatchService eventBatchService;
+
+    @Mock
+    private EventService eventService;
+
+    @BeforeEach
+    private void setUp() {
+
+        eventBatchService = new EventBatchService(eventService);
+    }
+
+    @Test
+    void when_save_new_events_should_save_them_in_chunks() {
+
+        List<EventDTO> eventDTOs = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            eventDTOs.add(new EventDTO());
+        }
+
+        EventNode eventNode = new EventNode();
+
+        when(eventService.saveAllNew(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                        .map(eventDTO -> eventNode).collect(Collectors.toList()));
+
+        List<EventNode> eventNodesActual = eventBatchService.saveAllNew(eventDTOs);
+
+        assertAll(() -> assertEquals(250, eventNodesActual.size(),
+                () -> "should return: 250 events, but was: " + eventNodesActual.size()),
+                () -> verify(eventService, times(1)).saveAllNew(eventDTOs.subList(0, 100)),
+                () -> verify(eventService, times(1)).saveAllNew(eventDTOs.subList(100, 200)),
+                () -> verify(eventService, times(1)).saveAllNew(eventDTOs.subList(200, 250)),
+                () -> verifyNoMoreInteractions(eventService));
+    }
+
+    @Test
+    void when_update_existing_events_should_update_them_in_chunks() {
+
+        Map<Long, EventDTO> eventDTOs = new LinkedHashMap<>();
+        LongStream.rangeClosed(1, 150).forEach(id -> eventDTOs.put(id, new EventDTO()));
+
+        when(eventService.findMissingIds(eventDTOs.keySet())).thenReturn(List.of());
+        when(eventService.updateAll(anyMap()))
+                .thenAnswer(invocation -> ((Map<?, ?>) invocation.getArgument(0)).values().stream()
+                        .map(eventDTO -> new EventNode()).collect(Collectors.toList()));
+
+        List<EventNode> eventNodesActual = eventBatchService.updateAll(eventDTOs);
+
+        assertAll(() -> assertEquals(150, eventNodesActual.size(),
+                () -> "should return: 150 events, but was: " + eventNodesActual.size()),
+                () -> verify(eventService, times(1)).findMissingIds(eventDTOs.keySet()),
+                () -> verify(eventService, times(2)).updateAll(anyMap()),
+                () -> verifyNoMoreInteractions(eventService));
+    }
+
+    @Test
+    void when_delete_existing_events_should_delete_them_in_chunks_and_sum_deleted_nodes() {
+
+        List<Long> ids = LongStream.rangeClosed(1, 120).boxed().collect(Collectors.toList());
+
+        when(eventService.findMissingIds(ids)).thenReturn(List.of());
+        when(eventService.deleteAll(ids.subList(0, 100))).thenReturn(new DeletedEventNodes(100L, 100L, 100L, 0L));
+        when(eventService.deleteAll(ids.subList(100, 120))).thenReturn(new DeletedEventNodes(20L, 20L, 20L, 0L));
+
+        DeletedEventNodes deletedEventNodesActual = eventBatchService.deleteAll(ids);
+
+        assertAll(() -> assertEquals(120L, deletedEventNodesActual.getDeletedEvents(),
+                () -> "should delete: 120 events, but was: " + deletedEventNodesActual.getDeletedEvents()),
+                () -> assertEquals(360L, deletedEventNodesActual.getTotalDeletedNodes(),
+                        () -> "should delete: 360 nodes, but was: " + deletedEventNodesActual.getTotalDeletedNodes()),
+                () -> verify(eventService, times(1)).findMissingIds(ids),
+                () -> verify(eventService, times(1)).deleteAll(ids.subList(0, 100)),
+                () -> verify(eventService, times(1)).deleteAll(ids.subList(100, 120)),
+                () -> verifyNoMoreInteractions(eventService));
+    }
+
+    @Test
+    void when_delete_events_but_one_event_does_not_exist_should_not_delete_any_event() {
+
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        when(eventService.findMissingIds(ids)).thenReturn(List.of(3L));
+
+        assertAll(() -> assertThrows(ResourceNotFoundException.class, () -> eventBatchService.deleteAll(ids),
+                () -> "should throw ResourceNotFoundException when one of events does not exist"),
+                () -> verify(eventService, times(1)).findMissingIds(ids),
+                () -> verifyNoMoreInteractions(eventService));
+    }
+}
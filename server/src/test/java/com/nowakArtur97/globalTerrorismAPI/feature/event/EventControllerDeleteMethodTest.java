@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -53,6 +54,9 @@ class EventControllerDeleteMethodTest {
     @Mock
     private ViolationUtil<EventNode, EventDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static TargetBuilder targetBuilder;
     private static EventBuilder eventBuilder;
 
@@ -67,7 +71,7 @@ class EventControllerDeleteMethodTest {
     private void setUp() {
 
         GenericRestController<EventModel, EventDTO> eventController
-                = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(eventController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -91,6 +95,7 @@ class EventControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -113,6 +118,7 @@ class EventControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -135,6 +141,7 @@ class EventControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 }
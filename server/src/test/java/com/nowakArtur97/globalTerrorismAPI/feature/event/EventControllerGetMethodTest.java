@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityModel;
@@ -87,6 +88,9 @@ class EventControllerGetMethodTest {
     @Mock
     private ViolationUtil<EventNode, EventDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
     private static ProvinceBuilder provinceBuilder;
@@ -111,7 +115,7 @@ class EventControllerGetMethodTest {
     private void setUp() {
 
         GenericRestController<EventModel, EventDTO> eventController
-                = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(eventController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -336,7 +340,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -517,7 +522,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -575,7 +581,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -842,7 +849,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -953,7 +961,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -1208,7 +1217,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -1270,7 +1280,8 @@ class EventControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(eventsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -1346,6 +1357,7 @@ class EventControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -1372,6 +1384,7 @@ class EventControllerGetMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -1418,6 +1431,7 @@ class EventControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -1534,6 +1548,7 @@ class EventControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -1561,6 +1576,7 @@ class EventControllerGetMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
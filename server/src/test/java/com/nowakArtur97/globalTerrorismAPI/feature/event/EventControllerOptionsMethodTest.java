@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -46,11 +47,14 @@ class EventControllerOptionsMethodTest {
     @Mock
     private ViolationUtil<EventNode, EventDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     @BeforeEach
     private void setUp() {
 
         GenericRestController<EventModel, EventDTO> eventController
-                = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil);
+                = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(eventController).build();
     }
@@ -71,7 +75,8 @@ class EventControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -96,6 +101,7 @@ class EventControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 }
@@ -1,5 +1,6 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.event;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
@@ -18,8 +19,11 @@ import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimService;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.*;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
@@ -33,6 +37,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +48,7 @@ import static org.mockito.Mockito.*;
 @Tag("EventServiceImpl_Tests")
 class EventServiceTest {
 
+    private final int DEFAULT_DEPTH_FOR_EVENT_NODE = 4;
     private final int DEFAULT_DEPTH_FOR_JSON_PATCH = 5;
 
     private EventService eventService;
@@ -50,6 +56,9 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Captor
+    private ArgumentCaptor<List<Map<String, Object>>> parametersCaptor;
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -85,7 +94,7 @@ class EventServiceTest {
     @BeforeEach
     private void setUp() {
 
-        eventService = new EventService(eventRepository, modelMapper, targetService, cityService, victimService);
+        eventService = new EventService(eventRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()), targetService, cityService, victimService);
     }
 
     @Test
@@ -962,17 +971,12 @@ class EventServiceTest {
                 .build(ObjectType.NODE);
         CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
         VictimNode victimNodeExpected = (VictimNode) victimBuilder.build(ObjectType.NODE);
-        EventNode eventNodeExpectedBeforeSave = (EventNode) eventBuilder.withTarget(targetNodeExpected).withCity(cityNodeExpected)
-                .withVictim(victimNodeExpected).build(ObjectType.NODE);
         EventNode eventNodeExpected = (EventNode) eventBuilder.withTarget(targetNodeExpected).withCity(cityNodeExpected)
                 .withVictim(victimNodeExpected).build(ObjectType.NODE);
 
-        when(modelMapper.map(eventDTOExpected, EventNode.class)).thenReturn(eventNodeExpectedBeforeSave);
-        when(targetService.saveNew(targetDTO)).thenReturn(targetNodeExpected);
-        when(victimService.saveNew(victimDTO)).thenReturn(victimNodeExpected);
-        when(cityService.findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()))
-                .thenReturn(Optional.of(cityNodeExpected));
-        when(eventRepository.save(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
+        when(eventRepository.createEvents(anyList())).thenReturn(List.of(eventNodeExpected.getId()));
+        when(eventRepository.findAllById(List.of(eventNodeExpected.getId()), DEFAULT_DEPTH_FOR_EVENT_NODE))
+                .thenReturn(List.of(eventNodeExpected));
 
         EventNode eventNodeActual = eventService.saveNew(eventDTOExpected);
 
@@ -1108,21 +1112,32 @@ class EventServiceTest {
                         () -> "should return event node with victim value of property damage: "
                                 + victimNodeExpected.getValueOfPropertyDamage() + ", but was: "
                                 + eventNodeActual.getVictim().getValueOfPropertyDamage()),
-                () -> verify(targetService, times(1)).saveNew(targetDTO),
-                () -> verifyNoMoreInteractions(targetService),
-                () -> verify(victimService, times(1)).saveNew(victimDTO),
-                () -> verifyNoMoreInteractions(victimService),
-                () -> verify(modelMapper, times(1)).map(eventDTOExpected, EventNode.class),
-                () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(cityService, times(1))
-                        .findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()),
-                () -> verifyNoMoreInteractions(cityService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpectedBeforeSave),
-                () -> verifyNoMoreInteractions(eventRepository));
+                () -> verify(eventRepository, times(1)).createEvents(parametersCaptor.capture()),
+                () -> assertEquals(cityDTO.getName(), parametersCaptor.getValue().get(0).get("cityName"),
+                        () -> "should create event in city: " + cityDTO.getName() + ", but was: "
+                                + parametersCaptor.getValue().get(0).get("cityName")),
+                () -> assertEquals(provinceDTO.getName(), parametersCaptor.getValue().get(0).get("provinceName"),
+                        () -> "should create event in province: " + provinceDTO.getName() + ", but was: "
+                                + parametersCaptor.getValue().get(0).get("provinceName")),
+                () -> assertEquals(countryDTO.getName(), parametersCaptor.getValue().get(0).get("targetCountryName"),
+                        () -> "should create target from country: " + countryDTO.getName() + ", but was: "
+                                + parametersCaptor.getValue().get(0).get("targetCountryName")),
+                () -> assertEquals(victimDTO.getTotalNumberOfFatalities(),
+                        parametersCaptor.getValue().get(0).get("totalNumberOfFatalities"),
+                        () -> "should create victim with total number of fatalities: "
+                                + victimDTO.getTotalNumberOfFatalities() + ", but was: "
+                                + parametersCaptor.getValue().get(0).get("totalNumberOfFatalities")),
+                () -> verify(eventRepository, times(1))
+                        .findAllById(List.of(eventNodeExpected.getId()), DEFAULT_DEPTH_FOR_EVENT_NODE),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verifyNoInteractions(targetService),
+                () -> verifyNoInteractions(victimService),
+                () -> verifyNoInteractions(cityService),
+                () -> verifyNoInteractions(modelMapper));
     }
 
     @Test
-    void when_save_new_event_with_new_city_should_save_and_return_new_event_with_new_city() {
+    void when_save_new_event_with_not_existing_country_should_throw_exception() {
 
         CountryDTO countryDTO = (CountryDTO) countryBuilder.build(ObjectType.DTO);
         TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
@@ -1132,173 +1147,16 @@ class EventServiceTest {
         EventDTO eventDTOExpected = (EventDTO) eventBuilder.withTarget(targetDTO).withCity(cityDTO)
                 .withVictim(victimDTO).build(ObjectType.DTO);
 
-        RegionNode regionNodeExpected = (RegionNode) regionBuilder.build(ObjectType.NODE);
-        CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected)
-                .build(ObjectType.NODE);
-        TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
-        ProvinceNode provinceNodeExpected = (ProvinceNode) provinceBuilder.withCountry(countryNodeExpected)
-                .build(ObjectType.NODE);
-        CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
-        VictimNode victimNodeExpected = (VictimNode) victimBuilder.build(ObjectType.NODE);
-        EventNode eventNodeExpectedBeforeSave = (EventNode) eventBuilder.withTarget(targetNodeExpected).withCity(cityNodeExpected)
-                .withVictim(victimNodeExpected).build(ObjectType.NODE);
-        EventNode eventNodeExpected = (EventNode) eventBuilder.withTarget(targetNodeExpected).withCity(cityNodeExpected)
-                .withVictim(victimNodeExpected).build(ObjectType.NODE);
-
-        when(modelMapper.map(eventDTOExpected, EventNode.class)).thenReturn(eventNodeExpectedBeforeSave);
-        when(targetService.saveNew(targetDTO)).thenReturn(targetNodeExpected);
-        when(victimService.saveNew(victimDTO)).thenReturn(victimNodeExpected);
-        when(cityService.findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()))
-                .thenReturn(Optional.empty());
-        when(cityService.saveNew(cityDTO)).thenReturn(cityNodeExpected);
-        when(eventRepository.save(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
-
-        EventNode eventNodeActual = eventService.saveNew(eventDTOExpected);
-
-        assertAll(
-                () -> assertNotNull(eventNodeActual.getId(),
-                        () -> "should return event node with id, but was: " + eventNodeActual.getId()),
-                () -> assertEquals(eventNodeExpected.getSummary(), eventNodeActual.getSummary(),
-                        () -> "should return event node with summary: " + eventNodeExpected.getSummary() + ", but was: "
-                                + eventNodeActual.getSummary()),
-                () -> assertEquals(eventNodeExpected.getMotive(), eventNodeActual.getMotive(),
-                        () -> "should return event node with motive: " + eventNodeExpected.getMotive() + ", but was: "
-                                + eventNodeActual.getMotive()),
-                () -> assertEquals(eventNodeExpected.getDate(), eventNodeActual.getDate(),
-                        () -> "should return event node with date: " + eventNodeExpected.getDate() + ", but was: "
-                                + eventNodeActual.getDate()),
-                () -> assertEquals(eventNodeExpected.getIsPartOfMultipleIncidents(),
-                        eventNodeActual.getIsPartOfMultipleIncidents(),
-                        () -> "should return event node which was part of multiple incidents: "
-                                + eventNodeExpected.getIsPartOfMultipleIncidents() + ", but was was: "
-                                + eventNodeActual.getIsPartOfMultipleIncidents()),
-                () -> assertEquals(eventNodeExpected.getIsSuccessful(), eventNodeActual.getIsSuccessful(),
-                        () -> "should return event node which was successful: " + eventNodeExpected.getIsSuccessful()
-                                + ", but was: " + eventNodeActual.getIsSuccessful()),
-                () -> assertEquals(eventNodeExpected.getIsSuicidal(), eventNodeActual.getIsSuicidal(),
-                        () -> "should return event node which was suicidal: " + eventNodeExpected.getIsSuicidal()
-                                + ", but was: " + eventNodeActual.getIsSuicidal()),
-                () -> assertNotNull(eventNodeActual.getTarget(),
-                        () -> "should return event node with not null target, but was: null"),
-                () -> assertEquals(targetNodeExpected, eventNodeActual.getTarget(),
-                        () -> "should return event node with target: " + targetNodeExpected + ", but was: "
-                                + eventNodeActual.getTarget()),
-                () -> assertEquals(targetNodeExpected.getId(), eventNodeActual.getTarget().getId(),
-                        () -> "should return event node with target id: " + targetNodeExpected.getId() + ", but was: "
-                                + eventNodeActual.getTarget().getId()),
-                () -> assertEquals(targetNodeExpected.getTarget(), eventNodeActual.getTarget().getTarget(),
-                        () -> "should return event node with target: " + targetNodeExpected.getTarget() + ", but was: "
-                                + eventNodeActual.getTarget().getTarget()),
-                () -> assertEquals(countryNodeExpected, eventNodeActual.getTarget().getCountryOfOrigin(),
-                        () -> "should return event node with country: " + countryNodeExpected + ", but was: " + eventNodeActual.getTarget().getCountryOfOrigin()),
-                () -> assertEquals(countryNodeExpected.getId(), eventNodeActual.getTarget().getCountryOfOrigin().getId(),
-                        () -> "should return event node with country id: " + countryNodeExpected.getId()
-                                + ", but was: " + eventNodeActual.getTarget().getId()),
-                () -> assertEquals(countryNodeExpected.getName(), eventNodeActual.getTarget().getCountryOfOrigin().getName(),
-                        () -> "should return event node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + eventNodeActual.getTarget().getCountryOfOrigin()),
-                () -> assertNotNull(eventNodeActual.getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return event node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected, eventNodeActual.getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return event node with region: " + regionNodeExpected + ", but was: "
-                                + eventNodeActual.getTarget().getCountryOfOrigin().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(), eventNodeActual.getTarget().getCountryOfOrigin().getRegion().getId(),
-                        () -> "should return event node with region id: " + regionNodeExpected.getId()
-                                + ", but was: " + eventNodeActual.getTarget().getCountryOfOrigin().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(), eventNodeActual.getTarget().getCountryOfOrigin().getRegion().getName(),
-                        () -> "should return event node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + eventNodeActual.getTarget().getCountryOfOrigin().getRegion().getName()),
-
-                () -> assertNotNull(eventNodeActual.getCity(),
-                        () -> "should return event node with not null cty, but was: null"),
-                () -> assertEquals(cityNodeExpected, eventNodeActual.getCity(),
-                        () -> "should return event node with city: " + cityNodeExpected + ", but was: "
-                                + eventNodeActual.getCity()),
-                () -> assertEquals(cityNodeExpected.getName(), eventNodeActual.getCity().getName(),
-                        () -> "should return event node with city name: " + cityNodeExpected.getName() + ", but was: "
-                                + eventNodeActual.getCity().getName()),
-                () -> assertEquals(cityNodeExpected.getLatitude(), eventNodeActual.getCity().getLatitude(),
-                        () -> "should return event node with city latitude: " + cityNodeExpected.getLatitude() + ", but was: "
-                                + eventNodeActual.getCity().getLatitude()),
-                () -> assertEquals(cityNodeExpected.getLongitude(), eventNodeActual.getCity().getLongitude(),
-                        () -> "should return event node with city longitude: " + cityNodeExpected.getLongitude() + ", but was: "
-                                + eventNodeActual.getCity().getLongitude()),
-
-                () -> assertNotNull(eventNodeActual.getCity().getProvince(),
-                        () -> "should return event node with not null province, but was: null"),
-                () -> assertEquals(provinceNodeExpected, eventNodeActual.getCity().getProvince(),
-                        () -> "should return event node with province: " + provinceNodeExpected + ", but was: "
-                                + eventNodeActual.getCity().getProvince()),
-                () -> assertEquals(provinceNodeExpected.getId(), eventNodeActual.getCity().getProvince().getId(),
-                        () -> "should return event node with province id: " + provinceNodeExpected.getId()
-                                + ", but was: " + eventNodeActual.getCity().getProvince().getId()),
-                () -> assertEquals(provinceNodeExpected.getName(), eventNodeActual.getCity().getProvince().getName(),
-                        () -> "should return event node with province name: " + provinceNodeExpected.getName() + ", but was: "
-                                + eventNodeActual.getCity().getProvince().getName()),
-                () -> assertEquals(countryNodeExpected, eventNodeActual.getCity().getProvince().getCountry(),
-                        () -> "should return event node with country: " + countryNodeExpected + ", but was: " + eventNodeActual.getCity().getProvince().getCountry()),
-                () -> assertEquals(countryNodeExpected.getId(), eventNodeActual.getCity().getProvince().getCountry().getId(),
-                        () -> "should return event node with country id: " + countryNodeExpected.getId()
-                                + ", but was: " + eventNodeActual.getCity().getProvince().getCountry().getId()),
-                () -> assertEquals(countryNodeExpected.getName(), eventNodeActual.getCity().getProvince().getCountry().getName(),
-                        () -> "should return event node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + eventNodeActual.getCity().getProvince().getCountry()),
-                () -> assertNotNull(eventNodeActual.getCity().getProvince().getCountry().getRegion(),
-                        () -> "should return event node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected, eventNodeActual.getCity().getProvince().getCountry().getRegion(),
-                        () -> "should return event node with region: " + regionNodeExpected + ", but was: "
-                                + eventNodeActual.getCity().getProvince().getCountry().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(), eventNodeActual.getCity().getProvince().getCountry().getRegion().getId(),
-                        () -> "should return event node with region id: " + regionNodeExpected.getId()
-                                + ", but was: " + eventNodeActual.getCity().getProvince().getCountry().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(), eventNodeActual.getCity().getProvince().getCountry().getRegion().getName(),
-                        () -> "should return event node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + eventNodeActual.getCity().getProvince().getCountry().getRegion().getName()),
+        when(eventRepository.createEvents(anyList())).thenReturn(List.of());
 
-                () -> assertNotNull(eventNodeActual.getVictim(),
-                        () -> "should return event node with not null victim, but was: null"),
-                () -> assertEquals(victimNodeExpected, eventNodeActual.getVictim(),
-                        () -> "should return event node with victim: " + victimNodeExpected + ", but was: "
-                                + eventNodeActual.getVictim()),
-                () -> assertEquals(victimNodeExpected.getId(), eventNodeActual.getVictim().getId(),
-                        () -> "should return event node with victim node id: " + victimNodeExpected.getId() + ", but was: "
-                                + eventNodeActual.getVictim().getId()),
-                () -> assertEquals(victimNodeExpected.getTotalNumberOfFatalities(),
-                        eventNodeActual.getVictim().getTotalNumberOfFatalities(),
-                        () -> "should return event node with victim total number of fatalities: "
-                                + victimNodeExpected.getTotalNumberOfFatalities() + ", but was: "
-                                + eventNodeActual.getVictim().getTotalNumberOfFatalities()),
-                () -> assertEquals(victimNodeExpected.getNumberOfPerpetratorsFatalities(),
-                        eventNodeActual.getVictim().getNumberOfPerpetratorsFatalities(),
-                        () -> "should return event node with victim number of perpetrators fatalities: "
-                                + victimNodeExpected.getNumberOfPerpetratorsFatalities() + ", but was: "
-                                + eventNodeActual.getVictim().getNumberOfPerpetratorsFatalities()),
-                () -> assertEquals(victimNodeExpected.getTotalNumberOfInjured(), eventNodeActual.getVictim().getTotalNumberOfInjured(),
-                        () -> "should return event node with victim total number of injured: "
-                                + victimNodeExpected.getTotalNumberOfInjured() + ", but was: "
-                                + eventNodeActual.getVictim().getTotalNumberOfInjured()),
-                () -> assertEquals(victimNodeExpected.getNumberOfPerpetratorsInjured(),
-                        eventNodeActual.getVictim().getNumberOfPerpetratorsInjured(),
-                        () -> "should return event node with victim number of perpetrators injured: "
-                                + victimNodeExpected.getNumberOfPerpetratorsInjured() + ", but was: "
-                                + eventNodeActual.getVictim().getNumberOfPerpetratorsInjured()),
-                () -> assertEquals(victimNodeExpected.getValueOfPropertyDamage(),
-                        eventNodeActual.getVictim().getValueOfPropertyDamage(),
-                        () -> "should return event node with victim value of property damage: "
-                                + victimNodeExpected.getValueOfPropertyDamage() + ", but was: "
-                                + eventNodeActual.getVictim().getValueOfPropertyDamage()),
-                () -> verify(modelMapper, times(1)).map(eventDTOExpected, EventNode.class),
-                () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(targetService, times(1)).saveNew(targetDTO),
-                () -> verifyNoMoreInteractions(targetService),
-                () -> verify(victimService, times(1)).saveNew(victimDTO),
-                () -> verifyNoMoreInteractions(victimService),
-                () -> verify(cityService, times(1))
-                        .findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()),
-                () -> verify(cityService, times(1)).saveNew(cityDTO),
-                () -> verifyNoMoreInteractions(cityService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpectedBeforeSave),
-                () -> verifyNoMoreInteractions(eventRepository));
+        assertAll(() -> assertThrows(ResourceNotFoundException.class, () -> eventService.saveNew(eventDTOExpected),
+                () -> "should throw ResourceNotFoundException when country does not exist"),
+                () -> verify(eventRepository, times(1)).createEvents(anyList()),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verifyNoInteractions(targetService),
+                () -> verifyNoInteractions(victimService),
+                () -> verifyNoInteractions(cityService),
+                () -> verifyNoInteractions(modelMapper));
     }
 
     @Test
@@ -1718,7 +1576,7 @@ class EventServiceTest {
                 .build(ObjectType.NODE);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(eventNodeExpected));
-        when(victimService.delete(victimId)).thenReturn(Optional.of(victimNodeExpected));
+        when(eventRepository.deleteEvents(List.of(eventId), false)).thenReturn(new DeletedEventNodes(1L, 0L, 1L, 0L));
 
         Optional<EventNode> eventNodeOptionalActual = eventService.delete(eventId);
 
@@ -1829,10 +1687,9 @@ class EventServiceTest {
                                 + victimNodeExpected.getValueOfPropertyDamage() + ", but was: "
                                 + eventNodeActual.getVictim().getValueOfPropertyDamage()),
                 () -> verify(eventRepository, times(1)).findById(eventId),
-                () -> verify(eventRepository, times(1)).delete(eventNodeExpected),
+                () -> verify(eventRepository, times(1)).deleteEvents(List.of(eventId), false),
                 () -> verifyNoMoreInteractions(eventRepository),
-                () -> verify(victimService, times(1)).delete(victimId),
-                () -> verifyNoMoreInteractions(victimService),
+                () -> verifyNoInteractions(victimService),
                 () -> verifyNoInteractions(targetService),
                 () -> verifyNoInteractions(modelMapper),
                 () -> verifyNoInteractions(cityService));
@@ -1854,8 +1711,7 @@ class EventServiceTest {
                 .withVictim(victimNodeExpected).build(ObjectType.NODE);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(eventNodeExpected));
-        when(targetService.delete(targetId)).thenReturn(Optional.of(targetNodeExpected));
-        when(victimService.delete(victimId)).thenReturn(Optional.of(victimNodeExpected));
+        when(eventRepository.deleteEvents(List.of(eventId), false)).thenReturn(new DeletedEventNodes(1L, 1L, 1L, 0L));
 
         Optional<EventNode> eventNodeOptionalActual = eventService.delete(eventId);
 
@@ -1959,12 +1815,10 @@ class EventServiceTest {
                                 + victimNodeExpected.getValueOfPropertyDamage() + ", but was: "
                                 + eventNodeActual.getVictim().getValueOfPropertyDamage()),
                 () -> verify(eventRepository, times(1)).findById(eventId),
-                () -> verify(eventRepository, times(1)).delete(eventNodeExpected),
+                () -> verify(eventRepository, times(1)).deleteEvents(List.of(eventId), false),
                 () -> verifyNoMoreInteractions(eventRepository),
-                () -> verify(targetService, times(1)).delete(targetId),
-                () -> verifyNoMoreInteractions(targetService),
-                () -> verify(victimService, times(1)).delete(victimId),
-                () -> verifyNoMoreInteractions(victimService),
+                () -> verifyNoInteractions(targetService),
+                () -> verifyNoInteractions(victimService),
                 () -> verifyNoInteractions(modelMapper),
                 () -> verifyNoInteractions(cityService));
     }
@@ -2182,4 +2036,75 @@ class EventServiceTest {
 
         return eventsListExpected;
     }
+
+    @Test
+    void when_save_new_events_should_create_them_in_one_statement_and_return_them_in_request_order() {
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withProvince(provinceDTO).build(ObjectType.DTO);
+        VictimDTO victimDTO = (VictimDTO) victimBuilder.build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withTarget(targetDTO).withCity(cityDTO).withVictim(victimDTO)
+                .build(ObjectType.DTO);
+        EventDTO eventDTO2 = (EventDTO) eventBuilder.withSummary("summary 2").withTarget(targetDTO).withCity(cityDTO)
+                .withVictim(victimDTO).build(ObjectType.DTO);
+        EventNode eventNode = (EventNode) eventBuilder.withId(1L).build(ObjectType.NODE);
+        EventNode eventNode2 = (EventNode) eventBuilder.withId(2L).withSummary("summary 2").build(ObjectType.NODE);
+
+        when(eventRepository.createEvents(anyList())).thenReturn(List.of(1L, 2L));
+        when(eventRepository.findAllById(List.of(1L, 2L), DEFAULT_DEPTH_FOR_EVENT_NODE))
+                .thenReturn(List.of(eventNode2, eventNode));
+
+        List<EventNode> eventNodesActual = eventService.saveAllNew(List.of(eventDTO, eventDTO2));
+
+        assertAll(() -> assertEquals(List.of(eventNode, eventNode2), eventNodesActual,
+                () -> "should return events in request order, but was: " + eventNodesActual),
+                () -> verify(eventRepository, times(1)).createEvents(parametersCaptor.capture()),
+                () -> assertEquals(2, parametersCaptor.getValue().size(),
+                        () -> "should create: 2 events, but was: " + parametersCaptor.getValue().size()),
+                () -> assertEquals("summary 2", parametersCaptor.getValue().get(1).get("summary"),
+                        () -> "should create event with summary: summary 2, but was: "
+                                + parametersCaptor.getValue().get(1).get("summary")),
+                () -> verify(eventRepository, times(1)).findAllById(List.of(1L, 2L), DEFAULT_DEPTH_FOR_EVENT_NODE),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verifyNoInteractions(targetService),
+                () -> verifyNoInteractions(victimService),
+                () -> verifyNoInteractions(cityService),
+                () -> verifyNoInteractions(modelMapper));
+    }
+
+    @Test
+    void when_find_missing_ids_should_return_ids_of_not_existing_events() {
+
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        when(eventRepository.findExistingIds(ids)).thenReturn(List.of(1L, 3L));
+
+        List<Long> missingIdsActual = eventService.findMissingIds(ids);
+
+        assertAll(() -> assertEquals(List.of(2L), missingIdsActual,
+                () -> "should return missing ids: [2], but was: " + missingIdsActual),
+                () -> verify(eventRepository, times(1)).findExistingIds(ids),
+                () -> verifyNoMoreInteractions(eventRepository));
+    }
+
+    @Test
+    void when_delete_all_events_should_delete_them_in_one_statement() {
+
+        List<Long> ids = List.of(1L, 2L);
+        DeletedEventNodes deletedEventNodesExpected = new DeletedEventNodes(2L, 2L, 2L, 0L);
+
+        when(eventRepository.deleteEvents(ids, false)).thenReturn(deletedEventNodesExpected);
+
+        DeletedEventNodes deletedEventNodesActual = eventService.deleteAll(ids);
+
+        assertAll(() -> assertEquals(deletedEventNodesExpected, deletedEventNodesActual,
+                () -> "should return deleted nodes: " + deletedEventNodesExpected + ", but was: "
+                        + deletedEventNodesActual),
+                () -> verify(eventRepository, times(1)).deleteEvents(ids, false),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verifyNoInteractions(targetService),
+                () -> verifyNoInteractions(victimService));
+    }
 }
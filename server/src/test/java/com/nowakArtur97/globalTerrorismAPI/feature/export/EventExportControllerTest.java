@@ -0,0 +1,95 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import com.nowakArtur97.globalTerrorismAPI.advice.RestResponseGlobalEntityExceptionHandler;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventExportController_Tests")
+class EventExportControllerTest {
+
+    private final String EXPORT_BASE_PATH = "http://localhost:8080/api/v1/events/export";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private EventExportService eventExportService;
+
+    @BeforeEach
+    private void setUp() {
+
+        EventExportController eventExportController = new EventExportController(eventExportService);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(eventExportController, new RestResponseGlobalEntityExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void when_export_events_as_csv_should_stream_export_with_filters() throws Exception {
+
+        String exportExpected = "id,summary\r\n1,summary\r\n";
+
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(exportExpected.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(eventExportService).export(any(EventExportFilter.class), eq(EventExportFormat.CSV),
+                any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_BASE_PATH + "?format=CSV&fromDate=2000-01-01&countryName=Poland"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ArgumentCaptor<EventExportFilter> filterCaptor = ArgumentCaptor.forClass(EventExportFilter.class);
+
+        assertAll(() -> mockMvc.perform(asyncDispatch(mvcResult))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType("text/csv"))
+                        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                                is("attachment; filename=\"events.csv\"")))
+                        .andExpect(content().string(exportExpected)),
+                () -> verify(eventExportService, times(1)).export(filterCaptor.capture(),
+                        eq(EventExportFormat.CSV), any(OutputStream.class)),
+                () -> assertEquals(LocalDate.of(2000, 1, 1), filterCaptor.getValue().getFromDate(),
+                        () -> "should pass from date filter, but was: " + filterCaptor.getValue().getFromDate()),
+                () -> assertEquals("Poland", filterCaptor.getValue().getCountryName(),
+                        () -> "should pass country filter, but was: " + filterCaptor.getValue().getCountryName()),
+                () -> verifyNoMoreInteractions(eventExportService));
+    }
+
+    @Test
+    void when_export_events_with_invalid_date_range_should_return_error_response() {
+
+        assertAll(() -> mockMvc.perform(get(EXPORT_BASE_PATH + "?fromDate=2010-01-01&toDate=2000-01-01"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("status", is(400)))
+                        .andExpect(jsonPath("errors[0]", is("{export.dates.valid}"))),
+                () -> verifyNoInteractions(eventExportService));
+    }
+}
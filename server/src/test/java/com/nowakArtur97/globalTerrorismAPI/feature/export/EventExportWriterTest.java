@@ -0,0 +1,129 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nowakArtur97.globalTerrorismAPI.common.util.XlsxUtil;
+import com.nowakArtur97.globalTerrorismAPI.eventListener.XlsxColumnType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventExportWriter_Tests")
+class EventExportWriterTest {
+
+    @Test
+    void when_write_events_as_ndjson_should_write_one_json_object_per_line() throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        EventExportWriter eventExportWriter = new NdjsonEventExportWriter(outputStream, new ObjectMapper());
+
+        eventExportWriter.write(createEvent(1L, "summary"));
+        eventExportWriter.write(createEvent(2L, "summary\nwith new line"));
+        eventExportWriter.finish();
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertAll(() -> assertEquals(2, lines.length, () -> "should write: 2 lines, but was: " + lines.length),
+                () -> assertTrue(lines[0].startsWith("{\"id\":1,\"eventId\":null,\"date\":\"2019-01-01T00:00:00.000Z\""),
+                        () -> "should write columns in export order, but was: " + lines[0]),
+                () -> assertTrue(lines[1].contains("\"summary\":\"summary\\nwith new line\""),
+                        () -> "should escape new line in value, but was: " + lines[1]));
+    }
+
+    @Test
+    void when_write_events_as_csv_should_write_header_and_quoted_values() throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        EventExportWriter eventExportWriter = new CsvEventExportWriter(outputStream);
+
+        eventExportWriter.write(createEvent(1L, "summary, with \"quotes\""));
+        eventExportWriter.finish();
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertAll(() -> assertEquals(2, lines.length, () -> "should write: 2 lines, but was: " + lines.length),
+                () -> assertTrue(lines[0].startsWith("id,eventId,date,summary,motive,"),
+                        () -> "should write header, but was: " + lines[0]),
+                () -> assertTrue(lines[1].startsWith("1,,2019-01-01T00:00:00.000Z,\"summary, with \"\"quotes\"\"\",motive,"),
+                        () -> "should write quoted values, but was: " + lines[1]),
+                () -> assertTrue(lines[1].endsWith(",country,,,,,,,"),
+                        () -> "should write empty missing values, but was: " + lines[1]));
+    }
+
+    @Test
+    void when_write_events_as_xlsx_should_write_cells_in_gtd_column_order() throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Map<String, Object> event = createEvent(1L, "summary");
+        event.put("date", new DateStringConverter(DateString.ISO_8601)
+                .toGraphProperty(XlsxUtil.getDate(2019, 1, 2)));
+        event.put("isSuccessful", true);
+        event.put("totalNumberOfFatalities", 10L);
+
+        try (EventExportWriter eventExportWriter = new XlsxEventExportWriter(outputStream)) {
+
+            eventExportWriter.write(event);
+            eventExportWriter.finish();
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+
+            Sheet sheet = workbook.getSheetAt(0);
+            Row header = sheet.getRow(0);
+            Row row = sheet.getRow(1);
+
+            assertAll(() -> assertEquals(2, sheet.getPhysicalNumberOfRows(),
+                    () -> "should write: 2 rows, but was: " + sheet.getPhysicalNumberOfRows()),
+                    () -> assertEquals("country_txt", header.getCell(XlsxColumnType.COUNTRY_NAME.getIndex())
+                            .getStringCellValue(), () -> "should write header in GTD layout, but was: " + header),
+                    () -> assertEquals(2019, row.getCell(XlsxColumnType.YEAR_OF_EVENT.getIndex())
+                            .getNumericCellValue(), () -> "should write year of event, but was: " + row),
+                    () -> assertEquals(1, row.getCell(XlsxColumnType.MONTH_OF_EVENT.getIndex())
+                            .getNumericCellValue(), () -> "should write month of event, but was: " + row),
+                    () -> assertEquals(2, row.getCell(XlsxColumnType.DAY_OF_EVENT.getIndex())
+                            .getNumericCellValue(), () -> "should write day of event, but was: " + row),
+                    () -> assertEquals("country", row.getCell(XlsxColumnType.COUNTRY_NAME.getIndex())
+                            .getStringCellValue(), () -> "should write country name, but was: " + row),
+                    () -> assertEquals("summary", row.getCell(XlsxColumnType.EVENT_SUMMARY.getIndex())
+                            .getStringCellValue(), () -> "should write summary, but was: " + row),
+                    () -> assertEquals(1, row.getCell(XlsxColumnType.WAS_EVENT_SUCCESS.getIndex())
+                            .getNumericCellValue(), () -> "should write boolean as number, but was: " + row),
+                    () -> assertEquals(10, row.getCell(XlsxColumnType.TOTAL_NUMBER_OF_FATALITIES.getIndex())
+                            .getNumericCellValue(), () -> "should write number of fatalities, but was: " + row),
+                    () -> assertNull(row.getCell(XlsxColumnType.GROUP_NAME.getIndex()),
+                            () -> "should not write missing value, but was: " + row));
+        }
+    }
+
+    private Map<String, Object> createEvent(Long id, String summary) {
+
+        Map<String, Object> event = new HashMap<>();
+
+        event.put("id", id);
+        event.put("date", "2019-01-01T00:00:00.000Z");
+        event.put("summary", summary);
+        event.put("motive", "motive");
+        event.put("countryName", "country");
+
+        return event;
+    }
+}
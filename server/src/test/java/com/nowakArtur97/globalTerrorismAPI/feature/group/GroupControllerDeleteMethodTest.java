@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -51,6 +52,9 @@ class GroupControllerDeleteMethodTest {
     @Mock
     private ViolationUtil<GroupNode, GroupDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static GroupBuilder groupBuilder;
 
     @BeforeAll
@@ -64,7 +68,7 @@ class GroupControllerDeleteMethodTest {
 
         GenericRestController<GroupModel, GroupDTO> groupController
                 = new GroupController(groupService, modelAssembler, pagedResourcesAssembler,
-                patchUtil, violationUtil);
+                patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -90,6 +94,7 @@ class GroupControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -114,6 +119,7 @@ class GroupControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 }
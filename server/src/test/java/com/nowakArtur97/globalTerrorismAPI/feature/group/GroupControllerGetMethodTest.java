@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -71,6 +72,9 @@ class GroupControllerGetMethodTest {
     @Mock
     private ViolationUtil<GroupNode, GroupDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static EventBuilder eventBuilder;
     private static GroupBuilder groupBuilder;
 
@@ -86,7 +90,7 @@ class GroupControllerGetMethodTest {
 
         GenericRestController<GroupModel, GroupDTO> groupController
                 = new GroupController(groupService, modelAssembler, pagedResourcesAssembler,
-                patchUtil, violationUtil);
+                patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).setControllerAdvice(new GenericRestControllerAdvice())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver()).build();
@@ -181,7 +185,8 @@ class GroupControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(groupsExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler), () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -269,7 +274,8 @@ class GroupControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -324,7 +330,8 @@ class GroupControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -385,7 +392,8 @@ class GroupControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(modelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -409,7 +417,8 @@ class GroupControllerGetMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     private Group createGroupWithEvents(ObjectType type) {
@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -47,12 +48,15 @@ class GroupControllerOptionsMethodTest {
     @Mock
     private ViolationUtil<GroupNode, GroupDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     @BeforeEach
     private void setUp() {
 
         GenericRestController<GroupModel, GroupDTO> groupController
                 = new GroupController(groupService, modelAssembler, pagedResourcesAssembler,
-                patchUtil, violationUtil);
+                patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).build();
     }
@@ -73,7 +77,8 @@ class GroupControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -98,6 +103,7 @@ class GroupControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 }
\ No newline at end of file
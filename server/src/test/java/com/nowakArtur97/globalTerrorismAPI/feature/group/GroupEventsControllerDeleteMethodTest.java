@@ -1,11 +1,9 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
-import com.nowakArtur97.globalTerrorismAPI.common.util.PageUtil;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.DeletedEventNodes;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
-import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.GroupBuilder;
-import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,53 +37,66 @@ class GroupEventsControllerDeleteMethodTest {
     @Mock
     private GroupService groupService;
 
-    @Mock
-    private RepresentationModelAssemblerSupport<GroupNode, GroupModel> groupModelAssembler;
-
     @Mock
     private RepresentationModelAssemblerSupport<EventNode, EventModel> eventModelAssembler;
 
     @Mock
     private PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    @Mock
-    private PageUtil pageUtil;
-
-    private static GroupBuilder groupBuilder;
-
-    @BeforeAll
-    private static void setUpBuilders() {
-
-        groupBuilder = new GroupBuilder();
-    }
-
     @BeforeEach
     private void setUp() {
 
-        GroupEventsController groupEventsController = new GroupEventsController(groupService, groupModelAssembler,
-                eventModelAssembler, eventsPagedResourcesAssembler, pageUtil);
+        GroupEventsController groupEventsController = new GroupEventsController(groupService, eventModelAssembler,
+                eventsPagedResourcesAssembler);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupEventsController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
     }
 
     @Test
-    void when_delete_existing_group_events_should_not_return_content() {
+    void when_delete_existing_group_events_should_return_deleted_nodes() {
 
         Long groupId = 1L;
 
-        GroupNode groupNode = (GroupNode) groupBuilder.build(ObjectType.NODE);
+        DeletedEventNodes deletedEventNodes = new DeletedEventNodes(2L, 2L, 2L, 0L);
 
-        when(groupService.deleteAllGroupEvents(groupId)).thenReturn(Optional.of(groupNode));
+        when(groupService.deleteAllGroupEvents(groupId, false)).thenReturn(Optional.of(deletedEventNodes));
 
         assertAll(
                 () -> mockMvc.perform(delete(LINK_WITH_PARAMETER, groupId))
-                        .andExpect(status().isNoContent())
-                        .andExpect(jsonPath("$").doesNotExist()),
-                () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId),
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("deletedEvents", is(2)))
+                        .andExpect(jsonPath("deletedTargets", is(2)))
+                        .andExpect(jsonPath("deletedVictims", is(2)))
+                        .andExpect(jsonPath("deletedCities", is(0)))
+                        .andExpect(jsonPath("totalDeletedNodes", is(6))),
+                () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId, false),
+                () -> verifyNoMoreInteractions(groupService),
+                () -> verifyNoInteractions(eventModelAssembler),
+                () -> verifyNoInteractions(eventsPagedResourcesAssembler));
+    }
+
+    @Test
+    void when_delete_existing_group_events_with_orphaned_cities_should_return_deleted_nodes() {
+
+        Long groupId = 1L;
+
+        DeletedEventNodes deletedEventNodes = new DeletedEventNodes(2L, 2L, 2L, 1L);
+
+        when(groupService.deleteAllGroupEvents(groupId, true)).thenReturn(Optional.of(deletedEventNodes));
+
+        assertAll(
+                () -> mockMvc.perform(delete(LINK_WITH_PARAMETER, groupId).param("deleteOrphanedCities", "true"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("deletedEvents", is(2)))
+                        .andExpect(jsonPath("deletedTargets", is(2)))
+                        .andExpect(jsonPath("deletedVictims", is(2)))
+                        .andExpect(jsonPath("deletedCities", is(1)))
+                        .andExpect(jsonPath("totalDeletedNodes", is(7))),
+                () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId, true),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageUtil),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
@@ -95,7 +106,7 @@ class GroupEventsControllerDeleteMethodTest {
 
         Long groupId = 1L;
 
-        when(groupService.deleteAllGroupEvents(groupId)).thenReturn(Optional.empty());
+        when(groupService.deleteAllGroupEvents(groupId, false)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(delete(LINK_WITH_PARAMETER, groupId))
@@ -104,10 +115,8 @@ class GroupEventsControllerDeleteMethodTest {
                         .andExpect(jsonPath("timestamp").isNotEmpty()).andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find GroupModel with id: " + groupId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId),
+                () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId, false),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageUtil),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
@@ -1,12 +1,10 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
-import com.nowakArtur97.globalTerrorismAPI.common.util.PageUtil;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.Event;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.EventBuilder;
-import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.GroupBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import org.junit.jupiter.api.*;
@@ -54,33 +52,26 @@ class GroupEventsControllerGetMethodTest {
     @Mock
     private GroupService groupService;
 
-    @Mock
-    private RepresentationModelAssemblerSupport<GroupNode, GroupModel> groupModelAssembler;
-
     @Mock
     private RepresentationModelAssemblerSupport<EventNode, EventModel> eventModelAssembler;
 
     @Mock
     private PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    @Mock
-    private PageUtil pageUtil;
 
     private static EventBuilder eventBuilder;
-    private static GroupBuilder groupBuilder;
 
     @BeforeAll
     private static void setUpBuilders() {
 
         eventBuilder = new EventBuilder();
-        groupBuilder = new GroupBuilder();
     }
 
     @BeforeEach
     private void setUp() {
 
-        GroupEventsController groupEventsController = new GroupEventsController(groupService, groupModelAssembler,
-                eventModelAssembler, eventsPagedResourcesAssembler, pageUtil);
+        GroupEventsController groupEventsController = new GroupEventsController(groupService, eventModelAssembler,
+                eventsPagedResourcesAssembler);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupEventsController).setControllerAdvice(new GenericRestControllerAdvice())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver()).build();
@@ -105,8 +96,6 @@ class GroupEventsControllerGetMethodTest {
         List<EventModel> groupEventModelsListExpected = List.of(eventModel1, eventModel2, eventModel3, eventModel4);
         List<EventNode> subListOfEvents = List.of(eventNode1, eventNode2, eventNode3, eventNode4);
 
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withEventsCaused(List.of(eventNode1, eventNode2, eventNode3, eventNode4)).build(ObjectType.NODE);
-
         int sizeExpected = 20;
         int totalElementsExpected = 4;
         int totalPagesExpected = 1;
@@ -131,8 +120,7 @@ class GroupEventsControllerGetMethodTest {
         PagedModel<EventModel> resources = new PagedModel<>(groupEventModelsListExpected, metadata, pageLink1, pageLink2,
                 pageLink3, pageLink4);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(pageUtil.convertListToPage(pageable, groupEventNodesListExpected)).thenReturn(pageImpl);
+        when(groupService.findGroupEvents(groupId, pageable)).thenReturn(Optional.of(pageImpl));
         when(eventsPagedResourcesAssembler.toModel(pageImpl, eventModelAssembler)).thenReturn(resources);
 
         assertAll(
@@ -205,14 +193,11 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(jsonPath("page.totalElements", is(totalElementsExpected)))
                         .andExpect(jsonPath("page.totalPages", is(totalPagesExpected)))
                         .andExpect(jsonPath("page.number", is(numberExpected))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findGroupEvents(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verify(pageUtil, times(1)).convertListToPage(pageable, groupEventNodesListExpected),
-                () -> verifyNoMoreInteractions(pageUtil),
                 () -> verify(eventsPagedResourcesAssembler, times(1)).toModel(pageImpl, eventModelAssembler),
                 () -> verifyNoMoreInteractions(eventsPagedResourcesAssembler),
-                () -> verifyNoInteractions(eventModelAssembler),
-                () -> verifyNoInteractions(groupModelAssembler));
+                () -> verifyNoInteractions(eventModelAssembler));
     }
 
     @Test
@@ -233,8 +218,6 @@ class GroupEventsControllerGetMethodTest {
         List<EventModel> groupEventModelsListExpected = List.of(eventModel1, eventModel2, eventModel3);
         List<EventNode> subListOfEvents = List.of(eventNode1, eventNode2, eventNode3);
 
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withEventsCaused(List.of(eventNode1, eventNode2, eventNode3, eventNode4)).build(ObjectType.NODE);
-
         int sizeExpected = 3;
         int totalElementsExpected = 4;
         int totalPagesExpected = 2;
@@ -259,8 +242,7 @@ class GroupEventsControllerGetMethodTest {
         PagedModel<EventModel> resources = new PagedModel<>(groupEventModelsListExpected, metadata, pageLink1, pageLink2,
                 pageLink3, pageLink4);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(pageUtil.convertListToPage(pageable, groupEventNodesListExpected)).thenReturn(pageImpl);
+        when(groupService.findGroupEvents(groupId, pageable)).thenReturn(Optional.of(pageImpl));
         when(eventsPagedResourcesAssembler.toModel(pageImpl, eventModelAssembler)).thenReturn(resources);
 
         assertAll(
@@ -321,14 +303,11 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(jsonPath("page.totalElements", is(totalElementsExpected)))
                         .andExpect(jsonPath("page.totalPages", is(totalPagesExpected)))
                         .andExpect(jsonPath("page.number", is(numberExpected))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findGroupEvents(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verify(pageUtil, times(1)).convertListToPage(pageable, groupEventNodesListExpected),
-                () -> verifyNoMoreInteractions(pageUtil),
                 () -> verify(eventsPagedResourcesAssembler, times(1)).toModel(pageImpl, eventModelAssembler),
                 () -> verifyNoMoreInteractions(eventsPagedResourcesAssembler),
-                () -> verifyNoInteractions(eventModelAssembler),
-                () -> verifyNoInteractions(groupModelAssembler));
+                () -> verifyNoInteractions(eventModelAssembler));
     }
 
     @Test
@@ -340,8 +319,6 @@ class GroupEventsControllerGetMethodTest {
         List<EventModel> groupEventModelsListExpected = new ArrayList<>();
         List<EventNode> subListOfEvents = new ArrayList<>();
 
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.build(ObjectType.NODE);
-
         int sizeExpected = 20;
         int totalElementsExpected = 0;
         int totalPagesExpected = 0;
@@ -366,8 +343,7 @@ class GroupEventsControllerGetMethodTest {
         PagedModel<EventModel> resources = new PagedModel<>(groupEventModelsListExpected, metadata, pageLink1, pageLink2,
                 pageLink3, pageLink4);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(pageUtil.convertListToPage(pageable, groupEventNodesListExpected)).thenReturn(pageImpl);
+        when(groupService.findGroupEvents(groupId, pageable)).thenReturn(Optional.of(pageImpl));
         when(eventsPagedResourcesAssembler.toModel(pageImpl, eventModelAssembler)).thenReturn(resources);
 
         assertAll(
@@ -382,14 +358,11 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(jsonPath("page.totalElements", is(totalElementsExpected)))
                         .andExpect(jsonPath("page.totalPages", is(totalPagesExpected)))
                         .andExpect(jsonPath("page.number", is(numberExpected))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findGroupEvents(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verify(pageUtil, times(1)).convertListToPage(pageable, groupEventNodesListExpected),
-                () -> verifyNoMoreInteractions(pageUtil),
                 () -> verify(eventsPagedResourcesAssembler, times(1)).toModel(pageImpl, eventModelAssembler),
                 () -> verifyNoMoreInteractions(eventsPagedResourcesAssembler),
-                () -> verifyNoInteractions(eventModelAssembler),
-                () -> verifyNoInteractions(groupModelAssembler));
+                () -> verifyNoInteractions(eventModelAssembler));
     }
 
     @Test
@@ -398,7 +371,9 @@ class GroupEventsControllerGetMethodTest {
         Long groupId = 1L;
         String linkWithParameter = GROUP_BASE_PATH + "/{id}/events";
 
-        when(groupService.findById(groupId)).thenReturn(Optional.empty());
+        Pageable pageable = PageRequest.of(0, 20);
+
+        when(groupService.findGroupEvents(groupId, pageable)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, groupId))
@@ -408,10 +383,8 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find GroupModel with id: " + groupId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findGroupEvents(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageUtil),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
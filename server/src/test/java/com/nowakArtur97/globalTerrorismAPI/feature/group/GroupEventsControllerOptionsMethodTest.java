@@ -1,6 +1,5 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
-import com.nowakArtur97.globalTerrorismAPI.common.util.PageUtil;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
@@ -34,23 +33,18 @@ class GroupEventsControllerOptionsMethodTest {
     @Mock
     private GroupService groupService;
 
-    @Mock
-    private RepresentationModelAssemblerSupport<GroupNode, GroupModel> groupModelAssembler;
-
     @Mock
     private RepresentationModelAssemblerSupport<EventNode, EventModel> eventModelAssembler;
 
     @Mock
     private PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    @Mock
-    private PageUtil pageUtil;
 
     @BeforeEach
     private void setUp() {
 
-        GroupEventsController groupEventsController = new GroupEventsController(groupService, groupModelAssembler,
-                eventModelAssembler, eventsPagedResourcesAssembler, pageUtil);
+        GroupEventsController groupEventsController = new GroupEventsController(groupService, eventModelAssembler,
+                eventsPagedResourcesAssembler);
 
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupEventsController).build();
@@ -73,8 +67,6 @@ class GroupEventsControllerOptionsMethodTest {
                 () -> assertTrue(allowedMethods.contains("DELETE"), () -> "should contain DELETE option, but was: " + allowedMethods),
                 () -> assertTrue(allowedMethods.contains("OPTIONS"), () -> "should contain OPTIONS option, but was: " + allowedMethods),
                 () -> verifyNoInteractions(groupService),
-                () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageUtil),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
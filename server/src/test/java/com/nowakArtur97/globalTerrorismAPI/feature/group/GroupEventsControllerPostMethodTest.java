@@ -126,7 +126,7 @@ class GroupEventsControllerPostMethodTest {
     }
 
     @Test
-    void when_add_valid_event_to_group_should_return_group_with_new_event_as_model() {
+    void when_add_valid_event_to_group_should_return_new_event_as_model() {
 
         CountryDTO countryDTO = (CountryDTO) countryBuilder.withName(countryNode.getName()).build(ObjectType.DTO);
         TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
@@ -138,8 +138,7 @@ class GroupEventsControllerPostMethodTest {
 
         String pathToRegionLink = REGION_BASE_PATH + "/" + regionNode.getId().intValue();
         String pathToCountryLink = COUNTRY_BASE_PATH + "/" + countryNode.getId().intValue();
-        String pathToSelfLink = GROUP_BASE_PATH + "/" + groupNode.getId();
-        String pathToEventsLink = GROUP_BASE_PATH + "/" + groupNode.getId().intValue() + "/events";
+        String pathToGroupLink = GROUP_BASE_PATH + "/" + groupNode.getId().intValue();
 
         String token = jwtUtil.generateToken(new User(userNode.getUserName(), userNode.getPassword(),
                 List.of(new SimpleGrantedAuthority("user"))));
@@ -152,71 +151,69 @@ class GroupEventsControllerPostMethodTest {
                                 .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
                         .andExpect(status().isCreated())
                         .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
-                        .andExpect(jsonPath("links[0].href", is(pathToSelfLink)))
-                        .andExpect(jsonPath("links[1].href", is(pathToEventsLink)))
-                        .andExpect(jsonPath("id", is(groupNode.getId().intValue())))
-                        .andExpect(jsonPath("name", is(groupNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].summary", is(eventDTO.getSummary())))
-                        .andExpect(jsonPath("eventsCaused[0].motive", is(eventDTO.getMotive())))
-                        .andExpect(jsonPath("eventsCaused[0].date",
+                        .andExpect(header().exists("Location"))
+                        .andExpect(jsonPath("id", notNullValue()))
+                        .andExpect(jsonPath("summary", is(eventDTO.getSummary())))
+                        .andExpect(jsonPath("motive", is(eventDTO.getMotive())))
+                        .andExpect(jsonPath("date",
                                 is(DateTimeFormatter.ofPattern("yyyy-MM-dd")
                                         .format(eventDTO.getDate().toInstant().atZone(ZoneId.systemDefault())
                                                 .toLocalDate()))))
-                        .andExpect(jsonPath("eventsCaused[0].isSuicidal", is(eventDTO.getIsSuicidal())))
-                        .andExpect(jsonPath("eventsCaused[0].isSuccessful", is(eventDTO.getIsSuccessful())))
-                        .andExpect(jsonPath("eventsCaused[0].isPartOfMultipleIncidents",
+                        .andExpect(jsonPath("isSuicidal", is(eventDTO.getIsSuicidal())))
+                        .andExpect(jsonPath("isSuccessful", is(eventDTO.getIsSuccessful())))
+                        .andExpect(jsonPath("isPartOfMultipleIncidents",
                                 is(eventDTO.getIsPartOfMultipleIncidents())))
-                        .andExpect(jsonPath("eventsCaused[0].links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].links[1].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].target.id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].target.target", is(targetDTO.getTarget())))
-                        .andExpect(jsonPath("eventsCaused[0].target.links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].target.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.links[0].href", is(pathToCountryLink)))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.id",
+                        .andExpect(jsonPath("links[0].href", notNullValue()))
+                        .andExpect(jsonPath("links[1].href", notNullValue()))
+                        .andExpect(jsonPath("links[2].href", is(pathToGroupLink)))
+                        .andExpect(jsonPath("target.id", notNullValue()))
+                        .andExpect(jsonPath("target.target", is(targetDTO.getTarget())))
+                        .andExpect(jsonPath("target.links[0].href", notNullValue()))
+                        .andExpect(jsonPath("target.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("target.countryOfOrigin.links[0].href", is(pathToCountryLink)))
+                        .andExpect(jsonPath("target.countryOfOrigin.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("target.countryOfOrigin.id",
                                 is(countryNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.name", is(countryNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.links[0].href",
+                        .andExpect(jsonPath("target.countryOfOrigin.name", is(countryNode.getName())))
+                        .andExpect(jsonPath("target.countryOfOrigin.region.links[0].href",
                                 is(pathToRegionLink)))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.id",
+                        .andExpect(jsonPath("target.countryOfOrigin.region.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("target.countryOfOrigin.region.id",
                                 is(regionNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.name", is(regionNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].city.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].city.name", is(cityDTO.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.latitude", is(cityDTO.getLatitude())))
-                        .andExpect(jsonPath("eventsCaused[0].city.longitude", is(cityDTO.getLongitude())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.province.id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.name", is(provinceDTO.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.links[0].href", is(pathToCountryLink)))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.id", is(countryNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.name", is(countryDTO.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.links[0].href",
+                        .andExpect(jsonPath("target.countryOfOrigin.region.name", is(regionNode.getName())))
+                        .andExpect(jsonPath("city.links[0].href", notNullValue()))
+                        .andExpect(jsonPath("city.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.id", notNullValue()))
+                        .andExpect(jsonPath("city.name", is(cityDTO.getName())))
+                        .andExpect(jsonPath("city.latitude", is(cityDTO.getLatitude())))
+                        .andExpect(jsonPath("city.longitude", is(cityDTO.getLongitude())))
+                        .andExpect(jsonPath("city.province.links[0].href", notNullValue()))
+                        .andExpect(jsonPath("city.province.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.province.id", notNullValue()))
+                        .andExpect(jsonPath("city.province.name", is(provinceDTO.getName())))
+                        .andExpect(jsonPath("city.province.country.links[0].href", is(pathToCountryLink)))
+                        .andExpect(jsonPath("city.province.country.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.province.country.id", is(countryNode.getId().intValue())))
+                        .andExpect(jsonPath("city.province.country.name", is(countryDTO.getName())))
+                        .andExpect(jsonPath("city.province.country.region.links[0].href",
                                 is(pathToRegionLink)))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.id",
+                        .andExpect(jsonPath("city.province.country.region.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.province.country.region.id",
                                 is(regionNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.name",
+                        .andExpect(jsonPath("city.province.country.region.name",
                                 is(regionNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].victim.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].victim.id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].victim.totalNumberOfFatalities",
+                        .andExpect(jsonPath("victim.links[0].href", notNullValue()))
+                        .andExpect(jsonPath("victim.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("victim.id", notNullValue()))
+                        .andExpect(jsonPath("victim.totalNumberOfFatalities",
                                 is(victimDTO.getTotalNumberOfFatalities().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.numberOfPerpetratorsFatalities",
+                        .andExpect(jsonPath("victim.numberOfPerpetratorsFatalities",
                                 is(victimDTO.getNumberOfPerpetratorsFatalities().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.totalNumberOfInjured",
+                        .andExpect(jsonPath("victim.totalNumberOfInjured",
                                 is(victimDTO.getTotalNumberOfInjured().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.numberOfPerpetratorsInjured",
+                        .andExpect(jsonPath("victim.numberOfPerpetratorsInjured",
                                 is(victimDTO.getNumberOfPerpetratorsInjured().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.valueOfPropertyDamage",
+                        .andExpect(jsonPath("victim.valueOfPropertyDamage",
                                 is(victimDTO.getValueOfPropertyDamage().intValue()))));
     }
 
@@ -237,8 +234,7 @@ class GroupEventsControllerPostMethodTest {
         String pathToCountryLink = COUNTRY_BASE_PATH + "/" + countryNode.getId().intValue();
         String pathToProvinceLink = PROVINCE_BASE_PATH + "/" + provinceNode.getId().intValue();
         String pathToCityLink = CITY_BASE_PATH + "/" + cityNode.getId().intValue();
-        String pathToSelfLink = GROUP_BASE_PATH + "/" + groupNode2.getId();
-        String pathToEventsLink = GROUP_BASE_PATH + "/" + groupNode2.getId().intValue() + "/events";
+        String pathToGroupLink = GROUP_BASE_PATH + "/" + groupNode2.getId().intValue();
 
         String token = jwtUtil.generateToken(new User(userNode.getUserName(), userNode.getPassword(),
                 List.of(new SimpleGrantedAuthority("user"))));
@@ -251,72 +247,70 @@ class GroupEventsControllerPostMethodTest {
                                 .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
                         .andExpect(status().isCreated())
                         .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
-                        .andExpect(jsonPath("links[0].href", is(pathToSelfLink)))
-                        .andExpect(jsonPath("links[1].href", is(pathToEventsLink)))
-                        .andExpect(jsonPath("id", is(groupNode2.getId().intValue())))
-                        .andExpect(jsonPath("name", is(groupNode2.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].summary", is(eventDTO.getSummary())))
-                        .andExpect(jsonPath("eventsCaused[0].motive", is(eventDTO.getMotive())))
-                        .andExpect(jsonPath("eventsCaused[0].date",
+                        .andExpect(header().exists("Location"))
+                        .andExpect(jsonPath("id", notNullValue()))
+                        .andExpect(jsonPath("summary", is(eventDTO.getSummary())))
+                        .andExpect(jsonPath("motive", is(eventDTO.getMotive())))
+                        .andExpect(jsonPath("date",
                                 is(DateTimeFormatter.ofPattern("yyyy-MM-dd")
                                         .format(eventDTO.getDate().toInstant().atZone(ZoneId.systemDefault())
                                                 .toLocalDate()))))
-                        .andExpect(jsonPath("eventsCaused[0].isSuicidal", is(eventDTO.getIsSuicidal())))
-                        .andExpect(jsonPath("eventsCaused[0].isSuccessful", is(eventDTO.getIsSuccessful())))
-                        .andExpect(jsonPath("eventsCaused[0].isPartOfMultipleIncidents",
+                        .andExpect(jsonPath("isSuicidal", is(eventDTO.getIsSuicidal())))
+                        .andExpect(jsonPath("isSuccessful", is(eventDTO.getIsSuccessful())))
+                        .andExpect(jsonPath("isPartOfMultipleIncidents",
                                 is(eventDTO.getIsPartOfMultipleIncidents())))
-                        .andExpect(jsonPath("eventsCaused[0].links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].links[1].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].target.id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].target.target", is(targetDTO.getTarget())))
-                        .andExpect(jsonPath("eventsCaused[0].target.links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].target.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.links[0].href", is(pathToCountryLink)))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.id",
+                        .andExpect(jsonPath("links[0].href", notNullValue()))
+                        .andExpect(jsonPath("links[1].href", notNullValue()))
+                        .andExpect(jsonPath("links[2].href", is(pathToGroupLink)))
+                        .andExpect(jsonPath("target.id", notNullValue()))
+                        .andExpect(jsonPath("target.target", is(targetDTO.getTarget())))
+                        .andExpect(jsonPath("target.links[0].href", notNullValue()))
+                        .andExpect(jsonPath("target.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("target.countryOfOrigin.links[0].href", is(pathToCountryLink)))
+                        .andExpect(jsonPath("target.countryOfOrigin.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("target.countryOfOrigin.id",
                                 is(countryNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.name", is(countryNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.links[0].href",
+                        .andExpect(jsonPath("target.countryOfOrigin.name", is(countryNode.getName())))
+                        .andExpect(jsonPath("target.countryOfOrigin.region.links[0].href",
                                 is(pathToRegionLink)))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.id",
+                        .andExpect(jsonPath("target.countryOfOrigin.region.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("target.countryOfOrigin.region.id",
                                 is(regionNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].target.countryOfOrigin.region.name",
+                        .andExpect(jsonPath("target.countryOfOrigin.region.name",
                                 is(regionNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.links[0].href", is(pathToCityLink)))
-                        .andExpect(jsonPath("eventsCaused[0].city.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.id", is(cityNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].city.name", is(cityNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.latitude", is(cityNode.getLatitude())))
-                        .andExpect(jsonPath("eventsCaused[0].city.longitude", is(cityNode.getLongitude())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.links[0].href", is(pathToProvinceLink)))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.province.id", is(provinceNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.name", is(provinceNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.links[0].href", is(pathToCountryLink)))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.id", is(countryNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.name", is(countryDTO.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.links[0].href",
+                        .andExpect(jsonPath("city.links[0].href", is(pathToCityLink)))
+                        .andExpect(jsonPath("city.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.id", is(cityNode.getId().intValue())))
+                        .andExpect(jsonPath("city.name", is(cityNode.getName())))
+                        .andExpect(jsonPath("city.latitude", is(cityNode.getLatitude())))
+                        .andExpect(jsonPath("city.longitude", is(cityNode.getLongitude())))
+                        .andExpect(jsonPath("city.province.links[0].href", is(pathToProvinceLink)))
+                        .andExpect(jsonPath("city.province.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.province.id", is(provinceNode.getId().intValue())))
+                        .andExpect(jsonPath("city.province.name", is(provinceNode.getName())))
+                        .andExpect(jsonPath("city.province.country.links[0].href", is(pathToCountryLink)))
+                        .andExpect(jsonPath("city.province.country.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.province.country.id", is(countryNode.getId().intValue())))
+                        .andExpect(jsonPath("city.province.country.name", is(countryDTO.getName())))
+                        .andExpect(jsonPath("city.province.country.region.links[0].href",
                                 is(pathToRegionLink)))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.id",
+                        .andExpect(jsonPath("city.province.country.region.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("city.province.country.region.id",
                                 is(regionNode.getId().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].city.province.country.region.name",
+                        .andExpect(jsonPath("city.province.country.region.name",
                                 is(regionNode.getName())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.links[0].href", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].victim.links[1].href").doesNotExist())
-                        .andExpect(jsonPath("eventsCaused[0].victim.id", notNullValue()))
-                        .andExpect(jsonPath("eventsCaused[0].victim.totalNumberOfFatalities",
+                        .andExpect(jsonPath("victim.links[0].href", notNullValue()))
+                        .andExpect(jsonPath("victim.links[1].href").doesNotExist())
+                        .andExpect(jsonPath("victim.id", notNullValue()))
+                        .andExpect(jsonPath("victim.totalNumberOfFatalities",
                                 is(victimDTO.getTotalNumberOfFatalities().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.numberOfPerpetratorsFatalities",
+                        .andExpect(jsonPath("victim.numberOfPerpetratorsFatalities",
                                 is(victimDTO.getNumberOfPerpetratorsFatalities().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.totalNumberOfInjured",
+                        .andExpect(jsonPath("victim.totalNumberOfInjured",
                                 is(victimDTO.getTotalNumberOfInjured().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.numberOfPerpetratorsInjured",
+                        .andExpect(jsonPath("victim.numberOfPerpetratorsInjured",
                                 is(victimDTO.getNumberOfPerpetratorsInjured().intValue())))
-                        .andExpect(jsonPath("eventsCaused[0].victim.valueOfPropertyDamage",
+                        .andExpect(jsonPath("victim.valueOfPropertyDamage",
                                 is(victimDTO.getValueOfPropertyDamage().intValue()))));
     }
 
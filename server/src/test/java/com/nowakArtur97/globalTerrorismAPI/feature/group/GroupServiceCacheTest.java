@@ -0,0 +1,151 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.group;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheManager;
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
+import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.DeletedEventNodes;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(GroupServiceCacheTest.GroupServiceCacheConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("GroupServiceCache_Tests")
+class GroupServiceCacheTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private GroupDTO groupDTO;
+
+    @BeforeEach
+    private void setUp() {
+
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        reset(groupRepository, modelMapper);
+
+        groupDTO = new GroupDTO("group", new ArrayList<>());
+
+        when(modelMapper.map(groupDTO, GroupNode.class)).thenReturn(new GroupNode("group"));
+        when(groupRepository.save(any(GroupNode.class))).thenAnswer(invocation -> {
+
+            cacheManager.getCache(StatisticsService.STATISTICS_CACHE).put("statistics", "stale statistics");
+
+            return invocation.getArgument(0);
+        });
+    }
+
+    @Test
+    void when_save_new_group_should_evict_statistics_after_saving_group() {
+
+        groupService.saveNew(groupDTO);
+
+        assertAll(() -> verify(groupRepository, times(1)).save(any(GroupNode.class)),
+                () -> assertNull(cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics"),
+                        () -> "should evict statistics cached while saving group, but was: "
+                                + cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics")));
+    }
+
+    @Test
+    void when_update_group_should_evict_statistics_after_saving_group() {
+
+        when(groupRepository.deleteGroupEvents(anyLong(), anyInt(), anyBoolean())).thenReturn(new DeletedEventNodes());
+
+        groupService.update(new GroupNode(1L, "group", new ArrayList<>()), groupDTO);
+
+        assertAll(() -> verify(groupRepository, times(1)).save(any(GroupNode.class)),
+                () -> assertNull(cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics"),
+                        () -> "should evict statistics cached while saving group, but was: "
+                                + cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics")));
+    }
+
+    @Test
+    void when_update_group_properties_should_evict_statistics() {
+
+        Map<String, Object> properties = Map.of("name", "group updated");
+
+        when(groupRepository.updateProperties(1L, properties)).thenReturn(true);
+
+        cacheManager.getCache(StatisticsService.STATISTICS_CACHE).put("statistics", "statistics");
+
+        groupService.updateProperties(1L, properties);
+
+        assertAll(() -> verify(groupRepository, times(1)).updateProperties(1L, properties),
+                () -> assertNull(cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics"),
+                        () -> "should evict statistics, but was: "
+                                + cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics")));
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    static class GroupServiceCacheConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+
+            return new ExpiringCacheManager(List.of(StatisticsService.STATISTICS_CACHE), 100, 60000);
+        }
+
+        @Bean
+        GroupRepository groupRepository() {
+
+            return mock(GroupRepository.class);
+        }
+
+        @Bean
+        ModelMapper modelMapper() {
+
+            return mock(ModelMapper.class);
+        }
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        GenericService<EventNode, EventDTO> eventService() {
+
+            return mock(GenericService.class);
+        }
+
+        @Bean
+        GroupService groupService(GroupRepository groupRepository, ModelMapper modelMapper,
+                                  GenericService<EventNode, EventDTO> eventService) {
+
+            return new GroupService(groupRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()),
+                    eventService);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.group;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityNode;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.event.DeletedEventNodes;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.event.EventNode;
 import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceDTO;
@@ -17,6 +19,7 @@ import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.*;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -26,6 +29,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -77,7 +81,7 @@ class GroupServiceTest {
     @BeforeEach
     private void setUp() {
 
-        groupService = new GroupService(groupRepository, modelMapper, eventService);
+        groupService = new GroupService(groupRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()), eventService);
     }
 
     @Test
@@ -210,6 +214,78 @@ class GroupServiceTest {
                 () -> verifyNoInteractions(eventService));
     }
 
+    @Test
+    void when_find_group_events_should_page_and_sort_events_in_repository() {
+
+        Long groupId = 1L;
+
+        EventNode eventNode1 = (EventNode) eventBuilder.withId(1L).build(ObjectType.NODE);
+        EventNode eventNode2 = (EventNode) eventBuilder.withId(2L).build(ObjectType.NODE);
+        List<EventNode> eventsExpected = List.of(eventNode1, eventNode2);
+        GroupNode groupNode = (GroupNode) groupBuilder.build(ObjectType.NODE);
+
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "date"));
+
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNode));
+        when(groupRepository.findGroupEvents(groupId, "date", false, 2L, 2)).thenReturn(eventsExpected);
+        when(groupRepository.countGroupEvents(groupId)).thenReturn(7L);
+
+        Page<EventNode> eventsActual = groupService.findGroupEvents(groupId, pageable).get();
+
+        assertAll(() -> assertEquals(eventsExpected, eventsActual.getContent(),
+                () -> "should return events: " + eventsExpected + ", but was: " + eventsActual.getContent()),
+                () -> assertEquals(7L, eventsActual.getTotalElements(),
+                        () -> "should return total elements: 7, but was: " + eventsActual.getTotalElements()),
+                () -> assertEquals(pageable, eventsActual.getPageable(),
+                        () -> "should return pageable: " + pageable + ", but was: " + eventsActual.getPageable()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verify(groupRepository, times(1)).findGroupEvents(groupId, "date", false, 2L, 2),
+                () -> verify(groupRepository, times(1)).countGroupEvents(groupId),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verifyNoInteractions(modelMapper),
+                () -> verifyNoInteractions(eventService));
+    }
+
+    @Test
+    void when_find_group_events_of_last_page_with_unknown_sort_should_not_count_events() {
+
+        Long groupId = 1L;
+
+        EventNode eventNode = (EventNode) eventBuilder.build(ObjectType.NODE);
+        GroupNode groupNode = (GroupNode) groupBuilder.build(ObjectType.NODE);
+
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("target"));
+
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNode));
+        when(groupRepository.findGroupEvents(groupId, "id", true, 0L, 20)).thenReturn(List.of(eventNode));
+
+        Page<EventNode> eventsActual = groupService.findGroupEvents(groupId, pageable).get();
+
+        assertAll(() -> assertEquals(1L, eventsActual.getTotalElements(),
+                () -> "should return total elements: 1, but was: " + eventsActual.getTotalElements()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verify(groupRepository, times(1)).findGroupEvents(groupId, "id", true, 0L, 20),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verifyNoInteractions(modelMapper),
+                () -> verifyNoInteractions(eventService));
+    }
+
+    @Test
+    void when_find_events_of_not_existing_group_should_return_empty_optional() {
+
+        Long groupId = 1L;
+
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.empty());
+
+        Optional<Page<EventNode>> eventsActualOptional = groupService.findGroupEvents(groupId, PageRequest.of(0, 20));
+
+        assertAll(() -> assertTrue(eventsActualOptional.isEmpty(), () -> "should return empty optional"),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verifyNoInteractions(modelMapper),
+                () -> verifyNoInteractions(eventService));
+    }
+
     @Test
     void when_group_exists_and_return_one_group_with_depth_should_return_one_group_with_events() {
 
@@ -924,6 +1000,8 @@ class GroupServiceTest {
         GroupNode groupNodeExpected = (GroupNode) groupBuilder.withName(updatedGroupName)
                 .withEventsCaused(List.of(updatedEventNode, updatedEventNode2)).build(ObjectType.NODE);
 
+        when(groupRepository.deleteGroupEvents(groupNodeExpectedBeforeMethod.getId(), 1000, false))
+                .thenReturn(new DeletedEventNodes(1L, 1L, 1L, 0L));
         when(eventService.saveNew(eventDTO)).thenReturn(updatedEventNode);
         when(eventService.saveNew(eventDTO2)).thenReturn(updatedEventNode2);
         when(modelMapper.map(groupDTOExpected, GroupNode.class)).thenReturn(groupNodeExpectedBeforeSetId);
@@ -1265,12 +1343,13 @@ class GroupServiceTest {
                         () -> "should return group node with victim value of property damage: "
                                 + updatedVictimNode2.getValueOfPropertyDamage() + ", but was: "
                                 + groupNodeActual.getEventsCaused().get(1).getVictim().getValueOfPropertyDamage()),
-                () -> verify(eventService, times(1)).delete(eventNode.getId()),
                 () -> verify(eventService, times(1)).saveNew(eventDTO),
                 () -> verify(eventService, times(1)).saveNew(eventDTO2),
                 () -> verifyNoMoreInteractions(eventService),
                 () -> verify(modelMapper, times(1)).map(groupDTOExpected, GroupNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
+                () -> verify(groupRepository, times(1))
+                        .deleteGroupEvents(groupNodeExpectedBeforeMethod.getId(), 1000, false),
                 () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeSetId),
                 () -> verifyNoMoreInteractions(groupRepository));
     }
@@ -1303,11 +1382,10 @@ class GroupServiceTest {
         GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId)
                 .withEventsCaused(List.of(eventNodeExpected, eventNodeExpected2)).build(ObjectType.NODE);
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(eventService.delete(eventId)).thenReturn(Optional.of(eventNodeExpected));
-        when(eventService.delete(eventId2)).thenReturn(Optional.of(eventNodeExpected2));
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNodeExpected));
+        when(groupRepository.deleteGroupEvents(groupId, 1000, false)).thenReturn(new DeletedEventNodes(2L, 2L, 2L, 0L));
 
-        Optional<GroupNode> groupNodeOptionalActual = groupService.delete(eventId);
+        Optional<GroupNode> groupNodeOptionalActual = groupService.delete(groupId);
 
         GroupNode groupNodeActual = groupNodeOptionalActual.get();
 
@@ -1639,12 +1717,11 @@ class GroupServiceTest {
                         () -> "should return group node with victim value of property damage: "
                                 + victimNodeExpected2.getValueOfPropertyDamage() + ", but was: "
                                 + groupNodeActual.getEventsCaused().get(1).getVictim().getValueOfPropertyDamage()),
-                () -> verify(groupRepository, times(1)).findById(eventId),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verify(groupRepository, times(1)).deleteGroupEvents(groupId, 1000, false),
                 () -> verify(groupRepository, times(1)).delete(groupNodeExpected),
                 () -> verifyNoMoreInteractions(groupRepository),
-                () -> verify(eventService, times(1)).delete(eventId),
-                () -> verify(eventService, times(1)).delete(eventId2),
-                () -> verifyNoMoreInteractions(eventService),
+                () -> verifyNoInteractions(eventService),
                 () -> verifyNoInteractions(modelMapper));
     }
 
@@ -1653,23 +1730,22 @@ class GroupServiceTest {
 
         Long groupId = 1L;
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.empty());
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.empty());
 
         Optional<GroupNode> groupNodeOptional = groupService.delete(groupId);
 
         assertAll(
                 () -> assertTrue(groupNodeOptional.isEmpty(),
                         () -> "should return empty group node optional, but was: " + groupNodeOptional.get()),
-                () -> verify(groupRepository, times(1)).findById(groupId),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
                 () -> verifyNoMoreInteractions(groupRepository),
                 () -> verifyNoInteractions(modelMapper),
                 () -> verifyNoInteractions(eventService));
     }
 
     @Test
-    void when_add_event_to_group_should_return_group_with_new_event() {
+    void when_add_event_to_group_should_return_new_event() {
 
-        Long eventId = 1L;
         Long eventId2 = 2L;
         Long groupId = 3L;
 
@@ -1682,665 +1758,110 @@ class GroupServiceTest {
 
         RegionNode regionNodeExpected = (RegionNode) regionBuilder.build(ObjectType.NODE);
         CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected).build(ObjectType.NODE);
-        TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
         TargetNode newTargetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
         ProvinceNode provinceNodeExpected = (ProvinceNode) provinceBuilder.withCountry(countryNodeExpected)
                 .build(ObjectType.NODE);
         CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
-        VictimNode victimNodeExpected = (VictimNode) victimBuilder.build(ObjectType.NODE);
         VictimNode newVictimNodeExpected = (VictimNode) victimBuilder.withTotalNumberOfFatalities(110L).build(ObjectType.NODE);
-        EventNode eventNodeExpected = (EventNode) eventBuilder.withId(eventId).withTarget(targetNodeExpected)
-                .withCity(cityNodeExpected).withVictim(victimNodeExpected).build(ObjectType.NODE);
         EventNode newEventNodeExpected = (EventNode) eventBuilder.withId(eventId2).withTarget(newTargetNodeExpected)
                 .withCity(cityNodeExpected).withVictim(newVictimNodeExpected).build(ObjectType.NODE);
-        GroupNode groupNodeExpectedBeforeSave = (GroupNode) groupBuilder.withId(groupId)
-                .withEventsCaused(List.of(eventNodeExpected)).build(ObjectType.NODE);
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId)
-                .withEventsCaused(List.of(eventNodeExpected, newEventNodeExpected)).build(ObjectType.NODE);
+        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId).build(ObjectType.NODE);
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.of(groupNodeExpectedBeforeSave));
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNodeExpected));
         when(eventService.saveNew(eventDTO)).thenReturn(newEventNodeExpected);
-        when(groupRepository.save(groupNodeExpectedBeforeSave)).thenReturn(groupNodeExpected);
-
-        Optional<GroupNode> groupNodeActualOptional = groupService.addEventToGroup(groupId, eventDTO);
 
-        GroupNode groupNodeActual = groupNodeActualOptional.get();
+        Optional<EventNode> eventNodeActualOptional = groupService.addEventToGroup(groupId, eventDTO);
 
         assertAll(
-                () -> assertNotNull(groupNodeActual.getId(),
-                        () -> "should return group node with id, but was: " + groupNodeActual.getId()),
-                () -> assertEquals(groupNodeExpected.getName(), groupNodeActual.getName(),
-                        () -> "should return group node with name: " + groupNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getName()),
+                () -> assertTrue(eventNodeActualOptional.isPresent(),
+                        () -> "should return event node, but was empty"),
+                () -> assertEquals(newEventNodeExpected, eventNodeActualOptional.get(),
+                        () -> "should return new event node: " + newEventNodeExpected + ", but was: "
+                                + eventNodeActualOptional.get()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verify(groupRepository, times(1)).addEvent(groupId, eventId2),
+                () -> verify(groupRepository, never()).save(any(GroupNode.class)),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verify(eventService, times(1)).saveNew(eventDTO),
+                () -> verifyNoMoreInteractions(eventService),
+                () -> verifyNoInteractions(modelMapper));
+    }
 
-                () -> assertEquals(eventNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getId(),
-                        () -> "should return group event node with id: " + eventNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getId()),
-                () -> assertEquals(eventNodeExpected.getSummary(), groupNodeActual.getEventsCaused().get(0).getSummary(),
-                        () -> "should return group event node with summary: " + eventNodeExpected.getSummary() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getSummary()),
-                () -> assertEquals(eventNodeExpected.getMotive(), groupNodeActual.getEventsCaused().get(0).getMotive(),
-                        () -> "should return group event node with motive: " + eventNodeExpected.getMotive() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getMotive()),
-                () -> assertEquals(eventNodeExpected.getDate(), groupNodeActual.getEventsCaused().get(0).getDate(),
-                        () -> "should return group event node with date: " + eventNodeExpected.getDate() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getDate()),
-                () -> assertEquals(eventNodeExpected.getIsPartOfMultipleIncidents(),
-                        groupNodeActual.getEventsCaused().get(0).getIsPartOfMultipleIncidents(),
-                        () -> "should return group event node which was part of multiple incidents: "
-                                + eventNodeExpected.getIsPartOfMultipleIncidents() + ", but was was: "
-                                + groupNodeActual.getEventsCaused().get(0).getIsPartOfMultipleIncidents()),
-                () -> assertEquals(eventNodeExpected.getIsSuccessful(), groupNodeActual.getEventsCaused().get(0).getIsSuccessful(),
-                        () -> "should return group event node which was successful: " + eventNodeExpected.getIsSuccessful()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getIsSuccessful()),
-                () -> assertEquals(eventNodeExpected.getIsSuicidal(), groupNodeActual.getEventsCaused().get(0).getIsSuicidal(),
-                        () -> "should return group event node which was suicidal: " + eventNodeExpected.getIsSuicidal()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getIsSuicidal()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getTarget(),
-                        () -> "should return group node with event node with not null target, but was: null"),
-                () -> assertEquals(targetNodeExpected, groupNodeActual.getEventsCaused().get(0).getTarget(),
-                        () -> "should return group node with event target: " + groupNodeActual.getEventsCaused().get(0).getTarget()
-                                + ", but was: " + targetNodeExpected),
-                () -> assertEquals(targetNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getTarget().getId(),
-                        () -> "should return group node with event target id: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getId() + ", but was: "
-                                + targetNodeExpected.getId()),
-                () -> assertEquals(targetNodeExpected.getTarget(), groupNodeActual.getEventsCaused().get(0).getTarget().getTarget(),
-                        () -> "should return group node with event target name: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getTarget() + ", but was: "
-                                + targetNodeExpected.getTarget()),
+    @Test
+    void when_add_event_to_group_but_group_does_not_exist_should_throw_error() {
 
-                () -> assertEquals(countryNodeExpected, groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin(),
-                        () -> "should return group node with event node with country: " + countryNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin()),
-                () -> assertEquals(countryNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getId(),
-                        () -> "should return group node with event node with country id: " + countryNodeExpected.getId()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getTarget().getId()),
-                () -> assertEquals(countryNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getName(),
-                        () -> "should return group node with event node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return group node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected,
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return group node with region: " + regionNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion().getId(),
-                        () -> "should return group node with region id: " + regionNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion().getName(),
-                        () -> "should return group node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion().getName()),
+        Long groupId = 1L;
 
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getCity(),
-                        () -> "should return group node with event node with not null city, but was: null"),
-                () -> assertEquals(cityNodeExpected, groupNodeActual.getEventsCaused().get(0).getCity(),
-                        () -> "should return group node with event city: " + groupNodeActual.getEventsCaused().get(0).getCity()
-                                + ", but was: " + cityNodeExpected),
-                () -> assertEquals(cityNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getCity().getId(),
-                        () -> "should return group node with event city id: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getId() + ", but was: "
-                                + cityNodeExpected.getId()),
-                () -> assertEquals(cityNodeExpected.getName(), groupNodeActual.getEventsCaused().get(0).getCity().getName(),
-                        () -> "should return group node with event city name: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getName() + ", but was: "
-                                + cityNodeExpected.getName()),
-                () -> assertEquals(cityNodeExpected.getLatitude(), groupNodeActual.getEventsCaused().get(0).getCity().getLatitude(),
-                        () -> "should return group node with event city latitude: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getLatitude() + ", but was: "
-                                + cityNodeExpected.getLatitude()),
-                () -> assertEquals(cityNodeExpected.getLongitude(), groupNodeActual.getEventsCaused().get(0).getCity().getLongitude(),
-                        () -> "should return group node with event city longitude: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getLongitude() + ", but was: "
-                                + cityNodeExpected.getLongitude()),
+        EventDTO eventDTO = (EventDTO) eventBuilder.build(ObjectType.DTO);
 
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getCity().getProvince(),
-                        () -> "should return group node with not null province, but was: null"),
-                () -> assertEquals(provinceNodeExpected, groupNodeActual.getEventsCaused().get(0).getCity().getProvince(),
-                        () -> "should return group node with province: " + provinceNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince()),
-                () -> assertEquals(provinceNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getId(),
-                        () -> "should return group node with province id: " + provinceNodeExpected.getId()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getId()),
-                () -> assertEquals(provinceNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getName(),
-                        () -> "should return group node with province name: " + provinceNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getName()),
-                () -> assertEquals(countryNodeExpected, groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry(),
-                        () -> "should return group node with country: " + countryNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry()),
-                () -> assertEquals(countryNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getId(),
-                        () -> "should return group node with country id: " + countryNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getId()),
-                () -> assertEquals(countryNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getName(),
-                        () -> "should return group node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion(),
-                        () -> "should return group node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected,
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion(),
-                        () -> "should return group node with region: " + regionNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion().getId(),
-                        () -> "should return group node with region id: " + regionNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion().getName(),
-                        () -> "should return group node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion().getName()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getVictim(),
-                        () -> "should return group node with not null victim, but was: null"),
-                () -> assertEquals(victimNodeExpected, groupNodeActual.getEventsCaused().get(0).getVictim(),
-                        () -> "should return group node with victim: " + victimNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim()),
-                () -> assertEquals(victimNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getVictim().getId(),
-                        () -> "should return group node with victim node id: " + victimNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getId()),
-                () -> assertEquals(victimNodeExpected.getTotalNumberOfFatalities(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfFatalities(),
-                        () -> "should return group node with victim total number of fatalities: "
-                                + victimNodeExpected.getTotalNumberOfFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfFatalities()),
-                () -> assertEquals(victimNodeExpected.getNumberOfPerpetratorsFatalities(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsFatalities(),
-                        () -> "should return group node with victim number of perpetrators fatalities: "
-                                + victimNodeExpected.getNumberOfPerpetratorsFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsFatalities()),
-                () -> assertEquals(victimNodeExpected.getTotalNumberOfInjured(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfInjured(),
-                        () -> "should return group node with victim total number of injured: "
-                                + victimNodeExpected.getTotalNumberOfInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfInjured()),
-                () -> assertEquals(victimNodeExpected.getNumberOfPerpetratorsInjured(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsInjured(),
-                        () -> "should return group node with victim number of perpetrators injured: "
-                                + victimNodeExpected.getNumberOfPerpetratorsInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsInjured()),
-                () -> assertEquals(victimNodeExpected.getValueOfPropertyDamage(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getValueOfPropertyDamage(),
-                        () -> "should return group node with victim value of property damage: "
-                                + victimNodeExpected.getValueOfPropertyDamage() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getValueOfPropertyDamage()),
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.empty());
 
-                () -> assertEquals(newEventNodeExpected.getId(), groupNodeActual.getEventsCaused().get(1).getId(),
-                        () -> "should return group event node with id: " + newEventNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getId()),
-                () -> assertEquals(newEventNodeExpected.getSummary(), groupNodeActual.getEventsCaused().get(1).getSummary(),
-                        () -> "should return group event node with summary: " + newEventNodeExpected.getSummary() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getSummary()),
-                () -> assertEquals(newEventNodeExpected.getMotive(), groupNodeActual.getEventsCaused().get(1).getMotive(),
-                        () -> "should return group event node with motive: " + newEventNodeExpected.getMotive() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getMotive()),
-                () -> assertEquals(newEventNodeExpected.getDate(), groupNodeActual.getEventsCaused().get(1).getDate(),
-                        () -> "should return group event node with date: " + newEventNodeExpected.getDate() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getDate()),
-                () -> assertEquals(newEventNodeExpected.getIsPartOfMultipleIncidents(),
-                        groupNodeActual.getEventsCaused().get(1).getIsPartOfMultipleIncidents(),
-                        () -> "should return group event node which was part of multiple incidents: "
-                                + newEventNodeExpected.getIsPartOfMultipleIncidents() + ", but was was: "
-                                + groupNodeActual.getEventsCaused().get(1).getIsPartOfMultipleIncidents()),
-                () -> assertEquals(newEventNodeExpected.getIsSuccessful(),
-                        groupNodeActual.getEventsCaused().get(1).getIsSuccessful(),
-                        () -> "should return group event node which was successful: " + newEventNodeExpected.getIsSuccessful()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getIsSuccessful()),
-                () -> assertEquals(newEventNodeExpected.getIsSuicidal(),
-                        groupNodeActual.getEventsCaused().get(1).getIsSuicidal(),
-                        () -> "should return group event node which was suicidal: " + newEventNodeExpected.getIsSuicidal()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getIsSuicidal()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getTarget(),
-                        () -> "should return group node with event node with not null target, but was: null"),
-                () -> assertEquals(newTargetNodeExpected, groupNodeActual.getEventsCaused().get(1).getTarget(),
-                        () -> "should return group node with event target: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget() + ", but was: " + newTargetNodeExpected),
-                () -> assertEquals(newTargetNodeExpected.getId(), groupNodeActual.getEventsCaused().get(1).getTarget().getId(),
-                        () -> "should return group node with event target id: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getId() + ", but was: "
-                                + newTargetNodeExpected.getId()),
-                () -> assertEquals(newTargetNodeExpected.getTarget(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getTarget(),
-                        () -> "should return group node with event target name: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getTarget() + ", but was: "
-                                + newTargetNodeExpected.getTarget()),
+        Optional<EventNode> eventNodeOptional = groupService.addEventToGroup(groupId, eventDTO);
 
-                () -> assertEquals(newTargetNodeExpected.getCountryOfOrigin(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin(),
-                        () -> "should return group node with event node with country: "
-                                + newTargetNodeExpected.getCountryOfOrigin() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin()),
-                () -> assertEquals(newTargetNodeExpected.getCountryOfOrigin().getId(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getId(),
-                        () -> "should return group node with event node with country id: "
-                                + newTargetNodeExpected.getCountryOfOrigin().getId()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getTarget().getId()),
-                () -> assertEquals(newTargetNodeExpected.getCountryOfOrigin().getName(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getName(),
-                        () -> "should return group node with event node with country name: "
-                                + newTargetNodeExpected.getCountryOfOrigin().getName()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return group node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected,
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return group node with region: " + regionNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion().getId(),
-                        () -> "should return group node with region id: " + regionNodeExpected.getId() + ", but was: " +
-                                groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion().getName(),
-                        () -> "should return group node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion().getName()),
-
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getCity(),
-                        () -> "should return group node with event node with not null city, but was: null"),
-                () -> assertEquals(newEventNodeExpected.getCity(), groupNodeActual.getEventsCaused().get(1).getCity(),
-                        () -> "should return group node with event city: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity() + ", but was: "
-                                + newEventNodeExpected.getCity()),
-                () -> assertEquals(newEventNodeExpected.getCity().getId(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getId(),
-                        () -> "should return group node with event city id: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getId() + ", but was: "
-                                + newEventNodeExpected.getCity().getId()),
-                () -> assertEquals(newEventNodeExpected.getCity().getName(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getName(),
-                        () -> "should return group node with event city name: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getName() + ", but was: "
-                                + newEventNodeExpected.getCity().getName()),
-                () -> assertEquals(newEventNodeExpected.getCity().getLatitude(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getLatitude(),
-                        () -> "should return group node with event city latitude: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getLatitude() + ", but was: "
-                                + newEventNodeExpected.getCity().getLatitude()),
-                () -> assertEquals(newEventNodeExpected.getCity().getLongitude(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getLongitude(),
-                        () -> "should return group node with event city longitude: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getLongitude() + ", but was: "
-                                + newEventNodeExpected.getCity().getLongitude()),
-
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getCity().getProvince(),
-                        () -> "should return group node with not null province, but was: null"),
-                () -> assertEquals(provinceNodeExpected, groupNodeActual.getEventsCaused().get(1).getCity().getProvince(),
-                        () -> "should return group node with province: " + provinceNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince()),
-                () -> assertEquals(provinceNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getId(),
-                        () -> "should return group node with province id: " + provinceNodeExpected.getId()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getId()),
-                () -> assertEquals(provinceNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getName(),
-                        () -> "should return group node with province name: " + provinceNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getName()),
-                () -> assertEquals(countryNodeExpected,
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry(),
-                        () -> "should return group node with country: " + countryNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry()),
-                () -> assertEquals(countryNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getId(),
-                        () -> "should return group node with country id: " + countryNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getId()),
-                () -> assertEquals(countryNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getName(),
-                        () -> "should return group node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion(),
-                        () -> "should return group node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected,
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion(),
-                        () -> "should return group node with region: " + regionNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getId(),
-                        () -> "should return group node with region id: " + regionNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getName(),
-                        () -> "should return group node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getName()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getVictim(),
-                        () -> "should return group node with not null victim, but was: null"),
-                () -> assertEquals(newVictimNodeExpected, groupNodeActual.getEventsCaused().get(1).getVictim(),
-                        () -> "should return group node with victim: " + newVictimNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim()),
-                () -> assertEquals(newVictimNodeExpected.getId(), groupNodeActual.getEventsCaused().get(1).getVictim().getId(),
-                        () -> "should return group node with victim node id: " + newVictimNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getId()),
-                () -> assertEquals(newVictimNodeExpected.getTotalNumberOfFatalities(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfFatalities(),
-                        () -> "should return group node with victim total number of fatalities: "
-                                + newVictimNodeExpected.getTotalNumberOfFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfFatalities()),
-                () -> assertEquals(newVictimNodeExpected.getNumberOfPerpetratorsFatalities(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsFatalities(),
-                        () -> "should return group node with victim number of perpetrators fatalities: "
-                                + newVictimNodeExpected.getNumberOfPerpetratorsFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsFatalities()),
-                () -> assertEquals(newVictimNodeExpected.getTotalNumberOfInjured(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfInjured(),
-                        () -> "should return group node with victim total number of injured: "
-                                + newVictimNodeExpected.getTotalNumberOfInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfInjured()),
-                () -> assertEquals(newVictimNodeExpected.getNumberOfPerpetratorsInjured(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsInjured(),
-                        () -> "should return group node with victim number of perpetrators injured: "
-                                + newVictimNodeExpected.getNumberOfPerpetratorsInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsInjured()),
-                () -> assertEquals(newVictimNodeExpected.getValueOfPropertyDamage(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getValueOfPropertyDamage(),
-                        () -> "should return group node with victim value of property damage: "
-                                + newVictimNodeExpected.getValueOfPropertyDamage() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getValueOfPropertyDamage()),
-                () -> verify(groupRepository, times(1)).findById(groupId),
-                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeSave),
-                () -> verifyNoMoreInteractions(groupRepository),
-                () -> verify(eventService, times(1)).saveNew(eventDTO),
-                () -> verifyNoMoreInteractions(eventService),
-                () -> verifyNoInteractions(modelMapper));
-    }
+        assertAll(
+                () -> assertTrue(eventNodeOptional.isEmpty(),
+                        () -> "should return empty event node optional, but was: " + eventNodeOptional.get()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verifyNoInteractions(modelMapper),
+                () -> verifyNoInteractions(eventService));
+    }
 
     @Test
-    void when_add_event_to_group_but_group_does_not_exist_should_throw_error() {
+    void when_delete_group_events_should_delete_events_in_batches_and_return_number_of_deleted_nodes() {
 
         Long groupId = 1L;
 
-        EventDTO eventDTO = (EventDTO) eventBuilder.build(ObjectType.DTO);
-
-        when(groupRepository.findById(groupId)).thenReturn(Optional.empty());
-
-        Optional<GroupNode> groupNodeOptional = groupService.addEventToGroup(groupId, eventDTO);
-
-        assertAll(
-                () -> assertTrue(groupNodeOptional.isEmpty(),
-                        () -> "should return empty group node optional, but was: " + groupNodeOptional.get()),
-                () -> verify(groupRepository, times(1)).findById(groupId),
+        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId).build(ObjectType.NODE);
+
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNodeExpected));
+        when(groupRepository.deleteGroupEvents(groupId, 1000, false))
+                .thenReturn(new DeletedEventNodes(1000L, 1000L, 990L, 0L))
+                .thenReturn(new DeletedEventNodes(5L, 5L, 5L, 0L));
+
+        Optional<DeletedEventNodes> deletedEventNodesOptional = groupService.deleteAllGroupEvents(groupId, false);
+
+        DeletedEventNodes deletedEventNodesActual = deletedEventNodesOptional.get();
+
+        assertAll(() -> assertEquals(1005L, deletedEventNodesActual.getDeletedEvents(),
+                () -> "should delete: 1005 events, but was: " + deletedEventNodesActual.getDeletedEvents()),
+                () -> assertEquals(1005L, deletedEventNodesActual.getDeletedTargets(),
+                        () -> "should delete: 1005 targets, but was: " + deletedEventNodesActual.getDeletedTargets()),
+                () -> assertEquals(995L, deletedEventNodesActual.getDeletedVictims(),
+                        () -> "should delete: 995 victims, but was: " + deletedEventNodesActual.getDeletedVictims()),
+                () -> assertEquals(0L, deletedEventNodesActual.getDeletedCities(),
+                        () -> "should not delete cities, but was: " + deletedEventNodesActual.getDeletedCities()),
+                () -> assertEquals(3005L, deletedEventNodesActual.getTotalDeletedNodes(),
+                        () -> "should delete: 3005 nodes, but was: " + deletedEventNodesActual.getTotalDeletedNodes()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verify(groupRepository, times(2)).deleteGroupEvents(groupId, 1000, false),
                 () -> verifyNoMoreInteractions(groupRepository),
-                () -> verifyNoInteractions(modelMapper),
-                () -> verifyNoInteractions(eventService));
+                () -> verifyNoInteractions(eventService),
+                () -> verifyNoInteractions(modelMapper));
     }
 
     @Test
-    void when_delete_group_events_should_delete_only_group_events_and_targets() {
+    void when_delete_group_events_with_orphaned_cities_should_return_number_of_deleted_cities() {
 
         Long groupId = 1L;
-        Long eventId = 1L;
-        Long eventId2 = 2L;
-
-        CountryNode countryNodeExpected = (CountryNode) countryBuilder.build(ObjectType.NODE);
-        TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
-        CountryNode countryNodeExpected2 = (CountryNode) countryBuilder.withName("country2").build(ObjectType.NODE);
-        TargetNode targetNodeExpected2 = (TargetNode) targetBuilder.withTarget("target2").withCountry(countryNodeExpected2)
-                .build(ObjectType.NODE);
-        CityNode cityNodeExpected = (CityNode) cityBuilder.build(ObjectType.NODE);
-        CityNode cityNodeExpected2 = (CityNode) cityBuilder.withName("city2").build(ObjectType.NODE);
-        VictimNode victimNodeExpected = (VictimNode) victimBuilder.build(ObjectType.NODE);
-        VictimNode victimNodeExpected2 = (VictimNode) victimBuilder.withTotalNumberOfFatalities(1003L).build(ObjectType.NODE);
-
-        EventNode eventNodeExpected = (EventNode) eventBuilder.withId(eventId).withTarget(targetNodeExpected)
-                .withCity(cityNodeExpected).withVictim(victimNodeExpected).build(ObjectType.NODE);
-        EventNode eventNodeExpected2 = (EventNode) eventBuilder.withId(eventId2).withTarget(targetNodeExpected2)
-                .withCity(cityNodeExpected2).withVictim(victimNodeExpected2).build(ObjectType.NODE);
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId)
-                .withEventsCaused(List.of(eventNodeExpected, eventNodeExpected2)).build(ObjectType.NODE);
-
-        when(groupRepository.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(eventService.delete(eventId)).thenReturn(Optional.of(eventNodeExpected));
-        when(eventService.delete(eventId2)).thenReturn(Optional.of(eventNodeExpected2));
-
-        Optional<GroupNode> groupNodeOptionalActual = groupService.deleteAllGroupEvents(eventId);
-
-        GroupNode groupNodeActual = groupNodeOptionalActual.get();
-
-        assertAll(
-                () -> assertNotNull(groupNodeActual.getId(),
-                        () -> "should return group node with id, but was: " + groupNodeActual.getId()),
-                () -> assertEquals(groupNodeExpected.getName(), groupNodeActual.getName(),
-                        () -> "should return group node with name: " + groupNodeExpected.getName() + ", but was: "
-                                + groupNodeActual.getName()),
-
-                () -> assertEquals(eventNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getId(),
-                        () -> "should return group event node with id: " + eventNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getId()),
-                () -> assertEquals(eventNodeExpected.getSummary(), groupNodeActual.getEventsCaused().get(0).getSummary(),
-                        () -> "should return group event node with summary: " + eventNodeExpected.getSummary() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getSummary()),
-                () -> assertEquals(eventNodeExpected.getMotive(), groupNodeActual.getEventsCaused().get(0).getMotive(),
-                        () -> "should return group event node with motive: " + eventNodeExpected.getMotive() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getMotive()),
-                () -> assertEquals(eventNodeExpected.getDate(), groupNodeActual.getEventsCaused().get(0).getDate(),
-                        () -> "should return group event node with date: " + eventNodeExpected.getDate() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getDate()),
-                () -> assertEquals(eventNodeExpected.getIsPartOfMultipleIncidents(),
-                        groupNodeActual.getEventsCaused().get(0).getIsPartOfMultipleIncidents(),
-                        () -> "should return group event node which was part of multiple incidents: "
-                                + eventNodeExpected.getIsPartOfMultipleIncidents() + ", but was was: "
-                                + groupNodeActual.getEventsCaused().get(0).getIsPartOfMultipleIncidents()),
-                () -> assertEquals(eventNodeExpected.getIsSuccessful(), groupNodeActual.getEventsCaused().get(0).getIsSuccessful(),
-                        () -> "should return group event node which was successful: " + eventNodeExpected.getIsSuccessful()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getIsSuccessful()),
-                () -> assertEquals(eventNodeExpected.getIsSuicidal(), groupNodeActual.getEventsCaused().get(0).getIsSuicidal(),
-                        () -> "should return group event node which was suicidal: " + eventNodeExpected.getIsSuicidal()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getIsSuicidal()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getTarget(),
-                        () -> "should return group node with event node with not null target, but was: null"),
-                () -> assertEquals(targetNodeExpected, groupNodeActual.getEventsCaused().get(0).getTarget(),
-                        () -> "should return group node with event target: " + groupNodeActual.getEventsCaused().get(0).getTarget()
-                                + ", but was: " + targetNodeExpected),
-                () -> assertEquals(targetNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getTarget().getId(),
-                        () -> "should return group node with event target id: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getId() + ", but was: "
-                                + targetNodeExpected.getId()),
-                () -> assertEquals(targetNodeExpected.getTarget(), groupNodeActual.getEventsCaused().get(0).getTarget().getTarget(),
-                        () -> "should return group node with event target name: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getTarget() + ", but was: "
-                                + targetNodeExpected.getTarget()),
-
-                () -> assertEquals(countryNodeExpected, groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin(),
-                        () -> "should return group node with event node with country: " + countryNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin()),
-                () -> assertEquals(countryNodeExpected.getId(),
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getId(),
-                        () -> "should return group node with event node with country id: " + countryNodeExpected.getId()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getTarget().getId()),
-                () -> assertEquals(countryNodeExpected.getName(),
-                        groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getName(),
-                        () -> "should return group node with event node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin()),
-                () -> assertNull(groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return group node with null region, but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getTarget().getCountryOfOrigin().getRegion()),
-
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getCity(),
-                        () -> "should return group node with event node with not null city, but was: null"),
-                () -> assertEquals(cityNodeExpected, groupNodeActual.getEventsCaused().get(0).getCity(),
-                        () -> "should return group node with event city: " + groupNodeActual.getEventsCaused().get(0).getCity()
-                                + ", but was: " + cityNodeExpected),
-                () -> assertEquals(cityNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getCity().getId(),
-                        () -> "should return group node with event city id: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getId() + ", but was: "
-                                + cityNodeExpected.getId()),
-                () -> assertEquals(cityNodeExpected.getName(), groupNodeActual.getEventsCaused().get(0).getCity().getName(),
-                        () -> "should return group node with event city name: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getName() + ", but was: "
-                                + cityNodeExpected.getName()),
-                () -> assertEquals(cityNodeExpected.getLatitude(), groupNodeActual.getEventsCaused().get(0).getCity().getLatitude(),
-                        () -> "should return group node with event city latitude: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getLatitude() + ", but was: "
-                                + cityNodeExpected.getLatitude()),
-                () -> assertEquals(cityNodeExpected.getLongitude(), groupNodeActual.getEventsCaused().get(0).getCity().getLongitude(),
-                        () -> "should return group node with event city longitude: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getLongitude() + ", but was: "
-                                + cityNodeExpected.getLongitude()),
 
-                () -> assertNull(groupNodeActual.getEventsCaused().get(0).getCity().getProvince(),
-                        () -> "should return group node with null province, but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getCity().getProvince()),
+        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId).build(ObjectType.NODE);
 
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(0).getVictim(),
-                        () -> "should return group node with not null victim, but was: null"),
-                () -> assertEquals(victimNodeExpected, groupNodeActual.getEventsCaused().get(0).getVictim(),
-                        () -> "should return group node with victim: " + victimNodeExpected + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim()),
-                () -> assertEquals(victimNodeExpected.getId(), groupNodeActual.getEventsCaused().get(0).getVictim().getId(),
-                        () -> "should return group node with victim node id: " + victimNodeExpected.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getId()),
-                () -> assertEquals(victimNodeExpected.getTotalNumberOfFatalities(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfFatalities(),
-                        () -> "should return group node with victim total number of fatalities: "
-                                + victimNodeExpected.getTotalNumberOfFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfFatalities()),
-                () -> assertEquals(victimNodeExpected.getNumberOfPerpetratorsFatalities(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsFatalities(),
-                        () -> "should return group node with victim number of perpetrators fatalities: "
-                                + victimNodeExpected.getNumberOfPerpetratorsFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsFatalities()),
-                () -> assertEquals(victimNodeExpected.getTotalNumberOfInjured(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfInjured(),
-                        () -> "should return group node with victim total number of injured: "
-                                + victimNodeExpected.getTotalNumberOfInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getTotalNumberOfInjured()),
-                () -> assertEquals(victimNodeExpected.getNumberOfPerpetratorsInjured(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsInjured(),
-                        () -> "should return group node with victim number of perpetrators injured: "
-                                + victimNodeExpected.getNumberOfPerpetratorsInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getNumberOfPerpetratorsInjured()),
-                () -> assertEquals(victimNodeExpected.getValueOfPropertyDamage(),
-                        groupNodeActual.getEventsCaused().get(0).getVictim().getValueOfPropertyDamage(),
-                        () -> "should return group node with victim value of property damage: "
-                                + victimNodeExpected.getValueOfPropertyDamage() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(0).getVictim().getValueOfPropertyDamage()),
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNodeExpected));
+        when(groupRepository.deleteGroupEvents(groupId, 1000, true)).thenReturn(new DeletedEventNodes(2L, 2L, 2L, 1L));
 
-                () -> assertEquals(eventNodeExpected2.getId(), groupNodeActual.getEventsCaused().get(1).getId(),
-                        () -> "should return group event node with id: " + eventNodeExpected2.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getId()),
-                () -> assertEquals(eventNodeExpected2.getSummary(), groupNodeActual.getEventsCaused().get(1).getSummary(),
-                        () -> "should return group event node with summary: " + eventNodeExpected2.getSummary() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getSummary()),
-                () -> assertEquals(eventNodeExpected2.getMotive(), groupNodeActual.getEventsCaused().get(1).getMotive(),
-                        () -> "should return group event node with motive: " + eventNodeExpected2.getMotive() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getMotive()),
-                () -> assertEquals(eventNodeExpected2.getDate(), groupNodeActual.getEventsCaused().get(1).getDate(),
-                        () -> "should return group event node with date: " + eventNodeExpected2.getDate() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getDate()),
-                () -> assertEquals(eventNodeExpected2.getIsPartOfMultipleIncidents(),
-                        groupNodeActual.getEventsCaused().get(1).getIsPartOfMultipleIncidents(),
-                        () -> "should return group event node which was part of multiple incidents: "
-                                + eventNodeExpected2.getIsPartOfMultipleIncidents() + ", but was was: "
-                                + groupNodeActual.getEventsCaused().get(1).getIsPartOfMultipleIncidents()),
-                () -> assertEquals(eventNodeExpected2.getIsSuccessful(),
-                        groupNodeActual.getEventsCaused().get(1).getIsSuccessful(),
-                        () -> "should return group event node which was successful: " + eventNodeExpected2.getIsSuccessful()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getIsSuccessful()),
-                () -> assertEquals(eventNodeExpected2.getIsSuicidal(), groupNodeActual.getEventsCaused().get(1).getIsSuicidal(),
-                        () -> "should return group event node which was suicidal: " + eventNodeExpected2.getIsSuicidal()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getIsSuicidal()),
-                () -> assertNotNull(targetNodeExpected2,
-                        () -> "should return group event node with not null target, but was: null"),
-                () -> assertEquals(targetNodeExpected2, groupNodeActual.getEventsCaused().get(1).getTarget(),
-                        () -> "should return group event node with target: " + targetNodeExpected2 + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget()),
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getTarget(),
-                        () -> "should return group node with event node with not null target, but was: null"),
-                () -> assertEquals(targetNodeExpected2, groupNodeActual.getEventsCaused().get(1).getTarget(),
-                        () -> "should return group node with event target: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget() + ", but was: " + targetNodeExpected2),
-                () -> assertEquals(targetNodeExpected2.getId(), groupNodeActual.getEventsCaused().get(1).getTarget().getId(),
-                        () -> "should return group node with event target id: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getId() + ", but was: "
-                                + targetNodeExpected2.getId()),
-                () -> assertEquals(targetNodeExpected2.getTarget(), groupNodeActual.getEventsCaused().get(1).getTarget().getTarget(),
-                        () -> "should return group node with event target name: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getTarget() + ", but was: "
-                                + targetNodeExpected2.getTarget()),
-
-                () -> assertEquals(countryNodeExpected2, groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin(),
-                        () -> "should return group node with event node with country: " + countryNodeExpected2 + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin()),
-                () -> assertEquals(countryNodeExpected2.getId(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getId(),
-                        () -> "should return group node with event node with country id: " + countryNodeExpected2.getId()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getTarget().getId()),
-                () -> assertEquals(countryNodeExpected2.getName(),
-                        groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getName(),
-                        () -> "should return group node with event node with country name: " + countryNodeExpected2.getName()
-                                + ", but was: " + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin()),
-                () -> assertNull(groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion(),
-                        () -> "should return group node with null region, but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getTarget().getCountryOfOrigin().getRegion()),
-
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getCity(),
-                        () -> "should return group node with event node with not null city, but was: null"),
-                () -> assertEquals(cityNodeExpected2, groupNodeActual.getEventsCaused().get(1).getCity(),
-                        () -> "should return group node with event city: " + groupNodeActual.getEventsCaused().get(1).getCity()
-                                + ", but was: " + cityNodeExpected2),
-                () -> assertEquals(cityNodeExpected2.getId(), groupNodeActual.getEventsCaused().get(1).getCity().getId(),
-                        () -> "should return group node with event city id: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getId() + ", but was: "
-                                + cityNodeExpected2.getId()),
-                () -> assertEquals(cityNodeExpected2.getName(), groupNodeActual.getEventsCaused().get(1).getCity().getName(),
-                        () -> "should return group node with event city name: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getName()
-                                + ", but was: " + cityNodeExpected2.getName()),
-                () -> assertEquals(cityNodeExpected2.getLatitude(), groupNodeActual.getEventsCaused().get(1).getCity().getLatitude(),
-                        () -> "should return group node with event city latitude: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getLatitude() + ", but was: "
-                                + cityNodeExpected2.getLatitude()),
-                () -> assertEquals(cityNodeExpected2.getLongitude(),
-                        groupNodeActual.getEventsCaused().get(1).getCity().getLongitude(),
-                        () -> "should return group node with event city longitude: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getLongitude() + ", but was: "
-                                + cityNodeExpected2.getLongitude()),
+        Optional<DeletedEventNodes> deletedEventNodesOptional = groupService.deleteAllGroupEvents(groupId, true);
 
-                () -> assertNull(groupNodeActual.getEventsCaused().get(1).getCity().getProvince(),
-                        () -> "should return group node with null province, but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getCity().getProvince()),
+        DeletedEventNodes deletedEventNodesActual = deletedEventNodesOptional.get();
 
-                () -> assertNotNull(groupNodeActual.getEventsCaused().get(1).getVictim(),
-                        () -> "should return group node with not null victim, but was: null"),
-                () -> assertEquals(victimNodeExpected2, groupNodeActual.getEventsCaused().get(1).getVictim(),
-                        () -> "should return group node with victim: " + victimNodeExpected2 + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim()),
-                () -> assertEquals(victimNodeExpected2.getId(), groupNodeActual.getEventsCaused().get(1).getVictim().getId(),
-                        () -> "should return group node with victim node id: " + victimNodeExpected2.getId() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getId()),
-                () -> assertEquals(victimNodeExpected2.getTotalNumberOfFatalities(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfFatalities(),
-                        () -> "should return group node with victim total number of fatalities: "
-                                + victimNodeExpected2.getTotalNumberOfFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfFatalities()),
-                () -> assertEquals(victimNodeExpected2.getNumberOfPerpetratorsFatalities(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsFatalities(),
-                        () -> "should return group node with victim number of perpetrators fatalities: "
-                                + victimNodeExpected2.getNumberOfPerpetratorsFatalities() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsFatalities()),
-                () -> assertEquals(victimNodeExpected2.getTotalNumberOfInjured(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfInjured(),
-                        () -> "should return group node with victim total number of injured: "
-                                + victimNodeExpected2.getTotalNumberOfInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getTotalNumberOfInjured()),
-                () -> assertEquals(victimNodeExpected2.getNumberOfPerpetratorsInjured(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsInjured(),
-                        () -> "should return group node with victim number of perpetrators injured: "
-                                + victimNodeExpected2.getNumberOfPerpetratorsInjured() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getNumberOfPerpetratorsInjured()),
-                () -> assertEquals(victimNodeExpected2.getValueOfPropertyDamage(),
-                        groupNodeActual.getEventsCaused().get(1).getVictim().getValueOfPropertyDamage(),
-                        () -> "should return group node with victim value of property damage: "
-                                + victimNodeExpected2.getValueOfPropertyDamage() + ", but was: "
-                                + groupNodeActual.getEventsCaused().get(1).getVictim().getValueOfPropertyDamage()),
-                () -> verify(groupRepository, times(1)).findById(eventId),
+        assertAll(() -> assertEquals(1L, deletedEventNodesActual.getDeletedCities(),
+                () -> "should delete: 1 city, but was: " + deletedEventNodesActual.getDeletedCities()),
+                () -> assertEquals(7L, deletedEventNodesActual.getTotalDeletedNodes(),
+                        () -> "should delete: 7 nodes, but was: " + deletedEventNodesActual.getTotalDeletedNodes()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
+                () -> verify(groupRepository, times(1)).deleteGroupEvents(groupId, 1000, true),
                 () -> verifyNoMoreInteractions(groupRepository),
-                () -> verify(eventService, times(1)).delete(eventId),
-                () -> verify(eventService, times(1)).delete(eventId2),
-                () -> verifyNoMoreInteractions(eventService),
+                () -> verifyNoInteractions(eventService),
                 () -> verifyNoInteractions(modelMapper));
     }
 
@@ -2349,14 +1870,14 @@ class GroupServiceTest {
 
         Long groupId = 1L;
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.empty());
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.empty());
 
-        Optional<GroupNode> groupNodeOptional = groupService.deleteAllGroupEvents(groupId);
+        Optional<DeletedEventNodes> deletedEventNodesOptional = groupService.deleteAllGroupEvents(groupId, false);
 
         assertAll(
-                () -> assertTrue(groupNodeOptional.isEmpty(),
-                        () -> "should return empty group node optional, but was: " + groupNodeOptional.get()),
-                () -> verify(groupRepository, times(1)).findById(groupId),
+                () -> assertTrue(deletedEventNodesOptional.isEmpty(),
+                        () -> "should return empty optional, but was: " + deletedEventNodesOptional.get()),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
                 () -> verifyNoMoreInteractions(groupRepository),
                 () -> verifyNoInteractions(modelMapper),
                 () -> verifyNoInteractions(eventService));
@@ -0,0 +1,87 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.marker;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("MarkerService_Tests")
+class MarkerServiceTest {
+
+    private MarkerService markerService;
+
+    @Mock
+    private MarkerRepository markerRepository;
+
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    private void setUp() {
+
+        markerService = new MarkerService(markerRepository);
+
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Warsaw"));
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void when_find_markers_in_radius_and_date_range_should_pass_radius_in_meters_and_local_day_bounds() {
+
+        MarkerFilter markerFilter = new MarkerFilter(10.0, 20.0, 30.0, 40.0, 15.0, 25.0, 100.0,
+                LocalDate.of(2000, 1, 31), LocalDate.of(2010, 12, 1));
+        EventMarker eventMarker = new EventMarker(1L, 15.0, 25.0, "2001-05-02T22:30:00.000Z", 3L);
+
+        when(markerRepository.findMarkers(10.0, 20.0, 30.0, 40.0, 15.0, 25.0, 100000.0,
+                "2000-01-30T23:00:00.000Z", "2010-12-01T23:00:00.000Z", 500)).thenReturn(List.of(eventMarker));
+
+        List<EventMarker> markersActual = markerService.findMarkers(markerFilter, 500);
+
+        assertAll(() -> assertEquals(1, markersActual.size(),
+                () -> "should return: 1 marker, but was: " + markersActual.size()),
+                () -> assertEquals("2001-05-03", markersActual.get(0).getDate(),
+                        () -> "should return local date of event: 2001-05-03, but was: "
+                                + markersActual.get(0).getDate()),
+                () -> verify(markerRepository, times(1)).findMarkers(10.0, 20.0, 30.0, 40.0, 15.0, 25.0,
+                        100000.0, "2000-01-30T23:00:00.000Z", "2010-12-01T23:00:00.000Z", 500),
+                () -> verifyNoMoreInteractions(markerRepository));
+    }
+
+    @Test
+    void when_find_marker_clusters_without_optional_filters_should_pass_null_filters() {
+
+        MarkerFilter markerFilter = new MarkerFilter();
+        List<EventMarkerCluster> clustersExpected = List.of(new EventMarkerCluster(15.0, 25.0, 10L, 4L));
+
+        when(markerRepository.findMarkerClusters(-90, -180, 90, 180, null, null, null, null, null, 2.5))
+                .thenReturn(clustersExpected);
+
+        List<EventMarkerCluster> clustersActual = markerService.findMarkerClusters(markerFilter, 2.5);
+
+        assertAll(() -> assertEquals(clustersExpected, clustersActual,
+                () -> "should return clusters: " + clustersExpected + ", but was: " + clustersActual),
+                () -> verify(markerRepository, times(1))
+                        .findMarkerClusters(-90, -180, 90, 180, null, null, null, null, null, 2.5),
+                () -> verifyNoMoreInteractions(markerRepository));
+    }
+}
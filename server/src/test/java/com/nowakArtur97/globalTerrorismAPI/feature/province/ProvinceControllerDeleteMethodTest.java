@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -51,6 +52,9 @@ class ProvinceControllerDeleteMethodTest {
     @Mock
     private ViolationUtil<ProvinceNode, ProvinceDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static ProvinceBuilder provinceBuilder;
 
     @BeforeAll
@@ -64,7 +68,7 @@ class ProvinceControllerDeleteMethodTest {
 
         GenericRestController<ProvinceModel, ProvinceDTO> provinceController
                 = new ProvinceController(provinceService, modelAssembler, pagedResourcesAssembler, patchUtil,
-                violationUtil);
+                violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(provinceController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -88,6 +92,7 @@ class ProvinceControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -110,6 +115,7 @@ class ProvinceControllerDeleteMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 }
@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -66,6 +67,9 @@ class ProvinceControllerGetMethodTest {
     @Mock
     private ViolationUtil<ProvinceNode, ProvinceDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static CountryBuilder countryBuilder;
     private static ProvinceBuilder provinceBuilder;
 
@@ -81,7 +85,7 @@ class ProvinceControllerGetMethodTest {
 
         GenericRestController<ProvinceModel, ProvinceDTO> provinceController
                 = new ProvinceController(provinceService, modelAssembler, pagedResourcesAssembler, patchUtil,
-                violationUtil);
+                violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(provinceController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -178,7 +182,8 @@ class ProvinceControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(provincesExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -263,7 +268,8 @@ class ProvinceControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(provincesExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -321,7 +327,8 @@ class ProvinceControllerGetMethodTest {
                 () -> verify(pagedResourcesAssembler, times(1)).toModel(provincesExpected, modelAssembler),
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -361,6 +368,7 @@ class ProvinceControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
@@ -387,6 +395,7 @@ class ProvinceControllerGetMethodTest {
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
                 () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
     }
 
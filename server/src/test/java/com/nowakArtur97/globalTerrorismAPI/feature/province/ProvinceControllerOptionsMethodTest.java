@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -46,12 +47,15 @@ class ProvinceControllerOptionsMethodTest {
     @Mock
     private ViolationUtil<ProvinceNode, ProvinceDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     @BeforeEach
     private void setUp() {
 
         GenericRestController<ProvinceModel, ProvinceDTO> provinceController
                 = new ProvinceController(provinceService, modelAssembler, pagedResourcesAssembler, patchUtil,
-                violationUtil);
+                violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(provinceController).build();
     }
@@ -72,7 +76,8 @@ class ProvinceControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -97,6 +102,7 @@ class ProvinceControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 }
@@ -0,0 +1,213 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.province;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheManager;
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.statistics.StatisticsService;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.ProvinceBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(ProvinceServiceCacheTest.ProvinceServiceCacheConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ProvinceServiceCache_Tests")
+class ProvinceServiceCacheTest {
+
+    @Autowired
+    private ProvinceService provinceService;
+
+    @Autowired
+    private ProvinceRepository provinceRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private CountryService countryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private static final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = 2;
+
+    private static CountryBuilder countryBuilder;
+    private static ProvinceBuilder provinceBuilder;
+
+    @BeforeAll
+    private static void setUpBuilders() {
+
+        countryBuilder = new CountryBuilder();
+        provinceBuilder = new ProvinceBuilder();
+    }
+
+    @BeforeEach
+    private void setUp() {
+
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        reset(provinceRepository, modelMapper, countryService);
+
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder
+                .withCountry((CountryNode) countryBuilder.build(ObjectType.NODE)).build(ObjectType.NODE);
+
+        when(provinceRepository.findByNameAndCountry_Name("province", "country", DEFAULT_DEPTH_FOR_PROVINCE_NODE))
+                .thenReturn(Optional.of(provinceNode));
+    }
+
+    @Test
+    void when_find_province_reference_twice_should_cache_detached_reference() {
+
+        Optional<ProvinceReference> provinceReferenceActualOptional = provinceService
+                .findReferenceByNameAndCountryName("province", "country");
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        Object cachedValue = cacheManager.getCache(ProvinceService.PROVINCE_CACHE)
+                .get(new SimpleKey("province", "country")).get();
+
+        assertAll(() -> assertTrue(provinceReferenceActualOptional.isPresent(),
+                () -> "should return province reference, but was: " + provinceReferenceActualOptional),
+                () -> assertEquals("country", provinceReferenceActualOptional.get().getCountry().getName(),
+                        () -> "should return province reference with country: country, but was: "
+                                + provinceReferenceActualOptional.get().getCountry().getName()),
+                () -> assertTrue(cachedValue instanceof ProvinceReference,
+                        () -> "should cache detached province reference, but was: " + cachedValue),
+                () -> verify(provinceRepository, times(1))
+                        .findByNameAndCountry_Name("province", "country", DEFAULT_DEPTH_FOR_PROVINCE_NODE));
+    }
+
+    @Test
+    void when_update_province_should_evict_provinces_and_statistics() {
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.build(ObjectType.DTO);
+        CountryNode countryNode = (CountryNode) countryBuilder.build(ObjectType.NODE);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withName("province updated").withCountry(countryDTO)
+                .build(ObjectType.DTO);
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        ProvinceNode updatedProvinceNode = (ProvinceNode) provinceBuilder.withName("province updated")
+                .withCountry(countryNode).build(ObjectType.NODE);
+
+        when(modelMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(updatedProvinceNode);
+        when(countryService.findReferenceByName(countryDTO.getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNode)));
+
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        cacheManager.getCache(StatisticsService.STATISTICS_CACHE).put("statistics", "statistics");
+
+        provinceService.update(provinceNode, provinceDTO);
+
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        assertAll(() -> verify(provinceRepository, times(2))
+                        .findByNameAndCountry_Name("province", "country", DEFAULT_DEPTH_FOR_PROVINCE_NODE),
+                () -> assertNull(cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics"),
+                        () -> "should evict statistics, but was: "
+                                + cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics")));
+    }
+
+    @Test
+    void when_update_province_properties_should_evict_provinces_and_statistics() {
+
+        Map<String, Object> properties = Map.of("name", "province updated");
+
+        when(provinceRepository.updateProperties(1L, properties)).thenReturn(true);
+
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        cacheManager.getCache(StatisticsService.STATISTICS_CACHE).put("statistics", "statistics");
+
+        provinceService.updateProperties(1L, properties);
+
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        assertAll(() -> verify(provinceRepository, times(2))
+                        .findByNameAndCountry_Name("province", "country", DEFAULT_DEPTH_FOR_PROVINCE_NODE),
+                () -> assertNull(cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics"),
+                        () -> "should evict statistics, but was: "
+                                + cacheManager.getCache(StatisticsService.STATISTICS_CACHE).get("statistics")));
+    }
+
+    @Test
+    void when_delete_province_should_evict_provinces() {
+
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder.build(ObjectType.NODE);
+
+        when(provinceRepository.findById(provinceNode.getId())).thenReturn(Optional.of(provinceNode));
+
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        provinceService.delete(provinceNode.getId());
+
+        provinceService.findReferenceByNameAndCountryName("province", "country");
+
+        assertAll(() -> verify(provinceRepository, times(1)).delete(provinceNode),
+                () -> verify(provinceRepository, times(2))
+                        .findByNameAndCountry_Name("province", "country", DEFAULT_DEPTH_FOR_PROVINCE_NODE));
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    static class ProvinceServiceCacheConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+
+            return new ExpiringCacheManager(List.of(ProvinceService.PROVINCE_CACHE, StatisticsService.STATISTICS_CACHE),
+                    100, 60000);
+        }
+
+        @Bean
+        ProvinceRepository provinceRepository() {
+
+            return mock(ProvinceRepository.class);
+        }
+
+        @Bean
+        ModelMapper modelMapper() {
+
+            return mock(ModelMapper.class);
+        }
+
+        @Bean
+        CountryService countryService() {
+
+            return mock(CountryService.class);
+        }
+
+        @Bean
+        ProvinceService provinceService(ProvinceRepository provinceRepository, ModelMapper modelMapper,
+                                        CountryService countryService) {
+
+            return new ProvinceService(provinceRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()),
+                    countryService);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.province;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
 import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
@@ -10,6 +12,7 @@ import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.ProvinceBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -60,7 +63,7 @@ class ProvinceServiceTest {
     @BeforeEach
     private void setUp() {
 
-        provinceService = new ProvinceService(provinceRepository, modelMapper, countryService);
+        provinceService = new ProvinceService(provinceRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()), countryService);
     }
 
     @Test
@@ -245,79 +248,58 @@ class ProvinceServiceTest {
     }
 
     @Test
-    void when_find_existing_province_by_name_and_country_name_should_return_province() {
+    void when_find_existing_province_reference_by_name_and_country_name_should_return_detached_reference() {
 
+        String provinceName = "province";
+        String countryName = "country";
         RegionNode regionNodeExpected = (RegionNode) regionBuilder.build(ObjectType.NODE);
         CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected)
                 .build(ObjectType.NODE);
         ProvinceNode provinceNodeExpected = (ProvinceNode) provinceBuilder.withCountry(countryNodeExpected)
                 .build(ObjectType.NODE);
 
-        when(provinceRepository.findByNameAndCountry_Name(
-                provinceNodeExpected.getName(), provinceNodeExpected.getCountry().getName(), DEFAULT_DEPTH_FOR_PROVINCE_NODE))
+        when(provinceRepository.findByNameAndCountry_Name(provinceName, countryName,
+                DEFAULT_DEPTH_FOR_PROVINCE_NODE))
                 .thenReturn(Optional.of(provinceNodeExpected));
 
-        Optional<ProvinceNode> provinceNodeActualOptional = provinceService
-                .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName());
+        Optional<ProvinceReference> provinceReferenceActualOptional =
+                provinceService.findReferenceByNameAndCountryName(provinceName, countryName);
 
-        ProvinceNode provinceNodeActual = provinceNodeActualOptional.get();
+        ProvinceNode provinceNodeActual = provinceReferenceActualOptional.get().toNode();
 
-        assertAll(
-                () -> assertEquals(provinceNodeExpected.getId(), provinceNodeActual.getId(),
-                        () -> "should return province node with id: " + provinceNodeExpected.getId()
-                                + ", but was: " + provinceNodeActual.getId()),
-                () -> assertEquals(provinceNodeExpected.getName(), provinceNodeActual.getName(),
-                        () -> "should return province node with name: " + provinceNodeExpected.getName() + ", but was: "
-                                + provinceNodeActual.getName()),
-                () -> assertEquals(countryNodeExpected, provinceNodeActual.getCountry(),
-                        () -> "should return province node with country: " + countryNodeExpected + ", but was: " + provinceNodeActual.getCountry()),
+        assertAll(() -> assertEquals(provinceNodeExpected.getId(), provinceNodeActual.getId(),
+                () -> "should return province node with id: " + provinceNodeExpected.getId() + ", but was: "
+                        + provinceNodeActual.getId()),
+                () -> assertEquals(provinceNodeExpected, provinceNodeActual,
+                        () -> "should return province node: " + provinceNodeExpected + ", but was: "
+                                + provinceNodeActual),
                 () -> assertEquals(countryNodeExpected.getId(), provinceNodeActual.getCountry().getId(),
                         () -> "should return province node with country id: " + countryNodeExpected.getId()
                                 + ", but was: " + provinceNodeActual.getCountry().getId()),
-                () -> assertEquals(countryNodeExpected.getName(), provinceNodeActual.getCountry().getName(),
-                        () -> "should return province node with country name: " + countryNodeExpected.getName()
-                                + ", but was: " + provinceNodeActual.getCountry()),
-                () -> assertNotNull(provinceNodeActual.getCountry().getRegion(),
-                        () -> "should return province node with not null region, but was: null"),
-                () -> assertEquals(regionNodeExpected, provinceNodeActual.getCountry().getRegion(),
-                        () -> "should return province node with region: " + regionNodeExpected + ", but was: "
-                                + provinceNodeActual.getCountry().getRegion()),
-                () -> assertEquals(regionNodeExpected.getId(), provinceNodeActual.getCountry().getRegion().getId(),
-                        () -> "should return province node with region id: " + regionNodeExpected.getId()
-                                + ", but was: " + provinceNodeActual.getCountry().getRegion().getId()),
-                () -> assertEquals(regionNodeExpected.getName(), provinceNodeActual.getCountry().getRegion().getName(),
-                        () -> "should return province node with region name: " + regionNodeExpected.getName() + ", but was: "
-                                + provinceNodeActual.getCountry().getRegion().getName()),
-                () -> verify(provinceRepository, times(1)).findByNameAndCountry_Name(
-                        provinceNodeExpected.getName(), provinceNodeExpected.getCountry().getName(),
-                        DEFAULT_DEPTH_FOR_PROVINCE_NODE),
+                () -> assertNotSame(provinceNodeExpected, provinceNodeActual,
+                        () -> "should return new province node, but was: " + provinceNodeActual),
+                () -> verify(provinceRepository, times(1)).findByNameAndCountry_Name(provinceName, countryName,
+                DEFAULT_DEPTH_FOR_PROVINCE_NODE),
                 () -> verifyNoMoreInteractions(provinceRepository),
                 () -> verifyNoInteractions(modelMapper),
                 () -> verifyNoInteractions(countryService));
     }
 
     @Test
-    void when_find_not_existing_province_by_name_and_country_name_should_return_empty_optional() {
+    void when_find_not_existing_province_reference_by_name_and_country_name_should_return_empty_optional() {
 
-        RegionNode regionNodeExpected = (RegionNode) regionBuilder.build(ObjectType.NODE);
-        CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected)
-                .build(ObjectType.NODE);
-        ProvinceNode provinceNodeExpected = (ProvinceNode) provinceBuilder.withCountry(countryNodeExpected)
-                .build(ObjectType.NODE);
-
-        when(provinceRepository.findByNameAndCountry_Name(
-                provinceNodeExpected.getName(), provinceNodeExpected.getCountry().getName(), DEFAULT_DEPTH_FOR_PROVINCE_NODE))
-                .thenReturn(Optional.empty());
+        String provinceName = "province";
+        String countryName = "country";
 
-        Optional<ProvinceNode> provinceNodeActualOptional = provinceService
-                .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName());
+        when(provinceRepository.findByNameAndCountry_Name(provinceName, countryName,
+                DEFAULT_DEPTH_FOR_PROVINCE_NODE)).thenReturn(Optional.empty());
 
+        Optional<ProvinceReference> provinceReferenceActualOptional =
+                provinceService.findReferenceByNameAndCountryName(provinceName, countryName);
 
-        assertAll(() -> assertTrue(provinceNodeActualOptional.isEmpty(), () -> "should return empty optional"),
-                () -> verify(provinceRepository, times(1))
-                        .findByNameAndCountry_Name(
-                                provinceNodeExpected.getName(), provinceNodeExpected.getCountry().getName(),
-                                DEFAULT_DEPTH_FOR_PROVINCE_NODE),
+        assertAll(() -> assertTrue(provinceReferenceActualOptional.isEmpty(), () -> "should return empty optional"),
+                () -> verify(provinceRepository, times(1)).findByNameAndCountry_Name(provinceName, countryName,
+                DEFAULT_DEPTH_FOR_PROVINCE_NODE),
                 () -> verifyNoMoreInteractions(provinceRepository),
                 () -> verifyNoInteractions(modelMapper),
                 () -> verifyNoInteractions(countryService));
@@ -334,7 +316,8 @@ class ProvinceServiceTest {
         ProvinceNode provinceNodeExpected = (ProvinceNode) provinceBuilder.withCountry(countryNodeExpected)
                 .build(ObjectType.NODE);
 
-        when(countryService.findByName(countryNodeExpected.getName())).thenReturn(Optional.of(countryNodeExpected));
+        when(countryService.findReferenceByName(countryNodeExpected.getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNodeExpected)));
         when(provinceRepository.save(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
 
         ProvinceNode provinceNodeActual = provinceService.save(provinceNodeExpectedBeforeSave);
@@ -368,7 +351,7 @@ class ProvinceServiceTest {
                 () -> assertEquals(regionNodeExpected.getName(), provinceNodeActual.getCountry().getRegion().getName(),
                         () -> "should return province node with region name: " + regionNodeExpected.getName() + ", but was: "
                                 + provinceNodeActual.getCountry().getRegion().getName()),
-                () -> verify(countryService, times(1)).findByName(countryNodeExpected.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verify(provinceRepository, times(1)).save(provinceNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(provinceRepository),
@@ -384,13 +367,13 @@ class ProvinceServiceTest {
         ProvinceNode provinceNodeExpectedBeforeSave = (ProvinceNode) provinceBuilder.withId(null)
                 .withCountry(countryNodeExpected).build(ObjectType.NODE);
 
-        when(countryService.findByName(countryNodeExpected.getName())).thenReturn(Optional.empty());
+        when(countryService.findReferenceByName(countryNodeExpected.getName())).thenReturn(Optional.empty());
 
         assertAll(
                 () -> assertThrows(ResourceNotFoundException.class,
                         () -> provinceService.save(provinceNodeExpectedBeforeSave),
                         () -> "should throw ResourceNotFoundException but wasn't"),
-                () -> verify(countryService, times(1)).findByName(countryNodeExpected.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(provinceRepository),
                 () -> verifyNoInteractions(modelMapper));
@@ -411,7 +394,8 @@ class ProvinceServiceTest {
                 .build(ObjectType.NODE);
 
         when(modelMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(provinceNodeExpectedBeforeSave);
-        when(countryService.findByName(countryDTO.getName())).thenReturn(Optional.of(countryNodeExpected));
+        when(countryService.findReferenceByName(countryDTO.getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNodeExpected)));
         when(provinceRepository.save(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
 
         ProvinceNode provinceNodeActual = provinceService.saveNew(provinceDTO);
@@ -443,7 +427,7 @@ class ProvinceServiceTest {
                                 + provinceNodeActual.getCountry().getRegion().getName()),
                 () -> verify(modelMapper, times(1)).map(provinceDTO, ProvinceNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTO.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTO.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verify(provinceRepository, times(1)).save(provinceNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(provinceRepository));
@@ -462,7 +446,7 @@ class ProvinceServiceTest {
                 .withCountry(countryNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(provinceNodeExpectedBeforeSave);
-        when(countryService.findByName(countryDTO.getName())).thenReturn(Optional.empty());
+        when(countryService.findReferenceByName(countryDTO.getName())).thenReturn(Optional.empty());
 
         assertAll(
                 () -> assertThrows(ResourceNotFoundException.class,
@@ -470,7 +454,7 @@ class ProvinceServiceTest {
                         () -> "should throw ResourceNotFoundException but wasn't"),
                 () -> verify(modelMapper, times(1)).map(provinceDTO, ProvinceNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTO.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTO.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(provinceRepository));
     }
@@ -495,7 +479,8 @@ class ProvinceServiceTest {
                 .withCountry(countryNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(provinceNodeExpectedBeforeSave);
-        when(countryService.findByName(countryDTO.getName())).thenReturn(Optional.of(countryNodeExpected));
+        when(countryService.findReferenceByName(countryDTO.getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNodeExpected)));
         when(provinceRepository.save(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
 
         ProvinceNode provinceNodeActual = provinceService.update(provinceNodeToUpdate, provinceDTO);
@@ -531,7 +516,7 @@ class ProvinceServiceTest {
                                 + provinceNodeActual.getCountry().getRegion().getName()),
                 () -> verify(modelMapper, times(1)).map(provinceDTO, ProvinceNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTO.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTO.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verify(provinceRepository, times(1)).save(provinceNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(provinceRepository));
@@ -550,7 +535,7 @@ class ProvinceServiceTest {
                 .withCountry(countryNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(provinceNodeExpectedBeforeSave);
-        when(countryService.findByName(countryDTO.getName())).thenReturn(Optional.empty());
+        when(countryService.findReferenceByName(countryDTO.getName())).thenReturn(Optional.empty());
 
         assertAll(
                 () -> assertThrows(ResourceNotFoundException.class,
@@ -558,7 +543,7 @@ class ProvinceServiceTest {
                         () -> "should throw ResourceNotFoundException but wasn't"),
                 () -> verify(modelMapper, times(1)).map(provinceDTO, ProvinceNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTO.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTO.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(provinceRepository));
     }
@@ -2,6 +2,8 @@ package com.nowakArtur97.globalTerrorismAPI.feature.region;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.BasicGenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.Cursor;
+import com.nowakArtur97.globalTerrorismAPI.common.pagination.CursorPage;
 import com.nowakArtur97.globalTerrorismAPI.common.service.BasicGenericService;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
@@ -16,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.PagedModel.PageMetadata;
@@ -290,6 +293,76 @@ class RegionControllerGetMethodTest {
                 () -> verifyNoMoreInteractions(pagedResourcesAssembler));
     }
 
+    @Test
+    void when_find_all_regions_by_cursor_and_more_regions_exist_should_return_page_with_next_link() {
+
+        RegionNode regionNode1 = (RegionNode) createRegion(ObjectType.NODE);
+        RegionNode regionNode2 = (RegionNode) createRegion(ObjectType.NODE);
+
+        RegionModel regionModel1 = (RegionModel) createRegion(ObjectType.MODEL);
+        RegionModel regionModel2 = (RegionModel) createRegion(ObjectType.MODEL);
+
+        List<RegionNode> regionNodesListExpected = List.of(regionNode1, regionNode2);
+        CollectionModel<RegionModel> resources = new CollectionModel<>(List.of(regionModel1, regionModel2));
+
+        Cursor cursor = new Cursor(1L);
+        Cursor nextCursor = new Cursor(regionNode2.getId());
+        int sizeExpected = 2;
+
+        String selfLink = REGION_BASE_PATH + "?cursor=" + cursor.encode() + "&size=" + sizeExpected;
+        String nextLink = REGION_BASE_PATH + "?cursor=" + nextCursor.encode() + "&size=" + sizeExpected;
+
+        when(regionService.findAll(cursor, sizeExpected))
+                .thenReturn(new CursorPage<>(regionNodesListExpected, nextCursor));
+        when(modelAssembler.toCollectionModel(regionNodesListExpected)).thenReturn(resources);
+
+        assertAll(
+                () -> mockMvc.perform(get(selfLink).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("links[0].rel", is("self")))
+                        .andExpect(jsonPath("links[0].href", is(selfLink)))
+                        .andExpect(jsonPath("links[1].rel", is("next")))
+                        .andExpect(jsonPath("links[1].href", is(nextLink)))
+                        .andExpect(jsonPath("content[0].id", is(regionModel1.getId().intValue())))
+                        .andExpect(jsonPath("content[1].id", is(regionModel2.getId().intValue())))
+                        .andExpect(jsonPath("content", hasSize(2))),
+                () -> verify(regionService, times(1)).findAll(cursor, sizeExpected),
+                () -> verifyNoMoreInteractions(regionService),
+                () -> verify(modelAssembler, times(1)).toCollectionModel(regionNodesListExpected),
+                () -> verifyNoMoreInteractions(modelAssembler),
+                () -> verifyNoInteractions(pagedResourcesAssembler));
+    }
+
+    @Test
+    void when_find_last_regions_page_by_cursor_should_return_page_without_next_link() {
+
+        RegionNode regionNode = (RegionNode) createRegion(ObjectType.NODE);
+        RegionModel regionModel = (RegionModel) createRegion(ObjectType.MODEL);
+
+        List<RegionNode> regionNodesListExpected = List.of(regionNode);
+        CollectionModel<RegionModel> resources = new CollectionModel<>(List.of(regionModel));
+
+        int sizeExpected = 20;
+
+        String firstPageLink = REGION_BASE_PATH + "?cursor=";
+
+        when(regionService.findAll(null, sizeExpected)).thenReturn(new CursorPage<>(regionNodesListExpected, null));
+        when(modelAssembler.toCollectionModel(regionNodesListExpected)).thenReturn(resources);
+
+        assertAll(
+                () -> mockMvc.perform(get(firstPageLink).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("links", hasSize(1)))
+                        .andExpect(jsonPath("links[0].href", is(firstPageLink + "&size=" + sizeExpected)))
+                        .andExpect(jsonPath("content[0].id", is(regionModel.getId().intValue()))),
+                () -> verify(regionService, times(1)).findAll(null, sizeExpected),
+                () -> verifyNoMoreInteractions(regionService),
+                () -> verify(modelAssembler, times(1)).toCollectionModel(regionNodesListExpected),
+                () -> verifyNoMoreInteractions(modelAssembler),
+                () -> verifyNoInteractions(pagedResourcesAssembler));
+    }
+
     @Test
     void when_find_existing_region_should_return_region() {
 
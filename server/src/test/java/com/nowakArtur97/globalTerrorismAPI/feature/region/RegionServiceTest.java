@@ -99,39 +99,32 @@ class RegionServiceTest {
     }
 
     @Test
-    void when_find_existing_region_by_name_should_return_region() {
+    void when_find_existing_region_id_by_name_should_return_id() {
 
         String regionName = "region";
+        Long regionIdExpected = 1L;
 
-        RegionNode regionNodeExpected = (RegionNode) regionBuilder.withName(regionName).build(ObjectType.NODE);
+        when(regionRepository.findIdByName(regionName)).thenReturn(regionIdExpected);
 
-        when(regionRepository.findByName(regionName)).thenReturn(Optional.of(regionNodeExpected));
+        Optional<Long> regionIdActualOptional = regionService.findIdByName(regionName);
 
-        Optional<RegionNode> regionNodeActualOptional = regionService.findByName(regionName);
-
-        RegionNode regionNodeActual = regionNodeActualOptional.get();
-
-        assertAll(() -> assertEquals(regionNodeExpected.getId(), regionNodeActual.getId(),
-                () -> "should return region node with id: " + regionNodeExpected.getId()
-                        + ", but was: " + regionNodeActual.getId()),
-                () -> assertEquals(regionNodeExpected.getName(), regionNodeActual.getName(),
-                        () -> "should return region node with name: " + regionNodeExpected.getName()
-                                + ", but was: " + regionNodeActual.getName()),
-                () -> verify(regionRepository, times(1)).findByName(regionName),
+        assertAll(() -> assertEquals(Optional.of(regionIdExpected), regionIdActualOptional,
+                () -> "should return region id: " + regionIdExpected + ", but was: " + regionIdActualOptional),
+                () -> verify(regionRepository, times(1)).findIdByName(regionName),
                 () -> verifyNoMoreInteractions(regionRepository));
     }
 
     @Test
-    void when_find_not_existing_region_by_name_should_return_empty_optional() {
+    void when_find_not_existing_region_id_by_name_should_return_empty_optional() {
 
         String regionName = "region";
 
-        when(regionRepository.findByName(regionName)).thenReturn(Optional.empty());
+        when(regionRepository.findIdByName(regionName)).thenReturn(null);
 
-        Optional<RegionNode> regionNodeActualOptional = regionService.findByName(regionName);
+        Optional<Long> regionIdActualOptional = regionService.findIdByName(regionName);
 
-        assertAll(() -> assertTrue(regionNodeActualOptional.isEmpty(), () -> "should return empty optional"),
-                () -> verify(regionRepository, times(1)).findByName(regionName),
+        assertAll(() -> assertTrue(regionIdActualOptional.isEmpty(), () -> "should return empty optional"),
+                () -> verify(regionRepository, times(1)).findIdByName(regionName),
                 () -> verifyNoMoreInteractions(regionRepository));
     }
 
@@ -0,0 +1,70 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("StatisticsController_Tests")
+class StatisticsControllerGetMethodTest {
+
+    private final String STATISTICS_BASE_PATH = "http://localhost/api/v1/statistics";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @BeforeEach
+    private void setUp() {
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new StatisticsController(statisticsService)).build();
+    }
+
+    @Test
+    void when_find_statistics_should_return_aggregated_statistics() {
+
+        Statistics statistics = new Statistics(List.of(new EventsPerYearStatistic(2000, 5L)),
+                List.of(new EventsPerMonthStatistic(2000, 1, 5L)),
+                List.of(new VictimsPerCountryStatistic("country", "region", 5L, 10L, 20L)),
+                List.of(new VictimsPerRegionStatistic("region", 5L, 10L, 20L)),
+                List.of(new GroupStatistic("group", 5L, 4L, 1L)));
+
+        when(statisticsService.getStatistics()).thenReturn(statistics);
+
+        assertAll(
+                () -> mockMvc.perform(get(STATISTICS_BASE_PATH))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("links[0].href", is(STATISTICS_BASE_PATH)))
+                        .andExpect(jsonPath("eventsPerYear[0].year", is(2000)))
+                        .andExpect(jsonPath("eventsPerYear[0].numberOfEvents", is(5)))
+                        .andExpect(jsonPath("eventsPerMonth[0].month", is(1)))
+                        .andExpect(jsonPath("victimsPerCountry[0].countryName", is("country")))
+                        .andExpect(jsonPath("victimsPerCountry[0].totalNumberOfFatalities", is(10)))
+                        .andExpect(jsonPath("victimsPerRegion[0].regionName", is("region")))
+                        .andExpect(jsonPath("victimsPerRegion[0].totalNumberOfInjured", is(20)))
+                        .andExpect(jsonPath("groups[0].groupName", is("group")))
+                        .andExpect(jsonPath("groups[0].successRate", is(0.8)))
+                        .andExpect(jsonPath("groups[0].suicideRate", is(0.2))),
+                () -> verify(statisticsService, times(1)).getStatistics(),
+                () -> verifyNoMoreInteractions(statisticsService));
+    }
+}
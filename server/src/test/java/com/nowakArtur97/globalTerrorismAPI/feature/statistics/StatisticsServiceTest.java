@@ -0,0 +1,152 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.statistics;
+
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("StatisticsService_Tests")
+class StatisticsServiceTest {
+
+    private StatisticsService statisticsService;
+
+    private TimeZone defaultTimeZone;
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @BeforeEach
+    private void setUp() {
+
+        statisticsService = new StatisticsService(statisticsRepository);
+
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    void when_get_statistics_should_aggregate_events_per_year_and_victims_per_region() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+        List<EventsPerDateStatistic> eventsPerMinute = List.of(
+                new EventsPerDateStatistic("2000-01-10T10:00:00.000Z", 2L),
+                new EventsPerDateStatistic("2000-05-10T10:00:00.000Z", 3L),
+                new EventsPerDateStatistic("2001-02-10T10:00:00.000Z", 4L));
+        List<VictimsPerCountryStatistic> victimsPerCountry = List.of(
+                new VictimsPerCountryStatistic("country 1", "region 1", 2L, 10L, 20L),
+                new VictimsPerCountryStatistic("country 2", "region 1", 3L, 5L, 1L),
+                new VictimsPerCountryStatistic("country 3", "region 2", 4L, 0L, 2L));
+        List<GroupStatistic> groups = List.of(new GroupStatistic("group", 4L, 3L, 1L));
+
+        when(statisticsRepository.countEventsPerMinute()).thenReturn(eventsPerMinute);
+        when(statisticsRepository.sumVictimsPerCountry()).thenReturn(victimsPerCountry);
+        when(statisticsRepository.countGroupEvents()).thenReturn(groups);
+
+        Statistics statistics = statisticsService.getStatistics();
+
+        EventsPerYearStatistic eventsIn2000 = statistics.getEventsPerYear().get(0);
+        EventsPerMonthStatistic eventsInMay2000 = statistics.getEventsPerMonth().get(1);
+        VictimsPerRegionStatistic victimsInRegion1 = statistics.getVictimsPerRegion().get(0);
+        GroupStatistic groupStatistic = statistics.getGroups().get(0);
+
+        assertAll(() -> assertEquals(2, statistics.getEventsPerYear().size(),
+                () -> "should return events in: 2 years, but was: " + statistics.getEventsPerYear().size()),
+                () -> assertEquals(5L, eventsIn2000.getNumberOfEvents(),
+                        () -> "should sum events in year: 2000, but was: " + eventsIn2000.getNumberOfEvents()),
+                () -> assertEquals(3, statistics.getEventsPerMonth().size(),
+                        () -> "should return events in: 3 months, but was: " + statistics.getEventsPerMonth().size()),
+                () -> assertEquals(5, eventsInMay2000.getMonth(),
+                        () -> "should return month: 5, but was: " + eventsInMay2000.getMonth()),
+                () -> assertEquals(3L, eventsInMay2000.getNumberOfEvents(),
+                        () -> "should sum events in month: 3, but was: " + eventsInMay2000.getNumberOfEvents()),
+                () -> assertEquals(2, statistics.getVictimsPerRegion().size(),
+                        () -> "should return victims in: 2 regions, but was: "
+                                + statistics.getVictimsPerRegion().size()),
+                () -> assertEquals("region 1", victimsInRegion1.getRegionName(),
+                        () -> "should return region: region 1, but was: " + victimsInRegion1.getRegionName()),
+                () -> assertEquals(5L, victimsInRegion1.getNumberOfEvents(),
+                        () -> "should sum events in region: 5, but was: " + victimsInRegion1.getNumberOfEvents()),
+                () -> assertEquals(15L, victimsInRegion1.getTotalNumberOfFatalities(),
+                        () -> "should sum fatalities in region: 15, but was: "
+                                + victimsInRegion1.getTotalNumberOfFatalities()),
+                () -> assertEquals(21L, victimsInRegion1.getTotalNumberOfInjured(),
+                        () -> "should sum injured in region: 21, but was: " + victimsInRegion1.getTotalNumberOfInjured()),
+                () -> assertEquals(0.75, groupStatistic.getSuccessRate(),
+                        () -> "should return success rate: 0.75, but was: " + groupStatistic.getSuccessRate()),
+                () -> assertEquals(0.25, groupStatistic.getSuicideRate(),
+                        () -> "should return suicide rate: 0.25, but was: " + groupStatistic.getSuicideRate()),
+                () -> verify(statisticsRepository, times(1)).countEventsPerMinute(),
+                () -> verify(statisticsRepository, times(1)).sumVictimsPerCountry(),
+                () -> verify(statisticsRepository, times(1)).countGroupEvents(),
+                () -> verifyNoMoreInteractions(statisticsRepository));
+    }
+
+    @Test
+    void when_get_statistics_on_jvm_ahead_of_utc_should_count_events_in_local_month() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Warsaw"));
+
+        when(statisticsRepository.countEventsPerMinute()).thenReturn(List.of(
+                new EventsPerDateStatistic("2018-12-31T23:30:00.000Z", 2L),
+                new EventsPerDateStatistic("2019-01-31T22:59:00.000Z", 1L),
+                new EventsPerDateStatistic("2019-01-31T23:00:00.000Z", 3L)));
+
+        List<EventsPerMonthStatistic> eventsPerMonth = statisticsService.getStatistics().getEventsPerMonth();
+
+        assertAll(() -> assertEquals(2, eventsPerMonth.size(),
+                () -> "should return events in: 2 months, but was: " + eventsPerMonth.size()),
+                () -> assertEquals(2019, eventsPerMonth.get(0).getYear(),
+                        () -> "should count first events in year: 2019, but was: " + eventsPerMonth.get(0).getYear()),
+                () -> assertEquals(1, eventsPerMonth.get(0).getMonth(),
+                        () -> "should count first events in month: 1, but was: " + eventsPerMonth.get(0).getMonth()),
+                () -> assertEquals(3L, eventsPerMonth.get(0).getNumberOfEvents(),
+                        () -> "should count: 3 events in January, but was: "
+                                + eventsPerMonth.get(0).getNumberOfEvents()),
+                () -> assertEquals(2, eventsPerMonth.get(1).getMonth(),
+                        () -> "should count last events in month: 2, but was: " + eventsPerMonth.get(1).getMonth()),
+                () -> assertEquals(3L, eventsPerMonth.get(1).getNumberOfEvents(),
+                        () -> "should count: 3 events in February, but was: "
+                                + eventsPerMonth.get(1).getNumberOfEvents()));
+    }
+
+    @Test
+    void when_get_statistics_on_jvm_behind_utc_should_count_events_in_local_month() {
+
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+
+        when(statisticsRepository.countEventsPerMinute()).thenReturn(List.of(
+                new EventsPerDateStatistic("2019-01-01T03:00:00.000Z", 2L)));
+
+        Statistics statistics = statisticsService.getStatistics();
+
+        EventsPerMonthStatistic eventsPerMonth = statistics.getEventsPerMonth().get(0);
+        EventsPerYearStatistic eventsPerYear = statistics.getEventsPerYear().get(0);
+
+        assertAll(() -> assertEquals(2018, eventsPerMonth.getYear(),
+                () -> "should count events in year: 2018, but was: " + eventsPerMonth.getYear()),
+                () -> assertEquals(12, eventsPerMonth.getMonth(),
+                        () -> "should count events in month: 12, but was: " + eventsPerMonth.getMonth()),
+                () -> assertEquals(2018, eventsPerYear.getYear(),
+                        () -> "should sum events in year: 2018, but was: " + eventsPerYear.getYear()));
+    }
+}
@@ -2,6 +2,7 @@ package com.nowakArtur97.globalTerrorismAPI.feature.target;
 
 import com.nowakArtur97.globalTerrorismAPI.advice.GenericRestControllerAdvice;
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -51,6 +52,9 @@ class TargetControllerDeleteMethodTest {
     @Mock
     private ViolationUtil<TargetNode, TargetDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     private static TargetBuilder targetBuilder;
 
     @BeforeAll
@@ -64,7 +68,7 @@ class TargetControllerDeleteMethodTest {
 
         GenericRestController<TargetModel, TargetDTO> targetController
                 = new TargetController(targetService, targetModelAssembler, pagedResourcesAssembler, patchUtil,
-                violationUtil);
+                violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(targetController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -87,7 +91,8 @@ class TargetControllerDeleteMethodTest {
                 () -> verifyNoInteractions(targetModelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -110,6 +115,7 @@ class TargetControllerDeleteMethodTest {
                 () -> verifyNoInteractions(targetModelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.target;
 
 import com.nowakArtur97.globalTerrorismAPI.common.controller.GenericRestController;
+import com.nowakArtur97.globalTerrorismAPI.common.patch.PatchEngine;
 import com.nowakArtur97.globalTerrorismAPI.common.service.GenericService;
 import com.nowakArtur97.globalTerrorismAPI.common.util.PatchUtil;
 import com.nowakArtur97.globalTerrorismAPI.common.util.ViolationUtil;
@@ -47,11 +48,14 @@ class TargetControllerOptionsMethodTest {
     @Mock
     private ViolationUtil<TargetNode, TargetDTO> violationUtil;
 
+    @Mock
+    private PatchEngine patchEngine;
+
     @BeforeEach
     private void setUp() {
 
         GenericRestController<TargetModel, TargetDTO> targetController = new TargetController(targetService, modelAssembler,
-                pagedResourcesAssembler, patchUtil, violationUtil);
+                pagedResourcesAssembler, patchUtil, violationUtil, patchEngine);
 
         mockMvc = MockMvcBuilders.standaloneSetup(targetController).build();
     }
@@ -74,7 +78,8 @@ class TargetControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 
     @Test
@@ -99,6 +104,7 @@ class TargetControllerOptionsMethodTest {
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchUtil),
-                () -> verifyNoInteractions(violationUtil));
+                () -> verifyNoInteractions(violationUtil),
+                () -> verifyNoInteractions(patchEngine));
     }
 }
\ No newline at end of file
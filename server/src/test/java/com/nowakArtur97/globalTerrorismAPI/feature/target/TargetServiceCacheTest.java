@@ -0,0 +1,137 @@
+package com.nowakArtur97.globalTerrorismAPI.feature.target;
+
+import com.nowakArtur97.globalTerrorismAPI.common.cache.ExpiringCacheManager;
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
+import com.nowakArtur97.globalTerrorismAPI.common.repository.BaseRepository;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryRepository;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
+import com.nowakArtur97.globalTerrorismAPI.feature.province.ProvinceService;
+import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.TargetBuilder;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(TargetServiceCacheTest.TargetServiceCacheConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("TargetServiceCache_Tests")
+class TargetServiceCacheTest {
+
+    @Autowired
+    private TargetService targetService;
+
+    @Autowired
+    private BaseRepository<TargetNode> targetRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    private void setUp() {
+
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+
+        reset(targetRepository, countryRepository);
+    }
+
+    @Test
+    void when_save_two_targets_from_same_country_should_load_country_only_once() {
+
+        RegionNode regionNode = (RegionNode) new RegionBuilder().build(ObjectType.NODE);
+        CountryNode countryNode = (CountryNode) new CountryBuilder().withRegion(regionNode).build(ObjectType.NODE);
+        TargetNode firstTargetNode = (TargetNode) new TargetBuilder().withId(null).withCountry(countryNode)
+                .build(ObjectType.NODE);
+        TargetNode secondTargetNode = (TargetNode) new TargetBuilder().withId(null).withTarget("target 2")
+                .withCountry(countryNode).build(ObjectType.NODE);
+
+        when(countryRepository.findByName(countryNode.getName())).thenReturn(Optional.of(countryNode));
+        when(targetRepository.save(any(TargetNode.class))).then(invocation -> invocation.getArgument(0));
+
+        targetService.save(firstTargetNode);
+        targetService.save(secondTargetNode);
+
+        ArgumentCaptor<TargetNode> targetNodeCaptor = ArgumentCaptor.forClass(TargetNode.class);
+
+        verify(targetRepository, times(2)).save(targetNodeCaptor.capture());
+
+        CountryNode firstCountryNode = targetNodeCaptor.getAllValues().get(0).getCountryOfOrigin();
+        CountryNode secondCountryNode = targetNodeCaptor.getAllValues().get(1).getCountryOfOrigin();
+
+        assertAll(() -> assertEquals(countryNode.getId(), firstCountryNode.getId(),
+                () -> "should relate first target to country with id: " + countryNode.getId() + ", but was: "
+                        + firstCountryNode.getId()),
+                () -> assertEquals(countryNode.getId(), secondCountryNode.getId(),
+                        () -> "should relate second target to country with id: " + countryNode.getId()
+                                + ", but was: " + secondCountryNode.getId()),
+                () -> assertEquals(regionNode.getId(), secondCountryNode.getRegion().getId(),
+                        () -> "should keep country region with id: " + regionNode.getId() + ", but was: "
+                                + secondCountryNode.getRegion().getId()),
+                () -> assertNotSame(firstCountryNode, secondCountryNode,
+                        () -> "should relate every target to fresh detached country, but was: " + secondCountryNode),
+                () -> verify(countryRepository, times(1)).findByName(countryNode.getName()),
+                () -> verify(countryRepository, never()).findById(any()),
+                () -> verify(countryRepository, never()).findById(any(), anyInt()),
+                () -> verifyNoMoreInteractions(countryRepository));
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    @Import(CountryService.class)
+    static class TargetServiceCacheConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+
+            return new ExpiringCacheManager(List.of(CountryService.COUNTRY_CACHE, CountryService.COUNTRY_EXISTS_CACHE,
+                    ProvinceService.PROVINCE_CACHE), 100, 60000);
+        }
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        BaseRepository<TargetNode> targetRepository() {
+
+            return mock(BaseRepository.class);
+        }
+
+        @Bean
+        CountryRepository countryRepository() {
+
+            return mock(CountryRepository.class);
+        }
+
+        @Bean
+        TargetService targetService(BaseRepository<TargetNode> targetRepository, CountryService countryService) {
+
+            return new TargetService(targetRepository, mock(ModelMapper.class),
+                    new DirtyChecker(new SimpleMeterRegistry()), countryService);
+        }
+    }
+}
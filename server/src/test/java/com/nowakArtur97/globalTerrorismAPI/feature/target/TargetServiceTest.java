@@ -1,8 +1,10 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.target;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.common.exception.ResourceNotFoundException;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryNode;
+import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryReference;
 import com.nowakArtur97.globalTerrorismAPI.feature.country.CountryService;
 import com.nowakArtur97.globalTerrorismAPI.feature.region.RegionNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.CountryBuilder;
@@ -10,6 +12,7 @@ import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.RegionBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.TargetBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -60,7 +63,7 @@ class TargetServiceTest {
     @BeforeEach
     private void setUp() {
 
-        targetService = new TargetService(targetRepository, modelMapper, countryService);
+        targetService = new TargetService(targetRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()), countryService);
     }
 
     @Test
@@ -179,7 +182,8 @@ class TargetServiceTest {
         CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected).build(ObjectType.NODE);
         TargetNode targetNodeExpected = (TargetNode) targetBuilder.withId(expectedTargetId).withCountry(countryNodeExpected).build(ObjectType.NODE);
 
-        when(targetRepository.findById(expectedTargetId, DEFAULT_DEPTH_FOR_JSON_PATCH)).thenReturn(Optional.of(targetNodeExpected));
+        when(targetRepository.findById(expectedTargetId, DEFAULT_DEPTH_FOR_JSON_PATCH))
+                .thenReturn(Optional.of(targetNodeExpected));
 
         Optional<TargetNode> targetActualOptional = targetService.findById(expectedTargetId,
                 DEFAULT_DEPTH_FOR_JSON_PATCH);
@@ -246,7 +250,8 @@ class TargetServiceTest {
         TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(targetDTOExpected, TargetNode.class)).thenReturn(targetNodeExpectedBeforeSetCountry);
-        when(countryService.findByName(countryDTOExpected.getName())).thenReturn(Optional.of(countryNodeExpected));
+        when(countryService.findReferenceByName(countryDTOExpected.getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNodeExpected)));
         when(targetRepository.save(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
 
         TargetNode targetNodeActual = targetService.saveNew(targetDTOExpected);
@@ -278,7 +283,7 @@ class TargetServiceTest {
                                 + ", but was: " + targetNodeActual.getCountryOfOrigin().getRegion().getName()),
                 () -> verify(modelMapper, times(1)).map(targetDTOExpected, TargetNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTOExpected.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTOExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verify(targetRepository, times(1)).save(targetNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(targetRepository));
@@ -295,7 +300,7 @@ class TargetServiceTest {
         TargetNode targetNodeExpectedBeforeSetCountry = (TargetNode) targetBuilder.withId(null).build(ObjectType.NODE);
 
         when(modelMapper.map(targetDTOExpected, TargetNode.class)).thenReturn(targetNodeExpectedBeforeSetCountry);
-        when(countryService.findByName(countryDTOExpected.getName())).thenReturn(Optional.empty());
+        when(countryService.findReferenceByName(countryDTOExpected.getName())).thenReturn(Optional.empty());
 
         assertAll(
                 () -> assertThrows(ResourceNotFoundException.class,
@@ -303,7 +308,7 @@ class TargetServiceTest {
                         () -> "should throw ResourceNotFoundException but wasn't"),
                 () -> verify(modelMapper, times(1)).map(targetDTOExpected, TargetNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTOExpected.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTOExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(targetRepository));
     }
@@ -334,7 +339,8 @@ class TargetServiceTest {
                 .withCountry(countryNodeExpected).build(ObjectType.NODE);
 
         when(modelMapper.map(targetDTOExpected, TargetNode.class)).thenReturn(targetNodeExpectedBeforeSetCountry);
-        when(countryService.findByName(countryDTOExpected.getName())).thenReturn(Optional.of(countryNodeExpected));
+        when(countryService.findReferenceByName(countryDTOExpected.getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNodeExpected)));
         when(targetRepository.save(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
 
         TargetNode targetNodeActual = targetService.update(targetNodeToUpdate, targetDTOExpected);
@@ -363,7 +369,7 @@ class TargetServiceTest {
                                 + ", but was: " + targetNodeActual.getCountryOfOrigin().getRegion().getName()),
                 () -> verify(modelMapper, times(1)).map(targetDTOExpected, TargetNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTOExpected.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTOExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verify(targetRepository, times(1)).save(targetNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(targetRepository));
@@ -387,7 +393,7 @@ class TargetServiceTest {
                 .build(ObjectType.NODE);
 
         when(modelMapper.map(targetDTOExpected, TargetNode.class)).thenReturn(targetNodeExpectedBeforeSetCountry);
-        when(countryService.findByName(countryDTOExpected.getName())).thenReturn(Optional.empty());
+        when(countryService.findReferenceByName(countryDTOExpected.getName())).thenReturn(Optional.empty());
 
         assertAll(
                 () -> assertThrows(ResourceNotFoundException.class,
@@ -395,7 +401,7 @@ class TargetServiceTest {
                         () -> "should throw ResourceNotFoundException but wasn't"),
                 () -> verify(modelMapper, times(1)).map(targetDTOExpected, TargetNode.class),
                 () -> verifyNoMoreInteractions(modelMapper),
-                () -> verify(countryService, times(1)).findByName(countryDTOExpected.getName()),
+                () -> verify(countryService, times(1)).findReferenceByName(countryDTOExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(targetRepository));
     }
@@ -410,8 +416,8 @@ class TargetServiceTest {
                 .build(ObjectType.NODE);
         TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
 
-        when(countryService.findByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()))
-                .thenReturn(Optional.of(countryNodeExpected));
+        when(countryService.findReferenceByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()))
+                .thenReturn(Optional.of(new CountryReference(countryNodeExpected)));
         when(targetRepository.save(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
 
         TargetNode targetNodeActual = targetService.save(targetNodeExpectedBeforeSave);
@@ -441,7 +447,7 @@ class TargetServiceTest {
                 () -> verify(targetRepository, times(1)).save(targetNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(targetRepository),
                 () -> verify(countryService, times(1))
-                        .findByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()),
+                        .findReferenceByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(modelMapper));
     }
@@ -457,7 +463,7 @@ class TargetServiceTest {
         TargetNode targetNodeExpectedBeforeSave = (TargetNode) targetBuilder.withId(null).withCountry(countryNodeExpected)
                 .build(ObjectType.NODE);
 
-        when(countryService.findByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()))
+        when(countryService.findReferenceByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()))
                 .thenReturn(Optional.empty());
 
         assertAll(
@@ -465,7 +471,7 @@ class TargetServiceTest {
                         () -> targetService.save(targetNodeExpectedBeforeSave),
                         () -> "should throw ResourceNotFoundException but wasn't"),
                 () -> verify(countryService, times(1))
-                        .findByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()),
+                        .findReferenceByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(targetRepository),
                 () -> verifyNoInteractions(modelMapper));
@@ -1,8 +1,10 @@
 package com.nowakArtur97.globalTerrorismAPI.feature.victim;
 
+import com.nowakArtur97.globalTerrorismAPI.common.dirtyChecking.DirtyChecker;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.VictimBuilder;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -46,7 +48,7 @@ class VictimServiceTest {
     @BeforeEach
     private void setUp() {
 
-        victimService = new VictimService(victimRepository, modelMapper);
+        victimService = new VictimService(victimRepository, modelMapper, new DirtyChecker(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -334,6 +336,7 @@ class VictimServiceTest {
                 .withValueOfPropertyDamage(updatedVictimValueOfPropertyDamage)
                 .build(ObjectType.DTO);
 
+        VictimNode victimNodeToUpdate = (VictimNode) victimBuilder.build(ObjectType.NODE);
         VictimNode victimNodeExpectedBeforeMethod = (VictimNode) victimBuilder
                 .withTotalNumberOfFatalities(updatedVictimTotalNumberOfFatalities)
                 .withNumberOfPerpetratorsFatalities(updatedVictimNumberOfPerpetratorsFatalities)
@@ -351,7 +354,7 @@ class VictimServiceTest {
         when(modelMapper.map(victimDTOExpected, VictimNode.class)).thenReturn(victimNodeExpectedBeforeMethod);
         when(victimRepository.save(victimNodeExpectedBeforeMethod)).thenReturn(victimNodeExpected);
 
-        VictimNode victimNodeActual = victimService.update(victimNodeExpectedBeforeMethod, victimDTOExpected);
+        VictimNode victimNodeActual = victimService.update(victimNodeToUpdate, victimDTOExpected);
 
         assertAll(
                 () -> assertNotNull(victimNodeActual,
@@ -389,6 +392,28 @@ class VictimServiceTest {
                 () -> verifyNoMoreInteractions(victimRepository));
     }
 
+    @Test
+    void when_update_victim_without_changes_should_not_save_victim() {
+
+        VictimDTO victimDTO = (VictimDTO) victimBuilder.build(ObjectType.DTO);
+        VictimNode victimNodeToUpdate = (VictimNode) victimBuilder.build(ObjectType.NODE);
+        VictimNode victimNodeMapped = (VictimNode) victimBuilder.build(ObjectType.NODE);
+
+        when(modelMapper.map(victimDTO, VictimNode.class)).thenReturn(victimNodeMapped);
+
+        VictimNode victimNodeActual = victimService.update(victimNodeToUpdate, victimDTO);
+
+        assertAll(
+                () -> assertEquals(victimNodeToUpdate.getId(), victimNodeActual.getId(),
+                        () -> "should return victim node with id: " + victimNodeToUpdate.getId() + ", but was: "
+                                + victimNodeActual.getId()),
+                () -> assertEquals(victimNodeToUpdate, victimNodeActual,
+                        () -> "should return victim node: " + victimNodeToUpdate + ", but was: " + victimNodeActual),
+                () -> verify(modelMapper, times(1)).map(victimDTO, VictimNode.class),
+                () -> verifyNoMoreInteractions(modelMapper),
+                () -> verifyNoInteractions(victimRepository));
+    }
+
     @Test
     void when_delete_victim_should_delete_victim() {
 
@@ -1,6 +1,5 @@
 package com.nowakArtur97.globalTerrorismAPI.testUtil.builder;
 
-import com.ibm.icu.util.Calendar;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.City;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityDTO;
 import com.nowakArtur97.globalTerrorismAPI.feature.city.CityModel;
@@ -19,6 +18,7 @@ import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimModel;
 import com.nowakArtur97.globalTerrorismAPI.feature.victim.VictimNode;
 import com.nowakArtur97.globalTerrorismAPI.testUtil.builder.enums.ObjectType;
 
+import java.util.Calendar;
 import java.util.Date;
 
 public final class EventBuilder {